@@ -2,9 +2,7 @@ package io.a2a.client;
 
 import static io.a2a.util.Utils.appendArtifactToTask;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import io.a2a.spec.A2AClientError;
@@ -16,6 +14,8 @@ import io.a2a.spec.TaskArtifactUpdateEvent;
 import io.a2a.spec.TaskState;
 import io.a2a.spec.TaskStatus;
 import io.a2a.spec.TaskStatusUpdateEvent;
+import io.a2a.util.ArtifactIndex;
+import io.a2a.util.PersistentList;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -28,6 +28,8 @@ public class ClientTaskManager {
     private @Nullable Task currentTask;
     private @Nullable String taskId;
     private @Nullable String contextId;
+    // Positions of the current task's artifacts, so that artifact updates do not scan them
+    private final ArtifactIndex artifactIndex = new ArtifactIndex();
 
     public ClientTaskManager() {
         this.currentTask = null;
@@ -71,9 +73,8 @@ public class ClientTaskManager {
             if (task.history() == null) {
                 taskBuilder.history(taskStatusUpdateEvent.status().message());
             } else {
-                List<Message> history = new ArrayList<>(task.history());
-                history.add(taskStatusUpdateEvent.status().message());
-                taskBuilder.history(history);
+                taskBuilder.history(PersistentList.copyOf(task.history())
+                        .withAppended(taskStatusUpdateEvent.status().message()));
             }
         }
         if (taskStatusUpdateEvent.metadata() != null) {
@@ -101,7 +102,7 @@ public class ClientTaskManager {
                     .contextId(contextId == null ? "" : contextId)
                     .build();
         }
-        currentTask = appendArtifactToTask(task, taskArtifactUpdateEvent, taskId);
+        currentTask = appendArtifactToTask(task, taskArtifactUpdateEvent, taskId, artifactIndex);
         return currentTask;
     }
 
@@ -115,15 +116,12 @@ public class ClientTaskManager {
      */
     public Task updateWithMessage(Message message, Task task) {
         Task.Builder taskBuilder = Task.builder(task);
-        List<Message> history = task.history();
-        if (history == null) {
-            history = new ArrayList<>();
-        }
+        PersistentList<Message> history = PersistentList.copyOf(task.history());
         if (task.status().message() != null) {
-            history.add(task.status().message());
+            history = history.withAppended(task.status().message());
             taskBuilder.status(new TaskStatus(task.status().state(), null, task.status().timestamp()));
         }
-        history.add(message);
+        history = history.withAppended(message);
         taskBuilder.history(history);
         currentTask = taskBuilder.build();
         return currentTask;
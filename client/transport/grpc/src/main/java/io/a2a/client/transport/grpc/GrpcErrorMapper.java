@@ -11,6 +11,7 @@ import io.a2a.spec.InvalidRequestError;
 import io.a2a.spec.JSONParseError;
 import io.a2a.spec.MethodNotFoundError;
 import io.a2a.spec.PushNotificationNotSupportedError;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.spec.TaskNotCancelableError;
 import io.a2a.spec.TaskNotFoundError;
 import io.a2a.spec.UnsupportedOperationError;
@@ -61,6 +62,8 @@ public class GrpcErrorMapper {
                 return new A2AClientException(errorPrefix + description, new ExtensionSupportRequiredError(null, description, null));
             } else if (description.contains("VersionNotSupportedError")) {
                 return new A2AClientException(errorPrefix + description, new VersionNotSupportedError(null, description, null));
+            } else if (description.contains("ServerBusyError")) {
+                return new A2AClientException(errorPrefix + description, new ServerBusyError(description));
             }
         }
         
@@ -74,6 +77,8 @@ public class GrpcErrorMapper {
                 return new A2AClientException(errorPrefix + (description != null ? description : e.getMessage()), new InvalidParamsError());
             case INTERNAL:
                 return new A2AClientException(errorPrefix + (description != null ? description : e.getMessage()), new io.a2a.spec.InternalError(null, e.getMessage(), null));
+            case RESOURCE_EXHAUSTED:
+                return new A2AClientException(errorPrefix + (description != null ? description : e.getMessage()), new ServerBusyError());
             case UNAUTHENTICATED:
                 return new A2AClientException(errorPrefix + A2AErrorMessages.AUTHENTICATION_FAILED);
             case PERMISSION_DENIED:
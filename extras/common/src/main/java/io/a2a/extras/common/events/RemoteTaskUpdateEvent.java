@@ -0,0 +1,42 @@
+package io.a2a.extras.common.events;
+
+/**
+ * CDI event fired when an event of a task is received from another instance.
+ * The other instance may have modified the task in the shared task store, so copies of the task
+ * held by this instance may be stale.
+ *
+ * <p>Used by task stores that cache tasks to drop their cached copy of the task. Events are usually
+ * replicated before the other instance commits the matching update, so a task read right after an
+ * uncommitted update may still be the previous version and should not be cached.
+ */
+public class RemoteTaskUpdateEvent {
+    private final String taskId;
+    private final boolean committed;
+
+    public RemoteTaskUpdateEvent(String taskId) {
+        this(taskId, false);
+    }
+
+    /**
+     * @param taskId the id of the task
+     * @param committed whether the other instance already committed its updates of the task, as it has
+     *                  when it closes the task's queue after the task's final state was committed
+     */
+    public RemoteTaskUpdateEvent(String taskId, boolean committed) {
+        this.taskId = taskId;
+        this.committed = committed;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteTaskUpdateEvent{taskId='" + taskId + "', committed=" + committed + "}";
+    }
+}
@@ -1,13 +1,18 @@
 package io.a2a.extras.queuemanager.replicated.core;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.event.TransactionPhase;
 import jakarta.enterprise.inject.Alternative;
 import jakarta.inject.Inject;
 
+import io.a2a.extras.common.events.RemoteTaskUpdateEvent;
 import io.a2a.extras.common.events.TaskFinalizedEvent;
+import io.a2a.server.config.A2AConfigProvider;
 import io.a2a.server.events.EventEnqueueHook;
 import io.a2a.server.events.EventQueue;
 import io.a2a.server.events.EventQueueFactory;
@@ -15,6 +20,7 @@ import io.a2a.server.events.EventQueueItem;
 import io.a2a.server.events.InMemoryQueueManager;
 import io.a2a.server.events.QueueManager;
 import io.a2a.server.tasks.TaskStateProvider;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +37,12 @@ public class ReplicatedQueueManager implements QueueManager {
     private ReplicationStrategy replicationStrategy;
     private TaskStateProvider taskStateProvider;
 
+    @Inject
+    Event<RemoteTaskUpdateEvent> remoteTaskUpdateEvent;
+
+    @Inject
+    @Nullable A2AConfigProvider configProvider;
+
     /**
      * No-args constructor for CDI proxy creation.
      * CDI requires a non-private constructor to create proxies for @ApplicationScoped beans.
@@ -51,6 +63,16 @@ public class ReplicatedQueueManager implements QueueManager {
         this.delegate = new InMemoryQueueManager(new ReplicatingEventQueueFactory(), taskStateProvider);
     }
 
+    @PostConstruct
+    void initConfig() {
+        // The delegate is not a bean, so it gets the queue settings and starts its reaper from here
+        delegate.configure(configProvider);
+    }
+
+    @PreDestroy
+    void stopReaper() {
+        delegate.stopReaper();
+    }
 
     @Override
     public void add(String taskId, EventQueue queue) {
@@ -87,6 +109,14 @@ public class ReplicatedQueueManager implements QueueManager {
     }
 
     public void onReplicatedEvent(@Observes ReplicatedEventQueueItem replicatedEvent) {
+        // The other instance may have updated the task, let task stores drop cached copies
+        // before its state is checked below. Only the QueueClosedEvent is sent after the other
+        // instance committed, other events are replicated before their update is stored.
+        if (remoteTaskUpdateEvent != null) {
+            remoteTaskUpdateEvent.fire(new RemoteTaskUpdateEvent(replicatedEvent.getTaskId(),
+                    replicatedEvent.isClosedEvent()));
+        }
+
         // Check if task is still active before processing replicated event (unless it's a QueueClosedEvent)
         // QueueClosedEvent should always be processed to terminate streams, even for inactive tasks
         if (!replicatedEvent.isClosedEvent()
@@ -136,7 +166,7 @@ public class ReplicatedQueueManager implements QueueManager {
 
     @Override
     public EventQueue.EventQueueBuilder getEventQueueBuilder(String taskId) {
-        return QueueManager.super.getEventQueueBuilder(taskId)
+        return delegate.getEventQueueBuilder(taskId)
                 .hook(new ReplicationHook(taskId));
     }
 
@@ -7,9 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -18,12 +22,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import io.a2a.extras.common.events.TaskFinalizedEvent;
 import io.a2a.jsonrpc.common.json.JsonUtil;
+import io.a2a.server.config.A2AConfigProvider;
 import io.a2a.server.events.EventQueue;
 import io.a2a.server.events.EventQueueClosedException;
 import io.a2a.server.events.EventQueueItem;
 import io.a2a.server.events.EventQueueTestHelper;
 import io.a2a.server.events.QueueClosedEvent;
 import io.a2a.spec.Event;
+import io.a2a.spec.InternalError;
 import io.a2a.spec.StreamingEventKind;
 import io.a2a.spec.TaskState;
 import io.a2a.spec.TaskStatus;
@@ -485,6 +491,43 @@ class ReplicatedQueueManagerTest {
                 "Second event should be QueueClosedEvent");
     }
 
+    @Test
+    void testQueueConfigurationAppliedToDelegate() throws Exception {
+        Map<String, String> values = Map.of(
+                "a2a.queue.overflow-policy", "fail-fast",
+                "a2a.queue.overflow-block-timeout-millis", "0",
+                "a2a.queue.idle-ttl-seconds", "0",
+                "a2a.queue.max-queues", "0",
+                "a2a.queue.reaper-interval-seconds", "60");
+        queueManager.configProvider = new A2AConfigProvider() {
+            @Override
+            public String getValue(String name) {
+                return values.get(name);
+            }
+
+            @Override
+            public Optional<String> getOptionalValue(String name) {
+                return Optional.ofNullable(values.get(name));
+            }
+        };
+        queueManager.initConfig();
+        try {
+            EventQueue queue = queueManager.createOrTap("config-test");
+
+            // With the default block policy the unread subscriber would stall the producer
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                for (int i = 0; i <= EventQueue.DEFAULT_QUEUE_SIZE; i++) {
+                    queue.enqueueEvent(testEvent);
+                }
+            });
+
+            assertTrue(queue.dequeueEventItem(-1).getEvent() instanceof InternalError);
+            assertTrue(queue.isClosed());
+        } finally {
+            queueManager.stopReaper();
+        }
+    }
+
     private static class NoOpReplicationStrategy implements ReplicationStrategy {
         @Override
         public void send(String taskId, Event event) {
@@ -0,0 +1,690 @@
+package io.a2a.extras.taskstore.database.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import io.a2a.jsonrpc.common.json.JsonProcessingException;
+import io.a2a.jsonrpc.common.json.JsonUtil;
+import io.a2a.jsonrpc.common.wrappers.ListTasksResult;
+import io.a2a.server.tasks.TaskStateProvider;
+import io.a2a.server.tasks.TaskStore;
+import io.a2a.spec.Artifact;
+import io.a2a.spec.InvalidParamsError;
+import io.a2a.spec.ListTasksParams;
+import io.a2a.spec.Message;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TaskStore} persisting tasks to a relational database with plain JDBC, without JPA or CDI.
+ * <p>
+ * Tasks are stored as JSON in a single table, with their context ID, state, status timestamp and
+ * finalization time in separate columns used by queries. The table layout is the one of the JPA task
+ * store, so both stores can be used on the same table as long as the JPA store saves tasks in its
+ * default {@code json} task format and without its event log. When the table has the columns of those
+ * features, rows that use them are detected and reading them fails, rather than returning an outdated task.
+ * </p>
+ * <p>
+ * A save is a single upsert statement on H2, PostgreSQL, MySQL and MariaDB; other databases update the
+ * task and insert it if it does not exist yet. {@link #saveAll(Collection)} writes many tasks as JDBC
+ * batches in one transaction. {@link #list(ListTasksParams)} uses one of a fixed set of statements per
+ * combination of filters, so that they can be cached by the driver or connection pool, and keyset
+ * pagination on the status timestamp and task ID.
+ * </p>
+ * <p>
+ * Statements are executed with auto-commit when the data source hands out auto-commit connections, and
+ * join the current transaction otherwise. The store is not a CDI bean. To use it with CDI, produce it:
+ * </p>
+ * <pre>{@code
+ * @Produces
+ * @Alternative
+ * @Priority(50)
+ * @ApplicationScoped
+ * JdbcDatabaseTaskStore taskStore(DataSource dataSource, Event<TaskFinalizedEvent> taskFinalizedEvent) {
+ *     return JdbcDatabaseTaskStore.builder(dataSource)
+ *             .taskFinalizedListener(taskId -> taskFinalizedEvent.fire(new TaskFinalizedEvent(taskId)))
+ *             .build();
+ * }
+ * }</pre>
+ */
+public class JdbcDatabaseTaskStore implements TaskStore, TaskStateProvider {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcDatabaseTaskStore.class);
+
+    // Filters selecting the variant of the list and count statements
+    private static final int CONTEXT_ID = 1;
+    private static final int STATE = 2;
+    private static final int UPDATED_AFTER = 4;
+    private static final int PAGE_TOKEN = 8;
+
+    private final DataSource dataSource;
+    private final long gracePeriodSeconds;
+    private final int batchSize;
+    private final Consumer<String> taskFinalizedListener;
+    private final JdbcDialect dialect;
+    private final String upsertSql;
+    private final String updateSql;
+    private final String insertSql;
+    private final String selectSql;
+    private final String selectStateSql;
+    private final String deleteSql;
+    private final String[] listSql = new String[16];
+    private final String[] countSql = new String[8];
+    // Whether the table has the columns of the JPA store's task formats and event log
+    private final boolean formatColumn;
+    private final boolean eventLogColumns;
+
+    private JdbcDatabaseTaskStore(Builder builder) {
+        this.dataSource = builder.dataSource;
+        this.gracePeriodSeconds = builder.gracePeriodSeconds;
+        this.batchSize = builder.batchSize;
+        this.taskFinalizedListener = builder.taskFinalizedListener;
+        this.dialect = builder.dialect != null ? builder.dialect : detectDialect(dataSource);
+
+        String table = builder.tableName;
+        Set<String> columns = columnsOf(dataSource, table);
+        this.formatColumn = columns.contains("task_format");
+        this.eventLogColumns = columns.contains("log_seq") && columns.contains("snapshot_seq");
+        String taskColumns = "task_data" + (formatColumn ? ", task_format" : "")
+                + (eventLogColumns ? ", log_seq, snapshot_seq" : "");
+        this.upsertSql = dialect.upsertSql(table);
+        this.updateSql = "UPDATE " + table + " SET context_id = ?, state = ?, status_timestamp = ?, task_data = ?,"
+                + " finalized_at = ? WHERE task_id = ?";
+        this.insertSql = "INSERT INTO " + table + " (" + JdbcDialect.COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)";
+        this.selectSql = "SELECT " + taskColumns + " FROM " + table + " WHERE task_id = ?";
+        this.selectStateSql = "SELECT state, finalized_at FROM " + table + " WHERE task_id = ?";
+        this.deleteSql = "DELETE FROM " + table + " WHERE task_id = ?";
+        for (int filters = 0; filters < listSql.length; filters++) {
+            StringBuilder sql = new StringBuilder("SELECT task_id, ").append(taskColumns).append(" FROM ").append(table)
+                    .append(where(filters));
+            if ((filters & PAGE_TOKEN) != 0) {
+                sql.append(filters == PAGE_TOKEN ? " WHERE " : " AND ")
+                        .append("(status_timestamp < ? OR (status_timestamp = ? AND task_id > ?))");
+            }
+            listSql[filters] = sql.append(" ORDER BY status_timestamp DESC, task_id ASC").toString();
+        }
+        for (int filters = 0; filters < countSql.length; filters++) {
+            countSql[filters] = "SELECT COUNT(*) FROM " + table + where(filters);
+        }
+    }
+
+    /**
+     * Creates a builder of a store using the given data source.
+     *
+     * @param dataSource the data source of the database holding the tasks table
+     * @return the builder
+     */
+    public static Builder builder(DataSource dataSource) {
+        return new Builder(dataSource);
+    }
+
+    @Override
+    public void save(Task task) {
+        LOGGER.debug("Saving task with ID: {}", task.id());
+        saveAll(List.of(task));
+    }
+
+    /**
+     * Saves tasks in one transaction, as JDBC batches of the configured batch size.
+     * <p>
+     * On databases without a known upsert statement the tasks are written one by one.
+     * </p>
+     *
+     * @param tasks the tasks to save
+     */
+    public void saveAll(Collection<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<Task> taskList = List.copyOf(tasks);
+        List<String> taskJson = new ArrayList<>(taskList.size());
+        for (Task task : taskList) {
+            try {
+                taskJson.add(JsonUtil.toJson(task));
+            } catch (JsonProcessingException e) {
+                LOGGER.error("Failed to serialize task with ID: {}", task.id(), e);
+                throw new RuntimeException("Failed to serialize task with ID: " + task.id(), e);
+            }
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            // A single statement needs no transaction of its own
+            boolean ownTransaction = taskList.size() > 1 && connection.getAutoCommit();
+            if (ownTransaction) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                write(connection, taskList, taskJson);
+                if (ownTransaction) {
+                    connection.commit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (ownTransaction) {
+                    rollback(connection, e);
+                }
+                throw e;
+            } finally {
+                if (ownTransaction) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to save {} task(s)", taskList.size(), e);
+            throw new RuntimeException("Failed to save task with ID: " + taskList.get(0).id()
+                    + (taskList.size() > 1 ? " and " + (taskList.size() - 1) + " more" : ""), e);
+        }
+        LOGGER.debug("Persisted/updated {} task(s)", taskList.size());
+
+        if (taskFinalizedListener != null) {
+            for (Task task : taskList) {
+                if (isFinal(task.status().state())) {
+                    taskFinalizedListener.accept(task.id());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Task get(String taskId) {
+        LOGGER.debug("Retrieving task with ID: {}", taskId);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(selectSql)) {
+            statement.setString(1, taskId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    LOGGER.debug("Task not found with ID: {}", taskId);
+                    return null;
+                }
+                return readTask(taskId, resultSet, 1);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to retrieve task with ID: {}", taskId, e);
+            throw new RuntimeException("Failed to retrieve task with ID: " + taskId, e);
+        }
+    }
+
+    @Override
+    public void delete(String taskId) {
+        LOGGER.debug("Deleting task with ID: {}", taskId);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(deleteSql)) {
+            statement.setString(1, taskId);
+            int deleted = statement.executeUpdate();
+            LOGGER.debug(deleted > 0 ? "Successfully deleted task with ID: {}" : "Task not found for deletion with ID: {}",
+                    taskId);
+        } catch (SQLException e) {
+            LOGGER.error("Failed to delete task with ID: {}", taskId, e);
+            throw new RuntimeException("Failed to delete task with ID: " + taskId, e);
+        }
+    }
+
+    /**
+     * Determines if a task is considered active for queue management purposes: its state is not final,
+     * or it was finalized within the grace period.
+     * <p>
+     * Only the state and finalization time columns are read.
+     * </p>
+     *
+     * @param taskId the task ID to check
+     * @return true if the task is active (or recently finalized within grace period), false otherwise
+     */
+    @Override
+    public boolean isTaskActive(String taskId) {
+        StoredState found = findState(taskId);
+        if (found == null) {
+            return false;
+        }
+        if (!isFinal(found.state())) {
+            return true;
+        }
+        if (found.finalizedAt() == null) {
+            LOGGER.warn("Task {} is in final state but has no finalized_at timestamp, considering inactive", taskId);
+            return false;
+        }
+        return Instant.now().isBefore(found.finalizedAt().plus(Duration.ofSeconds(gracePeriodSeconds)));
+    }
+
+    /**
+     * Determines if a task is in a final state, ignoring the grace period.
+     * <p>
+     * Only the state column is read.
+     * </p>
+     *
+     * @param taskId the task ID to check
+     * @return true if the task is in a final state, false otherwise
+     */
+    @Override
+    public boolean isTaskFinalized(String taskId) {
+        StoredState found = findState(taskId);
+        return found != null && isFinal(found.state());
+    }
+
+    @Override
+    public ListTasksResult list(ListTasksParams params) {
+        LOGGER.debug("Listing tasks with params: contextId={}, status={}, pageSize={}, pageToken={}",
+                params.contextId(), params.status(), params.pageSize(), params.pageToken());
+
+        int filters = 0;
+        if (params.contextId() != null) {
+            filters |= CONTEXT_ID;
+        }
+        if (params.status() != null) {
+            filters |= STATE;
+        }
+        if (params.lastUpdatedAfter() != null) {
+            filters |= UPDATED_AFTER;
+        }
+        // PageToken format: "timestamp_millis:taskId", or "timestamp_millis,totalSize:taskId" as produced by
+        // the JPA task store when it carries the total size of the first page. The total size is always counted here.
+        OffsetDateTime tokenTimestamp = null;
+        String tokenId = null;
+        if (params.pageToken() != null && !params.pageToken().isEmpty()) {
+            String[] tokenParts = params.pageToken().split(":", 2);
+            if (tokenParts.length != 2) {
+                throw new InvalidParamsError(null, "Invalid pageToken format: expected 'timestamp:id'", null);
+            }
+            String position = tokenParts[0];
+            int comma = position.indexOf(',');
+            if (comma >= 0) {
+                position = position.substring(0, comma);
+            }
+            try {
+                tokenTimestamp = Instant.ofEpochMilli(Long.parseLong(position)).atOffset(ZoneOffset.UTC);
+            } catch (NumberFormatException e) {
+                throw new InvalidParamsError(null,
+                        "Invalid pageToken format: timestamp must be numeric milliseconds", null);
+            }
+            tokenId = tokenParts[1];
+            filters |= PAGE_TOKEN;
+        }
+
+        int pageSize = params.getEffectivePageSize();
+        List<Task> tasks = new ArrayList<>();
+        int totalSize;
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(listSql[filters])) {
+                int index = bindFilters(statement, params);
+                if (tokenTimestamp != null) {
+                    setTimestamp(statement, index++, tokenTimestamp);
+                    setTimestamp(statement, index++, tokenTimestamp);
+                    statement.setString(index, tokenId);
+                }
+                // One more than the page size, to know whether there is a next page
+                statement.setMaxRows(pageSize + 1);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        tasks.add(readTask(resultSet.getString(1), resultSet, 2));
+                    }
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(countSql[filters & ~PAGE_TOKEN])) {
+                bindFilters(statement, params);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    totalSize = resultSet.getInt(1);
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to list tasks", e);
+            throw new RuntimeException("Failed to list tasks", e);
+        }
+
+        boolean hasMore = tasks.size() > pageSize;
+        if (hasMore) {
+            tasks = tasks.subList(0, pageSize);
+        }
+        String nextPageToken = null;
+        if (hasMore && !tasks.isEmpty()) {
+            Task lastTask = tasks.get(tasks.size() - 1);
+            nextPageToken = lastTask.status().timestamp().toInstant().toEpochMilli() + ":" + lastTask.id();
+        }
+
+        int historyLength = params.getEffectiveHistoryLength();
+        boolean includeArtifacts = params.shouldIncludeArtifacts();
+        List<Task> transformedTasks = tasks.stream()
+                .map(task -> transformTask(task, historyLength, includeArtifacts))
+                .toList();
+
+        LOGGER.debug("Returning {} tasks out of {} total", transformedTasks.size(), totalSize);
+        return new ListTasksResult(transformedTasks, totalSize, transformedTasks.size(), nextPageToken);
+    }
+
+    private void write(Connection connection, List<Task> tasks, List<String> taskJson) throws SQLException {
+        if (upsertSql == null) {
+            for (int i = 0; i < tasks.size(); i++) {
+                updateOrInsert(connection, tasks.get(i), taskJson.get(i));
+            }
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(upsertSql)) {
+            if (tasks.size() == 1) {
+                bindInsert(statement, tasks.get(0), taskJson.get(0));
+                statement.executeUpdate();
+                return;
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                bindInsert(statement, tasks.get(i), taskJson.get(i));
+                statement.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    statement.executeBatch();
+                }
+            }
+            if (tasks.size() % batchSize != 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private void updateOrInsert(Connection connection, Task task, String json) throws SQLException {
+        if (update(connection, task, json)) {
+            return;
+        }
+        try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+            bindInsert(insert, task, json);
+            insert.executeUpdate();
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // Inserted concurrently since the update
+            if (!update(connection, task, json)) {
+                throw e;
+            }
+        }
+    }
+
+    private boolean update(Connection connection, Task task, String json) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+            update.setString(1, task.contextId());
+            update.setString(2, stateOf(task));
+            setTimestamp(update, 3, statusTimestampOf(task));
+            update.setString(4, json);
+            setTimestamp(update, 5, finalizedAtOf(task));
+            update.setString(6, task.id());
+            return update.executeUpdate() > 0;
+        }
+    }
+
+    private static void bindInsert(PreparedStatement statement, Task task, String json) throws SQLException {
+        statement.setString(1, task.id());
+        statement.setString(2, task.contextId());
+        statement.setString(3, stateOf(task));
+        setTimestamp(statement, 4, statusTimestampOf(task));
+        statement.setString(5, json);
+        setTimestamp(statement, 6, finalizedAtOf(task));
+    }
+
+    /**
+     * Binds the filters of a list request, returning the index of the next parameter.
+     */
+    private static int bindFilters(PreparedStatement statement, ListTasksParams params) throws SQLException {
+        int index = 1;
+        if (params.contextId() != null) {
+            statement.setString(index++, params.contextId());
+        }
+        if (params.status() != null) {
+            statement.setString(index++, params.status().asString());
+        }
+        if (params.lastUpdatedAfter() != null) {
+            setTimestamp(statement, index++, params.lastUpdatedAfter().atOffset(ZoneOffset.UTC));
+        }
+        return index;
+    }
+
+    private static String where(int filters) {
+        List<String> conditions = new ArrayList<>();
+        if ((filters & CONTEXT_ID) != 0) {
+            conditions.add("context_id = ?");
+        }
+        if ((filters & STATE) != 0) {
+            conditions.add("state = ?");
+        }
+        if ((filters & UPDATED_AFTER) != 0) {
+            conditions.add("status_timestamp > ?");
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private StoredState findState(String taskId) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(selectStateSql)) {
+            statement.setString(1, taskId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    LOGGER.debug("Task not found: {}", taskId);
+                    return null;
+                }
+                String state = resultSet.getString(1);
+                OffsetDateTime finalizedAt = resultSet.getObject(2, OffsetDateTime.class);
+                return new StoredState(state == null ? null : TaskState.fromString(state),
+                        finalizedAt == null ? null : finalizedAt.toInstant());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to read the state of task with ID: {}", taskId, e);
+            throw new RuntimeException("Failed to read the state of task with ID: " + taskId, e);
+        }
+    }
+
+    /**
+     * Reads the task of a row from its task columns, starting at the given one.
+     */
+    private Task readTask(String taskId, ResultSet resultSet, int column) throws SQLException {
+        String json = resultSet.getString(column++);
+        if (formatColumn) {
+            String format = resultSet.getString(column++);
+            // The JPA store leaves the format of JSON rows null
+            if (format != null && !format.equals("json")) {
+                throw new IllegalStateException("Task with ID: " + taskId + " is stored in the " + format
+                        + " task format of the JPA task store, only the json format can be read");
+            }
+        }
+        if (eventLogColumns) {
+            long logSeq = resultSet.getLong(column++);
+            long snapshotSeq = resultSet.getLong(column);
+            if (!resultSet.wasNull() && logSeq > snapshotSeq) {
+                throw new IllegalStateException("Task with ID: " + taskId + " has events logged by the JPA task store"
+                        + " since its snapshot, tasks using the event log cannot be read");
+            }
+        }
+        return fromJson(taskId, json);
+    }
+
+    private static Task fromJson(String taskId, String json) {
+        try {
+            return JsonUtil.fromJson(json, Task.class);
+        } catch (JsonProcessingException e) {
+            LOGGER.error("Failed to deserialize task with ID: {}", taskId, e);
+            throw new RuntimeException("Failed to deserialize task with ID: " + taskId, e);
+        }
+    }
+
+    private static void setTimestamp(PreparedStatement statement, int index, OffsetDateTime timestamp)
+            throws SQLException {
+        if (timestamp == null) {
+            statement.setNull(index, Types.TIMESTAMP_WITH_TIMEZONE);
+        } else {
+            statement.setObject(index, timestamp);
+        }
+    }
+
+    private static String stateOf(Task task) {
+        return task.status().state().asString();
+    }
+
+    private static OffsetDateTime statusTimestampOf(Task task) {
+        // Truncated to milliseconds, the precision of page tokens
+        return task.status().timestamp().toInstant().truncatedTo(ChronoUnit.MILLIS).atOffset(ZoneOffset.UTC);
+    }
+
+    private static OffsetDateTime finalizedAtOf(Task task) {
+        return isFinal(task.status().state()) ? OffsetDateTime.now(ZoneOffset.UTC) : null;
+    }
+
+    private static boolean isFinal(TaskState state) {
+        return state != null && state.isFinal();
+    }
+
+    private static void rollback(Connection connection, Exception cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Returns the lower case names of the columns of a table, or none if they cannot be read, for example
+     * because the table does not exist yet.
+     */
+    private static Set<String> columnsOf(DataSource dataSource, String table) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT * FROM " + table + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            Set<String> columns = new HashSet<>();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                columns.add(metaData.getColumnName(i).toLowerCase(Locale.ROOT));
+            }
+            return columns;
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to read the columns of table {}, assuming it has no JPA task format or event log columns",
+                    table, e);
+            return Set.of();
+        }
+    }
+
+    private static JdbcDialect detectDialect(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return JdbcDialect.of(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to detect the database of the data source", e);
+        }
+    }
+
+    private static Task transformTask(Task task, int historyLength, boolean includeArtifacts) {
+        // Limit history if needed (keep most recent N messages)
+        List<Message> history = task.history();
+        if (historyLength > 0 && history != null && history.size() > historyLength) {
+            history = history.subList(history.size() - historyLength, history.size());
+        }
+
+        // Remove artifacts if not requested
+        List<Artifact> artifacts = includeArtifacts ? task.artifacts() : List.of();
+
+        if (history == task.history() && artifacts == task.artifacts()) {
+            return task;
+        }
+        return Task.builder(task)
+                .artifacts(artifacts)
+                .history(history)
+                .build();
+    }
+
+    /**
+     * The state of a task and the time it was finalized, as stored.
+     */
+    private record StoredState(TaskState state, Instant finalizedAt) {
+    }
+
+    /**
+     * Builder of {@link JdbcDatabaseTaskStore}.
+     */
+    public static class Builder {
+        private final DataSource dataSource;
+        private String tableName = "a2a_tasks";
+        private long gracePeriodSeconds = 15;
+        private int batchSize = 100;
+        private Consumer<String> taskFinalizedListener;
+        private JdbcDialect dialect;
+
+        private Builder(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * Sets the name of the tasks table.
+         *
+         * @param tableName the table name, {@code a2a_tasks} by default
+         * @return this builder
+         */
+        public Builder tableName(String tableName) {
+            this.tableName = tableName;
+            return this;
+        }
+
+        /**
+         * Sets how long a finalized task is still considered active by {@link #isTaskActive(String)}, to let
+         * replicated events arrive.
+         *
+         * @param gracePeriodSeconds the grace period in seconds, 15 by default
+         * @return this builder
+         */
+        public Builder gracePeriodSeconds(long gracePeriodSeconds) {
+            this.gracePeriodSeconds = gracePeriodSeconds;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tasks written by one JDBC batch of {@link #saveAll(Collection)}.
+         *
+         * @param batchSize the batch size, 100 by default
+         * @return this builder
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets a listener called with the ID of every task saved in a final state, once it is saved.
+         * <p>
+         * The replicated queue manager relies on a {@code TaskFinalizedEvent} being fired for such tasks.
+         * </p>
+         *
+         * @param taskFinalizedListener the listener
+         * @return this builder
+         */
+        public Builder taskFinalizedListener(Consumer<String> taskFinalizedListener) {
+            this.taskFinalizedListener = taskFinalizedListener;
+            return this;
+        }
+
+        // Skips the detection of the database, for tests
+        Builder dialect(JdbcDialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+
+        /**
+         * Creates the store. A connection is opened to read the columns of the table and, unless set
+         * otherwise, to detect the database.
+         *
+         * @return the store
+         */
+        public JdbcDatabaseTaskStore build() {
+            return new JdbcDatabaseTaskStore(this);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.a2a.extras.taskstore.database.jdbc;
+
+import java.util.Locale;
+
+/**
+ * The SQL used to insert or replace a task, which is not standardized across databases.
+ */
+enum JdbcDialect {
+    H2,
+    POSTGRESQL,
+    MYSQL,
+    /**
+     * Databases without a known upsert statement: tasks are updated, and inserted if no row was updated.
+     */
+    GENERIC;
+
+    // Parameter order of the upsert and insert statements
+    static final String COLUMNS = "task_id, context_id, state, status_timestamp, task_data, finalized_at";
+
+    static JdbcDialect of(String databaseProductName) {
+        String name = databaseProductName.toLowerCase(Locale.ROOT);
+        if (name.startsWith("h2")) {
+            return H2;
+        } else if (name.startsWith("postgresql")) {
+            return POSTGRESQL;
+        } else if (name.startsWith("mysql") || name.startsWith("mariadb")) {
+            return MYSQL;
+        }
+        return GENERIC;
+    }
+
+    /**
+     * Returns the statement inserting or replacing a task, or null for {@link #GENERIC}.
+     */
+    String upsertSql(String table) {
+        return switch (this) {
+            case H2 -> "MERGE INTO " + table + " (" + COLUMNS + ") KEY (task_id) VALUES (?, ?, ?, ?, ?, ?)";
+            case POSTGRESQL -> "INSERT INTO " + table + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)"
+                    + " ON CONFLICT (task_id) DO UPDATE SET context_id = EXCLUDED.context_id, state = EXCLUDED.state,"
+                    + " status_timestamp = EXCLUDED.status_timestamp, task_data = EXCLUDED.task_data,"
+                    + " finalized_at = EXCLUDED.finalized_at";
+            case MYSQL -> "INSERT INTO " + table + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE context_id = VALUES(context_id), state = VALUES(state),"
+                    + " status_timestamp = VALUES(status_timestamp), task_data = VALUES(task_data),"
+                    + " finalized_at = VALUES(finalized_at)";
+            case GENERIC -> null;
+        };
+    }
+}
@@ -0,0 +1,242 @@
+package io.a2a.extras.taskstore.database.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.a2a.jsonrpc.common.wrappers.ListTasksResult;
+import io.a2a.spec.InvalidParamsError;
+import io.a2a.spec.ListTasksParams;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcDatabaseTaskStoreTest {
+
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private JdbcDataSource dataSource;
+    private JdbcDatabaseTaskStore store;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:jdbc-task-store;DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS a2a_tasks");
+            statement.execute("""
+                    CREATE TABLE a2a_tasks (
+                        task_id VARCHAR(255) PRIMARY KEY,
+                        context_id VARCHAR(255),
+                        state VARCHAR(50),
+                        status_timestamp TIMESTAMP WITH TIME ZONE,
+                        task_data CLOB,
+                        finalized_at TIMESTAMP WITH TIME ZONE
+                    )""");
+        }
+        store = JdbcDatabaseTaskStore.builder(dataSource).build();
+    }
+
+    @Test
+    public void testSaveGetAndDelete() {
+        assertNull(store.get("task-1"));
+
+        store.save(task("task-1", "ctx", TaskState.SUBMITTED, BASE_TIME));
+        assertEquals(TaskState.SUBMITTED, store.get("task-1").status().state());
+
+        store.save(task("task-1", "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(1)));
+        Task retrieved = store.get("task-1");
+        assertEquals(TaskState.WORKING, retrieved.status().state());
+        assertEquals("ctx", retrieved.contextId());
+
+        store.delete("task-1");
+        assertNull(store.get("task-1"));
+        // Deleting a missing task is a no-op
+        store.delete("task-1");
+    }
+
+    @Test
+    public void testSaveWithoutUpsertStatement() {
+        store = JdbcDatabaseTaskStore.builder(dataSource).dialect(JdbcDialect.GENERIC).build();
+
+        store.save(task("task-1", "ctx", TaskState.SUBMITTED, BASE_TIME));
+        store.save(task("task-1", "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(1)));
+        store.saveAll(List.of(task("task-1", "ctx", TaskState.COMPLETED, BASE_TIME.plusSeconds(2)),
+                task("task-2", "ctx", TaskState.WORKING, BASE_TIME)));
+
+        assertEquals(TaskState.COMPLETED, store.get("task-1").status().state());
+        assertEquals(TaskState.WORKING, store.get("task-2").status().state());
+    }
+
+    @Test
+    public void testSaveAllWritesBatchesAndNotifiesFinalizedTasks() {
+        List<String> finalized = new ArrayList<>();
+        store = JdbcDatabaseTaskStore.builder(dataSource)
+                .batchSize(3)
+                .taskFinalizedListener(finalized::add)
+                .build();
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(task("task-" + i, "ctx", i % 4 == 0 ? TaskState.COMPLETED : TaskState.WORKING,
+                    BASE_TIME.plusSeconds(i)));
+        }
+        store.saveAll(tasks);
+
+        for (Task task : tasks) {
+            assertEquals(task.status().state(), store.get(task.id()).status().state());
+        }
+        assertEquals(List.of("task-0", "task-4", "task-8"), finalized);
+        assertEquals(10, store.list(ListTasksParams.builder().tenant("").build()).totalSize());
+    }
+
+    @Test
+    public void testStateChecks() {
+        assertFalse(store.isTaskActive("missing"));
+        assertFalse(store.isTaskFinalized("missing"));
+
+        store.save(task("task-1", "ctx", TaskState.WORKING, BASE_TIME));
+        assertTrue(store.isTaskActive("task-1"));
+        assertFalse(store.isTaskFinalized("task-1"));
+
+        // Within the grace period
+        store.save(task("task-1", "ctx", TaskState.COMPLETED, BASE_TIME.plusSeconds(1)));
+        assertTrue(store.isTaskActive("task-1"));
+        assertTrue(store.isTaskFinalized("task-1"));
+
+        JdbcDatabaseTaskStore noGracePeriod = JdbcDatabaseTaskStore.builder(dataSource)
+                .gracePeriodSeconds(0)
+                .build();
+        assertFalse(noGracePeriod.isTaskActive("task-1"));
+        assertTrue(noGracePeriod.isTaskFinalized("task-1"));
+    }
+
+    @Test
+    public void testListPaginatesNewestFirst() {
+        for (int i = 0; i < 5; i++) {
+            store.save(task("task-" + i, "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(i)));
+        }
+        // Same timestamp as task-4, ordered after it by ID
+        store.save(task("task-5", "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(4)));
+
+        List<String> ids = new ArrayList<>();
+        String pageToken = null;
+        do {
+            ListTasksResult page = store.list(ListTasksParams.builder()
+                    .tenant("")
+                    .pageSize(2)
+                    .pageToken(pageToken)
+                    .build());
+            assertEquals(6, page.totalSize());
+            page.tasks().forEach(task -> ids.add(task.id()));
+            pageToken = page.nextPageToken();
+        } while (pageToken != null);
+
+        assertEquals(List.of("task-4", "task-5", "task-3", "task-2", "task-1", "task-0"), ids);
+    }
+
+    @Test
+    public void testListFilters() {
+        store.save(task("task-1", "ctx-1", TaskState.WORKING, BASE_TIME));
+        store.save(task("task-2", "ctx-1", TaskState.COMPLETED, BASE_TIME.plusSeconds(1)));
+        store.save(task("task-3", "ctx-2", TaskState.WORKING, BASE_TIME.plusSeconds(2)));
+
+        ListTasksResult byContext = store.list(ListTasksParams.builder().tenant("").contextId("ctx-1").build());
+        assertEquals(2, byContext.totalSize());
+
+        ListTasksResult byContextAndState = store.list(ListTasksParams.builder()
+                .tenant("")
+                .contextId("ctx-1")
+                .status(TaskState.WORKING)
+                .build());
+        assertEquals(1, byContextAndState.totalSize());
+        assertEquals("task-1", byContextAndState.tasks().get(0).id());
+
+        ListTasksResult updatedAfter = store.list(ListTasksParams.builder()
+                .tenant("")
+                .lastUpdatedAfter(BASE_TIME.toInstant().plusMillis(500))
+                .build());
+        assertEquals(2, updatedAfter.totalSize());
+        assertNotNull(updatedAfter.tasks());
+        assertNull(updatedAfter.nextPageToken());
+    }
+
+    @Test
+    public void testListRejectsInvalidPageToken() {
+        assertThrows(InvalidParamsError.class,
+                () -> store.list(ListTasksParams.builder().tenant("").pageToken("no-separator").build()));
+        assertThrows(InvalidParamsError.class,
+                () -> store.list(ListTasksParams.builder().tenant("").pageToken("abc:task-1").build()));
+    }
+
+    @Test
+    public void testListAcceptsPageTokenCarryingTheTotalSize() {
+        for (int i = 0; i < 3; i++) {
+            store.save(task("task-" + i, "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(i)));
+        }
+        // As produced by the JPA task store for the first page
+        String pageToken = BASE_TIME.plusSeconds(2).toInstant().toEpochMilli() + ",3:task-2";
+
+        ListTasksResult page = store.list(ListTasksParams.builder().tenant("").pageToken(pageToken).build());
+
+        assertEquals(List.of("task-1", "task-0"), page.tasks().stream().map(Task::id).toList());
+        assertEquals(3, page.totalSize());
+    }
+
+    @Test
+    public void testRejectsRowsUsingJpaTaskFormatsOrEventLog() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE a2a_tasks ADD COLUMN task_format VARCHAR(255)");
+            statement.execute("ALTER TABLE a2a_tasks ADD COLUMN task_bytes VARBINARY");
+            statement.execute("ALTER TABLE a2a_tasks ADD COLUMN log_seq BIGINT");
+            statement.execute("ALTER TABLE a2a_tasks ADD COLUMN snapshot_seq BIGINT");
+        }
+        JdbcDatabaseTaskStore jpaLayoutStore = JdbcDatabaseTaskStore.builder(dataSource).build();
+        jpaLayoutStore.save(task("json", "ctx", TaskState.WORKING, BASE_TIME));
+        jpaLayoutStore.save(task("protobuf", "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(1)));
+        jpaLayoutStore.save(task("event-log", "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(2)));
+        jpaLayoutStore.save(task("snapshot", "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(3)));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE a2a_tasks SET task_format = 'protobuf', task_data = NULL WHERE task_id = 'protobuf'");
+            statement.execute("UPDATE a2a_tasks SET log_seq = 3, snapshot_seq = 1 WHERE task_id = 'event-log'");
+            statement.execute("UPDATE a2a_tasks SET log_seq = 3, snapshot_seq = 3 WHERE task_id = 'snapshot'");
+        }
+
+        assertEquals("json", jpaLayoutStore.get("json").id());
+        assertEquals("snapshot", jpaLayoutStore.get("snapshot").id());
+        assertThrows(IllegalStateException.class, () -> jpaLayoutStore.get("protobuf"));
+        assertThrows(IllegalStateException.class, () -> jpaLayoutStore.get("event-log"));
+        assertThrows(IllegalStateException.class,
+                () -> jpaLayoutStore.list(ListTasksParams.builder().tenant("").build()));
+    }
+
+    @Test
+    public void testDialectDetection() {
+        assertEquals(JdbcDialect.H2, JdbcDialect.of("H2"));
+        assertEquals(JdbcDialect.POSTGRESQL, JdbcDialect.of("PostgreSQL"));
+        assertEquals(JdbcDialect.MYSQL, JdbcDialect.of("MariaDB"));
+        assertEquals(JdbcDialect.GENERIC, JdbcDialect.of("Apache Derby"));
+    }
+
+    private static Task task(String id, String contextId, TaskState state, OffsetDateTime timestamp) {
+        return Task.builder()
+                .id(id)
+                .contextId(contextId)
+                .status(new TaskStatus(state, null, timestamp))
+                .build();
+    }
+}
@@ -3,12 +3,17 @@ package io.a2a.extras.taskstore.database.jpa;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
 import jakarta.enterprise.inject.Alternative;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
@@ -16,6 +21,7 @@ import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 
+import io.a2a.extras.common.events.RemoteTaskUpdateEvent;
 import io.a2a.extras.common.events.TaskFinalizedEvent;
 import io.a2a.jsonrpc.common.json.JsonProcessingException;
 import io.a2a.jsonrpc.common.wrappers.ListTasksResult;
@@ -26,6 +32,7 @@ import io.a2a.spec.Artifact;
 import io.a2a.spec.ListTasksParams;
 import io.a2a.spec.Message;
 import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +43,13 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JpaDatabaseTaskStore.class);
     private static final String A2A_REPLICATION_GRACE_PERIOD_SECONDS = "a2a.replication.grace-period-seconds";
+    private static final String A2A_JPA_TASK_CACHE_MAX_SIZE = "a2a.jpa.task-cache.max-size";
+    private static final String A2A_JPA_TASK_CACHE_TTL_SECONDS = "a2a.jpa.task-cache.ttl-seconds";
+    private static final String A2A_JPA_TASK_FORMAT = "a2a.jpa.task-format";
+    private static final String A2A_JPA_EVENT_LOG_ENABLED = "a2a.jpa.event-log.enabled";
+    private static final String A2A_JPA_EVENT_LOG_SNAPSHOT_INTERVAL = "a2a.jpa.event-log.snapshot-interval";
+    private static final String A2A_JPA_LIST_TOTAL_SIZE = "a2a.jpa.list.total-size";
+    private static final String A2A_JPA_LIST_TOTAL_SIZE_TTL_SECONDS = "a2a.jpa.list.total-size-ttl-seconds";
 
     @PersistenceContext(unitName = "a2a-java")
     EntityManager em;
@@ -43,9 +57,21 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
     @Inject
     Event<TaskFinalizedEvent> taskFinalizedEvent;
 
+    @Inject
+    Event<TaskCommittedEvent> taskCommittedEvent;
+
     @Inject
     A2AConfigProvider configProvider;
 
+    // Null unless a2a.jpa.task-cache.max-size is set
+    private JpaTaskCache taskCache;
+
+    // Null unless a2a.jpa.event-log.enabled is set
+    private JpaTaskEventLog eventLog;
+
+    // Null unless a2a.jpa.list.total-size is cached
+    private JpaTaskCountCache countCache;
+
     /**
      * Grace period for task finalization in replicated scenarios (seconds).
      * After a task reaches a final state, this is the minimum time to wait before cleanup
@@ -57,21 +83,128 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
      */
     long gracePeriodSeconds;
 
+    /**
+     * Maximum number of deserialized tasks cached in front of the database, used by {@link #get(String)},
+     * {@link #isTaskActive(String)} and {@link #isTaskFinalized(String)}.
+     * <p>
+     * The cache is updated when a save commits and invalidated on delete. When the replicated queue
+     * manager is used it is also invalidated when an event of the task is received from another instance,
+     * and reads of the task are not cached until the other instance committed the task's final state, or
+     * until the time to live elapsed since its last event. Other changes to the database are only seen
+     * once the cached entry expires.
+     * <p>
+     * Property: {@code a2a.jpa.task-cache.max-size}<br>
+     * Default: 0 (no cache)<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     */
+    int taskCacheMaxSize;
+
+    /**
+     * How long a task stays in the task cache.
+     * <p>
+     * Property: {@code a2a.jpa.task-cache.ttl-seconds}<br>
+     * Default: 30<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     */
+    long taskCacheTtlSeconds;
+
+    /**
+     * Format tasks are saved in. Rows record their format, so tasks saved in another format stay readable.
+     * <p>
+     * Property: {@code a2a.jpa.task-format} ({@code json}, {@code protobuf} or {@code protobuf-gzip})<br>
+     * Default: json<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     *
+     * @see JpaTaskFormat
+     */
+    JpaTaskFormat taskFormat = JpaTaskFormat.JSON;
+
+    /**
+     * Whether saves append the changes of a task to the {@code a2a_task_events} table instead of rewriting the task.
+     * <p>
+     * A streaming agent causes a save for every status update and artifact chunk. Rewriting the task each time
+     * makes the cost of a save grow with the task. With the event log a save only writes the events describing
+     * the change, such as the appended parts of an artifact, and the task is rebuilt from its last snapshot and
+     * the events following it when read. Tasks are saved as a new snapshot periodically, when they reach a final
+     * state, and when a change cannot be expressed as events.
+     * <p>
+     * As with gRPC, absent metadata of logged changes is read back as empty metadata and numbers in metadata
+     * and data parts are read back as doubles.
+     * <p>
+     * Property: {@code a2a.jpa.event-log.enabled}<br>
+     * Default: false<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     */
+    boolean eventLogEnabled;
+
+    /**
+     * Maximum number of events following the snapshot of a task before it is saved as a new snapshot.
+     * <p>
+     * Property: {@code a2a.jpa.event-log.snapshot-interval}<br>
+     * Default: 50<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     */
+    int snapshotInterval;
+
+    /**
+     * How {@link #list(ListTasksParams)} computes the total number of matching tasks. Counting can dominate
+     * the time of a list request on large tables, while clients paginating through tasks rarely need an
+     * exact total for every page.
+     * <p>
+     * Property: {@code a2a.jpa.list.total-size} ({@code exact}, {@code first-page} or {@code cached})<br>
+     * Default: exact<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     *
+     * @see JpaTotalSizeMode
+     */
+    JpaTotalSizeMode totalSizeMode = JpaTotalSizeMode.EXACT;
+
+    /**
+     * How long a count is reused in the {@code cached} total size mode.
+     * <p>
+     * Property: {@code a2a.jpa.list.total-size-ttl-seconds}<br>
+     * Default: 10<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     */
+    long totalSizeTtlSeconds;
+
     @PostConstruct
     void initConfig() {
         gracePeriodSeconds = Long.parseLong(configProvider.getValue(A2A_REPLICATION_GRACE_PERIOD_SECONDS));
+        taskCacheMaxSize = Integer.parseInt(configProvider.getValue(A2A_JPA_TASK_CACHE_MAX_SIZE).trim());
+        taskCacheTtlSeconds = Long.parseLong(configProvider.getValue(A2A_JPA_TASK_CACHE_TTL_SECONDS).trim());
+        taskFormat = JpaTaskFormat.fromString(configProvider.getValue(A2A_JPA_TASK_FORMAT).trim());
+        eventLogEnabled = Boolean.parseBoolean(configProvider.getValue(A2A_JPA_EVENT_LOG_ENABLED).trim());
+        snapshotInterval = Integer.parseInt(configProvider.getValue(A2A_JPA_EVENT_LOG_SNAPSHOT_INTERVAL).trim());
+        totalSizeMode = JpaTotalSizeMode.fromString(configProvider.getValue(A2A_JPA_LIST_TOTAL_SIZE).trim());
+        totalSizeTtlSeconds = Long.parseLong(configProvider.getValue(A2A_JPA_LIST_TOTAL_SIZE_TTL_SECONDS).trim());
+        if (totalSizeMode == JpaTotalSizeMode.CACHED) {
+            countCache = new JpaTaskCountCache(TimeUnit.SECONDS.toNanos(totalSizeTtlSeconds));
+        }
+        if (taskCacheMaxSize > 0) {
+            taskCache = new JpaTaskCache(taskCacheMaxSize, TimeUnit.SECONDS.toNanos(taskCacheTtlSeconds));
+        }
+        if (eventLogEnabled) {
+            eventLog = new JpaTaskEventLog();
+        }
     }
 
     @Transactional
     @Override
     public void save(Task task) {
         LOGGER.debug("Saving task with ID: {}", task.id());
+        if (taskCache != null) {
+            // Until the transaction commits, the database is the only source of truth
+            taskCache.invalidate(task.id());
+        }
         try {
-            JpaTask jpaTask = JpaTask.createFromTask(task);
-            em.merge(jpaTask);
+            TaskCommittedEvent committed = eventLog == null ? saveSnapshot(task, null) : saveToEventLog(task);
             LOGGER.debug("Persisted/updated task with ID: {}", task.id());
+            if (taskCache != null || eventLog != null) {
+                taskCommittedEvent.fire(committed);
+            }
 
-            if (task.status() != null && task.status().state() != null && task.status().state().isFinal()) {
+            if (isFinal(task)) {
                 // Fire CDI event if task reached final state
                 // IMPORTANT: The event will be delivered AFTER transaction commits (AFTER_SUCCESS observers)
                 // This ensures the task's final state is durably stored before the QueueClosedEvent poison pill is sent
@@ -88,6 +221,15 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
     @Override
     public Task get(String taskId) {
         LOGGER.debug("Retrieving task with ID: {}", taskId);
+        if (taskCache != null) {
+            try {
+                JpaTaskCache.CachedTask cached = findCached(taskId);
+                return cached == null ? null : cached.task();
+            } catch (JsonProcessingException e) {
+                LOGGER.error("Failed to deserialize task with ID: {}", taskId, e);
+                throw new RuntimeException("Failed to deserialize task with ID: " + taskId, e);
+            }
+        }
         JpaTask jpaTask = em.find(JpaTask.class, taskId);
         if (jpaTask == null) {
             LOGGER.debug("Task not found with ID: {}", taskId);
@@ -95,7 +237,7 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
         }
 
         try {
-            Task task = jpaTask.getTask();
+            Task task = load(jpaTask);
             LOGGER.debug("Successfully retrieved task with ID: {}", taskId);
             return task;
         } catch (JsonProcessingException e) {
@@ -108,6 +250,15 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
     @Override
     public void delete(String taskId) {
         LOGGER.debug("Deleting task with ID: {}", taskId);
+        if (taskCache != null) {
+            taskCache.invalidate(taskId);
+        }
+        if (eventLog != null) {
+            eventLog.forget(taskId);
+            em.createQuery("DELETE FROM JpaTaskEvent e WHERE e.taskId = :taskId")
+                    .setParameter("taskId", taskId)
+                    .executeUpdate();
+        }
         JpaTask jpaTask = em.find(JpaTask.class, taskId);
         if (jpaTask != null) {
             em.remove(jpaTask);
@@ -137,42 +288,34 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
     public boolean isTaskActive(String taskId) {
         LOGGER.debug("Checking if task is active: {}", taskId);
 
-        JpaTask jpaTask = em.find(JpaTask.class, taskId);
-        if (jpaTask == null) {
+        StoredState found = findState(taskId);
+        if (found == null) {
             LOGGER.debug("Task not found, considering inactive: {}", taskId);
             return false;
         }
 
-        try {
-            Task task = jpaTask.getTask();
-
-            // Task is active if not in final state
-            if (task.status() == null || task.status().state() == null || !task.status().state().isFinal()) {
-                LOGGER.debug("Task is not in final state, considering active: {}", taskId);
-                return true;
-            }
-
-            // Task is in final state - check grace period
-            Instant finalizedAt = jpaTask.getFinalizedAt();
-            if (finalizedAt == null) {
-                // Should not happen, but defensive: if final state but no timestamp, consider inactive
-                LOGGER.warn("Task {} is in final state but has no finalizedAt timestamp, considering inactive", taskId);
-                return false;
-            }
+        // Task is active if not in final state
+        if (!found.isFinal()) {
+            LOGGER.debug("Task is not in final state, considering active: {}", taskId);
+            return true;
+        }
 
-            Instant gracePeriodEnd = finalizedAt.plus(Duration.ofSeconds(gracePeriodSeconds));
-            Instant now = Instant.now();
+        // Task is in final state - check grace period
+        Instant finalizedAt = found.finalizedAt();
+        if (finalizedAt == null) {
+            // Should not happen, but defensive: if final state but no timestamp, consider inactive
+            LOGGER.warn("Task {} is in final state but has no finalizedAt timestamp, considering inactive", taskId);
+            return false;
+        }
 
-            boolean withinGracePeriod = now.isBefore(gracePeriodEnd);
-            LOGGER.debug("Task {} is final. FinalizedAt: {}, GracePeriodEnd: {}, Now: {}, Active: {}",
-                    taskId, finalizedAt, gracePeriodEnd, now, withinGracePeriod);
+        Instant gracePeriodEnd = finalizedAt.plus(Duration.ofSeconds(gracePeriodSeconds));
+        Instant now = Instant.now();
 
-            return withinGracePeriod;
+        boolean withinGracePeriod = now.isBefore(gracePeriodEnd);
+        LOGGER.debug("Task {} is final. FinalizedAt: {}, GracePeriodEnd: {}, Now: {}, Active: {}",
+                taskId, finalizedAt, gracePeriodEnd, now, withinGracePeriod);
 
-        } catch (JsonProcessingException e) {
-            LOGGER.error("Failed to deserialize task with ID: {}, considering inactive", taskId, e);
-            return false;
-        }
+        return withinGracePeriod;
     }
 
     /**
@@ -197,26 +340,283 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
     public boolean isTaskFinalized(String taskId) {
         LOGGER.debug("Checking if task is finalized: {}", taskId);
 
-        JpaTask jpaTask = em.find(JpaTask.class, taskId);
-        if (jpaTask == null) {
+        StoredState found = findState(taskId);
+        if (found == null) {
             LOGGER.debug("Task not found, considering not finalized: {}", taskId);
             return false;
         }
 
-        try {
-            Task task = jpaTask.getTask();
+        // Task is finalized if in final state (ignore grace period)
+        boolean isFinalized = found.isFinal();
+        LOGGER.debug("Task {} finalization check: {}", taskId, isFinalized);
+        return isFinalized;
+    }
 
-            // Task is finalized if in final state (ignore grace period)
-            boolean isFinalized = task.status() != null
-                && task.status().state() != null
-                && task.status().state().isFinal();
+    /**
+     * Caches a saved task once its transaction committed.
+     */
+    void onTaskCommitted(@Observes(during = TransactionPhase.AFTER_SUCCESS) TaskCommittedEvent event) {
+        if (taskCache != null) {
+            taskCache.put(event.task().id(), event.task(), event.finalizedAt());
+        }
+        if (eventLog != null) {
+            if (event.logSeq() >= 0) {
+                eventLog.remember(event.task(), event.logSeq());
+            } else {
+                eventLog.forget(event.task().id());
+            }
+        }
+    }
 
-            LOGGER.debug("Task {} finalization check: {}", taskId, isFinalized);
-            return isFinalized;
+    /**
+     * Drops a saved task whose transaction rolled back, in case it was read and cached before the rollback.
+     */
+    void onTaskRolledBack(@Observes(during = TransactionPhase.AFTER_FAILURE) TaskCommittedEvent event) {
+        if (taskCache != null) {
+            taskCache.invalidate(event.task().id());
+        }
+        if (eventLog != null) {
+            eventLog.forget(event.task().id());
+        }
+    }
 
+    /**
+     * Drops a task another instance may have updated. Until that update is known to be committed, the
+     * task is not cached when it is read, as the read may still return the previous version.
+     */
+    void onRemoteTaskUpdate(@Observes RemoteTaskUpdateEvent event) {
+        if (taskCache != null) {
+            taskCache.invalidateRemote(event.getTaskId(), event.isCommitted());
+        }
+    }
+
+    /**
+     * Returns the number of task lookups served by the task cache.
+     *
+     * @return the number of cache hits, 0 if the cache is disabled
+     */
+    public long getTaskCacheHitCount() {
+        return taskCache == null ? 0 : taskCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of task lookups that went to the database although the task cache is enabled.
+     *
+     * @return the number of cache misses, 0 if the cache is disabled
+     */
+    public long getTaskCacheMissCount() {
+        return taskCache == null ? 0 : taskCache.getMissCount();
+    }
+
+    /**
+     * Returns the share of task lookups served by the task cache.
+     *
+     * @return the hit rate between 0 and 1, 0 if the cache is disabled or was not used yet
+     */
+    public double getTaskCacheHitRate() {
+        long hits = getTaskCacheHitCount();
+        long total = hits + getTaskCacheMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Returns the state of a task from the task cache, or from the denormalized columns without reading
+     * the stored task, or null if the task does not exist.
+     */
+    private StoredState findState(String taskId) {
+        if (taskCache != null) {
+            JpaTaskCache.CachedTask cached = taskCache.get(taskId);
+            if (cached != null) {
+                Task task = cached.task();
+                return new StoredState(task.status() == null ? null : task.status().state(), cached.finalizedAt());
+            }
+        }
+        List<Object[]> rows = em.createQuery(
+                        "SELECT t.state, t.finalizedAt FROM JpaTask t WHERE t.id = :taskId", Object[].class)
+                .setParameter("taskId", taskId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return null;
+        }
+        String state = (String) rows.get(0)[0];
+        if (state == null) {
+            // Rows written before the state column was added
+            return findStateInTask(taskId);
+        }
+        return new StoredState(TaskState.fromString(state), (Instant) rows.get(0)[1]);
+    }
+
+    private StoredState findStateInTask(String taskId) {
+        JpaTask jpaTask = em.find(JpaTask.class, taskId);
+        if (jpaTask == null) {
+            return null;
+        }
+        try {
+            Task task = load(jpaTask);
+            return new StoredState(task.status() == null ? null : task.status().state(), jpaTask.getFinalizedAt());
         } catch (JsonProcessingException e) {
-            LOGGER.error("Failed to deserialize task with ID: {}, considering not finalized", taskId, e);
-            return false;
+            LOGGER.error("Failed to deserialize task with ID: {}, considering it not found", taskId, e);
+            return null;
+        }
+    }
+
+    private JpaTaskCache.CachedTask findCached(String taskId) throws JsonProcessingException {
+        JpaTaskCache.CachedTask cached = taskCache.get(taskId);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = taskCache.stamp();
+        JpaTask jpaTask = em.find(JpaTask.class, taskId);
+        if (jpaTask == null) {
+            return null;
+        }
+        Task task = load(jpaTask);
+        taskCache.putIfUnmodified(taskId, task, jpaTask.getFinalizedAt(), stamp);
+        return new JpaTaskCache.CachedTask(task, jpaTask.getFinalizedAt(), 0);
+    }
+
+    /**
+     * Saves a task as a snapshot, replacing its stored version and events.
+     *
+     * @param seq the sequence number of the last event included in the snapshot, null if the task is not event logged
+     */
+    private TaskCommittedEvent saveSnapshot(Task task, Long seq) throws JsonProcessingException {
+        JpaTask jpaTask = JpaTask.createFromTask(task, taskFormat);
+        jpaTask.setSnapshotSeq(seq);
+        em.merge(jpaTask);
+        if (seq != null) {
+            // Also removes events left over from a deleted task with the same ID
+            em.createQuery("DELETE FROM JpaTaskEvent e WHERE e.taskId = :taskId")
+                    .setParameter("taskId", task.id())
+                    .executeUpdate();
+        }
+        long logSeq = seq == null || isFinal(task) ? -1 : seq;
+        return new TaskCommittedEvent(task, jpaTask.getFinalizedAt(), logSeq);
+    }
+
+    /**
+     * Appends the changes of a task to its event log, or saves it as a snapshot if they cannot be appended.
+     */
+    private TaskCommittedEvent saveToEventLog(Task task) throws JsonProcessingException {
+        Object[] seqs = findSeqs(task.id());
+        if (seqs == null || seqs[1] == null || isFinal(task)) {
+            // New tasks, tasks saved without event log and final tasks
+            return saveSnapshot(task, seqs == null ? 0L : nextSeq(seqs));
+        }
+        long logSeq = (Long) seqs[0];
+        long snapshotSeq = (Long) seqs[1];
+
+        JpaTaskEventLog.LoggedTask recent = eventLog.recent(task.id());
+        Task previous = recent != null && recent.seq() == logSeq
+                ? recent.task()
+                : load(em.find(JpaTask.class, task.id()));
+        List<JpaTaskEvent> events = JpaTaskEventLog.diff(previous, task, logSeq + 1);
+        if (events == null || logSeq + events.size() - snapshotSeq > snapshotInterval) {
+            return saveSnapshot(task, logSeq + 1);
+        }
+        if (events.isEmpty()) {
+            return new TaskCommittedEvent(task, null, logSeq);
+        }
+
+        long lastSeq = logSeq + events.size();
+        // Only the columns used by queries are updated, the stored task is left as is
+        int updated = em.createQuery("UPDATE JpaTask t SET t.logSeq = :lastSeq, t.state = :state, "
+                        + "t.statusTimestamp = :statusTimestamp WHERE t.id = :taskId AND t.logSeq = :logSeq")
+                .setParameter("lastSeq", lastSeq)
+                .setParameter("state", JpaTask.stateOf(task))
+                .setParameter("statusTimestamp", JpaTask.statusTimestampOf(task))
+                .setParameter("taskId", task.id())
+                .setParameter("logSeq", logSeq)
+                .executeUpdate();
+        if (updated == 0) {
+            // Saved concurrently: the last save wins, as without event log
+            LOGGER.debug("Task {} was saved concurrently, saving a snapshot", task.id());
+            Object[] current = findSeqs(task.id());
+            return saveSnapshot(task, current == null ? 0L : nextSeq(current));
+        }
+        // The update bypasses the persistence context: drop a copy of the row read earlier in the transaction,
+        // so that its log sequence number is read again instead of hiding the new events
+        em.detach(em.getReference(JpaTask.class, task.id()));
+        for (JpaTaskEvent event : events) {
+            em.persist(event);
+        }
+        LOGGER.debug("Appended {} events to the log of task {}", events.size(), task.id());
+        return new TaskCommittedEvent(task, null, lastSeq);
+    }
+
+    /**
+     * Returns the log and snapshot sequence numbers of a task without reading the stored task, or null if
+     * the task does not exist.
+     */
+    private Object[] findSeqs(String taskId) {
+        List<Object[]> rows = em.createQuery(
+                        "SELECT t.logSeq, t.snapshotSeq FROM JpaTask t WHERE t.id = :taskId", Object[].class)
+                .setParameter("taskId", taskId)
+                .getResultList();
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private static long nextSeq(Object[] seqs) {
+        return seqs[0] == null ? 1 : (Long) seqs[0] + 1;
+    }
+
+    /**
+     * Returns the task stored in a row, with the events logged since its snapshot applied.
+     */
+    private Task load(JpaTask jpaTask) throws JsonProcessingException {
+        return load(jpaTask, findEvents(List.of(jpaTask)));
+    }
+
+    /**
+     * Returns the task stored in a row, with its events from the given ones applied.
+     */
+    private static Task load(JpaTask jpaTask, Map<String, List<JpaTaskEvent>> events) throws JsonProcessingException {
+        Task task = jpaTask.getTask();
+        List<JpaTaskEvent> taskEvents = events.get(jpaTask.getId());
+        if (taskEvents == null) {
+            return task;
+        }
+        long snapshotSeq = jpaTask.getSnapshotSeq();
+        List<JpaTaskEvent> logged = taskEvents.stream()
+                .filter(event -> event.getSeq() > snapshotSeq)
+                .toList();
+        return logged.isEmpty() ? task : JpaTaskEventLog.replay(task, logged);
+    }
+
+    /**
+     * Returns the events logged since the snapshots of the given rows, by task ID and in sequence order.
+     * Rows without such events are skipped, and the events of all others are read with a single query.
+     */
+    private Map<String, List<JpaTaskEvent>> findEvents(List<JpaTask> jpaTasks) {
+        List<String> taskIds = new ArrayList<>();
+        for (JpaTask jpaTask : jpaTasks) {
+            Long snapshotSeq = jpaTask.getSnapshotSeq();
+            if (snapshotSeq != null && jpaTask.getLogSeq() > snapshotSeq) {
+                taskIds.add(jpaTask.getId());
+            }
+        }
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<JpaTaskEvent>> events = new HashMap<>();
+        em.createQuery("SELECT e FROM JpaTaskEvent e WHERE e.taskId IN :taskIds ORDER BY e.taskId, e.seq",
+                        JpaTaskEvent.class)
+                .setParameter("taskIds", taskIds)
+                .getResultList()
+                .forEach(event -> events.computeIfAbsent(event.getTaskId(), taskId -> new ArrayList<>()).add(event));
+        return events;
+    }
+
+    private static boolean isFinal(Task task) {
+        return task.status() != null && task.status().state() != null && task.status().state().isFinal();
+    }
+
+    /**
+     * The state of a task and the time it was finalized, as stored.
+     */
+    private record StoredState(TaskState state, Instant finalizedAt) {
+        boolean isFinal() {
+            return state != null && state.isFinal();
         }
     }
 
@@ -249,7 +649,9 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
         }
 
         // Apply pagination cursor using keyset pagination for composite sort (timestamp DESC, id ASC)
-        // PageToken format: "timestamp_millis:taskId" (e.g., "1699999999000:task-123")
+        // PageToken format: "timestamp_millis:taskId" (e.g., "1699999999000:task-123"), or
+        // "timestamp_millis,totalSize:taskId" when the total size of the first page is carried
+        Integer carriedTotalSize = null;
         if (params.pageToken() != null && !params.pageToken().isEmpty()) {
             String[] tokenParts = params.pageToken().split(":", 2);
             if (tokenParts.length == 2) {
@@ -284,7 +686,13 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
             if (tokenParts.length == 2) {
                 // Parse keyset pagination parameters
                 try {
-                    long timestampMillis = Long.parseLong(tokenParts[0]);
+                    String position = tokenParts[0];
+                    int comma = position.indexOf(',');
+                    if (comma >= 0) {
+                        carriedTotalSize = Integer.parseInt(position.substring(comma + 1));
+                        position = position.substring(0, comma);
+                    }
+                    long timestampMillis = Long.parseLong(position);
                     String tokenId = tokenParts[1];
 
                     // All tasks have timestamps (TaskStatus canonical constructor ensures this)
@@ -313,24 +721,36 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
             jpaTasksPage = jpaTasksPage.subList(0, pageSize);
         }
 
-        // Get total count of matching tasks
-        TypedQuery<Long> countQuery = em.createQuery(countQueryBuilder.toString(), Long.class);
-        if (params.contextId() != null) {
-            countQuery.setParameter("contextId", params.contextId());
-        }
-        if (params.status() != null) {
-            countQuery.setParameter("state", params.status().asString());
+        // Get total count of matching tasks, unless it was carried from the first page or is cached
+        JpaTaskCountCache.Filters filters = new JpaTaskCountCache.Filters(params.contextId(),
+                params.status() == null ? null : params.status().asString(), params.lastUpdatedAfter());
+        Integer totalSize = totalSizeMode == JpaTotalSizeMode.FIRST_PAGE ? carriedTotalSize : null;
+        if (totalSize == null && countCache != null) {
+            totalSize = countCache.get(filters);
         }
-        if (params.lastUpdatedAfter() != null) {
-            countQuery.setParameter("lastUpdatedAfter", params.lastUpdatedAfter());
+        if (totalSize == null) {
+            TypedQuery<Long> countQuery = em.createQuery(countQueryBuilder.toString(), Long.class);
+            if (params.contextId() != null) {
+                countQuery.setParameter("contextId", params.contextId());
+            }
+            if (params.status() != null) {
+                countQuery.setParameter("state", params.status().asString());
+            }
+            if (params.lastUpdatedAfter() != null) {
+                countQuery.setParameter("lastUpdatedAfter", params.lastUpdatedAfter());
+            }
+            totalSize = countQuery.getSingleResult().intValue();
+            if (countCache != null) {
+                countCache.put(filters, totalSize);
+            }
         }
-        int totalSize = countQuery.getSingleResult().intValue();
 
         // Deserialize tasks from JSON
+        Map<String, List<JpaTaskEvent>> events = findEvents(jpaTasksPage);
         List<Task> tasks = new ArrayList<>();
         for (JpaTask jpaTask : jpaTasksPage) {
             try {
-                tasks.add(jpaTask.getTask());
+                tasks.add(load(jpaTask, events));
             } catch (JsonProcessingException e) {
                 LOGGER.error("Failed to deserialize task with ID: {}", jpaTask.getId(), e);
                 throw new RuntimeException("Failed to deserialize task with ID: " + jpaTask.getId(), e);
@@ -344,7 +764,10 @@ public class JpaDatabaseTaskStore implements TaskStore, TaskStateProvider {
             Task lastTask = tasks.get(tasks.size() - 1);
             // All tasks have timestamps (TaskStatus canonical constructor ensures this)
             long timestampMillis = lastTask.status().timestamp().toInstant().toEpochMilli();
-            nextPageToken = timestampMillis + ":" + lastTask.id();
+            String position = totalSizeMode == JpaTotalSizeMode.FIRST_PAGE
+                    ? timestampMillis + "," + totalSize
+                    : String.valueOf(timestampMillis);
+            nextPageToken = position + ":" + lastTask.id();
         }
 
         // Apply post-processing transformations (history limiting, artifact removal)
@@ -1,19 +1,29 @@
 package io.a2a.extras.taskstore.database.jpa;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 
+import io.a2a.grpc.utils.ProtoUtils;
 import io.a2a.jsonrpc.common.json.JsonProcessingException;
 import io.a2a.jsonrpc.common.json.JsonUtil;
 import io.a2a.spec.Task;
 
 @Entity
-@Table(name = "a2a_tasks")
+// Covers the state checks of JpaDatabaseTaskStore, which read only these columns
+@Table(name = "a2a_tasks", indexes = @Index(name = "a2a_tasks_state_idx", columnList = "task_id, state, finalized_at"))
 public class JpaTask {
     @Id
     @Column(name = "task_id")
@@ -28,12 +38,26 @@ public class JpaTask {
     @Column(name = "status_timestamp")
     private Instant statusTimestamp;
 
-    @Column(name = "task_data", columnDefinition = "TEXT", nullable = false)
+    @Column(name = "task_data", columnDefinition = "TEXT")
     private String taskJson;
 
+    @Column(name = "task_format")
+    private String format;
+
+    @Column(name = "task_bytes", length = Integer.MAX_VALUE)
+    private byte[] taskBytes;
+
     @Column(name = "finalized_at")
     private Instant finalizedAt;
 
+    // Sequence number of the last event logged for the task, see JpaTaskEventLog
+    @Column(name = "log_seq")
+    private Long logSeq;
+
+    // Sequence number of the last event included in the stored task, null if the task was saved without event log
+    @Column(name = "snapshot_seq")
+    private Long snapshotSeq;
+
     @Transient
     private Task task;
 
@@ -86,6 +110,32 @@ public class JpaTask {
         this.taskJson = taskJson;
     }
 
+    public JpaTaskFormat getFormat() {
+        return JpaTaskFormat.fromString(format);
+    }
+
+    public byte[] getTaskBytes() {
+        return taskBytes;
+    }
+
+    public long getLogSeq() {
+        return logSeq == null ? 0 : logSeq;
+    }
+
+    public Long getSnapshotSeq() {
+        return snapshotSeq;
+    }
+
+    /**
+     * Marks the stored task as a snapshot including the events up to the given sequence number.
+     *
+     * @param seq the sequence number of the last event included, or null if the task is not event logged
+     */
+    void setSnapshotSeq(Long seq) {
+        this.logSeq = seq;
+        this.snapshotSeq = seq;
+    }
+
     public Instant getFinalizedAt() {
         return finalizedAt;
     }
@@ -107,15 +157,30 @@ public class JpaTask {
         }
     }
 
+    /**
+     * Returns the stored task, decoding it from the format it was written in.
+     *
+     * @return the task
+     * @throws JsonProcessingException if the stored task cannot be decoded, whatever its format
+     */
     public Task getTask() throws JsonProcessingException {
         if (task == null) {
-            this.task = JsonUtil.fromJson(taskJson, Task.class);
+            JpaTaskFormat taskFormat = getFormat();
+            this.task = taskFormat == JpaTaskFormat.JSON
+                    ? JsonUtil.fromJson(taskJson, Task.class)
+                    : decode(taskBytes, taskFormat);
         }
         return task;
     }
 
+    /**
+     * Stores a task in the format of this row.
+     *
+     * @param task the task
+     * @throws JsonProcessingException if the task cannot be encoded
+     */
     public void setTask(Task task) throws JsonProcessingException {
-        taskJson = JsonUtil.toJson(task);
+        encode(task, getFormat());
         if (id == null) {
             id = task.id();
         }
@@ -125,14 +190,56 @@ public class JpaTask {
     }
 
     static JpaTask createFromTask(Task task) throws JsonProcessingException {
-        String json = JsonUtil.toJson(task);
-        JpaTask jpaTask = new JpaTask(task.id(), json);
+        return createFromTask(task, JpaTaskFormat.JSON);
+    }
+
+    static JpaTask createFromTask(Task task, JpaTaskFormat format) throws JsonProcessingException {
+        JpaTask jpaTask = new JpaTask();
+        jpaTask.id = task.id();
+        jpaTask.encode(task, format);
         jpaTask.task = task;
         jpaTask.updateDenormalizedFields(task);
         jpaTask.updateFinalizedTimestamp(task);
         return jpaTask;
     }
 
+    private void encode(Task task, JpaTaskFormat taskFormat) throws JsonProcessingException {
+        // Legacy JSON rows keep a null marker so that they stay readable by older versions
+        this.format = taskFormat == JpaTaskFormat.JSON ? null : taskFormat.asString();
+        if (taskFormat == JpaTaskFormat.JSON) {
+            this.taskJson = JsonUtil.toJson(task);
+            this.taskBytes = null;
+            return;
+        }
+        byte[] encoded = ProtoUtils.ToProto.task(task).toByteArray();
+        this.taskBytes = taskFormat == JpaTaskFormat.PROTOBUF_GZIP ? gzip(encoded) : encoded;
+        this.taskJson = null;
+    }
+
+    private static Task decode(byte[] bytes, JpaTaskFormat taskFormat) throws JsonProcessingException {
+        if (bytes == null) {
+            throw new JsonProcessingException("No task data stored in the " + taskFormat.asString() + " format");
+        }
+        try (InputStream in = taskFormat == JpaTaskFormat.PROTOBUF_GZIP
+                ? new GZIPInputStream(new ByteArrayInputStream(bytes))
+                : new ByteArrayInputStream(bytes)) {
+            return ProtoUtils.FromProto.task(io.a2a.grpc.Task.parseFrom(in));
+        } catch (IOException e) {
+            throw new JsonProcessingException("Failed to decode task stored in the " + taskFormat.asString() + " format", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 2));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            // Never thrown by in-memory streams
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
     /**
      * Updates denormalized fields (contextId, state, statusTimestamp) from the task object.
      * These fields are duplicated from the JSON to enable efficient querying.
@@ -141,18 +248,23 @@ public class JpaTask {
      */
     private void updateDenormalizedFields(Task task) {
         this.contextId = task.contextId();
-        if (task.status() != null) {
-            io.a2a.spec.TaskState taskState = task.status().state();
-            this.state = (taskState != null) ? taskState.asString() : null;
-            // Extract status timestamp for efficient querying and sorting
-            // Truncate to milliseconds for keyset pagination consistency (pageToken uses millis)
-            this.statusTimestamp = (task.status().timestamp() != null)
-                    ? task.status().timestamp().toInstant().truncatedTo(java.time.temporal.ChronoUnit.MILLIS)
-                    : null;
-        } else {
-            this.state = null;
-            this.statusTimestamp = null;
+        this.state = stateOf(task);
+        this.statusTimestamp = statusTimestampOf(task);
+    }
+
+    static String stateOf(Task task) {
+        if (task.status() == null || task.status().state() == null) {
+            return null;
+        }
+        return task.status().state().asString();
+    }
+
+    static Instant statusTimestampOf(Task task) {
+        if (task.status() == null || task.status().timestamp() == null) {
+            return null;
         }
+        // Truncate to milliseconds for keyset pagination consistency (pageToken uses millis)
+        return task.status().timestamp().toInstant().truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
     }
 
     /**
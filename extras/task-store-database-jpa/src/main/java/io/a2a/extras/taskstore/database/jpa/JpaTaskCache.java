@@ -0,0 +1,156 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.a2a.spec.Task;
+
+/**
+ * Bounded cache of deserialized tasks, in front of the database.
+ * <p>
+ * Entries are evicted least recently used first once the maximum size is reached, and expire after
+ * the time to live so that changes made by other instances that are not signalled are eventually
+ * seen. A task read from the database is only cached if no entry was updated or invalidated since
+ * the read started, so a slow read cannot overwrite a newer version. Nor is it cached while another
+ * instance may still be committing an update of the task, see {@link #invalidateRemote(String, boolean)}.
+ * </p>
+ */
+final class JpaTaskCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    // Incremented on every put and invalidation, see stamp()
+    private final AtomicLong modifications = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final LinkedHashMap<String, CachedTask> entries;
+    // Tasks updated by another instance that may not be committed yet, with the System.nanoTime() of
+    // the last update, oldest first. Guarded by entries.
+    private final LinkedHashMap<String, Long> remoteUpdates;
+
+    JpaTaskCache(int maxSize, long ttlNanos) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTask> eldest) {
+                return size() > JpaTaskCache.this.maxSize;
+            }
+        };
+        this.remoteUpdates = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > JpaTaskCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached task, or null if it is not cached or expired.
+     */
+    CachedTask get(String taskId) {
+        CachedTask cached;
+        synchronized (entries) {
+            cached = entries.get(taskId);
+            if (cached != null && ttlNanos > 0 && System.nanoTime() - cached.cachedAtNanos() >= ttlNanos) {
+                entries.remove(taskId);
+                cached = null;
+            }
+        }
+        if (cached == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return cached;
+    }
+
+    /**
+     * Returns a stamp to pass to {@link #putIfUnmodified(String, Task, Instant, long)} before reading a
+     * task from the database.
+     */
+    long stamp() {
+        return modifications.get();
+    }
+
+    /**
+     * Caches a task read from the database, unless any entry was put or invalidated since the stamp was taken.
+     */
+    void putIfUnmodified(String taskId, Task task, Instant finalizedAt, long stamp) {
+        synchronized (entries) {
+            long now = System.nanoTime();
+            if (modifications.get() == stamp && !isRemotelyUpdated(taskId, now)) {
+                entries.put(taskId, new CachedTask(task, finalizedAt, now));
+            }
+        }
+    }
+
+    /**
+     * Caches a task that was just committed.
+     */
+    void put(String taskId, Task task, Instant finalizedAt) {
+        synchronized (entries) {
+            modifications.incrementAndGet();
+            entries.put(taskId, new CachedTask(task, finalizedAt, System.nanoTime()));
+        }
+    }
+
+    void invalidate(String taskId) {
+        synchronized (entries) {
+            modifications.incrementAndGet();
+            entries.remove(taskId);
+        }
+    }
+
+    /**
+     * Drops a task another instance updated. Unless the update is committed, reads of the task are not
+     * cached until the time to live elapsed, as they may still return the version before the update.
+     *
+     * @param committed whether the other instance committed its updates of the task
+     */
+    void invalidateRemote(String taskId, boolean committed) {
+        synchronized (entries) {
+            modifications.incrementAndGet();
+            entries.remove(taskId);
+            remoteUpdates.remove(taskId);
+            if (!committed) {
+                remoteUpdates.put(taskId, System.nanoTime());
+            }
+        }
+    }
+
+    // Called holding the entries lock
+    private boolean isRemotelyUpdated(String taskId, long now) {
+        Long updatedAt = remoteUpdates.get(taskId);
+        if (updatedAt == null) {
+            return false;
+        }
+        if (ttlNanos > 0 && now - updatedAt >= ttlNanos) {
+            remoteUpdates.remove(taskId);
+            return false;
+        }
+        return true;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    long getHitCount() {
+        return hitCount.get();
+    }
+
+    long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * A cached task, with the time it was finalized as stored in the database.
+     */
+    record CachedTask(Task task, Instant finalizedAt, long cachedAtNanos) {
+    }
+}
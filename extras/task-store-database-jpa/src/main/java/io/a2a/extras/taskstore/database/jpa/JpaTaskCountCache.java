@@ -0,0 +1,57 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of the number of tasks matching the filters of a list request.
+ */
+final class JpaTaskCountCache {
+
+    private static final int MAX_SIZE = 1000;
+
+    private final long ttlNanos;
+    private final LinkedHashMap<Filters, CachedCount> counts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Filters, CachedCount> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    JpaTaskCountCache(long ttlNanos) {
+        this.ttlNanos = ttlNanos;
+    }
+
+    /**
+     * Returns the cached count, or null if it is not cached or expired.
+     */
+    Integer get(Filters filters) {
+        synchronized (counts) {
+            CachedCount cached = counts.get(filters);
+            if (cached == null) {
+                return null;
+            }
+            if (System.nanoTime() - cached.countedAtNanos() >= ttlNanos) {
+                counts.remove(filters);
+                return null;
+            }
+            return cached.count();
+        }
+    }
+
+    void put(Filters filters, int count) {
+        synchronized (counts) {
+            counts.put(filters, new CachedCount(count, System.nanoTime()));
+        }
+    }
+
+    /**
+     * The filters of a list request that the number of matching tasks depends on.
+     */
+    record Filters(String contextId, String state, Instant lastUpdatedAfter) {
+    }
+
+    private record CachedCount(int count, long countedAtNanos) {
+    }
+}
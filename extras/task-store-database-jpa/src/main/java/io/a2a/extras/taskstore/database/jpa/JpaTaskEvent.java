@@ -0,0 +1,97 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * A change of a task, appended to the task's event log when {@code a2a.jpa.event-log.enabled} is set.
+ * <p>
+ * The task is rebuilt by applying the events following its snapshot in {@link JpaTask}, in sequence order.
+ * The event data is the protobuf encoding of the A2A event describing the change.
+ * </p>
+ *
+ * @see JpaTaskEventLog
+ */
+@Entity
+@Table(name = "a2a_task_events")
+@IdClass(JpaTaskEvent.Key.class)
+public class JpaTaskEvent {
+    @Id
+    @Column(name = "task_id")
+    private String taskId;
+
+    @Id
+    @Column(name = "seq")
+    private long seq;
+
+    @Column(name = "event_type", nullable = false)
+    private String type;
+
+    @Column(name = "event_data", length = Integer.MAX_VALUE, nullable = false)
+    private byte[] data;
+
+    // Default constructor required by JPA
+    public JpaTaskEvent() {
+    }
+
+    public JpaTaskEvent(String taskId, long seq, String type, byte[] data) {
+        this.taskId = taskId;
+        this.seq = seq;
+        this.type = type;
+        this.data = data;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Primary key of {@link JpaTaskEvent}.
+     */
+    public static class Key implements Serializable {
+        private String taskId;
+        private long seq;
+
+        public Key() {
+        }
+
+        public Key(String taskId, long seq) {
+            this.taskId = taskId;
+            this.seq = seq;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return seq == key.seq && Objects.equals(taskId, key.taskId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(taskId, seq);
+        }
+    }
+}
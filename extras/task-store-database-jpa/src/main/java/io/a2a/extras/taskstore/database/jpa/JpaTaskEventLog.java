@@ -0,0 +1,231 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.a2a.grpc.utils.ProtoUtils;
+import io.a2a.jsonrpc.common.json.JsonProcessingException;
+import io.a2a.spec.Artifact;
+import io.a2a.spec.Message;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskArtifactUpdateEvent;
+import io.a2a.spec.TaskStatusUpdateEvent;
+import io.a2a.util.PersistentList;
+import io.a2a.util.Utils;
+
+/**
+ * Turns saved tasks into the events of their event log, and events back into tasks.
+ * <p>
+ * {@link io.a2a.server.tasks.TaskManager} saves the whole task for every event it processes. A save
+ * is logged as the difference to the previously saved version: appended history messages, added or
+ * replaced artifacts, parts appended to an artifact, and metadata and status changes. Anything else,
+ * such as removed messages or artifacts, cannot be expressed as events and is saved as a new snapshot.
+ * </p>
+ * <p>
+ * The latest logged version of recently saved tasks is kept, so that computing the difference does not
+ * require reading the task back from the database.
+ * </p>
+ */
+final class JpaTaskEventLog {
+
+    static final String MESSAGE = "message";
+    static final String ARTIFACT = "artifact";
+    static final String METADATA = "metadata";
+    static final String STATUS = "status";
+
+    private static final int MAX_RECENT_TASKS = 10_000;
+
+    private final LinkedHashMap<String, LoggedTask> recentTasks = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LoggedTask> eldest) {
+            return size() > MAX_RECENT_TASKS;
+        }
+    };
+
+    /**
+     * Returns the latest version of a task logged by this instance, or null if it is not known.
+     */
+    LoggedTask recent(String taskId) {
+        synchronized (recentTasks) {
+            return recentTasks.get(taskId);
+        }
+    }
+
+    void remember(Task task, long seq) {
+        synchronized (recentTasks) {
+            recentTasks.put(task.id(), new LoggedTask(task, seq));
+        }
+    }
+
+    void forget(String taskId) {
+        synchronized (recentTasks) {
+            recentTasks.remove(taskId);
+        }
+    }
+
+    /**
+     * Returns the events turning the previous version of a task into the new one, numbered from the
+     * given sequence number, or null if the change cannot be expressed as events.
+     */
+    static List<JpaTaskEvent> diff(Task previous, Task task, long firstSeq) {
+        if (!previous.id().equals(task.id()) || !previous.contextId().equals(task.contextId())) {
+            return null;
+        }
+        String taskId = task.id();
+        List<JpaTaskEvent> events = new ArrayList<>();
+        long seq = firstSeq;
+
+        List<Message> previousHistory = previous.history();
+        List<Message> history = task.history();
+        if (!startsWith(history, previousHistory)) {
+            return null;
+        }
+        for (Message message : history.subList(previousHistory.size(), history.size())) {
+            if (message.messageId() == null || message.messageId().isEmpty()) {
+                // Not representable in protobuf
+                return null;
+            }
+            events.add(new JpaTaskEvent(taskId, seq++, MESSAGE, ProtoUtils.ToProto.message(message).toByteArray()));
+        }
+
+        List<Artifact> previousArtifacts = previous.artifacts();
+        List<Artifact> artifacts = task.artifacts();
+        if (artifacts.size() < previousArtifacts.size()) {
+            return null;
+        }
+        // Artifact events address artifacts by id
+        Set<String> artifactIds = new HashSet<>();
+        for (Artifact artifact : artifacts) {
+            if (artifact.artifactId() == null || !artifactIds.add(artifact.artifactId())) {
+                return null;
+            }
+        }
+        for (int i = 0; i < artifacts.size(); i++) {
+            Artifact artifact = artifacts.get(i);
+            Artifact previousArtifact = i < previousArtifacts.size() ? previousArtifacts.get(i) : null;
+            if (previousArtifact == artifact) {
+                continue;
+            }
+            if (previousArtifact != null && !previousArtifact.artifactId().equals(artifact.artifactId())) {
+                return null;
+            }
+            // Parts are compared by identity first: unchanged parts are shared between the versions of a task
+            boolean appended = previousArtifact != null && equalsExceptParts(previousArtifact, artifact)
+                    && startsWith(artifact.parts(), previousArtifact.parts());
+            if (appended && artifact.parts().size() == previousArtifact.parts().size()) {
+                continue;
+            }
+            TaskArtifactUpdateEvent.Builder event = TaskArtifactUpdateEvent.builder()
+                    .taskId(taskId)
+                    .contextId(task.contextId());
+            if (appended) {
+                event.append(true)
+                        .artifact(Artifact.builder(artifact)
+                                .parts(artifact.parts().subList(previousArtifact.parts().size(), artifact.parts().size()))
+                                .build());
+            } else {
+                event.append(false).artifact(artifact);
+            }
+            events.add(new JpaTaskEvent(taskId, seq++, ARTIFACT,
+                    ProtoUtils.ToProto.taskArtifactUpdateEvent(event.build()).toByteArray()));
+        }
+
+        if (!Objects.equals(previous.metadata(), task.metadata())) {
+            Task metadata = Task.builder()
+                    .id(taskId)
+                    .contextId(task.contextId())
+                    .status(task.status())
+                    .metadata(task.metadata())
+                    .build();
+            events.add(new JpaTaskEvent(taskId, seq++, METADATA, ProtoUtils.ToProto.task(metadata).toByteArray()));
+        }
+
+        if (!previous.status().equals(task.status())) {
+            TaskStatusUpdateEvent event = TaskStatusUpdateEvent.builder()
+                    .taskId(taskId)
+                    .contextId(task.contextId())
+                    .status(task.status())
+                    .isFinal(task.status().state() != null && task.status().state().isFinal())
+                    .build();
+            events.add(new JpaTaskEvent(taskId, seq, STATUS,
+                    ProtoUtils.ToProto.taskStatusUpdateEvent(event).toByteArray()));
+        }
+        return events;
+    }
+
+    /**
+     * Applies events, in sequence order, to a snapshot of a task.
+     *
+     * @throws JsonProcessingException if an event cannot be decoded
+     */
+    static Task replay(Task snapshot, List<JpaTaskEvent> events) throws JsonProcessingException {
+        Task task = snapshot;
+        List<Message> appendedHistory = new ArrayList<>();
+        for (JpaTaskEvent event : events) {
+            try {
+                switch (event.getType()) {
+                    case MESSAGE -> appendedHistory.add(
+                            ProtoUtils.FromProto.message(io.a2a.grpc.Message.parseFrom(event.getData())));
+                    case ARTIFACT -> task = Utils.appendArtifactToTask(task,
+                            ProtoUtils.FromProto.taskArtifactUpdateEvent(
+                                    io.a2a.grpc.TaskArtifactUpdateEvent.parseFrom(event.getData())),
+                            task.id());
+                    case METADATA -> task = Task.builder(task)
+                            .metadata(ProtoUtils.FromProto.task(io.a2a.grpc.Task.parseFrom(event.getData())).metadata())
+                            .build();
+                    case STATUS -> task = Task.builder(task)
+                            .status(ProtoUtils.FromProto.taskStatusUpdateEvent(
+                                    io.a2a.grpc.TaskStatusUpdateEvent.parseFrom(event.getData())).status())
+                            .build();
+                    default -> throw new JsonProcessingException("Unknown event type " + event.getType()
+                            + " of task " + event.getTaskId());
+                }
+            } catch (InvalidProtocolBufferException e) {
+                throw new JsonProcessingException("Failed to decode event " + event.getSeq()
+                        + " of task " + event.getTaskId(), e);
+            }
+        }
+        if (!appendedHistory.isEmpty()) {
+            task = Task.builder(task)
+                    .history(PersistentList.copyOf(task.history()).withAppendedAll(appendedHistory))
+                    .build();
+        }
+        return task;
+    }
+
+    private static boolean equalsExceptParts(Artifact previous, Artifact artifact) {
+        return Objects.equals(previous.artifactId(), artifact.artifactId())
+                && Objects.equals(previous.name(), artifact.name())
+                && Objects.equals(previous.description(), artifact.description())
+                && Objects.equals(previous.metadata(), artifact.metadata())
+                && Objects.equals(previous.extensions(), artifact.extensions());
+    }
+
+    private static <T> boolean startsWith(List<T> list, List<T> prefix) {
+        if (list == prefix) {
+            return true;
+        }
+        if (list.size() < prefix.size()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.size(); i++) {
+            T element = prefix.get(i);
+            if (element != list.get(i) && !element.equals(list.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A logged version of a task and the sequence number of its last event.
+     */
+    record LoggedTask(Task task, long seq) {
+    }
+}
@@ -0,0 +1,57 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+/**
+ * How a {@link JpaTask} stores its task.
+ * <p>
+ * Each row records the format it was written in, so changing the format of a store keeps existing rows
+ * readable. Rows written before the format was recorded are JSON.
+ * </p>
+ */
+public enum JpaTaskFormat {
+    /**
+     * JSON text in the {@code task_data} column.
+     */
+    JSON("json"),
+    /**
+     * The protobuf encoding of {@code io.a2a.grpc.Task} in the {@code task_bytes} column.
+     */
+    PROTOBUF("protobuf"),
+    /**
+     * The GZIP compressed protobuf encoding of {@code io.a2a.grpc.Task} in the {@code task_bytes} column.
+     */
+    PROTOBUF_GZIP("protobuf-gzip");
+
+    private final String marker;
+
+    JpaTaskFormat(String marker) {
+        this.marker = marker;
+    }
+
+    /**
+     * Returns the value stored in the {@code task_format} column and used in configuration.
+     *
+     * @return the format marker
+     */
+    public String asString() {
+        return marker;
+    }
+
+    /**
+     * Returns the format of a marker.
+     *
+     * @param marker the format marker, null for rows written before the format was recorded
+     * @return the format
+     * @throws IllegalArgumentException if the marker is unknown
+     */
+    public static JpaTaskFormat fromString(String marker) {
+        if (marker == null) {
+            return JSON;
+        }
+        for (JpaTaskFormat format : values()) {
+            if (format.marker.equals(marker)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task format: " + marker);
+    }
+}
@@ -0,0 +1,52 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+/**
+ * How {@link JpaDatabaseTaskStore#list(io.a2a.spec.ListTasksParams)} computes the total number of
+ * tasks matching the filters.
+ */
+public enum JpaTotalSizeMode {
+    /**
+     * Counts the matching tasks for every page.
+     */
+    EXACT("exact"),
+    /**
+     * Counts the matching tasks for the first page only. The count is carried in the page token, so
+     * following pages report the total as of the first page.
+     */
+    FIRST_PAGE("first-page"),
+    /**
+     * Counts the matching tasks once per filter set and reuses the count until it expires.
+     */
+    CACHED("cached");
+
+    private final String value;
+
+    JpaTotalSizeMode(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the value used in configuration.
+     *
+     * @return the configuration value
+     */
+    public String asString() {
+        return value;
+    }
+
+    /**
+     * Returns the mode of a configuration value.
+     *
+     * @param value the configuration value
+     * @return the mode
+     * @throws IllegalArgumentException if the value is unknown
+     */
+    public static JpaTotalSizeMode fromString(String value) {
+        for (JpaTotalSizeMode mode : values()) {
+            if (mode.value.equals(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown total size mode: " + value);
+    }
+}
@@ -0,0 +1,16 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import java.time.Instant;
+
+import io.a2a.spec.Task;
+
+/**
+ * CDI event fired by {@link JpaDatabaseTaskStore#save(Task)}, observed once the transaction completes
+ * to update the task cache and the latest versions known to the event log.
+ *
+ * @param task the saved task
+ * @param finalizedAt the time the task was finalized, as saved
+ * @param logSeq the sequence number of the last event logged for the task, -1 if it is not event logged
+ */
+record TaskCommittedEvent(Task task, Instant finalizedAt, long logSeq) {
+}
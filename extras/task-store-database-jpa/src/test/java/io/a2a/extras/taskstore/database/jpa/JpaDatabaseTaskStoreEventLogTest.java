@@ -0,0 +1,137 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import io.a2a.spec.Artifact;
+import io.a2a.spec.ListTasksParams;
+import io.a2a.spec.Part;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TextPart;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@TestProfile(JpaDatabaseTaskStoreEventLogTest.EventLogProfile.class)
+public class JpaDatabaseTaskStoreEventLogTest {
+
+    @Inject
+    JpaDatabaseTaskStore taskStore;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    public void testStreamedArtifactIsAppendedToTheLog() {
+        Task task = Task.builder()
+                .id("event-log-task-1")
+                .contextId("event-log-context")
+                .status(new TaskStatus(TaskState.WORKING))
+                .build();
+        taskStore.save(task);
+        assertEquals(0, countEvents(task.id()));
+
+        List<Part<?>> parts = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            parts.add(new TextPart("chunk " + i));
+            task = Task.builder(task)
+                    .artifacts(List.of(Artifact.builder().artifactId("artifact-1").parts(List.copyOf(parts)).build()))
+                    .build();
+            taskStore.save(task);
+        }
+        assertEquals(2, countEvents(task.id()));
+        assertEquals(parts, taskStore.get(task.id()).artifacts().get(0).parts());
+        assertEquals(parts, taskStore.list(ListTasksParams.builder()
+                .contextId("event-log-context").includeArtifacts(true).tenant("").build()).tasks().get(0).artifacts().get(0).parts());
+
+        // Two more events exceed the snapshot interval
+        parts.add(new TextPart("chunk 2"));
+        task = Task.builder(task)
+                .artifacts(List.of(Artifact.builder().artifactId("artifact-1").parts(List.copyOf(parts)).build()))
+                .metadata(Map.of("chunks", "3"))
+                .build();
+        taskStore.save(task);
+        assertEquals(0, countEvents(task.id()));
+        Task retrieved = taskStore.get(task.id());
+        assertEquals(parts, retrieved.artifacts().get(0).parts());
+        assertEquals("3", retrieved.metadata().get("chunks"));
+
+        task = Task.builder(task)
+                .status(new TaskStatus(TaskState.COMPLETED))
+                .build();
+        taskStore.save(task);
+        assertEquals(0, countEvents(task.id()));
+        assertTrue(taskStore.isTaskFinalized(task.id()));
+
+        taskStore.delete(task.id());
+        assertNull(taskStore.get(task.id()));
+    }
+
+    @Test
+    public void testTasksSavedWithoutEventLogAreReadAndLogged() {
+        Task task = Task.builder()
+                .id("event-log-task-2")
+                .contextId("event-log-context")
+                .status(new TaskStatus(TaskState.WORKING))
+                .build();
+        QuarkusTransaction.requiringNew().run(() -> {
+            try {
+                entityManager.persist(JpaTask.createFromTask(task));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Task updated = Task.builder(task)
+                .status(new TaskStatus(TaskState.INPUT_REQUIRED))
+                .build();
+        taskStore.save(updated);
+        assertEquals(0, countEvents(task.id()));
+        taskStore.save(Task.builder(updated).status(new TaskStatus(TaskState.WORKING)).build());
+        assertEquals(1, countEvents(task.id()));
+        assertEquals(TaskState.WORKING, taskStore.get(task.id()).status().state());
+        assertEquals(1, taskStore.list(ListTasksParams.builder()
+                .status(TaskState.WORKING).contextId("event-log-context").tenant("").build()).totalSize());
+    }
+
+    private long countEvents(String taskId) {
+        return QuarkusTransaction.requiringNew().call(() -> entityManager
+                .createQuery("SELECT COUNT(e) FROM JpaTaskEvent e WHERE e.taskId = :taskId", Long.class)
+                .setParameter("taskId", taskId)
+                .getSingleResult());
+    }
+
+    public static class EventLogProfile implements QuarkusTestProfile {
+        @Override
+        public Set<Class<?>> getEnabledAlternatives() {
+            return Set.of(EventLogConfigProvider.class);
+        }
+    }
+
+    @Alternative
+    @ApplicationScoped
+    public static class EventLogConfigProvider extends OverridingConfigProvider {
+        @Override
+        protected Map<String, String> overrides() {
+            return Map.of(
+                    "a2a.jpa.event-log.enabled", "true",
+                    "a2a.jpa.event-log.snapshot-interval", "3");
+        }
+    }
+}
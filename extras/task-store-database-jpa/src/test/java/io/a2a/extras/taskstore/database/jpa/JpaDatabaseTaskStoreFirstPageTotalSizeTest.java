@@ -0,0 +1,87 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.inject.Inject;
+
+import io.a2a.jsonrpc.common.wrappers.ListTasksResult;
+import io.a2a.spec.ListTasksParams;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@TestProfile(JpaDatabaseTaskStoreFirstPageTotalSizeTest.FirstPageProfile.class)
+public class JpaDatabaseTaskStoreFirstPageTotalSizeTest {
+
+    @Inject
+    JpaDatabaseTaskStore taskStore;
+
+    @Test
+    public void testFollowingPagesReportTheTotalOfTheFirstPage() {
+        OffsetDateTime now = OffsetDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            taskStore.save(task("first-page-task-" + i, now.minusMinutes(i)));
+        }
+
+        ListTasksResult firstPage = taskStore.list(params(null));
+        assertEquals(3, firstPage.totalSize());
+
+        // Not counted anymore: following pages keep reporting the total of the first page
+        taskStore.save(task("first-page-task-3", now.minusMinutes(3)));
+        ListTasksResult secondPage = taskStore.list(params(firstPage.nextPageToken()));
+        assertEquals(3, secondPage.totalSize());
+        assertEquals("first-page-task-1", secondPage.tasks().get(0).id());
+
+        ListTasksResult lastPage = taskStore.list(params(taskStore.list(params(secondPage.nextPageToken())).nextPageToken()));
+        assertEquals(3, lastPage.totalSize());
+        assertEquals("first-page-task-3", lastPage.tasks().get(0).id());
+        assertNull(lastPage.nextPageToken());
+
+        assertEquals(4, taskStore.list(params(null)).totalSize());
+    }
+
+    private static ListTasksParams params(String pageToken) {
+        return ListTasksParams.builder()
+                .contextId("first-page-context")
+                .pageSize(1)
+                .pageToken(pageToken)
+                .tenant("")
+                .build();
+    }
+
+    private static Task task(String id, OffsetDateTime timestamp) {
+        return Task.builder()
+                .id(id)
+                .contextId("first-page-context")
+                .status(new TaskStatus(TaskState.WORKING, null, timestamp))
+                .build();
+    }
+
+    public static class FirstPageProfile implements QuarkusTestProfile {
+        @Override
+        public Set<Class<?>> getEnabledAlternatives() {
+            return Set.of(FirstPageConfigProvider.class);
+        }
+    }
+
+    @Alternative
+    @ApplicationScoped
+    public static class FirstPageConfigProvider extends OverridingConfigProvider {
+        @Override
+        protected Map<String, String> overrides() {
+            return Map.of("a2a.jpa.list.total-size", "first-page");
+        }
+    }
+}
@@ -793,4 +793,88 @@ public class JpaDatabaseTaskStoreTest {
         assertEquals("task-order-b", result.tasks().get(1).id());
         assertEquals("task-order-c", result.tasks().get(2).id());
     }
+
+    @Test
+    @Transactional
+    public void testTasksAreReadInTheFormatTheyWereSavedIn() throws Exception {
+        Message message = Message.builder()
+                .role(Message.Role.USER)
+                .parts(Collections.singletonList(new TextPart("Hello, agent!")))
+                .messageId("msg-format")
+                .build();
+        for (JpaTaskFormat format : JpaTaskFormat.values()) {
+            Task task = Task.builder()
+                    .id("test-task-format-" + format.asString())
+                    .contextId("test-context-format")
+                    .status(new TaskStatus(TaskState.WORKING))
+                    .history(Collections.singletonList(message))
+                    .build();
+            entityManager.persist(JpaTask.createFromTask(task, format));
+        }
+        // A row written before the format was recorded
+        Task legacy = Task.builder()
+                .id("test-task-format-legacy")
+                .contextId("test-context-format")
+                .status(new TaskStatus(TaskState.COMPLETED))
+                .build();
+        entityManager.persist(new JpaTask(legacy.id(), io.a2a.jsonrpc.common.json.JsonUtil.toJson(legacy)));
+        entityManager.flush();
+        entityManager.clear();
+
+        for (JpaTaskFormat format : JpaTaskFormat.values()) {
+            JpaTask stored = entityManager.find(JpaTask.class, "test-task-format-" + format.asString());
+            assertEquals(format, stored.getFormat());
+            Task retrieved = taskStore.get("test-task-format-" + format.asString());
+            assertNotNull(retrieved);
+            assertEquals("test-context-format", retrieved.contextId());
+            assertEquals(TaskState.WORKING, retrieved.status().state());
+            assertEquals("Hello, agent!", ((TextPart) retrieved.history().get(0).parts().get(0)).text());
+        }
+        assertEquals(JpaTaskFormat.JSON, entityManager.find(JpaTask.class, "test-task-format-legacy").getFormat());
+        assertEquals(TaskState.COMPLETED, taskStore.get("test-task-format-legacy").status().state());
+        assertTrue(((JpaDatabaseTaskStore) taskStore).isTaskFinalized("test-task-format-legacy"));
+    }
+
+    @Test
+    @Transactional
+    public void testStateChecksReadOnlyTheStateColumns() {
+        Task task = Task.builder()
+                .id("test-task-state-columns")
+                .contextId("test-context")
+                .status(new TaskStatus(TaskState.COMPLETED))
+                .build();
+        taskStore.save(task);
+        // The stored task cannot be read anymore, the state and finalized_at columns still can
+        entityManager.createQuery("UPDATE JpaTask j SET j.taskJson = 'not json' WHERE j.id = :id")
+                .setParameter("id", task.id())
+                .executeUpdate();
+        entityManager.clear();
+
+        JpaDatabaseTaskStore jpaDatabaseTaskStore = (JpaDatabaseTaskStore) taskStore;
+        assertTrue(jpaDatabaseTaskStore.isTaskFinalized(task.id()));
+        assertTrue(jpaDatabaseTaskStore.isTaskActive(task.id()), "Final task within grace period should be active");
+    }
+
+    @Test
+    @Transactional
+    public void testListTasksCountsExactlyWithTotalSizeInPageToken() {
+        OffsetDateTime now = OffsetDateTime.now();
+        for (int i = 0; i < 2; i++) {
+            taskStore.save(Task.builder()
+                    .id("task-carried-total-" + i)
+                    .contextId("context-carried-total")
+                    .status(new TaskStatus(TaskState.WORKING, null, now.minusMinutes(i)))
+                    .build());
+        }
+        // Tokens carrying the total of the first page are accepted, the exact mode still counts
+        String pageToken = now.toInstant().toEpochMilli() + ",99:task-carried-total-0";
+        ListTasksResult result = taskStore.list(ListTasksParams.builder()
+                .contextId("context-carried-total")
+                .pageToken(pageToken)
+                .tenant("")
+                .build());
+        assertEquals(2, result.totalSize());
+        assertEquals(1, result.tasks().size());
+        assertEquals("task-carried-total-1", result.tasks().get(0).id());
+    }
 }
@@ -0,0 +1,107 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+public class JpaTaskCacheTest {
+
+    @Test
+    public void testCachesCommittedTasksAndCountsHits() {
+        JpaTaskCache cache = new JpaTaskCache(10, TimeUnit.MINUTES.toNanos(1));
+        Task task = task("task-1", TaskState.COMPLETED);
+        Instant finalizedAt = Instant.now();
+
+        assertNull(cache.get("task-1"));
+        cache.put("task-1", task, finalizedAt);
+
+        JpaTaskCache.CachedTask cached = cache.get("task-1");
+        assertSame(task, cached.task());
+        assertEquals(finalizedAt, cached.finalizedAt());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cache.invalidate("task-1");
+        assertNull(cache.get("task-1"));
+    }
+
+    @Test
+    public void testReadsOverlappingAnUpdateAreNotCached() {
+        JpaTaskCache cache = new JpaTaskCache(10, 0);
+        long stamp = cache.stamp();
+        // The task is saved while it is being read from the database
+        cache.invalidate("task-1");
+        cache.putIfUnmodified("task-1", task("task-1", TaskState.WORKING), null, stamp);
+        assertNull(cache.get("task-1"));
+
+        cache.putIfUnmodified("task-1", task("task-1", TaskState.WORKING), null, cache.stamp());
+        assertNotNull(cache.get("task-1"));
+    }
+
+    @Test
+    public void testReadsAfterAnUncommittedRemoteUpdateAreNotCached() throws Exception {
+        JpaTaskCache cache = new JpaTaskCache(10, TimeUnit.MINUTES.toNanos(1));
+        cache.put("task-1", task("task-1", TaskState.WORKING), null);
+
+        // The other instance replicates its event before committing, a read may return the previous version
+        cache.invalidateRemote("task-1", false);
+        assertNull(cache.get("task-1"));
+        cache.putIfUnmodified("task-1", task("task-1", TaskState.WORKING), null, cache.stamp());
+        assertNull(cache.get("task-1"));
+
+        // Committed saves of this instance are still cached
+        cache.put("task-1", task("task-1", TaskState.WORKING), null);
+        assertNotNull(cache.get("task-1"));
+
+        // Once the other instance committed the final state, reads are cached again
+        cache.invalidateRemote("task-1", true);
+        assertNull(cache.get("task-1"));
+        cache.putIfUnmodified("task-1", task("task-1", TaskState.COMPLETED), null, cache.stamp());
+        assertNotNull(cache.get("task-1"));
+
+        // As they are once the time to live elapsed since the last remote update
+        JpaTaskCache expiring = new JpaTaskCache(10, TimeUnit.MILLISECONDS.toNanos(1));
+        expiring.invalidateRemote("task-2", false);
+        Thread.sleep(5);
+        expiring.putIfUnmodified("task-2", task("task-2", TaskState.WORKING), null, expiring.stamp());
+        assertEquals(1, expiring.size());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedTasks() {
+        JpaTaskCache cache = new JpaTaskCache(2, 0);
+        cache.put("task-1", task("task-1", TaskState.WORKING), null);
+        cache.put("task-2", task("task-2", TaskState.WORKING), null);
+        cache.get("task-1");
+        cache.put("task-3", task("task-3", TaskState.WORKING), null);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("task-1"));
+        assertNull(cache.get("task-2"));
+    }
+
+    @Test
+    public void testEntriesExpire() throws Exception {
+        JpaTaskCache cache = new JpaTaskCache(10, TimeUnit.MILLISECONDS.toNanos(1));
+        cache.put("task-1", task("task-1", TaskState.WORKING), null);
+        Thread.sleep(5);
+        assertNull(cache.get("task-1"));
+    }
+
+    private static Task task(String id, TaskState state) {
+        return Task.builder()
+                .id(id)
+                .contextId("ctx")
+                .status(new TaskStatus(state))
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class JpaTaskCountCacheTest {
+
+    @Test
+    public void testCountsAreCachedPerFilterSet() {
+        JpaTaskCountCache cache = new JpaTaskCountCache(TimeUnit.MINUTES.toNanos(1));
+        JpaTaskCountCache.Filters context = new JpaTaskCountCache.Filters("ctx", null, null);
+
+        assertNull(cache.get(context));
+        cache.put(context, 42);
+        assertEquals(42, cache.get(new JpaTaskCountCache.Filters("ctx", null, null)));
+        assertNull(cache.get(new JpaTaskCountCache.Filters("ctx", "working", null)));
+    }
+
+    @Test
+    public void testExpiredCountsAreNotReturned() {
+        JpaTaskCountCache cache = new JpaTaskCountCache(0);
+        JpaTaskCountCache.Filters all = new JpaTaskCountCache.Filters(null, null, null);
+
+        cache.put(all, 42);
+        assertNull(cache.get(all));
+    }
+}
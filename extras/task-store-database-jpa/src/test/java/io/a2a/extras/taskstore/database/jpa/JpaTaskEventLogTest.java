@@ -0,0 +1,90 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import io.a2a.spec.Artifact;
+import io.a2a.spec.Message;
+import io.a2a.spec.Part;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TextPart;
+import org.junit.jupiter.api.Test;
+
+public class JpaTaskEventLogTest {
+
+    private static final TaskStatus SUBMITTED = new TaskStatus(TaskState.SUBMITTED);
+    private static final TaskStatus WORKING = new TaskStatus(TaskState.WORKING);
+
+    @Test
+    public void testAppendedPartsAreLoggedAsArtifactChunks() throws Exception {
+        Task previous = task(WORKING, List.of(artifact("first ")), List.of(message("msg-1")));
+        Task task = task(WORKING, List.of(artifact("first ", "second")), List.of(message("msg-1")));
+
+        List<JpaTaskEvent> events = JpaTaskEventLog.diff(previous, task, 5);
+        assertEquals(1, events.size());
+        assertEquals(JpaTaskEventLog.ARTIFACT, events.get(0).getType());
+        assertEquals(5, events.get(0).getSeq());
+        assertEquals(task, JpaTaskEventLog.replay(previous, events));
+    }
+
+    @Test
+    public void testHistoryArtifactsAndStatusChangesAreReplayed() throws Exception {
+        Task previous = task(SUBMITTED, List.of(), List.of(message("msg-1")));
+        Task task = Task.builder(task(WORKING, List.of(artifact("text")), List.of(message("msg-1"), message("msg-2"))))
+                .metadata(Map.of("key", "value"))
+                .build();
+
+        List<JpaTaskEvent> events = JpaTaskEventLog.diff(previous, task, 1);
+        assertEquals(List.of(JpaTaskEventLog.MESSAGE, JpaTaskEventLog.ARTIFACT, JpaTaskEventLog.METADATA,
+                JpaTaskEventLog.STATUS), events.stream().map(JpaTaskEvent::getType).toList());
+
+        Task replayed = JpaTaskEventLog.replay(previous, events);
+        // Absent message metadata is read back as empty metadata
+        assertEquals(List.of("msg-1", "msg-2"), replayed.history().stream().map(Message::messageId).toList());
+        assertEquals(task.artifacts().get(0).parts(), replayed.artifacts().get(0).parts());
+        assertEquals(task.metadata(), replayed.metadata());
+        assertEquals(task.status().state(), replayed.status().state());
+    }
+
+    @Test
+    public void testChangesThatAreNotAppendsRequireASnapshot() {
+        Task previous = task(WORKING, List.of(artifact("text")), List.of(message("msg-1"), message("msg-2")));
+
+        assertNull(JpaTaskEventLog.diff(previous, task(WORKING, List.of(artifact("text")),
+                List.of(message("msg-2"))), 1));
+        assertNull(JpaTaskEventLog.diff(previous, task(WORKING, List.of(),
+                previous.history()), 1));
+        assertEquals(List.of(), JpaTaskEventLog.diff(previous, previous, 1));
+    }
+
+    private static Task task(TaskStatus status, List<Artifact> artifacts, List<Message> history) {
+        return Task.builder()
+                .id("task-1")
+                .contextId("ctx")
+                .status(status)
+                .artifacts(artifacts)
+                .history(history)
+                .build();
+    }
+
+    private static Artifact artifact(String... texts) {
+        return Artifact.builder()
+                .artifactId("artifact-1")
+                .parts(Arrays.stream(texts).<Part<?>>map(TextPart::new).toList())
+                .build();
+    }
+
+    private static Message message(String messageId) {
+        return Message.builder()
+                .role(Message.Role.USER)
+                .parts(List.of(new TextPart("Hello")))
+                .messageId(messageId)
+                .build();
+    }
+}
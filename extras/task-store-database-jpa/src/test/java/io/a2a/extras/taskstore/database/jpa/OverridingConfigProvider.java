@@ -0,0 +1,32 @@
+package io.a2a.extras.taskstore.database.jpa;
+
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.inject.Inject;
+
+import io.a2a.server.config.A2AConfigProvider;
+import io.a2a.server.config.DefaultValuesConfigProvider;
+
+/**
+ * Base of the config providers that test profiles enable as alternatives, to override some default values.
+ */
+public abstract class OverridingConfigProvider implements A2AConfigProvider {
+
+    @Inject
+    DefaultValuesConfigProvider defaults;
+
+    protected abstract Map<String, String> overrides();
+
+    @Override
+    public String getValue(String name) {
+        String value = overrides().get(name);
+        return value != null ? value : defaults.getValue(name);
+    }
+
+    @Override
+    public Optional<String> getOptionalValue(String name) {
+        String value = overrides().get(name);
+        return value != null ? Optional.of(value) : defaults.getOptionalValue(name);
+    }
+}
@@ -0,0 +1,756 @@
+package io.a2a.extras.taskstore.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import io.a2a.jsonrpc.common.json.JsonProcessingException;
+import io.a2a.jsonrpc.common.json.JsonUtil;
+import io.a2a.jsonrpc.common.wrappers.ListTasksResult;
+import io.a2a.server.tasks.TaskStateProvider;
+import io.a2a.server.tasks.TaskStore;
+import io.a2a.spec.Artifact;
+import io.a2a.spec.InvalidParamsError;
+import io.a2a.spec.ListTasksParams;
+import io.a2a.spec.Message;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TaskStore} persisting tasks to an append-only log of memory-mapped segment files in a local
+ * directory, for single-node deployments that need tasks to survive restarts without a database.
+ * <p>
+ * Every save appends the task, as JSON, to the newest segment, and every delete appends a tombstone.
+ * An in-memory index maps each task ID to its latest record, together with the fields that state
+ * checks and {@link #list(ListTasksParams)} need, so that only the tasks returned are read from the
+ * segments. The most recently saved or read tasks are also kept decoded. The index is rebuilt by
+ * reading the segments when the store is opened, and a record cut short by a crash is ignored.
+ * </p>
+ * <p>
+ * Older segments accumulate task versions that were superseded or deleted. In the background, segments
+ * whose live records are below the compaction threshold are compacted: their live records are copied
+ * to the newest segment and the segment file is deleted.
+ * </p>
+ * <p>
+ * Records are written to the page cache, so they survive a crash of the process but not of the
+ * operating system unless {@link Builder#syncOnWrite(boolean)} is enabled. A directory is locked by
+ * the store using it and cannot be shared between processes.
+ * </p>
+ * <p>
+ * The store is not a CDI bean. To use it, produce it:
+ * </p>
+ * <pre>{@code
+ * @Produces
+ * @Alternative
+ * @Priority(50)
+ * @ApplicationScoped
+ * FileTaskStore taskStore() {
+ *     return FileTaskStore.builder(Path.of("/var/lib/a2a/tasks")).build();
+ * }
+ *
+ * void close(@Disposes FileTaskStore store) {
+ *     store.close();
+ * }
+ * }</pre>
+ */
+public class FileTaskStore implements TaskStore, TaskStateProvider, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileTaskStore.class);
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean syncOnWrite;
+    private final double compactionThreshold;
+    private final int decodedCacheSize;
+
+    private final ConcurrentMap<String, StoredTask> tasks = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<SortKey, StoredTask> orderedTasks = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    // Latest tombstone of each deleted task that older segments may still hold versions of. Guarded by writeLock.
+    private final Map<String, Tombstone> tombstones = new HashMap<>();
+    // Decoded tasks, most recently used last. Guarded by itself.
+    private final LinkedHashMap<String, DecodedTask> decodedTasks = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DecodedTask> eldest) {
+            return size() > decodedCacheSize;
+        }
+    };
+    private final Object writeLock = new Object();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicLong compactionCount = new AtomicLong();
+    private final FileChannel lockChannel;
+    private final FileLock directoryLock;
+    private final ScheduledExecutorService compactor;
+    // Guarded by writeLock
+    private Segment active;
+    private volatile boolean closed;
+
+    private FileTaskStore(Builder builder) throws IOException {
+        this.directory = builder.directory;
+        this.segmentSize = builder.segmentSize;
+        this.syncOnWrite = builder.syncOnWrite;
+        this.compactionThreshold = builder.compactionThreshold;
+        this.decodedCacheSize = builder.decodedCacheSize;
+
+        Files.createDirectories(directory);
+        lockChannel = FileChannel.open(directory.resolve("lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Locked by another store of this process
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Task directory " + directory + " is already in use");
+        }
+        directoryLock = lock;
+
+        try {
+            recover();
+        } catch (IOException | RuntimeException e) {
+            directoryLock.release();
+            lockChannel.close();
+            throw e;
+        }
+
+        if (builder.compactionIntervalSeconds > 0) {
+            compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "a2a-task-store-file-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            compactor.scheduleWithFixedDelay(this::compactQuietly, builder.compactionIntervalSeconds,
+                    builder.compactionIntervalSeconds, TimeUnit.SECONDS);
+        } else {
+            compactor = null;
+        }
+    }
+
+    /**
+     * Creates a builder of a store keeping its files in the given directory.
+     *
+     * @param directory the directory of the segment files, created if it does not exist
+     * @return the builder
+     */
+    public static Builder builder(Path directory) {
+        return new Builder(directory);
+    }
+
+    @Override
+    public void save(Task task) {
+        byte[] json = toJson(task);
+        synchronized (writeLock) {
+            checkOpen();
+            StoredTask previous = tasks.get(task.id());
+            TaskState state = task.status().state();
+            Instant updated = task.status().timestamp().toInstant().truncatedTo(ChronoUnit.MILLIS);
+            byte[] payload = encodePut(task.id(), task.contextId(), state, updated, json);
+            Location location = append(PUT, payload);
+            StoredTask stored = new StoredTask(task.id(), task.contextId(), state, updated,
+                    versions.incrementAndGet(), location.segment, location.offset, location.length, json.length);
+            replace(previous, stored);
+            Tombstone tombstone = tombstones.remove(task.id());
+            if (tombstone != null) {
+                tombstone.segment.liveBytes.addAndGet(-tombstone.length);
+            }
+            cacheDecoded(stored, task);
+        }
+        LOGGER.debug("Saved task with ID: {}", task.id());
+    }
+
+    @Override
+    public Task get(String taskId) {
+        StoredTask stored = tasks.get(taskId);
+        return stored == null ? null : decode(stored);
+    }
+
+    @Override
+    public void delete(String taskId) {
+        synchronized (writeLock) {
+            checkOpen();
+            StoredTask previous = tasks.get(taskId);
+            if (previous == null) {
+                LOGGER.debug("Task not found for deletion with ID: {}", taskId);
+                return;
+            }
+            Location location = append(DELETE, encodeDelete(taskId));
+            replace(previous, null);
+            location.segment.liveBytes.addAndGet(location.length);
+            tombstones.put(taskId, new Tombstone(location.segment, location.offset, location.length));
+        }
+        synchronized (decodedTasks) {
+            decodedTasks.remove(taskId);
+        }
+        LOGGER.debug("Deleted task with ID: {}", taskId);
+    }
+
+    @Override
+    public ListTasksResult list(ListTasksParams params) {
+        // Tasks are ordered by last update descending, so the tasks updated after lastUpdatedAfter
+        // are a prefix of the index: everything before the first task of the previous millisecond
+        Instant updatedAfter = params.lastUpdatedAfter();
+        ConcurrentNavigableMap<SortKey, StoredTask> candidates = updatedAfter == null ? orderedTasks
+                : orderedTasks.headMap(new SortKey(updatedAfter.truncatedTo(ChronoUnit.MILLIS).minusMillis(1), ""));
+        int totalSize = (int) candidates.values().stream().filter(task -> matches(task, params)).count();
+
+        // Handle page token using keyset pagination (format: "timestamp_millis:taskId")
+        ConcurrentNavigableMap<SortKey, StoredTask> remaining = candidates;
+        if (params.pageToken() != null && !params.pageToken().isEmpty()) {
+            remaining = candidates.tailMap(parsePageToken(params.pageToken()), false);
+        }
+
+        // Read one task past the page to know whether there is a next page
+        int pageSize = params.getEffectivePageSize();
+        List<StoredTask> pageTasks = new ArrayList<>(Math.min(pageSize, 64));
+        boolean hasMore = false;
+        for (StoredTask task : remaining.values()) {
+            if (!matches(task, params)) {
+                continue;
+            }
+            if (pageTasks.size() == pageSize) {
+                hasMore = true;
+                break;
+            }
+            pageTasks.add(task);
+        }
+
+        String nextPageToken = null;
+        if (hasMore && !pageTasks.isEmpty()) {
+            StoredTask lastTask = pageTasks.get(pageTasks.size() - 1);
+            nextPageToken = lastTask.updated.toEpochMilli() + ":" + lastTask.id;
+        }
+
+        int historyLength = params.getEffectiveHistoryLength();
+        boolean includeArtifacts = params.shouldIncludeArtifacts();
+        List<Task> transformedTasks = pageTasks.stream()
+                .map(task -> transformTask(decode(task), historyLength, includeArtifacts))
+                .toList();
+
+        return new ListTasksResult(transformedTasks, totalSize, transformedTasks.size(), nextPageToken);
+    }
+
+    @Override
+    public boolean isTaskActive(String taskId) {
+        StoredTask stored = tasks.get(taskId);
+        // Task is active if not in final state
+        return stored != null && !stored.state.isFinal();
+    }
+
+    @Override
+    public boolean isTaskFinalized(String taskId) {
+        StoredTask stored = tasks.get(taskId);
+        // Task is finalized if in final state (ignores grace period)
+        return stored != null && stored.state.isFinal();
+    }
+
+    /**
+     * Compacts the segments whose live records are below the compaction threshold, oldest first.
+     * This is done periodically in the background unless the compaction interval is 0.
+     */
+    public void compact() {
+        List<Segment> candidates;
+        synchronized (writeLock) {
+            checkOpen();
+            dropObsoleteTombstones();
+            candidates = segments.values().stream()
+                    .filter(segment -> segment != active)
+                    .filter(segment -> segment.liveBytes.get() <= compactionThreshold * segment.writePosition())
+                    .toList();
+        }
+        for (Segment segment : candidates) {
+            compact(segment);
+            synchronized (writeLock) {
+                dropObsoleteTombstones();
+            }
+        }
+    }
+
+    /**
+     * Stops the background compaction, writes the newest segment to disk and releases the directory.
+     */
+    @Override
+    public void close() {
+        if (compactor != null) {
+            compactor.shutdown();
+            try {
+                if (!compactor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Timed out waiting for the compaction of task segments to finish");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (writeLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            active.force();
+            try {
+                directoryLock.release();
+                lockChannel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to release the lock of task directory {}", directory, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of segment files.
+     *
+     * @return the number of segments
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Returns the number of segments compacted since the store was opened.
+     *
+     * @return the number of compacted segments
+     */
+    public long getCompactionCount() {
+        return compactionCount.get();
+    }
+
+    private void recover() throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(Segment::isSegment).sorted().toList();
+        }
+        for (Path path : paths) {
+            Segment segment = Segment.open(path);
+            segments.put(segment.id, segment);
+            segment.scan((offset, type, payload, recordLength) -> {
+                String taskId = readString(payload);
+                StoredTask previous = tasks.get(taskId);
+                Tombstone tombstone = tombstones.remove(taskId);
+                if (tombstone != null) {
+                    tombstone.segment.liveBytes.addAndGet(-tombstone.length);
+                }
+                if (type == PUT) {
+                    String contextId = readString(payload);
+                    TaskState state = TaskState.fromString(readString(payload));
+                    Instant updated = Instant.ofEpochMilli(payload.getLong());
+                    StoredTask stored = new StoredTask(taskId, contextId, state, updated, versions.incrementAndGet(),
+                            segment, offset, recordLength, payload.remaining());
+                    replace(previous, stored);
+                } else {
+                    replace(previous, null);
+                    segment.liveBytes.addAndGet(recordLength);
+                    tombstones.put(taskId, new Tombstone(segment, offset, recordLength));
+                }
+            });
+        }
+        if (segments.isEmpty()) {
+            Segment segment = Segment.create(directory, 1, segmentSize);
+            segments.put(segment.id, segment);
+        }
+        active = segments.lastEntry().getValue();
+        dropObsoleteTombstones();
+        LOGGER.info("Opened task directory {} with {} task(s) in {} segment(s)", directory, tasks.size(),
+                segments.size());
+    }
+
+    private Location append(byte type, byte[] payload) {
+        int offset = active.append(type, payload);
+        if (offset < 0) {
+            roll(Segment.HEADER_SIZE + payload.length);
+            offset = active.append(type, payload);
+        }
+        int length = Segment.HEADER_SIZE + payload.length;
+        if (syncOnWrite) {
+            active.force(offset, length);
+        }
+        return new Location(active, offset, length);
+    }
+
+    private Location appendRecord(byte[] record) {
+        int offset = active.appendRecord(record);
+        if (offset < 0) {
+            roll(record.length);
+            offset = active.appendRecord(record);
+        }
+        if (syncOnWrite) {
+            active.force(offset, record.length);
+        }
+        return new Location(active, offset, record.length);
+    }
+
+    private void roll(int recordLength) {
+        active.force();
+        try {
+            Segment segment = Segment.create(directory, active.id + 1, Math.max(segmentSize, recordLength));
+            segments.put(segment.id, segment);
+            active = segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create a segment in " + directory, e);
+        }
+    }
+
+    /**
+     * Copies the live records of a segment to the newest segment, then deletes it.
+     */
+    private void compact(Segment segment) {
+        segment.scan((offset, type, payload, recordLength) -> {
+            String taskId = readString(payload);
+            synchronized (writeLock) {
+                if (closed) {
+                    return;
+                }
+                if (type == PUT) {
+                    StoredTask stored = tasks.get(taskId);
+                    if (stored != null && stored.segment == segment && stored.offset == offset) {
+                        Location location = appendRecord(segment.read(offset, recordLength));
+                        replace(stored, stored.relocate(location));
+                    }
+                } else {
+                    Tombstone tombstone = tombstones.get(taskId);
+                    if (tombstone != null && tombstone.segment == segment && tombstone.offset == offset) {
+                        Location location = appendRecord(segment.read(offset, recordLength));
+                        location.segment.liveBytes.addAndGet(location.length);
+                        tombstones.put(taskId, new Tombstone(location.segment, location.offset, location.length));
+                    }
+                }
+            }
+        });
+        synchronized (writeLock) {
+            if (closed) {
+                return;
+            }
+            segments.remove(segment.id);
+            try {
+                // The copies must be on disk before the only other copy is gone; segments rolled over
+                // while copying were forced by roll()
+                active.force();
+                segment.delete();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to delete compacted segment {}", segment.path, e);
+            }
+        }
+        compactionCount.incrementAndGet();
+        LOGGER.debug("Compacted segment {}", segment.path);
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to compact task segments in {}", directory, e);
+        }
+    }
+
+    /**
+     * Forgets the tombstones of the oldest segment: no older segment holds versions of their tasks, so they
+     * are not copied when it is compacted.
+     */
+    private void dropObsoleteTombstones() {
+        long oldest = segments.firstKey();
+        tombstones.values().removeIf(tombstone -> {
+            if (tombstone.segment.id == oldest) {
+                tombstone.segment.liveBytes.addAndGet(-tombstone.length);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Replaces the stored version of a task in the indexes; a null version removes the task.
+     */
+    private void replace(StoredTask previous, StoredTask stored) {
+        if (previous != null) {
+            orderedTasks.remove(SortKey.of(previous));
+            previous.segment.liveBytes.addAndGet(-previous.length);
+        }
+        if (stored != null) {
+            tasks.put(stored.id, stored);
+            orderedTasks.put(SortKey.of(stored), stored);
+            stored.segment.liveBytes.addAndGet(stored.length);
+        } else if (previous != null) {
+            tasks.remove(previous.id);
+        }
+    }
+
+    private Task decode(StoredTask stored) {
+        synchronized (decodedTasks) {
+            DecodedTask decoded = decodedTasks.get(stored.id);
+            if (decoded != null && decoded.version == stored.version) {
+                return decoded.task;
+            }
+        }
+        byte[] json = stored.segment.read(stored.offset + stored.length - stored.jsonLength, stored.jsonLength);
+        Task task;
+        try {
+            task = JsonUtil.fromJson(new String(json, StandardCharsets.UTF_8), Task.class);
+        } catch (JsonProcessingException e) {
+            LOGGER.error("Failed to deserialize task with ID: {}", stored.id, e);
+            throw new RuntimeException("Failed to deserialize task with ID: " + stored.id, e);
+        }
+        cacheDecoded(stored, task);
+        return task;
+    }
+
+    private void cacheDecoded(StoredTask stored, Task task) {
+        if (decodedCacheSize > 0) {
+            synchronized (decodedTasks) {
+                DecodedTask decoded = decodedTasks.get(stored.id);
+                // A slow read must not replace a newer version
+                if (decoded == null || decoded.version < stored.version) {
+                    decodedTasks.put(stored.id, new DecodedTask(task, stored.version));
+                }
+            }
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Task store in " + directory + " is closed");
+        }
+    }
+
+    private static byte[] toJson(Task task) {
+        try {
+            return JsonUtil.toJson(task).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            LOGGER.error("Failed to serialize task with ID: {}", task.id(), e);
+            throw new RuntimeException("Failed to serialize task with ID: " + task.id(), e);
+        }
+    }
+
+    private static byte[] encodePut(String taskId, String contextId, TaskState state, Instant updated,
+                                    byte[] json) {
+        byte[] id = taskId.getBytes(StandardCharsets.UTF_8);
+        byte[] context = contextId.getBytes(StandardCharsets.UTF_8);
+        byte[] stateName = state.asString().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(4 + id.length + 4 + context.length + 4 + stateName.length + 8 + json.length)
+                .putInt(id.length).put(id)
+                .putInt(context.length).put(context)
+                .putInt(stateName.length).put(stateName)
+                .putLong(updated.toEpochMilli())
+                .put(json)
+                .array();
+    }
+
+    private static byte[] encodeDelete(String taskId) {
+        byte[] id = taskId.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(4 + id.length).putInt(id.length).put(id).array();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean matches(StoredTask task, ListTasksParams params) {
+        return (params.contextId() == null || params.contextId().equals(task.contextId))
+                && (params.status() == null || task.state == params.status())
+                && (params.lastUpdatedAfter() == null || task.updated.isAfter(params.lastUpdatedAfter()));
+    }
+
+    private static SortKey parsePageToken(String pageToken) {
+        String[] tokenParts = pageToken.split(":", 2);
+        if (tokenParts.length != 2) {
+            throw new InvalidParamsError(null, "Invalid pageToken format: expected 'timestamp:id'", null);
+        }
+        try {
+            return new SortKey(Instant.ofEpochMilli(Long.parseLong(tokenParts[0])), tokenParts[1]);
+        } catch (NumberFormatException e) {
+            throw new InvalidParamsError(null, "Invalid pageToken format: timestamp must be numeric milliseconds", null);
+        }
+    }
+
+    private static Task transformTask(Task task, int historyLength, boolean includeArtifacts) {
+        // Limit history if needed (keep most recent N messages)
+        List<Message> history = task.history();
+        if (historyLength > 0 && history != null && history.size() > historyLength) {
+            history = history.subList(history.size() - historyLength, history.size());
+        }
+
+        // Remove artifacts if not requested
+        List<Artifact> artifacts = includeArtifacts ? task.artifacts() : List.of();
+
+        if (history == task.history() && artifacts == task.artifacts()) {
+            return task;
+        }
+        return Task.builder(task)
+                .artifacts(artifacts)
+                .history(history)
+                .build();
+    }
+
+    /**
+     * The latest version of a task: the fields the indexes and state checks need, and the location of
+     * its record. The version identifies the saved task across relocations by compaction.
+     */
+    private record StoredTask(String id, String contextId, TaskState state, Instant updated,
+                              long version, Segment segment, int offset, int length, int jsonLength) {
+
+        StoredTask relocate(Location location) {
+            return new StoredTask(id, contextId, state, updated, version,
+                    location.segment, location.offset, location.length, jsonLength);
+        }
+    }
+
+    private record Location(Segment segment, int offset, int length) {
+    }
+
+    private record Tombstone(Segment segment, int offset, int length) {
+    }
+
+    private record DecodedTask(Task task, long version) {
+    }
+
+    /**
+     * Sort order of {@link #list(ListTasksParams)}: last update descending, truncated to milliseconds for
+     * consistency with the page token precision, then id ascending.
+     */
+    private record SortKey(Instant timestamp, String taskId) implements Comparable<SortKey> {
+
+        private static final Comparator<SortKey> ORDER = Comparator.comparing(SortKey::timestamp, Comparator.reverseOrder())
+                .thenComparing(SortKey::taskId);
+
+        static SortKey of(StoredTask task) {
+            return new SortKey(task.updated, task.id);
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Builder of {@link FileTaskStore}.
+     */
+    public static class Builder {
+        private final Path directory;
+        private int segmentSize = 64 * 1024 * 1024;
+        private boolean syncOnWrite;
+        private long compactionIntervalSeconds = 60;
+        private double compactionThreshold = 0.5;
+        private int decodedCacheSize = 1000;
+
+        private Builder(Path directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * Sets the size of segment files. A task larger than a segment is written to a segment of its own.
+         *
+         * @param segmentSize the segment size in bytes, 64 MiB by default
+         * @return this builder
+         */
+        public Builder segmentSize(int segmentSize) {
+            if (segmentSize <= Segment.HEADER_SIZE) {
+                throw new IllegalArgumentException("segmentSize is too small: " + segmentSize);
+            }
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Sets whether every record is forced to disk before the save or delete returns, so that it survives
+         * a crash of the operating system. Records are otherwise forced when a segment is full and on
+         * {@link #close()}.
+         *
+         * @param syncOnWrite whether to force every record to disk, false by default
+         * @return this builder
+         */
+        public Builder syncOnWrite(boolean syncOnWrite) {
+            this.syncOnWrite = syncOnWrite;
+            return this;
+        }
+
+        /**
+         * Sets how often segments are compacted in the background.
+         *
+         * @param compactionIntervalSeconds the interval in seconds, 60 by default; 0 disables background
+         *                                  compaction, see {@link #compact()}
+         * @return this builder
+         */
+        public Builder compactionIntervalSeconds(long compactionIntervalSeconds) {
+            if (compactionIntervalSeconds < 0) {
+                throw new IllegalArgumentException("compactionIntervalSeconds must not be negative: "
+                        + compactionIntervalSeconds);
+            }
+            this.compactionIntervalSeconds = compactionIntervalSeconds;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of live records below which a segment is compacted.
+         *
+         * @param compactionThreshold the threshold between 0 and 1, 0.5 by default
+         * @return this builder
+         */
+        public Builder compactionThreshold(double compactionThreshold) {
+            if (compactionThreshold < 0 || compactionThreshold > 1) {
+                throw new IllegalArgumentException("compactionThreshold must be between 0 and 1: " + compactionThreshold);
+            }
+            this.compactionThreshold = compactionThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of recently saved or read tasks kept decoded.
+         *
+         * @param decodedCacheSize the number of tasks, 1000 by default; 0 disables the cache
+         * @return this builder
+         */
+        public Builder decodedCacheSize(int decodedCacheSize) {
+            if (decodedCacheSize < 0) {
+                throw new IllegalArgumentException("decodedCacheSize must not be negative: " + decodedCacheSize);
+            }
+            this.decodedCacheSize = decodedCacheSize;
+            return this;
+        }
+
+        /**
+         * Opens the store, reading the existing segments of the directory.
+         *
+         * @return the store
+         * @throws UncheckedIOException if the directory cannot be read or written
+         * @throws IllegalStateException if the directory is used by another store
+         */
+        public FileTaskStore build() {
+            try {
+                return new FileTaskStore(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open task directory " + directory, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.a2a.extras.taskstore.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A segment file of the task log, mapped in memory.
+ * <p>
+ * A segment is a sequence of records, each made of the length of its payload, the CRC32 of its
+ * payload, its type and its payload. The length is written last, so a record interrupted by a crash
+ * has a zero length or a wrong checksum and ends the segment when it is read back. Records are only
+ * appended to the newest segment; older segments are read-only until they are compacted.
+ * </p>
+ */
+final class Segment {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Segment.class);
+
+    static final int HEADER_SIZE = 9;
+    static final String SUFFIX = ".segment";
+
+    final long id;
+    final Path path;
+    private final MappedByteBuffer buffer;
+    // Guarded by the store's write lock
+    private int writePosition;
+    // Bytes of the records that are still needed: latest task versions and tombstones
+    final AtomicLong liveBytes = new AtomicLong();
+
+    private Segment(long id, Path path, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static Segment create(Path directory, long id, int capacity) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", id, SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Mapping past the end of the file extends it
+            return new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+        }
+    }
+
+    static Segment open(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        long id = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        }
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(SUFFIX) && name.length() > SUFFIX.length()
+                && name.chars().limit(name.length() - SUFFIX.length()).allMatch(Character::isDigit);
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    /**
+     * Appends a record, returning its offset, or -1 if it does not fit.
+     */
+    int append(byte type, byte[] payload) {
+        int offset = writePosition;
+        if (capacity() - offset < HEADER_SIZE + payload.length) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.put(offset + 8, type);
+        buffer.put(offset + HEADER_SIZE, payload);
+        buffer.putInt(offset, payload.length);
+        writePosition = offset + HEADER_SIZE + payload.length;
+        return offset;
+    }
+
+    /**
+     * Appends a record read from another segment as is, returning its offset, or -1 if it does not fit.
+     */
+    int appendRecord(byte[] record) {
+        int offset = writePosition;
+        if (capacity() - offset < record.length) {
+            return -1;
+        }
+        buffer.put(offset + 4, record, 4, record.length - 4);
+        buffer.put(offset, record, 0, 4);
+        writePosition = offset + record.length;
+        return offset;
+    }
+
+    byte[] read(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return bytes;
+    }
+
+    void force(int offset, int length) {
+        buffer.force(offset, length);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Reads the records from the start of the segment, and positions appends after the last valid one.
+     * A record with a wrong checksum ends the segment, and the rest of it is cleared.
+     */
+    void scan(RecordVisitor visitor) {
+        int offset = 0;
+        while (capacity() - offset >= HEADER_SIZE) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || length > capacity() - offset - HEADER_SIZE || !checksumMatches(offset, length)) {
+                LOGGER.warn("Ignoring the truncated or corrupted end of {} from offset {}", path, offset);
+                for (int i = offset; i < capacity(); i++) {
+                    buffer.put(i, (byte) 0);
+                }
+                break;
+            }
+            ByteBuffer payload = buffer.slice(offset + HEADER_SIZE, length);
+            visitor.visit(offset, buffer.get(offset + 8), payload, HEADER_SIZE + length);
+            offset += HEADER_SIZE + length;
+        }
+        writePosition = offset;
+    }
+
+    private boolean checksumMatches(int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset + HEADER_SIZE, length));
+        return (int) crc.getValue() == buffer.getInt(offset + 4);
+    }
+
+    void delete() throws IOException {
+        // The mapping stays valid for readers still holding a location in this segment
+        Files.deleteIfExists(path);
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        /**
+         * Visits a record.
+         *
+         * @param offset the offset of the record
+         * @param type the type of the record
+         * @param payload the payload of the record, positioned at its start
+         * @param recordLength the length of the record, header included
+         */
+        void visit(int offset, byte type, ByteBuffer payload, int recordLength);
+    }
+}
@@ -0,0 +1,250 @@
+package io.a2a.extras.taskstore.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.a2a.jsonrpc.common.wrappers.ListTasksResult;
+import io.a2a.spec.InvalidParamsError;
+import io.a2a.spec.ListTasksParams;
+import io.a2a.spec.Message;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TextPart;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileTaskStoreTest {
+
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    private FileTaskStore store;
+
+    @AfterEach
+    public void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testSaveGetAndDelete() {
+        store = open();
+        assertNull(store.get("task-1"));
+
+        store.save(task("task-1", "ctx", TaskState.SUBMITTED, BASE_TIME));
+        store.save(task("task-1", "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(1)));
+        assertEquals(TaskState.WORKING, store.get("task-1").status().state());
+        assertTrue(store.isTaskActive("task-1"));
+        assertFalse(store.isTaskFinalized("task-1"));
+
+        store.save(task("task-1", "ctx", TaskState.COMPLETED, BASE_TIME.plusSeconds(2)));
+        assertFalse(store.isTaskActive("task-1"));
+        assertTrue(store.isTaskFinalized("task-1"));
+
+        store.delete("task-1");
+        assertNull(store.get("task-1"));
+        assertFalse(store.isTaskFinalized("task-1"));
+    }
+
+    @Test
+    public void testTasksAreReadBackAfterReopening() {
+        store = open();
+        Task task = Task.builder(task("task-1", "ctx", TaskState.WORKING, BASE_TIME))
+                .history(List.of(Message.builder()
+                        .messageId("msg-1")
+                        .role(Message.Role.USER)
+                        .parts(List.of(new TextPart("hello")))
+                        .build()))
+                .build();
+        store.save(task);
+        store.save(task("task-2", "ctx", TaskState.WORKING, BASE_TIME));
+        store.delete("task-2");
+        store.close();
+
+        store = open();
+        Task reopened = store.get("task-1");
+        assertEquals(task.history(), reopened.history());
+        assertEquals(task.status().timestamp().toInstant(), reopened.status().timestamp().toInstant());
+        assertNull(store.get("task-2"));
+        assertEquals(1, store.list(ListTasksParams.builder().tenant("").build()).totalSize());
+    }
+
+    @Test
+    public void testDirectoryCannotBeOpenedTwice() {
+        store = open();
+        assertThrows(IllegalStateException.class, this::open);
+    }
+
+    @Test
+    public void testTruncatedRecordIsIgnored() throws IOException {
+        store = open();
+        store.save(task("task-1", "ctx", TaskState.WORKING, BASE_TIME));
+        store.save(task("task-2", "ctx", TaskState.WORKING, BASE_TIME));
+        store.close();
+
+        // Corrupt the last record as if the process had stopped while writing it
+        Path segment = segmentFiles().get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        int lastRecord = 0;
+        int offset = 0;
+        while (offset < bytes.length - Segment.HEADER_SIZE && readInt(bytes, offset) > 0) {
+            lastRecord = offset;
+            offset += Segment.HEADER_SIZE + readInt(bytes, offset);
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), lastRecord + Segment.HEADER_SIZE + 10);
+        }
+
+        store = open();
+        assertEquals(TaskState.WORKING, store.get("task-1").status().state());
+        assertNull(store.get("task-2"));
+        // Appends continue where the valid records end
+        store.save(task("task-3", "ctx", TaskState.WORKING, BASE_TIME));
+        store.close();
+        store = open();
+        assertEquals(TaskState.WORKING, store.get("task-3").status().state());
+    }
+
+    @Test
+    public void testCompactionRemovesSupersededVersions() throws IOException {
+        store = FileTaskStore.builder(directory)
+                .segmentSize(4096)
+                .compactionIntervalSeconds(0)
+                .build();
+        for (int i = 0; i < 200; i++) {
+            store.save(task("task-" + (i % 3), "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(i)));
+        }
+        store.save(task("task-3", "ctx", TaskState.WORKING, BASE_TIME));
+        store.delete("task-3");
+        int segmentsBefore = store.getSegmentCount();
+        assertTrue(segmentsBefore > 3);
+
+        store.compact();
+        assertTrue(store.getCompactionCount() > 0);
+        assertTrue(store.getSegmentCount() < segmentsBefore);
+        assertEquals(store.getSegmentCount(), segmentFiles().size());
+        for (int i = 0; i < 3; i++) {
+            // Last saved at the last index with the same remainder
+            assertEquals(BASE_TIME.plusSeconds(199 - (199 - i) % 3).toInstant(),
+                    store.get("task-" + i).status().timestamp().toInstant());
+        }
+        assertNull(store.get("task-3"));
+
+        store.close();
+        store = open();
+        assertEquals(3, store.list(ListTasksParams.builder().tenant("").build()).totalSize());
+        assertEquals(BASE_TIME.plusSeconds(199).toInstant(), store.get("task-1").status().timestamp().toInstant());
+        assertNull(store.get("task-3"));
+    }
+
+    @Test
+    public void testTasksAreRecoveredAfterCompactionWithoutClosing() throws IOException {
+        store = FileTaskStore.builder(directory)
+                .segmentSize(4096)
+                .compactionIntervalSeconds(0)
+                .build();
+        Map<String, OffsetDateTime> expected = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            String id = "task-" + (i % 7);
+            store.save(task(id, "ctx", TaskState.WORKING, BASE_TIME.plusSeconds(i)));
+            expected.put(id, BASE_TIME.plusSeconds(i));
+            if (i % 50 == 49) {
+                store.delete(id);
+                expected.remove(id);
+            }
+        }
+        store.compact();
+        assertTrue(store.getCompactionCount() > 0);
+
+        // Copy the files as a crash would leave them: the store is neither closed nor flushed
+        Path recovered = Files.createDirectory(directory.resolve("recovered"));
+        for (Path segment : segmentFiles()) {
+            Files.copy(segment, recovered.resolve(segment.getFileName()));
+        }
+        try (FileTaskStore recoveredStore = FileTaskStore.builder(recovered).compactionIntervalSeconds(0).build()) {
+            for (int i = 0; i < 7; i++) {
+                String id = "task-" + i;
+                Task task = recoveredStore.get(id);
+                if (expected.containsKey(id)) {
+                    assertEquals(expected.get(id).toInstant(), task.status().timestamp().toInstant());
+                } else {
+                    assertNull(task);
+                }
+            }
+            assertEquals(expected.size(), recoveredStore.list(ListTasksParams.builder().tenant("").build()).totalSize());
+        }
+    }
+
+    @Test
+    public void testListPaginatesNewestFirst() {
+        store = open();
+        for (int i = 0; i < 5; i++) {
+            store.save(task("task-" + i, i % 2 == 0 ? "ctx-1" : "ctx-2", TaskState.WORKING, BASE_TIME.plusSeconds(i)));
+        }
+
+        List<String> ids = new ArrayList<>();
+        String pageToken = null;
+        do {
+            ListTasksResult page = store.list(ListTasksParams.builder()
+                    .tenant("")
+                    .pageSize(2)
+                    .pageToken(pageToken)
+                    .build());
+            assertEquals(5, page.totalSize());
+            page.tasks().forEach(task -> ids.add(task.id()));
+            pageToken = page.nextPageToken();
+        } while (pageToken != null);
+        assertEquals(List.of("task-4", "task-3", "task-2", "task-1", "task-0"), ids);
+
+        ListTasksResult byContext = store.list(ListTasksParams.builder().tenant("").contextId("ctx-2").build());
+        assertEquals(2, byContext.totalSize());
+        assertEquals("task-3", byContext.tasks().get(0).id());
+
+        assertThrows(InvalidParamsError.class,
+                () -> store.list(ListTasksParams.builder().tenant("").pageToken("invalid").build()));
+    }
+
+    private FileTaskStore open() {
+        return FileTaskStore.builder(directory).compactionIntervalSeconds(0).build();
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Segment::isSegment).sorted().toList();
+        }
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ByteBuffer.wrap(bytes, offset, 4).getInt();
+    }
+
+    private static Task task(String id, String contextId, TaskState state, OffsetDateTime timestamp) {
+        return Task.builder()
+                .id(id)
+                .contextId(contextId)
+                .status(new TaskStatus(state, null, timestamp))
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import static io.a2a.spec.A2AErrorCodes.INVALID_REQUEST_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.JSON_PARSE_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.METHOD_NOT_FOUND_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.PUSH_NOTIFICATION_NOT_SUPPORTED_ERROR_CODE;
+import static io.a2a.spec.A2AErrorCodes.SERVER_BUSY_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.TASK_NOT_CANCELABLE_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.TASK_NOT_FOUND_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.UNSUPPORTED_OPERATION_ERROR_CODE;
@@ -37,6 +38,7 @@ import com.google.gson.stream.JsonWriter;
 
 import io.a2a.spec.A2AError;
 import io.a2a.spec.APIKeySecurityScheme;
+import io.a2a.spec.BinaryContent;
 import io.a2a.spec.ContentTypeNotSupportedError;
 import io.a2a.spec.DataPart;
 import io.a2a.spec.FileContent;
@@ -56,6 +58,7 @@ import io.a2a.spec.OpenIdConnectSecurityScheme;
 import io.a2a.spec.Part;
 import io.a2a.spec.PushNotificationNotSupportedError;
 import io.a2a.spec.SecurityScheme;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.spec.StreamingEventKind;
 import io.a2a.spec.Task;
 import io.a2a.spec.TaskArtifactUpdateEvent;
@@ -293,6 +296,7 @@ public class JsonUtil {
      * <li>-32004: {@link UnsupportedOperationError}</li>
      * <li>-32005: {@link ContentTypeNotSupportedError}</li>
      * <li>-32006: {@link InvalidAgentResponseError}</li>
+     * <li>-32000: {@link ServerBusyError}</li>
      * <li>Other codes: {@link A2AError}</li>
      * </ul>
      *
@@ -434,6 +438,8 @@ public class JsonUtil {
                     new ContentTypeNotSupportedError(code, message, data);
                 case INVALID_AGENT_RESPONSE_ERROR_CODE ->
                     new InvalidAgentResponseError(code, message, data);
+                case SERVER_BUSY_ERROR_CODE ->
+                    new ServerBusyError(code, message, data);
                 default ->
                     new A2AError(code, message, data);
             };
@@ -715,6 +721,10 @@ public class JsonUtil {
      * <p>
      * The adapter distinguishes between the two types by checking for the presence of
      * "bytes" or "uri" fields in the JSON object.
+     * <p>
+     * The "bytes" field of a {@link FileWithBytes} is read into a {@link BinaryContent} that keeps the
+     * base64 string as is, and is only decoded when the bytes are used. It is written from the content's
+     * base64 encoding, which is the string that was read if the content was received as JSON.
      *
      * @see FileContent
      * @see FileWithBytes
@@ -733,6 +743,19 @@ public class JsonUtil {
                 out.nullValue();
                 return;
             }
+            if (value instanceof FileWithBytes fileWithBytes) {
+                // The content is written as its base64 encoding, under the "bytes" name of the protocol
+                out.beginObject();
+                if (fileWithBytes.mimeType() != null) {
+                    out.name("mimeType").value(fileWithBytes.mimeType());
+                }
+                if (fileWithBytes.name() != null) {
+                    out.name("name").value(fileWithBytes.name());
+                }
+                out.name("bytes").value(fileWithBytes.content().toBase64());
+                out.endObject();
+                return;
+            }
             // Delegate to Gson's default serialization for the concrete type
             delegateGson.toJson(value, value.getClass(), out);
         }
@@ -755,13 +778,23 @@ public class JsonUtil {
 
             // Distinguish between FileWithBytes and FileWithUri by checking for "bytes" or "uri" field
             if (jsonObject.has("bytes")) {
-                return delegateGson.fromJson(jsonElement, FileWithBytes.class);
+                com.google.gson.JsonElement bytes = jsonObject.get("bytes");
+                if (bytes.isJsonNull()) {
+                    throw new JsonSyntaxException("FileContent 'bytes' field must not be null");
+                }
+                return new FileWithBytes(stringOrNull(jsonObject, "mimeType"), stringOrNull(jsonObject, "name"),
+                        BinaryContent.ofBase64(bytes.getAsString()));
             } else if (jsonObject.has("uri")) {
                 return delegateGson.fromJson(jsonElement, FileWithUri.class);
             } else {
                 throw new JsonSyntaxException("FileContent must have either 'bytes' or 'uri' field");
             }
         }
+
+        private static @Nullable String stringOrNull(com.google.gson.JsonObject jsonObject, String name) {
+            com.google.gson.JsonElement element = jsonObject.get(name);
+            return element == null || element.isJsonNull() ? null : element.getAsString();
+        }
     }
 
     /**
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.OffsetDateTime;
@@ -518,6 +519,21 @@ class TaskSerializationTest {
         assertEquals("base64encodeddata", fileWithBytes.bytes());
     }
 
+    @Test
+    void testDeserializeFilePartWithNullBytesFails() {
+        String json = """
+            {
+              "file": {
+                "mimeType": "application/pdf",
+                "name": "document.pdf",
+                "bytes": null
+              }
+            }
+            """;
+
+        assertThrows(JsonProcessingException.class, () -> JsonUtil.fromJson(json, Part.class));
+    }
+
     @Test
     void testDeserializeTaskWithFilePartUriFromJson() throws JsonProcessingException {
         String json = """
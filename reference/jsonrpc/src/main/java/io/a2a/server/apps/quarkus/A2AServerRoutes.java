@@ -10,11 +10,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -56,12 +59,14 @@ import io.a2a.jsonrpc.common.wrappers.SubscribeToTaskRequest;
 import io.a2a.server.ServerCallContext;
 import io.a2a.server.auth.UnauthenticatedUser;
 import io.a2a.server.auth.User;
+import io.a2a.server.config.A2AConfigProvider;
 import io.a2a.server.extensions.A2AExtensions;
 import io.a2a.server.util.async.Internal;
 import io.a2a.spec.A2AError;
 import io.a2a.spec.AgentCard;
 import io.a2a.spec.InternalError;
 import io.a2a.spec.JSONParseError;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.spec.UnsupportedOperationError;
 import io.a2a.transport.jsonrpc.handler.JSONRPCHandler;
 import io.quarkus.security.Authenticated;
@@ -93,19 +98,59 @@ public class A2AServerRoutes {
     @Inject
     Instance<CallContextFactory> callContextFactory;
 
-    @Route(path = "/", methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON}, type = Route.HandlerType.BLOCKING)
+    @Inject
+    A2AConfigProvider configProvider;
+
+    /**
+     * Whether requests are accepted on the Vert.x event loop and handled on the executor, instead of on a
+     * worker thread.
+     * <p>
+     * Property: {@code a2a.server.routes.mode}<br>
+     * Default: blocking<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     */
+    boolean eventLoop;
+
+    @PostConstruct
+    void initConfig() {
+        eventLoop = "event-loop".equalsIgnoreCase(configProvider.getValue("a2a.server.routes.mode").trim());
+    }
+
+    @Route(path = "/", order = 1, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON})
+    @Authenticated
+    public void invokeJSONRPCHandlerOnEventLoop(@Body String body, RoutingContext rc) {
+        if (!eventLoop) {
+            // Handled by the BLOCKING route below, on a worker thread with the request context active
+            rc.next();
+            return;
+        }
+        ServerCallContext context = createCallContext(rc);
+        try {
+            // Handlers access the task store and set up queues before going async, so keep them off the event loop
+            executor.execute(() -> handleRequest(body, rc, context));
+        } catch (RejectedExecutionException e) {
+            sendResponse(rc, new A2AErrorResponse(new ServerBusyError()));
+        }
+    }
+
+    @Route(path = "/", order = 2, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON}, type = Route.HandlerType.BLOCKING)
     @Authenticated
     public void invokeJSONRPCHandler(@Body String body, RoutingContext rc) {
+        handleRequest(body, rc, createCallContext(rc));
+    }
+
+    private void handleRequest(String body, RoutingContext rc, ServerCallContext context) {
         boolean streaming = false;
-        ServerCallContext context = createCallContext(rc);
-        A2AResponse<?> nonStreamingResponse = null;
+        CompletableFuture<? extends A2AResponse<?>> nonStreamingResponse = null;
         Multi<? extends A2AResponse<?>> streamingResponse = null;
         A2AErrorResponse error = null;
         try {
             A2ARequest<?> request = JSONRPCUtils.parseRequestBody(body);
             context.getState().put(METHOD_NAME_KEY, request.getMethod());
             if (request instanceof NonStreamingJSONRPCRequest nonStreamingRequest) {
-                nonStreamingResponse = processNonStreamingRequest(nonStreamingRequest, context);
+                nonStreamingResponse = eventLoop
+                        ? processNonStreamingRequestAsync(nonStreamingRequest, context)
+                        : CompletableFuture.completedFuture(processNonStreamingRequest(nonStreamingRequest, context));
             } else {
                 streaming = true;
                 streamingResponse = processStreamingRequest(request, context);
@@ -129,10 +174,7 @@ public class A2AServerRoutes {
             error = new A2AErrorResponse(new InternalError(t.getMessage()));
         } finally {
             if (error != null) {
-                rc.response()
-                        .setStatusCode(200)
-                        .putHeader(CONTENT_TYPE, APPLICATION_JSON)
-                        .end(serializeResponse(error));
+                sendResponse(rc, error);
             } else if (streaming) {
                 final Multi<? extends A2AResponse<?>> finalStreamingResponse = streamingResponse;
                 executor.execute(() -> {
@@ -141,14 +183,24 @@ public class A2AServerRoutes {
                 });
 
             } else {
-                rc.response()
-                        .setStatusCode(200)
-                        .putHeader(CONTENT_TYPE, APPLICATION_JSON)
-                        .end(serializeResponse(nonStreamingResponse));
+                nonStreamingResponse.whenComplete((response, t) -> {
+                    if (t != null) {
+                        sendResponse(rc, new A2AErrorResponse(new InternalError(t.getMessage())));
+                    } else {
+                        sendResponse(rc, response);
+                    }
+                });
             }
         }
     }
 
+    private static void sendResponse(RoutingContext rc, A2AResponse<?> response) {
+        rc.response()
+                .setStatusCode(200)
+                .putHeader(CONTENT_TYPE, APPLICATION_JSON)
+                .end(serializeResponse(response));
+    }
+
     /**
      * /**
      * Handles incoming GET requests to the agent card endpoint.
@@ -192,6 +244,21 @@ public class A2AServerRoutes {
         return generateErrorResponse(request, new UnsupportedOperationError());
     }
 
+    /**
+     * Processes a request without waiting for the agent: sending a message and cancelling a task complete
+     * asynchronously once the agent is done, all other requests are answered directly.
+     */
+    private CompletableFuture<? extends A2AResponse<?>> processNonStreamingRequestAsync(
+            NonStreamingJSONRPCRequest<?> request, ServerCallContext context) {
+        if (request instanceof SendMessageRequest req) {
+            return jsonRpcHandler.onMessageSendAsync(req, context);
+        }
+        if (request instanceof CancelTaskRequest req) {
+            return jsonRpcHandler.onCancelTaskAsync(req, context);
+        }
+        return CompletableFuture.completedFuture(processNonStreamingRequest(request, context));
+    }
+
     private Multi<? extends A2AResponse<?>> processStreamingRequest(
             A2ARequest<?> request, ServerCallContext context) {
         Flow.Publisher<? extends A2AResponse<?>> publisher;
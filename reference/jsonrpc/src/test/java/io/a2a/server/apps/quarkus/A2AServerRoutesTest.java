@@ -8,15 +8,26 @@ import static io.a2a.transport.jsonrpc.context.JSONRPCContextKeys.METHOD_NAME_KE
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.enterprise.inject.Instance;
 
@@ -46,6 +57,7 @@ import io.a2a.spec.AgentInterface;
 import io.a2a.spec.AuthenticationInfo;
 import io.a2a.spec.ListTaskPushNotificationConfigResult;
 import io.a2a.spec.PushNotificationConfig;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.spec.Task;
 import io.a2a.spec.TaskPushNotificationConfig;
 import io.a2a.spec.TaskState;
@@ -288,6 +300,134 @@ public class A2AServerRoutesTest {
         assertEquals(CANCEL_TASK_METHOD, capturedContext.getState().get(METHOD_NAME_KEY));
     }
 
+    @Test
+    public void testCancelTask_EventLoopModeUsesAsyncHandler() {
+        routes.eventLoop = true;
+        String jsonRpcRequest = """
+            {
+             "jsonrpc": "2.0",
+             "id": "cd4c76de-d54c-436c-8b9f-4c2703648d64",
+             "method": "CancelTask",
+             "params": {
+              "name": "tasks/de38c76d-d54c-436c-8b9f-4c2703648d64"
+             }
+            }""";
+        when(mockRequestBody.asString()).thenReturn(jsonRpcRequest);
+
+        Task responseTask = Task.builder()
+                .id("de38c76d-d54c-436c-8b9f-4c2703648d64")
+                .contextId("context-1234")
+                .status(new TaskStatus(TaskState.CANCELED))
+                .build();
+        CompletableFuture<CancelTaskResponse> pending = new CompletableFuture<>();
+        when(mockJsonRpcHandler.onCancelTaskAsync(any(CancelTaskRequest.class), any(ServerCallContext.class)))
+                .thenReturn(pending);
+        List<Runnable> offloaded = new ArrayList<>();
+        setField(routes, "executor", (Executor) offloaded::add);
+
+        // Act
+        routes.invokeJSONRPCHandlerOnEventLoop(jsonRpcRequest, mockRoutingContext);
+
+        // Assert - nothing touches the handler on the event loop, the request is handed to the executor
+        verify(mockRoutingContext, never()).next();
+        verify(mockJsonRpcHandler, never()).onCancelTaskAsync(any(CancelTaskRequest.class), any(ServerCallContext.class));
+        assertEquals(1, offloaded.size());
+
+        // The handler runs on the executor, the response is written once the handler completes
+        offloaded.get(0).run();
+        verify(mockJsonRpcHandler, never()).onCancelTask(any(CancelTaskRequest.class), any(ServerCallContext.class));
+        verify(mockHttpResponse, never()).end(anyString());
+
+        pending.complete(new CancelTaskResponse("1", responseTask));
+        verify(mockHttpResponse).end(anyString());
+    }
+
+    @Test
+    public void testSendMessage_EventLoopModeRunsHandlerOnExecutor() {
+        routes.eventLoop = true;
+        String jsonRpcRequest = """
+            {
+             "jsonrpc": "2.0",
+             "id": "cd4c76de-d54c-436c-8b9f-4c2703648d64",
+             "method": "SendMessage",
+             "params": {
+              "message": {
+               "messageId": "message-1234",
+               "contextId": "context-1234",
+               "role": "ROLE_USER",
+               "parts": [
+                {
+                 "text": "tell me a joke"
+                }
+               ],
+               "metadata": {}
+              }
+             }
+            }""";
+        when(mockRequestBody.asString()).thenReturn(jsonRpcRequest);
+        Thread eventLoopThread = Thread.currentThread();
+        AtomicReference<Thread> handlerThread = new AtomicReference<>();
+        when(mockJsonRpcHandler.onMessageSendAsync(any(SendMessageRequest.class), any(ServerCallContext.class)))
+                .thenAnswer(invocation -> {
+                    handlerThread.set(Thread.currentThread());
+                    return new CompletableFuture<SendMessageResponse>();
+                });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        setField(routes, "executor", executor);
+
+        try {
+            // Act
+            routes.invokeJSONRPCHandlerOnEventLoop(jsonRpcRequest, mockRoutingContext);
+
+            // Assert - the task lookup and queue setup of the handler never run on the event-loop thread
+            verify(mockJsonRpcHandler, timeout(5000)).onMessageSendAsync(any(SendMessageRequest.class), any(ServerCallContext.class));
+            assertNotNull(handlerThread.get());
+            assertNotSame(eventLoopThread, handlerThread.get());
+            verify(mockJsonRpcHandler, never()).onMessageSend(any(SendMessageRequest.class), any(ServerCallContext.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSendMessage_EventLoopModeRejectedExecutionAnswersServerBusy() {
+        routes.eventLoop = true;
+        setField(routes, "executor", (Executor) runnable -> {
+            throw new RejectedExecutionException("Saturated");
+        });
+
+        // Act
+        routes.invokeJSONRPCHandlerOnEventLoop("{}", mockRoutingContext);
+
+        // Assert
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(mockHttpResponse).end(bodyCaptor.capture());
+        assertTrue(bodyCaptor.getValue().contains(String.valueOf(new ServerBusyError().getCode())));
+        verify(mockJsonRpcHandler, never()).onMessageSendAsync(any(SendMessageRequest.class), any(ServerCallContext.class));
+    }
+
+    @Test
+    public void testCancelTask_BlockingModeLeavesRequestToBlockingRoute() {
+        String jsonRpcRequest = """
+            {
+             "jsonrpc": "2.0",
+             "id": "cd4c76de-d54c-436c-8b9f-4c2703648d64",
+             "method": "CancelTask",
+             "params": {
+              "name": "tasks/de38c76d-d54c-436c-8b9f-4c2703648d64"
+             }
+            }""";
+        when(mockRequestBody.asString()).thenReturn(jsonRpcRequest);
+
+        // Act
+        routes.invokeJSONRPCHandlerOnEventLoop(jsonRpcRequest, mockRoutingContext);
+
+        // Assert
+        verify(mockRoutingContext).next();
+        verify(mockJsonRpcHandler, never()).onCancelTask(any(CancelTaskRequest.class), any(ServerCallContext.class));
+        verify(mockJsonRpcHandler, never()).onCancelTaskAsync(any(CancelTaskRequest.class), any(ServerCallContext.class));
+    }
+
     @Test
     public void testTaskResubscription_MethodNameSetInContext() {
         // Arrange - using protobuf JSON format
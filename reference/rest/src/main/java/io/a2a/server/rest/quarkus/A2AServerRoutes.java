@@ -12,11 +12,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.security.PermitAll;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
@@ -26,12 +29,14 @@ import io.a2a.common.A2AHeaders;
 import io.a2a.server.ServerCallContext;
 import io.a2a.server.auth.UnauthenticatedUser;
 import io.a2a.server.auth.User;
+import io.a2a.server.config.A2AConfigProvider;
 import io.a2a.server.extensions.A2AExtensions;
 import io.a2a.server.util.async.Internal;
 import io.a2a.spec.A2AError;
 import io.a2a.spec.InternalError;
 import io.a2a.spec.InvalidParamsError;
 import io.a2a.spec.MethodNotFoundError;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.transport.rest.handler.RestHandler;
 import io.a2a.transport.rest.handler.RestHandler.HTTPRestResponse;
 import io.a2a.transport.rest.handler.RestHandler.HTTPRestStreamingResponse;
@@ -81,7 +86,34 @@ public class A2AServerRoutes {
     @Inject
     Instance<CallContextFactory> callContextFactory;
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)message:send$", order = 1, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON}, type = Route.HandlerType.BLOCKING)
+    @Inject
+    A2AConfigProvider configProvider;
+
+    /**
+     * Whether requests are accepted on the Vert.x event loop and handled on the executor, instead of on a
+     * worker thread.
+     * <p>
+     * Property: {@code a2a.server.routes.mode}<br>
+     * Default: blocking<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     */
+    boolean eventLoop;
+
+    @PostConstruct
+    void initConfig() {
+        eventLoop = "event-loop".equalsIgnoreCase(configProvider.getValue("a2a.server.routes.mode").trim());
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)message:send$", order = 3, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON})
+    public void sendMessageOnEventLoop(@Body String body, RoutingContext rc) {
+        if (onEventLoop(rc)) {
+            // Completes once the agent is done, without holding the executor thread meanwhile
+            ServerCallContext context = createCallContext(rc, SEND_MESSAGE_METHOD);
+            offEventLoop(rc, () -> sendResponse(rc, jsonRestHandler.sendMessageAsync(body, extractTenant(rc), context)));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)message:send$", order = 4, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON}, type = Route.HandlerType.BLOCKING)
     public void sendMessage(@Body String body, RoutingContext rc) {
         ServerCallContext context = createCallContext(rc, SEND_MESSAGE_METHOD);
         HTTPRestResponse response = null;
@@ -94,7 +126,14 @@ public class A2AServerRoutes {
         }
     }
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)message:stream$", order = 1, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON}, type = Route.HandlerType.BLOCKING)
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)message:stream$", order = 3, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON})
+    public void sendMessageStreamingOnEventLoop(@Body String body, RoutingContext rc) {
+        if (onEventLoop(rc)) {
+            offEventLoop(rc, () -> sendMessageStreaming(body, rc));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)message:stream$", order = 4, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON}, type = Route.HandlerType.BLOCKING)
     public void sendMessageStreaming(@Body String body, RoutingContext rc) {
         ServerCallContext context = createCallContext(rc, SEND_STREAMING_MESSAGE_METHOD);
         HTTPRestStreamingResponse streamingResponse = null;
@@ -119,7 +158,14 @@ public class A2AServerRoutes {
         }
     }
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\??", order = 0, methods = {Route.HttpMethod.GET}, type = Route.HandlerType.BLOCKING)
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\??", order = 1, methods = {Route.HttpMethod.GET})
+    public void listTasksOnEventLoop(RoutingContext rc) {
+        if (onEventLoop(rc)) {
+            offEventLoop(rc, () -> listTasks(rc));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\??", order = 2, methods = {Route.HttpMethod.GET}, type = Route.HandlerType.BLOCKING)
     public void listTasks(RoutingContext rc) {
         ServerCallContext context = createCallContext(rc, LIST_TASK_METHOD);
         HTTPRestResponse response = null;
@@ -165,7 +211,14 @@ public class A2AServerRoutes {
         }
     }
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^:^/]+)$", order = 1, methods = {Route.HttpMethod.GET}, type = Route.HandlerType.BLOCKING)
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^:^/]+)$", order = 3, methods = {Route.HttpMethod.GET})
+    public void getTaskOnEventLoop(RoutingContext rc) {
+        if (onEventLoop(rc)) {
+            offEventLoop(rc, () -> getTask(rc));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^:^/]+)$", order = 4, methods = {Route.HttpMethod.GET}, type = Route.HandlerType.BLOCKING)
     public void getTask(RoutingContext rc) {
         String taskId = rc.pathParam("taskId");
         ServerCallContext context = createCallContext(rc, GET_TASK_METHOD);
@@ -189,7 +242,22 @@ public class A2AServerRoutes {
         }
     }
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+):cancel$", order = 1, methods = {Route.HttpMethod.POST}, type = Route.HandlerType.BLOCKING)
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+):cancel$", order = 3, methods = {Route.HttpMethod.POST})
+    public void cancelTaskOnEventLoop(RoutingContext rc) {
+        if (!onEventLoop(rc)) {
+            return;
+        }
+        String taskId = rc.pathParam("taskId");
+        if (taskId == null || taskId.isEmpty()) {
+            cancelTask(rc);
+        } else {
+            // Completes once the cancellation is processed, without holding the executor thread meanwhile
+            ServerCallContext context = createCallContext(rc, CANCEL_TASK_METHOD);
+            offEventLoop(rc, () -> sendResponse(rc, jsonRestHandler.cancelTaskAsync(taskId, extractTenant(rc), context)));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+):cancel$", order = 4, methods = {Route.HttpMethod.POST}, type = Route.HandlerType.BLOCKING)
     public void cancelTask(RoutingContext rc) {
         String taskId = rc.pathParam("taskId");
         ServerCallContext context = createCallContext(rc, CANCEL_TASK_METHOD);
@@ -222,7 +290,47 @@ public class A2AServerRoutes {
         }
     }
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+):subscribe$", order = 1, methods = {Route.HttpMethod.POST}, type = Route.HandlerType.BLOCKING)
+    private void sendResponse(RoutingContext rc, CompletableFuture<HTTPRestResponse> response) {
+        response.whenComplete((r, t) -> {
+            if (t != null) {
+                sendResponse(rc, jsonRestHandler.createErrorResponse(new InternalError(t.getMessage())));
+            } else {
+                sendResponse(rc, r);
+            }
+        });
+    }
+
+    /**
+     * Returns whether an event-loop route handles the request. Otherwise, passes the request on to the
+     * BLOCKING route for the same path, which runs on a worker thread with the request context active.
+     */
+    private boolean onEventLoop(RoutingContext rc) {
+        if (!eventLoop) {
+            rc.next();
+        }
+        return eventLoop;
+    }
+
+    /**
+     * Runs the handler call of an event-loop route on the executor, so task store and queue access never
+     * blocks the event loop. The asynchronous handler methods also do that before they return.
+     */
+    private void offEventLoop(RoutingContext rc, Runnable handlerCall) {
+        try {
+            executor.execute(handlerCall);
+        } catch (RejectedExecutionException e) {
+            sendResponse(rc, jsonRestHandler.createErrorResponse(new ServerBusyError()));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+):subscribe$", order = 3, methods = {Route.HttpMethod.POST})
+    public void subscribeToTaskOnEventLoop(RoutingContext rc) {
+        if (onEventLoop(rc)) {
+            offEventLoop(rc, () -> subscribeToTask(rc));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+):subscribe$", order = 4, methods = {Route.HttpMethod.POST}, type = Route.HandlerType.BLOCKING)
     public void subscribeToTask(RoutingContext rc) {
         String taskId = rc.pathParam("taskId");
         ServerCallContext context = createCallContext(rc, SUBSCRIBE_TO_TASK_METHOD);
@@ -252,7 +360,14 @@ public class A2AServerRoutes {
         }
     }
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs$", order = 1, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON}, type = Route.HandlerType.BLOCKING)
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs$", order = 3, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON})
+    public void setTaskPushNotificationConfigurationOnEventLoop(@Body String body, RoutingContext rc) {
+        if (onEventLoop(rc)) {
+            offEventLoop(rc, () -> setTaskPushNotificationConfiguration(body, rc));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs$", order = 4, methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON}, type = Route.HandlerType.BLOCKING)
     public void setTaskPushNotificationConfiguration(@Body String body, RoutingContext rc) {
         String taskId = rc.pathParam("taskId");
         ServerCallContext context = createCallContext(rc, SET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD);
@@ -270,7 +385,14 @@ public class A2AServerRoutes {
         }
     }
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/(?<configId>[^\\/]+)", order = 2, methods = {Route.HttpMethod.GET}, type = Route.HandlerType.BLOCKING)
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/(?<configId>[^\\/]+)", order = 5, methods = {Route.HttpMethod.GET})
+    public void getTaskPushNotificationConfigurationOnEventLoop(RoutingContext rc) {
+        if (onEventLoop(rc)) {
+            offEventLoop(rc, () -> getTaskPushNotificationConfiguration(rc));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/(?<configId>[^\\/]+)", order = 6, methods = {Route.HttpMethod.GET}, type = Route.HandlerType.BLOCKING)
     public void getTaskPushNotificationConfiguration(RoutingContext rc) {
         String taskId = rc.pathParam("taskId");
         String configId = rc.pathParam("configId");
@@ -289,7 +411,14 @@ public class A2AServerRoutes {
         }
     }
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/$", order = 1, methods = {Route.HttpMethod.GET}, type = Route.HandlerType.BLOCKING)
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/$", order = 3, methods = {Route.HttpMethod.GET})
+    public void getTaskPushNotificationConfigurationWithoutIdOnEventLoop(RoutingContext rc) {
+        if (onEventLoop(rc)) {
+            offEventLoop(rc, () -> getTaskPushNotificationConfigurationWithoutId(rc));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/$", order = 4, methods = {Route.HttpMethod.GET}, type = Route.HandlerType.BLOCKING)
     public void getTaskPushNotificationConfigurationWithoutId(RoutingContext rc) {
         String taskId = rc.pathParam("taskId");
         ServerCallContext context = createCallContext(rc, GET_TASK_PUSH_NOTIFICATION_CONFIG_METHOD);
@@ -308,7 +437,14 @@ public class A2AServerRoutes {
         }
     }
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs", order = 3, methods = {Route.HttpMethod.GET}, type = Route.HandlerType.BLOCKING)
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs", order = 7, methods = {Route.HttpMethod.GET})
+    public void listTaskPushNotificationConfigurationsOnEventLoop(RoutingContext rc) {
+        if (onEventLoop(rc)) {
+            offEventLoop(rc, () -> listTaskPushNotificationConfigurations(rc));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs", order = 8, methods = {Route.HttpMethod.GET}, type = Route.HandlerType.BLOCKING)
     public void listTaskPushNotificationConfigurations(RoutingContext rc) {
         String taskId = rc.pathParam("taskId");
         ServerCallContext context = createCallContext(rc, LIST_TASK_PUSH_NOTIFICATION_CONFIG_METHOD);
@@ -336,7 +472,14 @@ public class A2AServerRoutes {
         }
     }
 
-    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/(?<configId>[^/]+)", order = 1, methods = {Route.HttpMethod.DELETE}, type = Route.HandlerType.BLOCKING)
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/(?<configId>[^/]+)", order = 3, methods = {Route.HttpMethod.DELETE})
+    public void deleteTaskPushNotificationConfigurationOnEventLoop(RoutingContext rc) {
+        if (onEventLoop(rc)) {
+            offEventLoop(rc, () -> deleteTaskPushNotificationConfiguration(rc));
+        }
+    }
+
+    @Route(regex = "^\\/(?<tenant>[^\\/]*\\/?)tasks\\/(?<taskId>[^/]+)\\/pushNotificationConfigs\\/(?<configId>[^/]+)", order = 4, methods = {Route.HttpMethod.DELETE}, type = Route.HandlerType.BLOCKING)
     public void deleteTaskPushNotificationConfiguration(RoutingContext rc) {
         String taskId = rc.pathParam("taskId");
         String configId = rc.pathParam("configId");
@@ -12,19 +12,30 @@ import static io.a2a.spec.A2AMethods.SUBSCRIBE_TO_TASK_METHOD;
 import static io.a2a.transport.rest.context.RestContextKeys.METHOD_NAME_KEY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.enterprise.inject.Instance;
 
 import io.a2a.server.ServerCallContext;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.transport.rest.handler.RestHandler;
 import io.a2a.transport.rest.handler.RestHandler.HTTPRestResponse;
 import io.vertx.core.Future;
@@ -108,6 +119,99 @@ public class A2AServerRoutesTest {
         assertEquals(SEND_MESSAGE_METHOD, capturedContext.getState().get(METHOD_NAME_KEY));
     }
 
+    @Test
+    public void testSendMessage_EventLoopModeUsesAsyncHandler() {
+        routes.eventLoop = true;
+        HTTPRestResponse mockHttpResponse = mock(HTTPRestResponse.class);
+        when(mockHttpResponse.getStatusCode()).thenReturn(200);
+        when(mockHttpResponse.getContentType()).thenReturn("application/json");
+        when(mockHttpResponse.getBody()).thenReturn("{}");
+        CompletableFuture<HTTPRestResponse> pending = new CompletableFuture<>();
+        when(mockRestHandler.sendMessageAsync(anyString(), anyString(), any(ServerCallContext.class))).thenReturn(pending);
+        List<Runnable> offloaded = new ArrayList<>();
+        setField(routes, "executor", (Executor) offloaded::add);
+
+        // Act
+        routes.sendMessageOnEventLoop("{}", mockRoutingContext);
+
+        // Assert - nothing touches the handler on the event loop, the request is handed to the executor
+        verify(mockRoutingContext, never()).next();
+        verify(mockRestHandler, never()).sendMessageAsync(anyString(), anyString(), any(ServerCallContext.class));
+        assertEquals(1, offloaded.size());
+
+        // The handler runs on the executor, the response is written once the handler completes
+        offloaded.get(0).run();
+        verify(mockRestHandler, never()).sendMessage(anyString(), anyString(), any(ServerCallContext.class));
+        verify(mockResponse, never()).end(anyString());
+
+        pending.complete(mockHttpResponse);
+        verify(mockResponse).end("{}");
+    }
+
+    @Test
+    public void testGetTask_EventLoopModeRunsHandlerOnExecutor() {
+        routes.eventLoop = true;
+        when(mockRoutingContext.pathParam("taskId")).thenReturn("task123");
+        HTTPRestResponse mockHttpResponse = mock(HTTPRestResponse.class);
+        when(mockHttpResponse.getStatusCode()).thenReturn(200);
+        when(mockHttpResponse.getContentType()).thenReturn("application/json");
+        when(mockHttpResponse.getBody()).thenReturn("{}");
+        Thread eventLoopThread = Thread.currentThread();
+        AtomicReference<Thread> handlerThread = new AtomicReference<>();
+        when(mockRestHandler.getTask(anyString(), any(), anyString(), any(ServerCallContext.class))).thenAnswer(invocation -> {
+            handlerThread.set(Thread.currentThread());
+            return mockHttpResponse;
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        setField(routes, "executor", executor);
+
+        try {
+            // Act
+            routes.getTaskOnEventLoop(mockRoutingContext);
+
+            // Assert - the task store is never read on the event-loop thread
+            verify(mockResponse, timeout(5000)).end("{}");
+            verify(mockRoutingContext, never()).next();
+            assertNotSame(eventLoopThread, handlerThread.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGetTask_EventLoopModeRejectedExecutionAnswersServerBusy() {
+        routes.eventLoop = true;
+        when(mockRoutingContext.pathParam("taskId")).thenReturn("task123");
+        HTTPRestResponse mockHttpResponse = mock(HTTPRestResponse.class);
+        when(mockHttpResponse.getStatusCode()).thenReturn(503);
+        when(mockHttpResponse.getContentType()).thenReturn("application/json");
+        when(mockHttpResponse.getBody()).thenReturn("{}");
+        when(mockRestHandler.createErrorResponse(any(ServerBusyError.class))).thenReturn(mockHttpResponse);
+        setField(routes, "executor", (Executor) runnable -> {
+            throw new RejectedExecutionException("Saturated");
+        });
+
+        // Act
+        routes.getTaskOnEventLoop(mockRoutingContext);
+
+        // Assert
+        verify(mockResponse).setStatusCode(503);
+        verify(mockRestHandler, never()).getTask(anyString(), any(), anyString(), any(ServerCallContext.class));
+    }
+
+    @Test
+    public void testGetTask_BlockingModeLeavesRequestToBlockingRoute() {
+        when(mockRoutingContext.pathParam("taskId")).thenReturn("task123");
+
+        // Act
+        routes.getTaskOnEventLoop(mockRoutingContext);
+
+        // Assert
+        verify(mockRoutingContext).next();
+        verify(mockRestHandler, never()).getTask(anyString(), any(), anyString(), any(ServerCallContext.class));
+        verify(mockResponse, never()).end(anyString());
+    }
+
     @Test
     public void testSendMessageStreaming_MethodNameSetInContext() {
         // Arrange
@@ -0,0 +1,62 @@
+package io.a2a.server.events;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded view of the events of a single {@link EventQueue}.
+ * <p>
+ * Implementations must be safe for concurrent producers and consumers. {@link #put(EventQueueItem)}
+ * blocks while the buffer is at capacity, providing the queue's backpressure. The queues of one
+ * task share storage through {@link EventLog}, whose cursors implement this interface.
+ * </p>
+ *
+ * @see EventQueueEngine
+ */
+interface EventBuffer {
+
+    /**
+     * Adds an item, waiting for space to become available if the buffer is full.
+     *
+     * @param item the item to add
+     * @throws InterruptedException if interrupted while waiting for space
+     */
+    void put(EventQueueItem item) throws InterruptedException;
+
+    /**
+     * Removes the head item without waiting.
+     *
+     * @return the head item, or null if the buffer is empty
+     */
+    @Nullable EventQueueItem poll();
+
+    /**
+     * Removes the head item, waiting up to the given time for one to become available.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of {@code timeout}
+     * @return the head item, or null if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Nullable EventQueueItem poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Returns the number of pending items. The value is a snapshot under concurrent access.
+     *
+     * @return the number of pending items
+     */
+    int size();
+
+    /**
+     * Returns whether no items are pending. The value is a snapshot under concurrent access.
+     *
+     * @return true if the buffer is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Discards all pending items, releasing capacity for any waiting producers.
+     */
+    void clear();
+}
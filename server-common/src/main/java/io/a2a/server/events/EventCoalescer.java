@@ -0,0 +1,159 @@
+package io.a2a.server.events;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.a2a.spec.Artifact;
+import io.a2a.spec.Event;
+import io.a2a.spec.Part;
+import io.a2a.spec.TaskArtifactUpdateEvent;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatusUpdateEvent;
+import io.a2a.util.PersistentList;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Merges runs of intermediate events that are already waiting in an {@link EventQueue}, so a consumer that
+ * lags behind the producer handles one event per run instead of every intermediate step.
+ * <p>
+ * Only events that are immediately available are looked at: a consumer that keeps up with the producer
+ * sees every event unchanged and is never delayed. Two kinds of runs are merged:
+ * </p>
+ * <ul>
+ *   <li>consecutive {@link TaskArtifactUpdateEvent}s of the same task and artifact, where every event after
+ *       the first one has {@code append=true}, become one event carrying all the parts;</li>
+ *   <li>consecutive non-final {@link TaskStatusUpdateEvent}s of the same task collapse into the latest one.
+ *       A status update carrying a message is never dropped, since the task manager moves that message into
+ *       the task history when the status is replaced.</li>
+ * </ul>
+ * <p>
+ * Event metadata is merged the same way the task manager applies it, later values winning. Final events,
+ * interrupted states, errors and all other events are passed through as they are, and the order of events
+ * is preserved. Applying a merged event to a task gives the same result as applying the events it replaces.
+ * </p>
+ * <p>
+ * Instances are not thread-safe; a consumer must not dequeue through the same coalescer concurrently.
+ * </p>
+ */
+final class EventCoalescer {
+
+    /**
+     * Upper bound on the events merged into one, so a producer that keeps the queue non-empty cannot hold
+     * back delivery indefinitely.
+     */
+    static final int MAX_RUN_LENGTH = 256;
+
+    private @Nullable EventQueueItem pending;
+
+    /**
+     * Dequeues the next event, merged with the events following it that are already in the queue.
+     *
+     * @param queue the queue to dequeue from
+     * @param waitMilliSeconds the maximum time to wait for the first event, or a non-positive value to not wait
+     * @return the next, possibly merged, event, or null if none arrived in time
+     * @throws EventQueueClosedException if the queue is closed and no event is left
+     */
+    @Nullable EventQueueItem next(EventQueue queue, int waitMilliSeconds) throws EventQueueClosedException {
+        EventQueueItem current = pending;
+        pending = null;
+        if (current == null) {
+            current = queue.dequeueEventItem(waitMilliSeconds);
+            if (current == null) {
+                return null;
+            }
+        }
+        for (int merged = 1; merged < MAX_RUN_LENGTH && isCoalescable(current.getEvent()); merged++) {
+            EventQueueItem next;
+            try {
+                next = queue.dequeueEventItem(-1);
+            } catch (EventQueueClosedException e) {
+                // Hand out what we have; the next call reports the closure
+                break;
+            }
+            if (next == null) {
+                break;
+            }
+            Event coalesced = coalesce(current.getEvent(), next.getEvent());
+            if (coalesced == null) {
+                pending = next;
+                break;
+            }
+            current = new CoalescedEventQueueItem(coalesced, current.isReplicated() && next.isReplicated());
+        }
+        return current;
+    }
+
+    private static boolean isCoalescable(Event event) {
+        if (event instanceof TaskArtifactUpdateEvent update) {
+            return !Boolean.TRUE.equals(update.lastChunk());
+        } else if (event instanceof TaskStatusUpdateEvent update) {
+            return isIntermediate(update) && update.status().message() == null;
+        }
+        return false;
+    }
+
+    private static boolean isIntermediate(TaskStatusUpdateEvent update) {
+        TaskState state = update.status().state();
+        return !update.isFinal() && !state.isFinal()
+                && state != TaskState.INPUT_REQUIRED && state != TaskState.AUTH_REQUIRED;
+    }
+
+    /**
+     * Merges two consecutive events.
+     *
+     * @param first the earlier event, for which {@link #isCoalescable(Event)} holds
+     * @param second the later event
+     * @return the merged event, or null if the events cannot be merged
+     */
+    private static @Nullable Event coalesce(Event first, Event second) {
+        if (first instanceof TaskArtifactUpdateEvent chunk && second instanceof TaskArtifactUpdateEvent next
+                && chunk.taskId().equals(next.taskId())
+                && chunk.artifact().artifactId().equals(next.artifact().artifactId())
+                && Boolean.TRUE.equals(next.append())) {
+            List<Part<?>> parts = PersistentList.copyOf(chunk.artifact().parts()).withAppendedAll(next.artifact().parts());
+            // Appending keeps the existing artifact's attributes and only adds the parts
+            Artifact artifact = Artifact.builder(chunk.artifact())
+                    .parts(parts)
+                    .build();
+            return TaskArtifactUpdateEvent.builder(chunk)
+                    .artifact(artifact)
+                    .lastChunk(next.lastChunk())
+                    .metadata(mergeMetadata(chunk.metadata(), next.metadata()))
+                    .build();
+        }
+        if (first instanceof TaskStatusUpdateEvent status && second instanceof TaskStatusUpdateEvent next
+                && status.taskId().equals(next.taskId())
+                && isIntermediate(next)) {
+            return TaskStatusUpdateEvent.builder(next)
+                    .metadata(mergeMetadata(status.metadata(), next.metadata()))
+                    .build();
+        }
+        return null;
+    }
+
+    private static @Nullable Map<String, Object> mergeMetadata(@Nullable Map<String, Object> first,
+                                                               @Nullable Map<String, Object> second) {
+        if (first == null || first.isEmpty()) {
+            return second;
+        } else if (second == null || second.isEmpty()) {
+            return first;
+        }
+        Map<String, Object> merged = new HashMap<>(first);
+        merged.putAll(second);
+        return merged;
+    }
+
+    private record CoalescedEventQueueItem(Event event, boolean replicated) implements EventQueueItem {
+
+        @Override
+        public Event getEvent() {
+            return event;
+        }
+
+        @Override
+        public boolean isReplicated() {
+            return replicated;
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package io.a2a.server.events;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.a2a.spec.A2AServerException;
 import io.a2a.spec.Event;
@@ -15,22 +20,102 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Consumes the events of an {@link EventQueue} and exposes them as a {@link Flow.Publisher}.
+ * <p>
+ * Two consumption modes are supported:
+ * </p>
+ * <ul>
+ *   <li><b>Polling</b> ({@link #EventConsumer(EventQueue)}): {@link #consumeAll()} runs a loop on the
+ *       subscribing thread that polls the queue with a timeout, so that agent errors reported through
+ *       {@link #createAgentRunnableDoneCallback()} are noticed even when no events arrive.</li>
+ *   <li><b>Push-based</b> ({@link #EventConsumer(EventQueue, Executor)}): {@link #consumeAll()} returns
+ *       immediately. Events are dequeued on the given executor only when the subscriber has outstanding
+ *       demand, and draining is triggered by enqueues, queue closure and agent errors instead of a parked
+ *       thread. A single executor can therefore serve many concurrent streams.</li>
+ * </ul>
+ * <p>
+ * Both modes deliver the same events, stop on the same final events, and never expose
+ * {@link QueueClosedEvent} to subscribers.
+ * </p>
+ * <p>
+ * Either mode can additionally coalesce events ({@link #EventConsumer(EventQueue, Executor, boolean)}):
+ * intermediate artifact chunks and status updates that have piled up in the queue while the subscriber was
+ * lagging are merged before delivery, see {@link EventCoalescer}.
+ * </p>
+ */
 public class EventConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(EventConsumer.class);
     private final EventQueue queue;
+    private final @Nullable Executor pushExecutor;
+    private final @Nullable EventCoalescer coalescer;
+    private final AtomicReference<@Nullable PushSubscription> pushSubscription = new AtomicReference<>();
     private volatile @Nullable Throwable error;
 
     private static final String ERROR_MSG = "Agent did not return any response";
     private static final int NO_WAIT = -1;
     private static final int QUEUE_WAIT_MILLISECONDS = 500;
 
+    /**
+     * Creates a polling consumer.
+     *
+     * @param queue the queue to consume
+     */
     public EventConsumer(EventQueue queue) {
         this.queue = queue;
+        this.pushExecutor = null;
+        this.coalescer = null;
         LOGGER.debug("EventConsumer created with queue {}", System.identityHashCode(queue));
     }
 
+    /**
+     * Creates a push-based consumer that drains the queue on the given executor.
+     *
+     * @param queue the queue to consume
+     * @param executor the executor used to deliver events to subscribers
+     */
+    public EventConsumer(EventQueue queue, Executor executor) {
+        this.queue = queue;
+        this.pushExecutor = executor;
+        this.coalescer = null;
+        LOGGER.debug("Push-based EventConsumer created with queue {}", System.identityHashCode(queue));
+    }
+
+    /**
+     * Creates a consumer that optionally coalesces the events of a lagging subscriber.
+     *
+     * @param queue the queue to consume
+     * @param executor the executor used to deliver events push-based, or null for a polling consumer
+     * @param coalesce whether to merge intermediate events that are already queued before delivering them
+     */
+    public EventConsumer(EventQueue queue, @Nullable Executor executor, boolean coalesce) {
+        this.queue = queue;
+        this.pushExecutor = executor;
+        this.coalescer = coalesce ? new EventCoalescer() : null;
+        LOGGER.debug("EventConsumer created with queue {} (push-based: {}, coalescing: {})",
+                System.identityHashCode(queue), executor != null, coalesce);
+    }
+
+    /**
+     * Returns whether this consumer delivers events push-based rather than from a polling loop.
+     *
+     * @return true if created with an executor
+     */
+    public boolean isPushBased() {
+        return pushExecutor != null;
+    }
+
+    /**
+     * Returns whether this consumer merges intermediate events that are already queued.
+     *
+     * @return true if created with coalescing enabled
+     */
+    public boolean isCoalescing() {
+        return coalescer != null;
+    }
+
     public Event consumeOne() throws A2AServerException, EventQueueClosedException {
-        EventQueueItem item = queue.dequeueEventItem(NO_WAIT);
+        EventQueueItem item = dequeue(NO_WAIT);
         if (item == null) {
             throw new A2AServerException(ERROR_MSG, new InternalError(ERROR_MSG));
         }
@@ -38,6 +123,20 @@ public class EventConsumer {
     }
 
     public Flow.Publisher<EventQueueItem> consumeAll() {
+        Executor executor = pushExecutor;
+        if (executor != null) {
+            return subscriber -> {
+                PushSubscription subscription = new PushSubscription(subscriber, executor);
+                PushSubscription previous = pushSubscription.getAndSet(subscription);
+                if (previous != null) {
+                    previous.cancel();
+                }
+                queue.setSignalListener(subscription.signalListener);
+                subscriber.onSubscribe(subscription);
+                // Check for an already closed queue or a pending agent error without waiting for demand
+                subscription.schedule();
+            };
+        }
         TubeConfiguration conf = new TubeConfiguration()
                 .withBackpressureStrategy(BackpressureStrategy.BUFFER)
                 .withBufferSize(256);
@@ -60,7 +159,7 @@ public class EventConsumer {
                     EventQueueItem item;
                     Event event;
                     try {
-                        item = queue.dequeueEventItem(QUEUE_WAIT_MILLISECONDS);
+                        item = dequeue(QUEUE_WAIT_MILLISECONDS);
                         if (item == null) {
                             continue;
                         }
@@ -72,20 +171,7 @@ public class EventConsumer {
                         }
 
                         // Check for QueueClosedEvent BEFORE sending to avoid delivering it to subscribers
-                        boolean isFinalEvent = false;
-                        if (event instanceof TaskStatusUpdateEvent tue && tue.isFinal()) {
-                            isFinalEvent = true;
-                        } else if (event instanceof Message) {
-                            isFinalEvent = true;
-                        } else if (event instanceof Task task) {
-                            isFinalEvent = isStreamTerminatingTask(task);
-                        } else if (event instanceof QueueClosedEvent) {
-                            // Poison pill event - signals queue closure from remote node
-                            // Do NOT send to subscribers - just close the queue
-                            LOGGER.debug("Received QueueClosedEvent for task {}, treating as final event",
-                                ((QueueClosedEvent) event).getTaskId());
-                            isFinalEvent = true;
-                        }
+                        boolean isFinalEvent = isFinalEvent(event);
 
                         // Only send event if it's not a QueueClosedEvent
                         // QueueClosedEvent is an internal coordination event used for replication
@@ -121,6 +207,36 @@ public class EventConsumer {
         });
     }
 
+    private @Nullable EventQueueItem dequeue(int waitMilliSeconds) throws EventQueueClosedException {
+        EventCoalescer eventCoalescer = coalescer;
+        return eventCoalescer != null
+                ? eventCoalescer.next(queue, waitMilliSeconds)
+                : queue.dequeueEventItem(waitMilliSeconds);
+    }
+
+    /**
+     * Determines if an event terminates the stream.
+     *
+     * @param event the dequeued event
+     * @return true if consumption should stop after this event
+     */
+    private boolean isFinalEvent(Event event) {
+        if (event instanceof TaskStatusUpdateEvent tue && tue.isFinal()) {
+            return true;
+        } else if (event instanceof Message) {
+            return true;
+        } else if (event instanceof Task task) {
+            return isStreamTerminatingTask(task);
+        } else if (event instanceof QueueClosedEvent queueClosedEvent) {
+            // Poison pill event - signals queue closure from remote node
+            // Do NOT send to subscribers - just close the queue
+            LOGGER.debug("Received QueueClosedEvent for task {}, treating as final event",
+                    queueClosedEvent.getTaskId());
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Determines if a task is in a state for terminating the stream.
      * <p>A task is terminating if:</p>
@@ -140,6 +256,11 @@ public class EventConsumer {
         return agentRunnable -> {
             if (agentRunnable.getError() != null) {
                 error = agentRunnable.getError();
+                // Wake a push-based subscriber so the error surfaces without waiting for an event
+                PushSubscription subscription = pushSubscription.get();
+                if (subscription != null) {
+                    subscription.schedule();
+                }
             }
         };
     }
@@ -150,4 +271,134 @@ public class EventConsumer {
         LOGGER.debug("EventConsumer closing queue {}", System.identityHashCode(queue));
         queue.close();
     }
+
+    /**
+     * Demand-driven subscription used in push-based mode.
+     * <p>
+     * Every trigger (demand, enqueue, close, agent error) calls {@link #schedule()}. A work-in-progress
+     * counter guarantees that at most one drain runs at a time on the executor, and that a trigger arriving
+     * during a drain causes another pass instead of being lost. A drain dequeues without waiting and stops
+     * as soon as the queue is empty or demand is exhausted.
+     * </p>
+     */
+    private class PushSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super EventQueueItem> subscriber;
+        private final Executor executor;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Runnable drainTask = this::drainLoop;
+        private final Runnable signalListener = this::schedule;
+        private volatile boolean cancelled;
+        private volatile boolean done;
+
+        PushSubscription(Flow.Subscriber<? super EventQueueItem> subscriber, Executor executor) {
+            this.subscriber = subscriber;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                finish();
+                subscriber.onError(new IllegalArgumentException("Requested amount must be positive: " + n));
+                return;
+            }
+            requested.accumulateAndGet(n, (current, add) -> {
+                long sum = current + add;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            LOGGER.debug("Push subscription cancelled for queue {}", System.identityHashCode(queue));
+            cancelled = true;
+            detach();
+        }
+
+        void schedule() {
+            if (done || cancelled) {
+                return;
+            }
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(drainTask);
+                } catch (RejectedExecutionException e) {
+                    LOGGER.warn("Executor rejected event delivery for queue {}", System.identityHashCode(queue), e);
+                    finish();
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            while (!done && !cancelled) {
+                Throwable agentError = error;
+                if (agentError != null) {
+                    finish();
+                    subscriber.onError(agentError);
+                    return;
+                }
+                if (requested.get() == 0) {
+                    return;
+                }
+                EventQueueItem item;
+                try {
+                    item = dequeue(NO_WAIT);
+                } catch (EventQueueClosedException e) {
+                    finish();
+                    subscriber.onComplete();
+                    return;
+                }
+                if (item == null) {
+                    // Nothing to deliver yet - the next enqueue, close or error schedules another drain
+                    return;
+                }
+                Event event = item.getEvent();
+                if (event instanceof Throwable thr) {
+                    finish();
+                    subscriber.onError(thr);
+                    return;
+                }
+                boolean isFinalEvent = isFinalEvent(event);
+                if (!(event instanceof QueueClosedEvent)) {
+                    // Unbounded demand is never consumed
+                    requested.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+                    try {
+                        subscriber.onNext(item);
+                    } catch (Throwable t) {
+                        finish();
+                        subscriber.onError(t);
+                        return;
+                    }
+                }
+                if (isFinalEvent) {
+                    LOGGER.debug("Final or interrupted event detected, closing queue {}", System.identityHashCode(queue));
+                    finish();
+                    queue.close();
+                    subscriber.onComplete();
+                    return;
+                }
+            }
+        }
+
+        private void finish() {
+            done = true;
+            detach();
+        }
+
+        private void detach() {
+            pushSubscription.compareAndSet(this, null);
+            queue.removeSignalListener(signalListener);
+        }
+    }
 }
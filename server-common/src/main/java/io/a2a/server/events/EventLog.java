@@ -0,0 +1,571 @@
+package io.a2a.server.events;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import io.a2a.spec.Event;
+import io.a2a.spec.InternalError;
+import io.a2a.spec.Message;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatusUpdateEvent;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Shared append-only log of the events of one task, read through independent {@link Cursor}s.
+ * <p>
+ * A {@code MainQueue} owns the log and every queue of the task, the {@code MainQueue} itself and each
+ * {@code ChildQueue}, reads it through its own cursor. An event is therefore stored once, however many
+ * subscribers there are. Entries are dropped once the slowest cursor that holds back producers has
+ * passed them.
+ * </p>
+ * <h2>Capacity and lag</h2>
+ * <ul>
+ *   <li>At most {@code capacity} unread entries are kept for any cursor. An append that would exceed it
+ *       for a <em>gating</em> cursor blocks the producer until that cursor advances.</li>
+ *   <li>If a maximum subscriber lag is configured, a subscriber cursor that falls that far behind is
+ *       detached instead of blocking producers. A detached cursor returns a single error event and
+ *       then nothing further.</li>
+ *   <li>Otherwise the {@link EventQueueOverflowPolicy} decides what happens to a full subscriber cursor:
+ *       the producer blocks, possibly with a timeout, or the cursor's oldest entry is skipped, or the
+ *       cursor is detached.</li>
+ *   <li>The primary cursor (the {@code MainQueue}'s own view) only gates producers until the first subscriber
+ *       cursor is opened. From then on it keeps at most the last {@code capacity} entries and silently skips
+ *       older ones, so an unread main view can neither stall the producer nor retain memory.</li>
+ * </ul>
+ * <p>
+ * The storage and wait strategy are chosen by {@link EventQueueEngine}.
+ * </p>
+ */
+abstract class EventLog {
+
+    private final int capacity;
+    private final int maxSubscriberLag;
+    private final EventQueueOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int spinTries;
+    private final ReentrantLock waitLock;
+    private final Condition notFull;
+    private final Condition appended;
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final List<Cursor> cursors = new CopyOnWriteArrayList<>();
+    private volatile boolean subscribed;
+
+    /**
+     * Creates a log.
+     *
+     * @param options the sizing and overflow settings
+     * @param fair whether waiting producers and consumers are woken in FIFO order
+     * @param spinTries how many times to retry with {@link Thread#onSpinWait()} before parking
+     */
+    protected EventLog(Options options, boolean fair, int spinTries) {
+        this.capacity = options.capacity();
+        this.maxSubscriberLag = options.maxSubscriberLag();
+        this.overflowPolicy = options.overflowPolicy();
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(options.blockTimeoutMillis());
+        this.spinTries = spinTries;
+        this.waitLock = new ReentrantLock(fair);
+        this.notFull = waitLock.newCondition();
+        this.appended = waitLock.newCondition();
+    }
+
+    /**
+     * Creates a log for the given engine.
+     *
+     * @param engine the storage engine
+     * @param options the sizing and overflow settings
+     * @return a new, empty log
+     */
+    static EventLog create(EventQueueEngine engine, Options options) {
+        return switch (engine) {
+            case LINKED -> new LinkedEventLog(options);
+            case RING_BUFFER -> new RingEventLog(options);
+        };
+    }
+
+    /**
+     * Sizing and overflow settings of a log.
+     *
+     * @param capacity the maximum number of unread entries per cursor
+     * @param maxSubscriberLag the lag at which subscriber cursors are detached, or 0 to apply the overflow policy
+     *                         once they are full
+     * @param overflowPolicy what to do when a subscriber cursor is full
+     * @param blockTimeoutMillis how long {@link EventQueueOverflowPolicy#BLOCK} waits before detaching full
+     *                           subscriber cursors, or 0 to wait indefinitely
+     */
+    record Options(int capacity, int maxSubscriberLag, EventQueueOverflowPolicy overflowPolicy,
+                   long blockTimeoutMillis) {
+
+        Options {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Queue size must be greater than 0");
+            }
+            if (maxSubscriberLag < 0 || maxSubscriberLag > capacity) {
+                throw new IllegalArgumentException("Maximum subscriber lag must be between 0 and the queue size");
+            }
+            if (blockTimeoutMillis < 0) {
+                throw new IllegalArgumentException("Block timeout must not be negative");
+            }
+        }
+
+        /**
+         * Settings with the given capacity that block producers indefinitely.
+         *
+         * @param capacity the maximum number of unread entries per cursor
+         */
+        Options(int capacity) {
+            this(capacity, 0, EventQueueOverflowPolicy.BLOCK, 0);
+        }
+    }
+
+    /**
+     * Returns the storage engine of this log.
+     *
+     * @return the engine
+     */
+    abstract EventQueueEngine engine();
+
+    /**
+     * Returns the maximum number of unread entries kept per cursor.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the sequence number the next appended entry will get.
+     *
+     * @return the number of entries appended so far
+     */
+    abstract long tail();
+
+    /**
+     * Opens a cursor positioned at the current tail, so it only sees entries appended from now on.
+     *
+     * @param primary true for the owning {@code MainQueue}'s view, false for a subscriber
+     * @return the new cursor
+     */
+    Cursor openCursor(boolean primary) {
+        Cursor cursor = newCursor(primary);
+        if (!primary) {
+            subscribed = true;
+        }
+        cursors.add(cursor);
+        return cursor;
+    }
+
+    /**
+     * Returns the number of open cursors that still read from the log.
+     *
+     * @return the number of attached cursors
+     */
+    int attachedCursorCount() {
+        return cursors.size();
+    }
+
+    /**
+     * Appends an entry, waiting while a gating cursor has {@code capacity} unread entries.
+     *
+     * @param item the entry to append
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void append(EventQueueItem item) throws InterruptedException {
+        if (tryAppend(item)) {
+            onAppended();
+            return;
+        }
+        for (int i = 0; i < spinTries; i++) {
+            Thread.onSpinWait();
+            if (tryAppend(item)) {
+                onAppended();
+                return;
+            }
+        }
+        waitLock.lockInterruptibly();
+        // Counted once the lock is held, so an interrupted acquisition cannot leave the count raised.
+        // A consumer that advanced before the count was raised did not signal, but the retry below sees it.
+        waitingProducers.incrementAndGet();
+        try {
+            boolean timedOut = false;
+            long nanos = blockTimeoutNanos;
+            while (!tryAppend(item)) {
+                if (blockTimeoutNanos == 0L || timedOut) {
+                    // Only a primary cursor consumed directly can still hold the producer back after a timeout
+                    notFull.await();
+                } else if (nanos <= 0L) {
+                    timedOut = true;
+                    detachFullSubscribers();
+                } else {
+                    nanos = notFull.awaitNanos(nanos);
+                }
+            }
+        } finally {
+            waitingProducers.decrementAndGet();
+            waitLock.unlock();
+        }
+        onAppended();
+    }
+
+    /**
+     * Appends the entry if no gating cursor would exceed the capacity.
+     *
+     * @param item the entry to append
+     * @return false if the log is full for a gating cursor
+     */
+    protected abstract boolean tryAppend(EventQueueItem item);
+
+    /**
+     * Creates a storage specific cursor positioned at the current tail.
+     *
+     * @param primary whether this is the owning queue's view
+     * @return the new cursor
+     */
+    protected abstract Cursor newCursor(boolean primary);
+
+    /**
+     * Returns the lowest position among cursors that hold back producers, detaching subscribers that exceed
+     * the maximum lag and letting a non-gating primary cursor fall behind.
+     *
+     * @param tail the sequence number about to be appended
+     * @return the lowest gating position, or {@code tail} if no cursor gates producers
+     */
+    protected long minGatingPosition(long tail) {
+        long min = tail;
+        boolean primaryGates = !subscribed;
+        for (Cursor cursor : cursors) {
+            long position = cursor.position();
+            long lag = tail - position;
+            if (cursor.primary) {
+                if (primaryGates) {
+                    min = Math.min(min, position);
+                } else if (lag >= capacity) {
+                    cursor.skipOldest(tail);
+                }
+            } else if (maxSubscriberLag > 0 && lag >= maxSubscriberLag) {
+                cursor.detach();
+            } else if (lag >= capacity && relieve(cursor)) {
+                if (!cursor.isDetached()) {
+                    min = Math.min(min, cursor.position());
+                }
+            } else {
+                min = Math.min(min, position);
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Applies the overflow policy to a full subscriber cursor.
+     *
+     * @param cursor the cursor with {@code capacity} unread entries
+     * @return true if the cursor made room or was detached, false if the producer has to wait for it
+     */
+    private boolean relieve(Cursor cursor) {
+        boolean relieved = switch (overflowPolicy) {
+            case BLOCK -> false;
+            case FAIL_FAST -> false;
+            case DROP_OLDEST -> skipHead(cursor, head -> !isTerminal(head.getEvent()));
+            case COALESCE -> skipHead(cursor, head -> isSuperseded(cursor, head.getEvent()));
+        };
+        if (!relieved && overflowPolicy != EventQueueOverflowPolicy.BLOCK) {
+            // Nothing could be skipped: detach rather than stalling the producer
+            cursor.detach();
+            relieved = true;
+        }
+        return relieved;
+    }
+
+    private void detachFullSubscribers() {
+        long tail = tail();
+        for (Cursor cursor : cursors) {
+            if (!cursor.primary && tail - cursor.position() >= capacity) {
+                cursor.detach();
+            }
+        }
+    }
+
+    private static boolean skipHead(Cursor cursor, Predicate<EventQueueItem> skippable) {
+        long position = cursor.position();
+        EventQueueItem head = cursor.entryAt(position);
+        if (head == null || !skippable.test(head)) {
+            return false;
+        }
+        // If the consumer took the head in the meantime, room was made anyway
+        cursor.skip(position);
+        return true;
+    }
+
+    private static boolean isSuperseded(Cursor cursor, Event head) {
+        String taskId;
+        boolean snapshot;
+        if (head instanceof TaskStatusUpdateEvent update && !update.isFinal()) {
+            taskId = update.taskId();
+            snapshot = false;
+        } else if (head instanceof Task task && !isTerminal(task)) {
+            taskId = task.id();
+            snapshot = true;
+        } else {
+            return false;
+        }
+        boolean[] superseded = new boolean[1];
+        cursor.scan(cursor.position() + 1, item -> {
+            Event event = item.getEvent();
+            superseded[0] = snapshot
+                    ? event instanceof Task task && task.id().equals(taskId)
+                    : event instanceof TaskStatusUpdateEvent update && update.taskId().equals(taskId);
+            return !superseded[0];
+        });
+        return superseded[0];
+    }
+
+    /**
+     * Returns whether an event ends or interrupts the stream, so it must never be skipped on overflow.
+     *
+     * @param event the event
+     * @return true for messages, final or interrupted tasks and status updates, errors and queue closure
+     */
+    private static boolean isTerminal(Event event) {
+        if (event instanceof TaskStatusUpdateEvent update) {
+            return update.isFinal() || isTerminal(update.status().state());
+        } else if (event instanceof Task task) {
+            return isTerminal(task.status().state());
+        }
+        return event instanceof Message || event instanceof Throwable || event instanceof QueueClosedEvent;
+    }
+
+    private static boolean isTerminal(TaskState state) {
+        return state.isFinal() || state == TaskState.INPUT_REQUIRED || state == TaskState.AUTH_REQUIRED;
+    }
+
+    private void onAppended() {
+        if (waitingConsumers.get() > 0) {
+            signal(appended);
+        }
+    }
+
+    private void onAdvanced() {
+        if (waitingProducers.get() > 0) {
+            signal(notFull);
+        }
+    }
+
+    private void signal(Condition condition) {
+        waitLock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * A reader's position in the log, exposed to its {@link EventQueue} as an {@link EventBuffer}.
+     * <p>
+     * Writing through a cursor appends to the shared log, so every cursor sees the entry. Once sealed by
+     * closing its queue, a cursor copies its unread entries aside and stops holding back producers; the
+     * copied entries can still be drained.
+     * </p>
+     */
+    abstract class Cursor implements EventBuffer {
+        final boolean primary;
+        private volatile boolean detached;
+        private volatile boolean detachErrorDelivered;
+        private volatile @Nullable ArrayDeque<EventQueueItem> sealed;
+
+        protected Cursor(boolean primary) {
+            this.primary = primary;
+        }
+
+        /**
+         * Returns the sequence number of the next entry this cursor will read.
+         *
+         * @return the position
+         */
+        abstract long position();
+
+        /**
+         * Reads the entry at the current position without waiting.
+         *
+         * @return the entry, or null if the cursor has caught up with the tail
+         */
+        protected abstract @Nullable EventQueueItem readNext();
+
+        /**
+         * Moves the position to the tail, discarding all unread entries.
+         */
+        protected abstract void skipToTail();
+
+        /**
+         * Returns the unread entry with the given sequence number without consuming it.
+         *
+         * @param sequence the sequence number, at or after the current position
+         * @return the entry, or null if it has not been appended yet or is no longer available
+         */
+        protected abstract @Nullable EventQueueItem entryAt(long sequence);
+
+        /**
+         * Visits the entries from the given sequence number up to the tail, without consuming them.
+         *
+         * @param from the first sequence number to visit, at or after the current position
+         * @param visitor called for each entry in order; returning false stops the scan
+         */
+        protected abstract void scan(long from, Predicate<EventQueueItem> visitor);
+
+        /**
+         * Advances past the entry at {@code position} if the cursor is still there.
+         *
+         * @param position the expected current position
+         * @return true if the entry was skipped, false if the cursor had already moved
+         */
+        protected abstract boolean skip(long position);
+
+        /**
+         * Drops the oldest unread entry because the cursor no longer gates producers and is lagging a full
+         * capacity behind. Called by producers while appending.
+         *
+         * @param tail the sequence number about to be appended
+         */
+        protected void skipOldest(long tail) {
+            // Storage that can detect overwritten entries on read does not need to do anything here
+        }
+
+        /**
+         * Returns whether this cursor was detached for exceeding the maximum subscriber lag.
+         *
+         * @return true if detached
+         */
+        boolean isDetached() {
+            return detached;
+        }
+
+        /**
+         * Stops reading from the log, keeping the currently unread entries so they can still be drained.
+         */
+        void seal() {
+            synchronized (this) {
+                if (sealed != null || detached) {
+                    return;
+                }
+                ArrayDeque<EventQueueItem> remaining = new ArrayDeque<>();
+                EventQueueItem item;
+                while ((item = readNext()) != null) {
+                    remaining.add(item);
+                }
+                sealed = remaining;
+                cursors.remove(this);
+            }
+            // Waking producers takes the wait lock, which must not happen while holding this monitor
+            onAdvanced();
+        }
+
+        private void detach() {
+            detached = true;
+            cursors.remove(this);
+        }
+
+        @Override
+        public void put(EventQueueItem item) throws InterruptedException {
+            append(item);
+        }
+
+        @Override
+        public @Nullable EventQueueItem poll() {
+            ArrayDeque<EventQueueItem> remaining = sealed;
+            if (remaining != null) {
+                synchronized (this) {
+                    return remaining.poll();
+                }
+            }
+            if (detached) {
+                return detachError();
+            }
+            EventQueueItem item = readNext();
+            if (item != null) {
+                onAdvanced();
+            }
+            return item;
+        }
+
+        @Override
+        public @Nullable EventQueueItem poll(long timeout, TimeUnit unit) throws InterruptedException {
+            EventQueueItem item = poll();
+            if (item != null) {
+                return item;
+            }
+            for (int i = 0; i < spinTries; i++) {
+                Thread.onSpinWait();
+                item = poll();
+                if (item != null) {
+                    return item;
+                }
+            }
+            long nanos = unit.toNanos(timeout);
+            waitLock.lockInterruptibly();
+            // Counted once the lock is held, as in append()
+            waitingConsumers.incrementAndGet();
+            try {
+                while ((item = poll()) == null) {
+                    if (nanos <= 0L || sealed != null || (detached && detachErrorDelivered)) {
+                        return null;
+                    }
+                    nanos = appended.awaitNanos(nanos);
+                }
+                return item;
+            } finally {
+                waitingConsumers.decrementAndGet();
+                waitLock.unlock();
+            }
+        }
+
+        @Override
+        public int size() {
+            ArrayDeque<EventQueueItem> remaining = sealed;
+            if (remaining != null) {
+                synchronized (this) {
+                    return remaining.size();
+                }
+            }
+            if (detached) {
+                return detachErrorDelivered ? 0 : 1;
+            }
+            long size = tail() - position();
+            return (int) Math.max(0, Math.min(size, capacity));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        @Override
+        public void clear() {
+            ArrayDeque<EventQueueItem> remaining = sealed;
+            if (remaining != null) {
+                synchronized (this) {
+                    remaining.clear();
+                }
+                return;
+            }
+            skipToTail();
+            onAdvanced();
+        }
+
+        private synchronized @Nullable EventQueueItem detachError() {
+            if (detachErrorDelivered) {
+                return null;
+            }
+            detachErrorDelivered = true;
+            return new LocalEventQueueItem(new InternalError(
+                    "Subscriber fell too far behind the event stream and was detached, resubscribe to continue"));
+        }
+    }
+}
@@ -1,11 +1,8 @@
 package io.a2a.server.events;
 
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -19,10 +16,23 @@ import org.slf4j.LoggerFactory;
  * Abstract base class for event queues that manage task event streaming.
  * <p>
  * An EventQueue provides a thread-safe mechanism for enqueueing and dequeueing events
- * related to task execution. It supports backpressure through semaphore-based throttling
+ * related to task execution. It supports backpressure through a bounded internal buffer
  * and hierarchical queue structures via MainQueue and ChildQueue implementations.
  * </p>
  * <p>
+ * A MainQueue stores each event once in a shared append-only log; the MainQueue and every
+ * ChildQueue tapped from it read that log through their own cursor, so fan-out does not copy
+ * events per subscriber. Producers block while the slowest subscriber has {@code queueSize}
+ * unread events, unless a maximum subscriber lag is configured with
+ * {@link EventQueueBuilder#maxSubscriberLag(int)}, in which case subscribers exceeding it are
+ * detached instead. {@link EventQueueBuilder#overflowPolicy(EventQueueOverflowPolicy)} chooses
+ * what happens when a subscriber is full.
+ * </p>
+ * <p>
+ * The log implementation is chosen with {@link EventQueueEngine}; see
+ * {@link EventQueueBuilder#engine(EventQueueEngine)}.
+ * </p>
+ * <p>
  * Use {@link #builder()} to create configured instances or extend MainQueue/ChildQueue directly.
  * </p>
  */
@@ -36,15 +46,20 @@ public abstract class EventQueue implements AutoCloseable {
     public static final int DEFAULT_QUEUE_SIZE = 1000;
 
     private final int queueSize;
+    private final EventQueueEngine engine;
     /**
-     * Internal blocking queue for storing event queue items.
+     * Log shared with the MainQueue and all its ChildQueues.
      */
-    protected final BlockingQueue<EventQueueItem> queue = new LinkedBlockingDeque<>();
+    private final EventLog log;
     /**
-     * Semaphore for backpressure control, limiting the number of pending events.
+     * This queue's cursor into the shared log, providing backpressure when the log is full.
      */
-    protected final Semaphore semaphore;
-    private volatile boolean closed = false;
+    private final EventLog.Cursor queue;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    /**
+     * Callback notified when an item is added or the queue is closed, used by push-based consumers.
+     */
+    private volatile @Nullable Runnable signalListener;
 
     /**
      * Creates an EventQueue with the default queue size.
@@ -60,21 +75,45 @@ public abstract class EventQueue implements AutoCloseable {
      * @throws IllegalArgumentException if queueSize is less than or equal to 0
      */
     protected EventQueue(int queueSize) {
-        if (queueSize <= 0) {
-            throw new IllegalArgumentException("Queue size must be greater than 0");
-        }
-        this.queueSize = queueSize;
-        this.semaphore = new Semaphore(queueSize, true);
-        LOGGER.trace("Creating {} with queue size: {}", this, queueSize);
+        this(queueSize, EventQueueEngine.LINKED);
+    }
+
+    /**
+     * Creates an EventQueue with the specified queue size and storage engine.
+     *
+     * @param queueSize the maximum number of events that can be queued
+     * @param engine the storage engine backing the queue
+     * @throws IllegalArgumentException if queueSize is less than or equal to 0
+     */
+    protected EventQueue(int queueSize, EventQueueEngine engine) {
+        this(EventLog.create(engine, new EventLog.Options(queueSize)));
+    }
+
+    /**
+     * Creates an EventQueue owning the given log.
+     *
+     * @param log a new log, not shared with any other queue yet
+     */
+    EventQueue(EventLog log) {
+        this.queueSize = log.capacity();
+        this.engine = log.engine();
+        this.log = log;
+        this.queue = log.openCursor(true);
+        LOGGER.trace("Creating {} with queue size: {}, engine: {}", this, queueSize, engine);
     }
 
     /**
      * Creates an EventQueue as a child of the specified parent queue.
+     * The child reads the parent's log from the current position onwards, so it shares the
+     * parent's queue size and storage engine.
      *
      * @param parent the parent event queue
      */
     protected EventQueue(EventQueue parent) {
-        this(DEFAULT_QUEUE_SIZE);
+        this.queueSize = parent.queueSize;
+        this.engine = parent.engine;
+        this.log = parent.log;
+        this.queue = log.openCursor(false);
         LOGGER.trace("Creating {}, parent: {}", this, parent);
     }
 
@@ -85,12 +124,16 @@ public abstract class EventQueue implements AutoCloseable {
     /**
      * Builder for creating configured EventQueue instances.
      * <p>
-     * Supports configuration of queue size, enqueue hooks, task association,
+     * Supports configuration of queue size, storage engine, enqueue hooks, task association,
      * close callbacks, and task state providers.
      * </p>
      */
     public static class EventQueueBuilder {
         private int queueSize = DEFAULT_QUEUE_SIZE;
+        private EventQueueEngine engine = EventQueueEngine.LINKED;
+        private int maxSubscriberLag;
+        private EventQueueOverflowPolicy overflowPolicy = EventQueueOverflowPolicy.BLOCK;
+        private long blockTimeoutMillis;
         private @Nullable EventEnqueueHook hook;
         private @Nullable String taskId;
         private List<Runnable> onCloseCallbacks = new java.util.ArrayList<>();
@@ -107,6 +150,58 @@ public abstract class EventQueue implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Sets the storage engine backing the queue and its child queues.
+         *
+         * @param engine the storage engine, {@link EventQueueEngine#LINKED} by default
+         * @return this builder
+         */
+        public EventQueueBuilder engine(EventQueueEngine engine) {
+            this.engine = engine;
+            return this;
+        }
+
+        /**
+         * Sets how far a child queue may fall behind before it is detached.
+         * <p>
+         * By default (0) a slow child queue holds back producers once it has {@code queueSize}
+         * unread events. With a positive limit, a child queue reaching it is detached instead:
+         * its consumer receives an {@link io.a2a.spec.InternalError} and the child queue closes,
+         * so the subscriber has to resubscribe while other subscribers are unaffected.
+         * </p>
+         *
+         * @param maxSubscriberLag the maximum number of unread events per child queue, at most
+         *                         the queue size, or 0 to disable detaching
+         * @return this builder
+         */
+        public EventQueueBuilder maxSubscriberLag(int maxSubscriberLag) {
+            this.maxSubscriberLag = maxSubscriberLag;
+            return this;
+        }
+
+        /**
+         * Sets what happens when a child queue is full and another event is enqueued.
+         *
+         * @param overflowPolicy the overflow policy, {@link EventQueueOverflowPolicy#BLOCK} by default
+         * @return this builder
+         */
+        public EventQueueBuilder overflowPolicy(EventQueueOverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Sets how long {@link EventQueueOverflowPolicy#BLOCK} blocks the producer before detaching the
+         * child queues that are still full.
+         *
+         * @param blockTimeoutMillis the timeout in milliseconds, or 0 (the default) to block indefinitely
+         * @return this builder
+         */
+        public EventQueueBuilder blockTimeoutMillis(long blockTimeoutMillis) {
+            this.blockTimeoutMillis = blockTimeoutMillis;
+            return this;
+        }
+
         /**
          * Sets the enqueue hook for event replication or logging.
          *
@@ -159,10 +254,12 @@ public abstract class EventQueue implements AutoCloseable {
          * @return a new MainQueue instance
          */
         public EventQueue build() {
+            EventLog log = EventLog.create(engine, new EventLog.Options(
+                    queueSize, maxSubscriberLag, overflowPolicy, blockTimeoutMillis));
             if (hook != null || !onCloseCallbacks.isEmpty() || taskStateProvider != null) {
-                return new MainQueue(queueSize, hook, taskId, onCloseCallbacks, taskStateProvider);
+                return new MainQueue(log, hook, taskId, onCloseCallbacks, taskStateProvider);
             } else {
-                return new MainQueue(queueSize);
+                return new MainQueue(log);
             }
         }
     }
@@ -176,6 +273,15 @@ public abstract class EventQueue implements AutoCloseable {
         return queueSize;
     }
 
+    /**
+     * Returns the storage engine backing this queue.
+     *
+     * @return the storage engine
+     */
+    public EventQueueEngine getEngine() {
+        return engine;
+    }
+
     /**
      * Waits for the queue poller to start consuming events.
      * This method blocks until signaled by {@link #signalQueuePollerStarted()}.
@@ -202,28 +308,90 @@ public abstract class EventQueue implements AutoCloseable {
     /**
      * Enqueues an event queue item for processing.
      * <p>
-     * This method will block if the queue is full, waiting to acquire a semaphore permit.
+     * This method will block if the queue is full, waiting for space to become available.
      * If the queue is closed, the event will not be enqueued and a warning will be logged.
      * </p>
      *
      * @param item the event queue item to enqueue
-     * @throws RuntimeException if interrupted while waiting to acquire the semaphore
+     * @throws RuntimeException if interrupted while waiting for space in the queue
      */
     public void enqueueItem(EventQueueItem item) {
         Event event = item.getEvent();
-        if (closed) {
+        if (closed.get()) {
             LOGGER.warn("Queue is closed. Event will not be enqueued. {} {}", this, event);
             return;
         }
+        putItem(item);
         // Call toString() since for errors we don't really want the full stacktrace
+        LOGGER.debug("Enqueued event {} {}", event instanceof Throwable ? event.toString() : event, this);
+    }
+
+    /**
+     * Returns whether this queue was detached from its parent's log for exceeding the maximum
+     * subscriber lag.
+     *
+     * @return true if detached
+     */
+    boolean isDetached() {
+        return queue.isDetached();
+    }
+
+    /**
+     * Stops reading the shared log, so this queue no longer holds back producers. Events that
+     * were not consumed yet remain available to drain.
+     */
+    void sealCursor() {
+        queue.seal();
+    }
+
+    /**
+     * Adds an item to the shared log, blocking while it is full.
+     *
+     * @param item the event queue item to add
+     * @throws RuntimeException if interrupted while waiting for space in the queue
+     */
+    void putItem(EventQueueItem item) {
         try {
-            semaphore.acquire();
+            queue.put(item);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new RuntimeException("Unable to acquire the semaphore to enqueue the event", e);
+            throw new RuntimeException("Unable to acquire space in the queue to enqueue the event", e);
+        }
+        signal();
+    }
+
+    /**
+     * Registers the callback to notify when an item becomes available or the queue is closed.
+     * <p>
+     * Used by push-based {@link EventConsumer}s instead of polling with a timeout. Only one
+     * listener is kept; registering replaces any previous one.
+     * </p>
+     *
+     * @param listener the callback, or null to remove the current one
+     */
+    void setSignalListener(@Nullable Runnable listener) {
+        this.signalListener = listener;
+    }
+
+    /**
+     * Removes the signal listener if it is still the given one.
+     *
+     * @param listener the callback to remove
+     */
+    void removeSignalListener(Runnable listener) {
+        if (signalListener == listener) {
+            signalListener = null;
+        }
+    }
+
+    /**
+     * Notifies the registered signal listener, if any.
+     */
+    void signal() {
+        Runnable listener = signalListener;
+        if (listener != null) {
+            listener.run();
         }
-        queue.add(item);
-        LOGGER.debug("Enqueued event {} {}", event instanceof Throwable ? event.toString() : event, this);
     }
 
     /**
@@ -250,7 +418,7 @@ public abstract class EventQueue implements AutoCloseable {
      * @throws EventQueueClosedException if the queue is closed and empty
      */
     public @Nullable EventQueueItem dequeueEventItem(int waitMilliSeconds) throws EventQueueClosedException {
-        if (closed && queue.isEmpty()) {
+        if (closed.get() && queue.isEmpty()) {
             LOGGER.debug("Queue is closed, and empty. Sending termination message. {}", this);
             throw new EventQueueClosedException();
         }
@@ -261,7 +429,6 @@ public abstract class EventQueue implements AutoCloseable {
                     Event event = item.getEvent();
                     // Call toString() since for errors we don't really want the full stacktrace
                     LOGGER.debug("Dequeued event item (no wait) {} {}", this, event instanceof Throwable ? event.toString() : event);
-                    semaphore.release();
                 }
                 return item;
             }
@@ -272,7 +439,6 @@ public abstract class EventQueue implements AutoCloseable {
                     Event event = item.getEvent();
                     // Call toString() since for errors we don't really want the full stacktrace
                     LOGGER.debug("Dequeued event item (waiting) {} {}", this, event instanceof Throwable ? event.toString() : event);
-                    semaphore.release();
                 } else {
                     LOGGER.trace("Dequeue timeout (null) from queue {}", System.identityHashCode(this));
                 }
@@ -288,11 +454,10 @@ public abstract class EventQueue implements AutoCloseable {
     }
 
     /**
-     * Placeholder method for task completion notification.
-     * Currently not used as BlockingQueue.poll()/take() automatically remove events.
+     * Signals that the last dequeued event has been processed. This is a no-op: dequeueing already
+     * advances this queue's cursor, which releases the event and the space it held in the log.
      */
     public void taskDone() {
-        // TODO Not sure if needed yet. BlockingQueue.poll()/.take() remove the events.
     }
 
     /**
@@ -324,7 +489,7 @@ public abstract class EventQueue implements AutoCloseable {
      * @return true if the queue is closed, false otherwise
      */
     public boolean isClosed() {
-        return closed;
+        return closed.get();
     }
 
     /**
@@ -341,13 +506,11 @@ public abstract class EventQueue implements AutoCloseable {
      * @param immediate if true, clears all pending events immediately; if false, allows graceful drain
      */
     protected void doClose(boolean immediate) {
-        synchronized (this) {
-            if (closed) {
-                return;
-            }
-            LOGGER.debug("Closing {} (immediate={})", this, immediate);
-            closed = true;
+        // A CAS rather than a monitor, so closing never pins a virtual thread's carrier
+        if (!closed.compareAndSet(false, true)) {
+            return;
         }
+        LOGGER.debug("Closing {} (immediate={})", this, immediate);
 
         if (immediate) {
             // Immediate close: clear pending events
@@ -355,6 +518,7 @@ public abstract class EventQueue implements AutoCloseable {
             LOGGER.debug("Cleared queue for immediate close: {}", this);
         }
         // For graceful close, let the queue drain naturally through normal consumption
+        signal();
     }
 
     static class MainQueue extends EventQueue {
@@ -365,6 +529,8 @@ public abstract class EventQueue implements AutoCloseable {
         private final @Nullable String taskId;
         private final List<Runnable> onCloseCallbacks;
         private final @Nullable TaskStateProvider taskStateProvider;
+        // System.nanoTime() of the latest enqueue or subscription, used to find idle queues
+        private volatile long lastActivityNanos = System.nanoTime();
 
         MainQueue() {
             super();
@@ -375,7 +541,15 @@ public abstract class EventQueue implements AutoCloseable {
         }
 
         MainQueue(int queueSize) {
-            super(queueSize);
+            this(queueSize, EventQueueEngine.LINKED);
+        }
+
+        MainQueue(int queueSize, EventQueueEngine engine) {
+            this(EventLog.create(engine, new EventLog.Options(queueSize)));
+        }
+
+        MainQueue(EventLog log) {
+            super(log);
             this.enqueueHook = null;
             this.taskId = null;
             this.onCloseCallbacks = List.of();
@@ -399,7 +573,11 @@ public abstract class EventQueue implements AutoCloseable {
         }
 
         MainQueue(int queueSize, @Nullable EventEnqueueHook hook, @Nullable String taskId, List<Runnable> onCloseCallbacks, @Nullable TaskStateProvider taskStateProvider) {
-            super(queueSize);
+            this(EventLog.create(EventQueueEngine.LINKED, new EventLog.Options(queueSize)), hook, taskId, onCloseCallbacks, taskStateProvider);
+        }
+
+        MainQueue(EventLog log, @Nullable EventEnqueueHook hook, @Nullable String taskId, List<Runnable> onCloseCallbacks, @Nullable TaskStateProvider taskStateProvider) {
+            super(log);
             this.enqueueHook = hook;
             this.taskId = taskId;
             this.onCloseCallbacks = List.copyOf(onCloseCallbacks);  // Defensive copy
@@ -411,6 +589,7 @@ public abstract class EventQueue implements AutoCloseable {
         public EventQueue tap() {
             ChildQueue child = new ChildQueue(this);
             children.add(child);
+            lastActivityNanos = System.nanoTime();
             return child;
         }
 
@@ -424,20 +603,14 @@ public abstract class EventQueue implements AutoCloseable {
             // We bypass the parent's closed check and enqueue directly
             Event event = item.getEvent();
 
-            // Acquire semaphore for backpressure
-            try {
-                semaphore.acquire();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Unable to acquire the semaphore to enqueue the event", e);
-            }
-
-            // Add to this MainQueue's internal queue
-            queue.add(item);
+            // Append once to the shared log, blocking while the slowest subscriber is a full queue behind
+            putItem(item);
+            lastActivityNanos = System.nanoTime();
             LOGGER.debug("Enqueued event {} {}", event instanceof Throwable ? event.toString() : event, this);
 
-            // Distribute to all ChildQueues (they will receive the event even if MainQueue is closed)
-            children.forEach(eq -> eq.internalEnqueueItem(item));
+            // ChildQueues read the same log (they receive the event even if MainQueue is closed);
+            // just wake up their push-based consumers
+            children.forEach(EventQueue::signal);
 
             // Trigger replication hook if configured
             if (enqueueHook != null) {
@@ -464,6 +637,7 @@ public abstract class EventQueue implements AutoCloseable {
 
         void childClosing(ChildQueue child, boolean immediate) {
             children.remove(child);  // Remove the closing child
+            lastActivityNanos = System.nanoTime();
 
             // Close immediately if requested
             if (immediate) {
@@ -503,6 +677,15 @@ public abstract class EventQueue implements AutoCloseable {
             return children.size();
         }
 
+        /**
+         * Returns when an event was last enqueued or a child queue last opened or closed.
+         *
+         * @return the {@link System#nanoTime()} of the latest activity
+         */
+        long getLastActivityNanos() {
+            return lastActivityNanos;
+        }
+
         @Override
         protected void doClose(boolean immediate) {
             // Invoke all callbacks BEFORE closing, so they can still enqueue events
@@ -545,6 +728,7 @@ public abstract class EventQueue implements AutoCloseable {
         private final MainQueue parent;
 
         public ChildQueue(MainQueue parent) {
+            super(parent);
             this.parent = parent;
         }
 
@@ -553,8 +737,20 @@ public abstract class EventQueue implements AutoCloseable {
             parent.enqueueEvent(event);
         }
 
-        private void internalEnqueueItem(EventQueueItem item) {
-            super.enqueueItem(item);
+        @Override
+        public void enqueueItem(EventQueueItem item) {
+            parent.enqueueItem(item);
+        }
+
+        @Override
+        public @Nullable EventQueueItem dequeueEventItem(int waitMilliSeconds) throws EventQueueClosedException {
+            EventQueueItem item = super.dequeueEventItem(waitMilliSeconds);
+            if (item != null && isDetached() && !isClosed()) {
+                // The item is the error telling the consumer it was detached; nothing follows it
+                LOGGER.warn("{} fell more than the maximum subscriber lag behind and was detached", this);
+                close(false, true);
+            }
+            return item;
         }
 
         @Override
@@ -582,6 +778,13 @@ public abstract class EventQueue implements AutoCloseable {
             close(immediate, true);
         }
 
+        @Override
+        protected void doClose(boolean immediate) {
+            super.doClose(immediate);
+            // Stop holding back the producer; events not consumed yet can still be drained
+            sealCursor();
+        }
+
         @Override
         public void close(boolean immediate, boolean notifyParent) {
             this.doClose(immediate);           // Close self first
@@ -0,0 +1,34 @@
+package io.a2a.server.events;
+
+/**
+ * Storage engine backing the shared event log of an {@link EventQueue} and its child queues.
+ * <p>
+ * Selected per queue via {@link EventQueue.EventQueueBuilder#engine(EventQueueEngine)}, typically from an
+ * {@link EventQueueFactory}. Both engines provide identical queue semantics (bounded capacity,
+ * {@code MainQueue}/{@code ChildQueue} fan-out, close handling and {@link EventEnqueueHook} invocation);
+ * they only differ in how events are stored and how producers and consumers wait.
+ * </p>
+ */
+public enum EventQueueEngine {
+
+    /**
+     * Linked list of events, truncated by the garbage collector once every queue has read past them.
+     * <p>
+     * Allocates a node per event. Appends are serialized by a fair lock, so producers blocked on a full
+     * queue are admitted in FIFO order. This is the default.
+     * </p>
+     */
+    LINKED,
+
+    /**
+     * Preallocated ring buffer sized to the queue size.
+     * <p>
+     * Appends claim a slot with a single CAS on the fast path and allocate nothing; each queue reads the
+     * ring through its own cursor. Producers blocked on a full buffer and consumers waiting on an empty one
+     * spin briefly and are then parked with a non-fair wait strategy, so wake-up order is not guaranteed.
+     * Suited to high-volume streaming where lock contention and GC churn of the linked engine become
+     * noticeable.
+     * </p>
+     */
+    RING_BUFFER
+}
@@ -0,0 +1,53 @@
+package io.a2a.server.events;
+
+/**
+ * What an {@link EventQueue} does when a subscriber ({@code ChildQueue}) has {@code queueSize} unread events
+ * and another event is enqueued.
+ * <p>
+ * Selected per queue via {@link EventQueue.EventQueueBuilder#overflowPolicy(EventQueueOverflowPolicy)}, or for
+ * queues created by {@link InMemoryQueueManager} with the {@code a2a.queue.overflow-policy} property. Policies only
+ * apply to subscribers: a {@code MainQueue} that is consumed directly, without any child queue, always blocks the
+ * producer.
+ * </p>
+ * <p>
+ * All events of a task are stored once in a log shared by its queues, so a policy can only act on the oldest
+ * unread event of the overflowing subscriber. When it cannot make room that way, the subscriber is detached as with
+ * {@link #FAIL_FAST} rather than stalling the producer.
+ * </p>
+ */
+public enum EventQueueOverflowPolicy {
+
+    /**
+     * Block the producer until the subscriber catches up. This is the default.
+     * <p>
+     * With a block timeout (see {@link EventQueue.EventQueueBuilder#blockTimeoutMillis(long)}), subscribers still
+     * full when it expires are detached as with {@link #FAIL_FAST}.
+     * </p>
+     */
+    BLOCK,
+
+    /**
+     * Drop the subscriber's oldest unread event if it is not terminal.
+     * <p>
+     * Terminal events (messages, final or interrupted task states and status updates, errors) are never dropped.
+     * Lossy: intermediate status updates and artifact chunks may be skipped.
+     * </p>
+     */
+    DROP_OLDEST,
+
+    /**
+     * Skip the subscriber's oldest unread event only if a later unread event supersedes it.
+     * <p>
+     * A non-final {@link io.a2a.spec.TaskStatusUpdateEvent} is superseded by a later status update of the same task,
+     * and a non-terminal {@link io.a2a.spec.Task} snapshot by a later snapshot of the same task. Nothing the
+     * subscriber would need to rebuild the current state is lost.
+     * </p>
+     */
+    COALESCE,
+
+    /**
+     * Detach the subscriber immediately: its consumer receives an {@link io.a2a.spec.InternalError} and the
+     * {@code ChildQueue} closes, so the client has to resubscribe.
+     */
+    FAIL_FAST
+}
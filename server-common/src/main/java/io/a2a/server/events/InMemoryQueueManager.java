@@ -1,11 +1,24 @@
 package io.a2a.server.events;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import io.a2a.server.config.A2AConfigProvider;
 import io.a2a.server.tasks.TaskStateProvider;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -14,6 +27,11 @@ import org.slf4j.LoggerFactory;
 @ApplicationScoped
 public class InMemoryQueueManager implements QueueManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryQueueManager.class);
+    private static final String A2A_QUEUE_OVERFLOW_POLICY = "a2a.queue.overflow-policy";
+    private static final String A2A_QUEUE_OVERFLOW_BLOCK_TIMEOUT_MILLIS = "a2a.queue.overflow-block-timeout-millis";
+    private static final String A2A_QUEUE_IDLE_TTL_SECONDS = "a2a.queue.idle-ttl-seconds";
+    private static final String A2A_QUEUE_MAX_QUEUES = "a2a.queue.max-queues";
+    private static final String A2A_QUEUE_REAPER_INTERVAL_SECONDS = "a2a.queue.reaper-interval-seconds";
 
     private final ConcurrentMap<String, EventQueue> queues = new ConcurrentHashMap<>();
     // Fields set by constructor injection cannot be final. We need a noargs constructor for
@@ -21,6 +39,66 @@ public class InMemoryQueueManager implements QueueManager {
     // final, is not proxyable in all runtimes
     private EventQueueFactory factory;
     private TaskStateProvider taskStateProvider;
+    private final AtomicLong idleEvictionCount = new AtomicLong();
+    private final AtomicLong capacityEvictionCount = new AtomicLong();
+    private @Nullable ScheduledExecutorService reaper;
+
+    @Inject
+    @Nullable A2AConfigProvider configProvider;
+
+    /**
+     * What happens when a subscriber's queue is full and the agent enqueues another event.
+     * <p>
+     * Property: {@code a2a.queue.overflow-policy} ({@code block}, {@code drop-oldest}, {@code coalesce}
+     * or {@code fail-fast})<br>
+     * Default: block<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     *
+     * @see EventQueueOverflowPolicy
+     */
+    EventQueueOverflowPolicy overflowPolicy = EventQueueOverflowPolicy.BLOCK;
+
+    /**
+     * How long the {@code block} overflow policy blocks the agent before detaching full subscribers.
+     * <p>
+     * Property: {@code a2a.queue.overflow-block-timeout-millis}<br>
+     * Default: 0 (block indefinitely)<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    long overflowBlockTimeoutMillis;
+
+    /**
+     * How long a queue without subscribers and without enqueued events is kept before it is closed and
+     * evicted, even though its task is not finalized.
+     * <p>
+     * Property: {@code a2a.queue.idle-ttl-seconds}<br>
+     * Default: 0 (idle queues are kept until their task is finalized)<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    long idleTtlSeconds;
+
+    /**
+     * Number of queues above which the least recently active queues without subscribers are evicted.
+     * <p>
+     * Property: {@code a2a.queue.max-queues}<br>
+     * Default: 0 (no limit)<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    int maxQueues;
+
+    /**
+     * How often idle queues are looked for, when an idle TTL or a maximum number of queues is set.
+     * <p>
+     * Property: {@code a2a.queue.reaper-interval-seconds}<br>
+     * Default: 60<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    long reaperIntervalSeconds = 60;
 
     /**
      * No-args constructor for CDI proxy creation.
@@ -46,6 +124,160 @@ public class InMemoryQueueManager implements QueueManager {
         this.taskStateProvider = taskStateProvider;
     }
 
+    /**
+     * Reads the queue settings from the given configuration and starts the idle queue reaper if one is
+     * configured.
+     * <p>
+     * CDI does this for the queue manager bean. A queue manager created with {@code new}, for example as
+     * the delegate of another queue manager, is configured by calling this method once, and is stopped with
+     * {@link #stopReaper()}.
+     * </p>
+     *
+     * @param configProvider the configuration, or null to keep the defaults
+     */
+    public void configure(@Nullable A2AConfigProvider configProvider) {
+        this.configProvider = configProvider;
+        initConfig();
+    }
+
+    @PostConstruct
+    void initConfig() {
+        if (configProvider != null) {
+            overflowPolicy = EventQueueOverflowPolicy.valueOf(configProvider.getValue(A2A_QUEUE_OVERFLOW_POLICY)
+                    .trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            overflowBlockTimeoutMillis = Long.parseLong(
+                    configProvider.getValue(A2A_QUEUE_OVERFLOW_BLOCK_TIMEOUT_MILLIS).trim());
+            idleTtlSeconds = Long.parseLong(configProvider.getValue(A2A_QUEUE_IDLE_TTL_SECONDS).trim());
+            maxQueues = Integer.parseInt(configProvider.getValue(A2A_QUEUE_MAX_QUEUES).trim());
+            reaperIntervalSeconds = Long.parseLong(configProvider.getValue(A2A_QUEUE_REAPER_INTERVAL_SECONDS).trim());
+        }
+        if ((idleTtlSeconds > 0 || maxQueues > 0) && reaperIntervalSeconds > 0) {
+            LOGGER.info("Starting queue reaper: idleTtlSeconds={}, maxQueues={}, intervalSeconds={}",
+                    idleTtlSeconds, maxQueues, reaperIntervalSeconds);
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "a2a-queue-reaper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::reapQueues, reaperIntervalSeconds, reaperIntervalSeconds, TimeUnit.SECONDS);
+            reaper = scheduler;
+        }
+    }
+
+    /**
+     * Stops the idle queue reaper, if it was started.
+     */
+    @PreDestroy
+    public void stopReaper() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+            reaper = null;
+        }
+    }
+
+    private void reapQueues() {
+        try {
+            evictIdleQueues(System.nanoTime());
+        } catch (RuntimeException e) {
+            // Keep the schedule alive, the next run retries
+            LOGGER.warn("Failed to evict idle queues", e);
+        }
+    }
+
+    /**
+     * Closes and evicts the queues that have no subscribers and are no longer used.
+     * <p>
+     * A queue without child queues is evicted once nothing was enqueued to it for the idle TTL. While
+     * there are more than the maximum number of queues, the least recently active queues without child
+     * queues are evicted as well. Queues with subscribers are never evicted.
+     * </p>
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the number of evicted queues
+     */
+    int evictIdleQueues(long nowNanos) {
+        long idleTtlNanos = TimeUnit.SECONDS.toNanos(idleTtlSeconds);
+        List<Map.Entry<String, EventQueue.MainQueue>> candidates = new ArrayList<>();
+        int evicted = 0;
+        for (Map.Entry<String, EventQueue> entry : queues.entrySet()) {
+            if (!(entry.getValue() instanceof EventQueue.MainQueue main) || main.getActiveChildCount() > 0) {
+                continue;
+            }
+            if (idleTtlNanos > 0 && nowNanos - main.getLastActivityNanos() >= idleTtlNanos) {
+                if (evict(entry.getKey(), main)) {
+                    idleEvictionCount.incrementAndGet();
+                    evicted++;
+                }
+            } else {
+                candidates.add(Map.entry(entry.getKey(), main));
+            }
+        }
+        if (maxQueues > 0 && queues.size() > maxQueues) {
+            candidates.sort(Comparator.comparingLong(entry -> entry.getValue().getLastActivityNanos()));
+            for (Map.Entry<String, EventQueue.MainQueue> entry : candidates) {
+                if (queues.size() <= maxQueues) {
+                    break;
+                }
+                if (evict(entry.getKey(), entry.getValue())) {
+                    capacityEvictionCount.incrementAndGet();
+                    evicted++;
+                }
+            }
+        }
+        if (evicted > 0) {
+            LOGGER.debug("Evicted {} idle queues (map size: {})", evicted, queues.size());
+        }
+        return evicted;
+    }
+
+    private boolean evict(String taskId, EventQueue.MainQueue queue) {
+        boolean[] removed = new boolean[1];
+        // Queues are tapped while holding their entry too, so no subscriber can tap it once it is removed
+        queues.computeIfPresent(taskId, (id, current) -> {
+            if (current != queue || queue.getActiveChildCount() > 0) {
+                return current;
+            }
+            removed[0] = true;
+            return null;
+        });
+        if (!removed[0]) {
+            return false;
+        }
+        // Closed outside of the entry: the close callbacks remove the queue from the map
+        LOGGER.debug("Evicting idle queue {} for task {}", System.identityHashCode(queue), taskId);
+        if (!queue.isClosed()) {
+            queue.close(true);
+        }
+        return true;
+    }
+
+    /**
+     * Returns how many queues were evicted because they were idle for longer than the idle TTL.
+     *
+     * @return the number of idle evictions since startup
+     */
+    public long getIdleEvictionCount() {
+        return idleEvictionCount.get();
+    }
+
+    /**
+     * Returns how many queues were evicted to stay within the maximum number of queues.
+     *
+     * @return the number of capacity evictions since startup
+     */
+    public long getCapacityEvictionCount() {
+        return capacityEvictionCount.get();
+    }
+
+    /**
+     * Returns the number of task queues currently held, including closed queues of unfinalized tasks.
+     *
+     * @return the number of queues
+     */
+    public int getQueueCount() {
+        return queues.size();
+    }
+
     @Override
     public void add(String taskId, EventQueue queue) {
         EventQueue existing = queues.putIfAbsent(taskId, queue);
@@ -61,8 +293,25 @@ public class InMemoryQueueManager implements QueueManager {
 
     @Override
     public @Nullable EventQueue tap(String taskId) {
-        EventQueue queue = queues.get(taskId);
-        return queue == null ? null : queue.tap();
+        return tapMapped(taskId, null, EventQueue::tap);
+    }
+
+    /**
+     * Taps the queue of a task while holding its entry, so that it cannot be evicted in between.
+     *
+     * @param expected the queue that must still be mapped to the task, or null for any queue
+     * @return the child queue, or null if no queue, or not the expected one, is mapped to the task
+     */
+    private @Nullable EventQueue tapMapped(String taskId, @Nullable EventQueue expected,
+                                           Function<EventQueue, EventQueue> tap) {
+        EventQueue[] child = new EventQueue[1];
+        queues.computeIfPresent(taskId, (id, queue) -> {
+            if (expected == null || queue == expected) {
+                child[0] = tap.apply(queue);
+            }
+            return queue;
+        });
+        return child[0];
     }
 
     @Override
@@ -111,7 +360,12 @@ public class InMemoryQueueManager implements QueueManager {
         if (main == null) {
             throw new IllegalStateException("Failed to create or retrieve queue for task " + taskId);
         }
-        EventQueue result = main.tap();  // Always return ChildQueue
+        // Always return ChildQueue, tapped under the entry so that the queue cannot be evicted in between
+        EventQueue result = tapMapped(taskId, main, EventQueue::tap);
+        if (result == null) {
+            // Evicted or replaced since it was looked up
+            return createOrTap(taskId);
+        }
 
         if (existing == null) {
             LOGGER.debug("Created new MainQueue {} for task {}, returning ChildQueue {} (map size: {})",
@@ -178,11 +432,21 @@ public class InMemoryQueueManager implements QueueManager {
         };
     }
 
+    /**
+     * Returns a builder with the configured overflow settings.
+     */
+    @Override
+    public EventQueue.EventQueueBuilder getEventQueueBuilder(String taskId) {
+        return QueueManager.super.getEventQueueBuilder(taskId)
+                .overflowPolicy(overflowPolicy)
+                .blockTimeoutMillis(overflowBlockTimeoutMillis);
+    }
+
     private class DefaultEventQueueFactory implements EventQueueFactory {
         @Override
         public EventQueue.EventQueueBuilder builder(String taskId) {
             // Return builder with callback that removes queue from map when closed
-            return EventQueue.builder()
+            return getEventQueueBuilder(taskId)
                     .taskId(taskId)
                     .addOnCloseCallback(getCleanupCallback(taskId))
                     .taskStateProvider(taskStateProvider);
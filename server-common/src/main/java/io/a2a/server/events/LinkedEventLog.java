@@ -0,0 +1,154 @@
+package io.a2a.server.events;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link EventLog} for {@link EventQueueEngine#LINKED}: a singly linked list of entries.
+ * <p>
+ * Appends are serialized by a fair lock, so blocked producers are admitted in FIFO order. Each cursor
+ * references the last node it consumed; nodes that no cursor references any more are reclaimed by the
+ * garbage collector, which is how the log is truncated behind the slowest cursor.
+ * </p>
+ */
+class LinkedEventLog extends EventLog {
+
+    private final ReentrantLock appendLock = new ReentrantLock(true);
+    private volatile Node tailNode = new Node(-1, null);
+
+    LinkedEventLog(Options options) {
+        super(options, true, 0);
+    }
+
+    @Override
+    EventQueueEngine engine() {
+        return EventQueueEngine.LINKED;
+    }
+
+    @Override
+    long tail() {
+        return tailNode.sequence + 1;
+    }
+
+    @Override
+    Cursor openCursor(boolean primary) {
+        // Hold the append lock so no entry is appended between positioning the cursor and registering it
+        appendLock.lock();
+        try {
+            return super.openCursor(primary);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    protected boolean tryAppend(EventQueueItem item) {
+        appendLock.lock();
+        try {
+            Node last = tailNode;
+            long sequence = last.sequence + 1;
+            if (sequence - minGatingPosition(sequence) >= capacity()) {
+                return false;
+            }
+            Node node = new Node(sequence, item);
+            last.next = node;
+            tailNode = node;
+            return true;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    protected Cursor newCursor(boolean primary) {
+        return new LinkedCursor(primary, tailNode);
+    }
+
+    private static final class Node {
+        final long sequence;
+        final @Nullable EventQueueItem item;
+        volatile @Nullable Node next;
+
+        Node(long sequence, @Nullable EventQueueItem item) {
+            this.sequence = sequence;
+            this.item = item;
+        }
+    }
+
+    private final class LinkedCursor extends Cursor {
+        private static final AtomicReferenceFieldUpdater<LinkedCursor, Node> CONSUMED =
+                AtomicReferenceFieldUpdater.newUpdater(LinkedCursor.class, Node.class, "consumed");
+
+        private volatile Node consumed;
+
+        LinkedCursor(boolean primary, Node start) {
+            super(primary);
+            this.consumed = start;
+        }
+
+        @Override
+        long position() {
+            return consumed.sequence + 1;
+        }
+
+        @Override
+        protected @Nullable EventQueueItem readNext() {
+            while (true) {
+                Node current = consumed;
+                Node next = current.next;
+                if (next == null) {
+                    return null;
+                }
+                if (CONSUMED.compareAndSet(this, current, next)) {
+                    return next.item;
+                }
+            }
+        }
+
+        @Override
+        protected void skipToTail() {
+            consumed = tailNode;
+        }
+
+        @Override
+        protected @Nullable EventQueueItem entryAt(long sequence) {
+            Node node = consumed.next;
+            while (node != null && node.sequence < sequence) {
+                node = node.next;
+            }
+            return node != null && node.sequence == sequence ? node.item : null;
+        }
+
+        @Override
+        protected void scan(long from, Predicate<EventQueueItem> visitor) {
+            for (Node node = consumed.next; node != null; node = node.next) {
+                EventQueueItem item = node.item;
+                if (node.sequence >= from && item != null && !visitor.test(item)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        protected boolean skip(long position) {
+            Node current = consumed;
+            Node next = current.next;
+            return current.sequence == position - 1 && next != null && CONSUMED.compareAndSet(this, current, next);
+        }
+
+        @Override
+        protected void skipOldest(long tail) {
+            while (tail - position() >= capacity()) {
+                Node current = consumed;
+                Node next = current.next;
+                if (next == null) {
+                    return;
+                }
+                CONSUMED.compareAndSet(this, current, next);
+            }
+        }
+    }
+}
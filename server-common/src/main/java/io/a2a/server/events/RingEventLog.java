@@ -0,0 +1,165 @@
+package io.a2a.server.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link EventLog} for {@link EventQueueEngine#RING_BUFFER}: a preallocated ring of {@code capacity} slots.
+ * <p>
+ * Producers claim a sequence number with a single CAS on the tail and then publish the entry into slot
+ * {@code sequence % capacity}, stamping the slot with the sequence. Readers only accept an entry whose stamp
+ * matches their position, re-checking it after the read, so a slot that is overwritten concurrently is
+ * detected rather than returned. The lowest gating cursor position is cached and only recomputed when the
+ * tail gets close to it, so the fast path of an append does not visit the cursors.
+ * </p>
+ * <p>
+ * Waiters spin briefly before parking with a non-fair wait strategy.
+ * </p>
+ */
+class RingEventLog extends EventLog {
+
+    private static final int SPIN_TRIES = 64;
+    private static final long WRITING = -1L;
+
+    private final AtomicReferenceArray<@Nullable EventQueueItem> items;
+    private final AtomicLongArray stamps;
+    private final AtomicLong tail = new AtomicLong();
+    private final long gatingWindow;
+    private volatile long gatingPosition;
+
+    RingEventLog(Options options) {
+        super(options, false, SPIN_TRIES);
+        int capacity = options.capacity();
+        int maxSubscriberLag = options.maxSubscriberLag();
+        this.items = new AtomicReferenceArray<>(capacity);
+        this.stamps = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            stamps.set(i, WRITING);
+        }
+        // Detaching lagging subscribers must happen as soon as they reach the lag limit, not only once the ring is full
+        this.gatingWindow = maxSubscriberLag > 0 ? maxSubscriberLag : capacity;
+    }
+
+    @Override
+    EventQueueEngine engine() {
+        return EventQueueEngine.RING_BUFFER;
+    }
+
+    @Override
+    long tail() {
+        return tail.get();
+    }
+
+    @Override
+    protected boolean tryAppend(EventQueueItem item) {
+        while (true) {
+            long sequence = tail.get();
+            if (sequence - gatingPosition >= gatingWindow) {
+                gatingPosition = minGatingPosition(sequence);
+                if (sequence - gatingPosition >= capacity()) {
+                    return false;
+                }
+            }
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                int index = index(sequence);
+                stamps.set(index, WRITING);
+                items.set(index, item);
+                stamps.set(index, sequence);
+                return true;
+            }
+        }
+    }
+
+    @Override
+    protected Cursor newCursor(boolean primary) {
+        return new RingCursor(primary, tail.get());
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % capacity());
+    }
+
+    private @Nullable EventQueueItem published(long sequence) {
+        int index = index(sequence);
+        if (stamps.get(index) != sequence) {
+            return null;
+        }
+        EventQueueItem item = items.get(index);
+        return stamps.get(index) == sequence ? item : null;
+    }
+
+    private final class RingCursor extends Cursor {
+        private final AtomicLong position;
+
+        RingCursor(boolean primary, long start) {
+            super(primary);
+            this.position = new AtomicLong(start);
+        }
+
+        @Override
+        long position() {
+            return position.get();
+        }
+
+        @Override
+        protected @Nullable EventQueueItem readNext() {
+            while (true) {
+                long current = position.get();
+                long last = tail.get();
+                if (current >= last) {
+                    return null;
+                }
+                if (last - current > capacity()) {
+                    // Overrun by producers: only possible for a non-gating cursor
+                    position.compareAndSet(current, last - capacity());
+                    continue;
+                }
+                int index = index(current);
+                if (stamps.get(index) != current) {
+                    // Claimed but not published yet, or being overwritten; the tail check above sorts out which
+                    if (tail.get() - current > capacity()) {
+                        continue;
+                    }
+                    return null;
+                }
+                EventQueueItem item = items.get(index);
+                if (stamps.get(index) != current) {
+                    continue;
+                }
+                if (position.compareAndSet(current, current + 1)) {
+                    return item;
+                }
+            }
+        }
+
+        @Override
+        protected void skipToTail() {
+            position.set(tail.get());
+        }
+
+        @Override
+        protected @Nullable EventQueueItem entryAt(long sequence) {
+            return published(sequence);
+        }
+
+        @Override
+        protected void scan(long from, Predicate<EventQueueItem> visitor) {
+            long last = tail.get();
+            for (long sequence = from; sequence < last; sequence++) {
+                EventQueueItem item = published(sequence);
+                if (item == null || !visitor.test(item)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        protected boolean skip(long position) {
+            return this.position.compareAndSet(position, position + 1);
+        }
+    }
+}
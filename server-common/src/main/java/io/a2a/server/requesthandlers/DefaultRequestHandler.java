@@ -3,6 +3,7 @@ package io.a2a.server.requesthandlers;
 import static io.a2a.server.util.async.AsyncUtils.convertingProcessor;
 import static io.a2a.server.util.async.AsyncUtils.createTubeConfig;
 import static io.a2a.server.util.async.AsyncUtils.processor;
+import static io.a2a.server.util.async.AsyncUtils.unwrap;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 import java.time.Instant;
@@ -13,10 +14,12 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -42,6 +45,7 @@ import io.a2a.server.tasks.PushNotificationSender;
 import io.a2a.server.tasks.ResultAggregator;
 import io.a2a.server.tasks.TaskManager;
 import io.a2a.server.tasks.TaskStore;
+import io.a2a.server.util.async.FollowUpExecutor;
 import io.a2a.server.util.async.Internal;
 import io.a2a.spec.A2AError;
 import io.a2a.spec.DeleteTaskPushNotificationConfigParams;
@@ -56,6 +60,7 @@ import io.a2a.spec.ListTasksParams;
 import io.a2a.spec.Message;
 import io.a2a.spec.MessageSendParams;
 import io.a2a.spec.PushNotificationConfig;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.spec.StreamingEventKind;
 import io.a2a.spec.Task;
 import io.a2a.spec.TaskIdParams;
@@ -65,6 +70,7 @@ import io.a2a.spec.TaskPushNotificationConfig;
 import io.a2a.spec.TaskQueryParams;
 import io.a2a.spec.TaskState;
 import io.a2a.spec.UnsupportedOperationError;
+import io.a2a.util.Utils;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -129,6 +135,8 @@ import org.slf4j.LoggerFactory;
  * <ul>
  *   <li><b>Vert.x worker threads:</b> Execute request handler methods (onMessageSend, etc.)</li>
  *   <li><b>Agent-executor pool (@Internal):</b> Execute {@link AgentExecutor#execute(RequestContext, EventQueue)}</li>
+ *   <li><b>Follow-up work:</b> Event consumption for an admitted agent runs on the same pool, overflowing to
+ *       extra threads instead of being rejected (see {@link FollowUpExecutor})</li>
  *   <li><b>Background cleanup:</b> {@link java.util.concurrent.CompletableFuture CompletableFuture} async tasks</li>
  * </ul>
  * <p>
@@ -181,6 +189,9 @@ public class DefaultRequestHandler implements RequestHandler {
 
     private static final String A2A_BLOCKING_AGENT_TIMEOUT_SECONDS = "a2a.blocking.agent.timeout.seconds";
     private static final String A2A_BLOCKING_CONSUMPTION_TIMEOUT_SECONDS = "a2a.blocking.consumption.timeout.seconds";
+    private static final String A2A_CONSUMER_MODE = "a2a.consumer.mode";
+    private static final String CONSUMER_MODE_PUSH = "push";
+    private static final String A2A_CONSUMER_COALESCE_EVENTS = "a2a.consumer.coalesce-events";
 
     @Inject
     A2AConfigProvider configProvider;
@@ -207,6 +218,32 @@ public class DefaultRequestHandler implements RequestHandler {
      */
     int consumptionCompletionTimeoutSeconds;
 
+    /**
+     * Whether events are consumed push-based on the {@code @Internal} executor instead of by a
+     * polling loop that parks a thread per active stream.
+     * <p>
+     * Property: {@code a2a.consumer.mode} ({@code polling} or {@code push})<br>
+     * Default: polling<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     *
+     * @see EventConsumer
+     */
+    boolean pushBasedConsumption;
+
+    /**
+     * Whether intermediate artifact chunks and status updates that pile up while a consumer lags behind
+     * are merged before being delivered.
+     * <p>
+     * Property: {@code a2a.consumer.coalesce-events}<br>
+     * Default: false<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     *
+     * @see EventConsumer#EventConsumer(EventQueue, Executor, boolean)
+     */
+    boolean coalesceEvents;
+
     // Fields set by constructor injection cannot be final. We need a noargs constructor for
     // Jakarta compatibility, and it seems that making fields set by constructor injection
     // final, is not proxyable in all runtimes
@@ -221,6 +258,8 @@ public class DefaultRequestHandler implements RequestHandler {
     private final Set<CompletableFuture<Void>> backgroundTasks = ConcurrentHashMap.newKeySet();
 
     private Executor executor;
+    // Work for requests whose agent was already admitted; never rejected, see FollowUpExecutor
+    private Executor followUpExecutor;
 
     /**
      * No-args constructor for CDI proxy creation.
@@ -237,6 +276,7 @@ public class DefaultRequestHandler implements RequestHandler {
         this.pushSender = null;
         this.requestContextBuilder = null;
         this.executor = null;
+        this.followUpExecutor = null;
     }
 
     @Inject
@@ -249,6 +289,7 @@ public class DefaultRequestHandler implements RequestHandler {
         this.pushConfigStore = pushConfigStore;
         this.pushSender = pushSender;
         this.executor = executor;
+        this.followUpExecutor = new FollowUpExecutor(executor);
         // TODO In Python this is also a constructor parameter defaulting to this SimpleRequestContextBuilder
         //  implementation if the parameter is null. Skip that for now, since otherwise I get CDI errors, and
         //  I am unsure about the correct scope.
@@ -262,6 +303,10 @@ public class DefaultRequestHandler implements RequestHandler {
                 configProvider.getValue(A2A_BLOCKING_AGENT_TIMEOUT_SECONDS));
         consumptionCompletionTimeoutSeconds = Integer.parseInt(
                 configProvider.getValue(A2A_BLOCKING_CONSUMPTION_TIMEOUT_SECONDS));
+        pushBasedConsumption = CONSUMER_MODE_PUSH.equalsIgnoreCase(
+                configProvider.getValue(A2A_CONSUMER_MODE).trim());
+        coalesceEvents = Boolean.parseBoolean(
+                configProvider.getValue(A2A_CONSUMER_COALESCE_EVENTS).trim());
     }
 
     /**
@@ -334,6 +379,19 @@ public class DefaultRequestHandler implements RequestHandler {
 
     @Override
     public Task onCancelTask(TaskIdParams params, ServerCallContext context) throws A2AError {
+        return join(onCancelTaskAsync(params, context));
+    }
+
+    @Override
+    public CompletableFuture<Task> onCancelTaskAsync(TaskIdParams params, ServerCallContext context) {
+        try {
+            return cancelTask(params, context);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<Task> cancelTask(TaskIdParams params, ServerCallContext context) throws A2AError {
         Task task = taskStore.get(params.id());
         if (task == null) {
             throw new TaskNotFoundError();
@@ -351,7 +409,7 @@ public class DefaultRequestHandler implements RequestHandler {
                 taskStore,
                 null);
 
-        ResultAggregator resultAggregator = new ResultAggregator(taskManager, null, executor);
+        ResultAggregator resultAggregator = new ResultAggregator(taskManager, null, followUpExecutor);
 
         EventQueue queue = queueManager.tap(task.id());
         if (queue == null) {
@@ -369,23 +427,48 @@ public class DefaultRequestHandler implements RequestHandler {
         Optional.ofNullable(runningAgents.get(task.id()))
                 .ifPresent(cf -> cf.cancel(true));
 
-        EventConsumer consumer = new EventConsumer(queue);
-        EventKind type = resultAggregator.consumeAll(consumer);
-        if (!(type instanceof Task tempTask)) {
-            throw new InternalError("Agent did not return valid response for cancel");
-        }
+        EventConsumer consumer = createEventConsumer(queue);
+        return consumeAllAsync(resultAggregator, consumer).thenApply(type -> {
+            if (!(type instanceof Task tempTask)) {
+                throw new InternalError("Agent did not return valid response for cancel");
+            }
 
-        // Verify task was actually canceled (not completed concurrently)
-        if (tempTask.status().state() != TaskState.CANCELED) {
-            throw new TaskNotCancelableError(
-                    "Task cannot be canceled - current state: " + tempTask.status().state().asString());
-        }
+            // Verify task was actually canceled (not completed concurrently)
+            if (tempTask.status().state() != TaskState.CANCELED) {
+                throw new TaskNotCancelableError(
+                        "Task cannot be canceled - current state: " + tempTask.status().state().asString());
+            }
 
-        return tempTask;
+            return tempTask;
+        });
+    }
+
+    /**
+     * Consumes all events without holding the calling thread: a push-based consumer already delivers on the
+     * executor, a polling consumer is drained on it.
+     */
+    private CompletableFuture<EventKind> consumeAllAsync(ResultAggregator resultAggregator, EventConsumer consumer) {
+        if (consumer.isPushBased()) {
+            return resultAggregator.consumeAllAsync(consumer);
+        }
+        return CompletableFuture.supplyAsync(() -> resultAggregator.consumeAll(consumer), followUpExecutor);
     }
 
     @Override
     public EventKind onMessageSend(MessageSendParams params, ServerCallContext context) throws A2AError {
+        return join(onMessageSendAsync(params, context));
+    }
+
+    @Override
+    public CompletableFuture<EventKind> onMessageSendAsync(MessageSendParams params, ServerCallContext context) {
+        try {
+            return sendMessage(params, context);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<EventKind> sendMessage(MessageSendParams params, ServerCallContext context) throws A2AError {
         LOGGER.debug("onMessageSend - task: {}; context {}", params.message().taskId(), params.message().contextId());
         MessageSendSetup mss = initMessageSend(params, context);
 
@@ -396,20 +479,18 @@ public class DefaultRequestHandler implements RequestHandler {
             throw new io.a2a.spec.InternalError("Task ID is null in onMessageSend");
         }
         EventQueue queue = queueManager.createOrTap(taskId);
-        ResultAggregator resultAggregator = new ResultAggregator(mss.taskManager, null, executor);
+        ResultAggregator resultAggregator = new ResultAggregator(mss.taskManager, null, followUpExecutor);
 
         boolean blocking = params.configuration() != null && Boolean.TRUE.equals(params.configuration().blocking());
 
-        boolean interruptedOrNonBlocking = false;
-
         EnhancedRunnable producerRunnable = registerAndExecuteAgentAsync(taskId, mss.requestContext, queue);
-        ResultAggregator.EventTypeAndInterrupt etai = null;
-        EventKind kind = null;  // Declare outside try block so it's in scope for return
+        AtomicReference<ResultAggregator.@Nullable EventTypeAndInterrupt> etaiRef = new AtomicReference<>();
+        CompletableFuture<EventKind> result;
         try {
             // Create callback for push notifications during background event processing
             Runnable pushNotificationCallback = () -> sendPushNotification(taskId, resultAggregator);
 
-            EventConsumer consumer = new EventConsumer(queue);
+            EventConsumer consumer = createEventConsumer(queue);
 
             // This callback must be added before we start consuming. Otherwise,
             // any errors thrown by the producerRunnable are not picked up by the consumer
@@ -417,106 +498,147 @@ public class DefaultRequestHandler implements RequestHandler {
 
             // Get agent future before consuming (for blocking calls to wait for agent completion)
             CompletableFuture<Void> agentFuture = runningAgents.get(taskId);
-            etai = resultAggregator.consumeAndBreakOnInterrupt(consumer, blocking);
 
-            if (etai == null) {
-                LOGGER.debug("No result, throwing InternalError");
-                throw new InternalError("No result");
-            }
-            interruptedOrNonBlocking = etai.interrupted();
-            LOGGER.debug("Was interrupted or non-blocking: {}", interruptedOrNonBlocking);
-
-            // For blocking calls that were interrupted (returned on first event),
-            // wait for agent execution and event processing BEFORE returning to client.
-            // This ensures the returned Task has all artifacts and current state.
-            // We do this HERE (not in ResultAggregator) to avoid blocking Vert.x worker threads
-            // during the consumption loop itself.
-            kind = etai.eventType();
-
-            // Store push notification config for newly created tasks (mirrors streaming logic)
-            // Only for NEW tasks - existing tasks are handled by initMessageSend()
-            if (mss.task() == null && kind instanceof Task createdTask && shouldAddPushInfo(params)) {
-                LOGGER.debug("Storing push notification config for new task {}", createdTask.id());
-                pushConfigStore.setInfo(createdTask.id(), params.configuration().pushNotificationConfig());
-            }
+            // Nothing below waits on a thread: every step is chained on the futures, so the calling
+            // (e.g. Vert.x) thread is released as soon as the chain is set up.
+            result = resultAggregator.consumeAndBreakOnInterruptAsync(consumer, blocking).thenCompose(etai -> {
+                etaiRef.set(etai);
+                boolean interruptedOrNonBlocking = etai.interrupted();
+                LOGGER.debug("Was interrupted or non-blocking: {}", interruptedOrNonBlocking);
 
-            if (blocking && interruptedOrNonBlocking) {
-                // For blocking calls: ensure all events are processed before returning
-                // Order of operations is critical to avoid circular dependency:
-                // 1. Wait for agent to finish enqueueing events
-                // 2. Close the queue to signal consumption can complete
-                // 3. Wait for consumption to finish processing events
-                // 4. Fetch final task state from TaskStore
-
-                try {
-                    // Step 1: Wait for agent to finish (with configurable timeout)
-                    if (agentFuture != null) {
-                        try {
-                            agentFuture.get(agentCompletionTimeoutSeconds, SECONDS);
-                            LOGGER.debug("Agent completed for task {}", taskId);
-                        } catch (java.util.concurrent.TimeoutException e) {
-                            // Agent still running after timeout - that's fine, events already being processed
-                            LOGGER.debug("Agent still running for task {} after {}s", taskId, agentCompletionTimeoutSeconds);
-                        }
-                    }
+                EventKind kind = etai.eventType();
 
-                    // Step 2: Close the queue to signal consumption can complete
-                    // For fire-and-forget tasks, there's no final event, so we need to close the queue
-                    // This allows EventConsumer.consumeAll() to exit
-                    queue.close(false, false);  // graceful close, don't notify parent yet
-                    LOGGER.debug("Closed queue for task {} to allow consumption completion", taskId);
-
-                    // Step 3: Wait for consumption to complete (now that queue is closed)
-                    if (etai.consumptionFuture() != null) {
-                        etai.consumptionFuture().get(consumptionCompletionTimeoutSeconds, SECONDS);
-                        LOGGER.debug("Consumption completed for task {}", taskId);
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    String msg = String.format("Error waiting for task %s completion", taskId);
-                    LOGGER.warn(msg, e);
-                    throw new InternalError(msg);
-                } catch (java.util.concurrent.ExecutionException e) {
-                    String msg = String.format("Error during task %s execution", taskId);
-                    LOGGER.warn(msg, e.getCause());
-                    throw new InternalError(msg);
-                } catch (java.util.concurrent.TimeoutException e) {
-                    String msg = String.format("Timeout waiting for consumption to complete for task %s", taskId);
-                    LOGGER.warn(msg, taskId);
-                    throw new InternalError(msg);
+                // Store push notification config for newly created tasks (mirrors streaming logic)
+                // Only for NEW tasks - existing tasks are handled by initMessageSend()
+                if (mss.task() == null && kind instanceof Task createdTask && shouldAddPushInfo(params)) {
+                    LOGGER.debug("Storing push notification config for new task {}", createdTask.id());
+                    pushConfigStore.setInfo(createdTask.id(), params.configuration().pushNotificationConfig());
                 }
 
-                // Step 4: Fetch the final task state from TaskStore (all events have been processed)
-                // taskId is guaranteed non-null here (checked earlier)
-                String nonNullTaskId = taskId;
-                Task updatedTask = taskStore.get(nonNullTaskId);
-                if (updatedTask != null) {
-                    kind = updatedTask;
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debug("Fetched final task for {} with state {} and {} artifacts",
-                            nonNullTaskId, updatedTask.status().state(),
-                            updatedTask.artifacts().size());
-                    }
+                if (blocking && interruptedOrNonBlocking) {
+                    // For blocking calls that were interrupted (returned on first event),
+                    // wait for agent execution and event processing BEFORE completing.
+                    // This ensures the returned Task has all artifacts and current state.
+                    return awaitBlockingCompletion(taskId, agentFuture, queue, etai.consumptionFuture(), kind);
+                }
+                return CompletableFuture.completedFuture(kind);
+            }).thenApply(kind -> {
+                if (kind instanceof Task taskResult && !taskId.equals(taskResult.id())) {
+                    throw new InternalError("Task ID mismatch in agent response");
                 }
-            }
-            if (kind instanceof Task taskResult && !taskId.equals(taskResult.id())) {
-                throw new InternalError("Task ID mismatch in agent response");
-            }
 
-            // Send push notification after initial return (for both blocking and non-blocking)
-            pushNotificationCallback.run();
-        } finally {
+                // Send push notification after initial return (for both blocking and non-blocking)
+                pushNotificationCallback.run();
+
+                LOGGER.debug("Returning: {}", kind);
+                return kind;
+            });
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        return result.whenComplete((kind, throwable) -> {
             // Remove agent from map immediately to prevent accumulation
             CompletableFuture<Void> agentFuture = runningAgents.remove(taskId);
-            LOGGER.debug("Removed agent for task {} from runningAgents in finally block, size after: {}", taskId, runningAgents.size());
+            LOGGER.debug("Removed agent for task {} from runningAgents on completion, size after: {}", taskId, runningAgents.size());
 
             // Track cleanup as background task to avoid blocking Vert.x threads
             // Pass the consumption future to ensure cleanup waits for background consumption to complete
+            ResultAggregator.EventTypeAndInterrupt etai = etaiRef.get();
             trackBackgroundTask(cleanupProducer(agentFuture, etai != null ? etai.consumptionFuture() : null, taskId, queue, false));
+        });
+    }
+
+    /**
+     * Makes sure all events of a blocking call are processed before it completes.
+     * <p>
+     * Order of operations is critical to avoid circular dependency:
+     * </p>
+     * <ol>
+     *   <li>Wait for agent to finish enqueueing events</li>
+     *   <li>Close the queue to signal consumption can complete</li>
+     *   <li>Wait for consumption to finish processing events</li>
+     *   <li>Fetch final task state from TaskStore</li>
+     * </ol>
+     *
+     * @return a future completed with the final task, or with {@code kind} if the task is not stored
+     */
+    private CompletableFuture<EventKind> awaitBlockingCompletion(String taskId, @Nullable CompletableFuture<Void> agentFuture,
+                                                                 EventQueue queue, CompletableFuture<Void> consumptionFuture,
+                                                                 EventKind kind) {
+        // Step 1: Wait for agent to finish (with configurable timeout)
+        CompletableFuture<Void> agentDone = CompletableFuture.completedFuture(null);
+        if (agentFuture != null) {
+            agentDone = agentFuture.copy()
+                    .completeOnTimeout(null, agentCompletionTimeoutSeconds, SECONDS)
+                    .handle((v, t) -> {
+                        if (t != null) {
+                            String msg = String.format("Error during task %s execution", taskId);
+                            LOGGER.warn(msg, unwrap(t));
+                            throw new InternalError(msg);
+                        }
+                        if (agentFuture.isDone()) {
+                            LOGGER.debug("Agent completed for task {}", taskId);
+                        } else {
+                            // Agent still running after timeout - that's fine, events already being processed
+                            LOGGER.debug("Agent still running for task {} after {}s", taskId, agentCompletionTimeoutSeconds);
+                        }
+                        return null;
+                    });
         }
 
-        LOGGER.debug("Returning: {}", kind);
-        return kind;
+        return agentDone.thenCompose(v -> {
+            // Step 2: Close the queue to signal consumption can complete
+            // For fire-and-forget tasks, there's no final event, so we need to close the queue
+            // This allows EventConsumer.consumeAll() to exit
+            queue.close(false, false);  // graceful close, don't notify parent yet
+            LOGGER.debug("Closed queue for task {} to allow consumption completion", taskId);
+
+            // Step 3: Wait for consumption to complete (now that queue is closed)
+            return consumptionFuture.copy()
+                    .orTimeout(consumptionCompletionTimeoutSeconds, SECONDS)
+                    .handle((ignored, t) -> {
+                        if (t == null) {
+                            LOGGER.debug("Consumption completed for task {}", taskId);
+                            return null;
+                        }
+                        Throwable cause = unwrap(t);
+                        if (cause instanceof java.util.concurrent.TimeoutException) {
+                            String msg = String.format("Timeout waiting for consumption to complete for task %s", taskId);
+                            LOGGER.warn(msg);
+                            throw new InternalError(msg);
+                        }
+                        String msg = String.format("Error during task %s execution", taskId);
+                        LOGGER.warn(msg, cause);
+                        throw new InternalError(msg);
+                    });
+        }).thenApplyAsync(v -> {
+            // Step 4: Fetch the final task state from TaskStore (all events have been processed)
+            // Runs on the executor so a timeout never leaves the store access on the JDK's timer thread
+            Task updatedTask = taskStore.get(taskId);
+            if (updatedTask == null) {
+                return kind;
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Fetched final task for {} with state {} and {} artifacts",
+                        taskId, updatedTask.status().state(),
+                        updatedTask.artifacts().size());
+            }
+            return updatedTask;
+        }, followUpExecutor);
+    }
+
+    /**
+     * Waits for an asynchronous handler result, rethrowing the {@link A2AError} (or other exception) it
+     * completed with.
+     */
+    private static <T> T join(CompletableFuture<T> future) throws A2AError {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Utils.rethrow(unwrap(e));
+            throw e;
+        }
     }
 
     @Override
@@ -535,13 +657,13 @@ public class DefaultRequestHandler implements RequestHandler {
         @SuppressWarnings("NullAway")
         EventQueue queue = queueManager.createOrTap(taskId.get());
         LOGGER.debug("Created/tapped queue for task {}: {}", taskId.get(), queue);
-        ResultAggregator resultAggregator = new ResultAggregator(mss.taskManager, null, executor);
+        ResultAggregator resultAggregator = new ResultAggregator(mss.taskManager, null, followUpExecutor);
 
         EnhancedRunnable producerRunnable = registerAndExecuteAgentAsync(queueTaskId, mss.requestContext, queue);
 
         // Move consumer creation and callback registration outside try block
         // so consumer is available for background consumption on client disconnect
-        EventConsumer consumer = new EventConsumer(queue);
+        EventConsumer consumer = createEventConsumer(queue);
         producerRunnable.addDoneCallback(consumer.createAgentRunnableDoneCallback());
 
         AtomicBoolean backgroundConsumeStarted = new AtomicBoolean(false);
@@ -653,15 +775,29 @@ public class DefaultRequestHandler implements RequestHandler {
                         if (backgroundConsumeStarted.compareAndSet(false, true)) {
                             LOGGER.debug("Starting background consumption for task {}", taskId.get());
                             // Client disconnected: continue consuming and persisting events in background
-                            CompletableFuture<Void> bgTask = CompletableFuture.runAsync(() -> {
-                                try {
-                                    LOGGER.debug("Background consumption thread started for task {}", taskId.get());
-                                    resultAggregator.consumeAll(consumer);
-                                    LOGGER.debug("Background consumption completed for task {}", taskId.get());
-                                } catch (Exception e) {
-                                    LOGGER.error("Error during background consumption for task {}", taskId.get(), e);
-                                }
-                            }, executor);
+                            CompletableFuture<Void> bgTask;
+                            if (consumer.isPushBased()) {
+                                // Push-based consumption does not hold a thread, so don't park one waiting for it
+                                bgTask = resultAggregator.consumeAllAsync(consumer)
+                                        .handle((result, e) -> {
+                                            if (e != null) {
+                                                LOGGER.error("Error during background consumption for task {}", taskId.get(), e);
+                                            } else {
+                                                LOGGER.debug("Background consumption completed for task {}", taskId.get());
+                                            }
+                                            return null;
+                                        });
+                            } else {
+                                bgTask = CompletableFuture.runAsync(() -> {
+                                    try {
+                                        LOGGER.debug("Background consumption thread started for task {}", taskId.get());
+                                        resultAggregator.consumeAll(consumer);
+                                        LOGGER.debug("Background consumption completed for task {}", taskId.get());
+                                    } catch (Exception e) {
+                                        LOGGER.error("Error during background consumption for task {}", taskId.get(), e);
+                                    }
+                                }, followUpExecutor);
+                            }
                             trackBackgroundTask(bgTask);
                         } else {
                             LOGGER.debug("Background consumption already started for task {}", taskId.get());
@@ -738,7 +874,7 @@ public class DefaultRequestHandler implements RequestHandler {
         }
 
         TaskManager taskManager = new TaskManager(task.id(), task.contextId(), taskStore, null);
-        ResultAggregator resultAggregator = new ResultAggregator(taskManager, null, executor);
+        ResultAggregator resultAggregator = new ResultAggregator(taskManager, null, followUpExecutor);
         EventQueue queue = queueManager.tap(task.id());
         LOGGER.debug("onResubscribeToTask - tapped queue: {}", queue != null ? System.identityHashCode(queue) : "null");
 
@@ -753,7 +889,7 @@ public class DefaultRequestHandler implements RequestHandler {
             queue = queueManager.createOrTap(task.id());
         }
 
-        EventConsumer consumer = new EventConsumer(queue);
+        EventConsumer consumer = createEventConsumer(queue);
         Flow.Publisher<EventQueueItem> results = resultAggregator.consumeAndEmit(consumer);
         LOGGER.debug("onResubscribeToTask - returning publisher for taskId: {}", params.id());
         return convertingProcessor(results, item -> (StreamingEventKind) item.getEvent());
@@ -801,6 +937,9 @@ public class DefaultRequestHandler implements RequestHandler {
      *
      * This design avoids blocking agent-executor threads waiting for consumer polling to start,
      * eliminating cascading delays when Vert.x worker threads are busy.
+     *
+     * If the agent-executor pool and its work queue are full, the queue is closed and a retryable
+     * {@link ServerBusyError} is thrown instead of waiting for capacity.
      */
     private EnhancedRunnable registerAndExecuteAgentAsync(String taskId, RequestContext requestContext, EventQueue queue) {
         LOGGER.debug("Registering agent execution for task {}, runningAgents.size() before: {}", taskId, runningAgents.size());
@@ -817,7 +956,16 @@ public class DefaultRequestHandler implements RequestHandler {
             }
         };
 
-        CompletableFuture<Void> cf = CompletableFuture.runAsync(runnable, executor)
+        CompletableFuture<Void> submitted;
+        try {
+            submitted = CompletableFuture.runAsync(runnable, executor);
+        } catch (RejectedExecutionException e) {
+            // Shed load instead of queueing without bound; the client can retry later
+            LOGGER.warn("Agent executor is at capacity, rejecting execution for task {}", taskId);
+            queue.close();
+            throw new ServerBusyError("Agent executor is at capacity, retry later");
+        }
+        CompletableFuture<Void> cf = submitted
                 .whenComplete((v, err) -> {
                     if (err != null) {
                         LOGGER.error("Agent execution failed for task {}", taskId, err);
@@ -919,6 +1067,13 @@ public class DefaultRequestHandler implements RequestHandler {
         });
     }
 
+    private EventConsumer createEventConsumer(EventQueue queue) {
+        if (coalesceEvents) {
+            return new EventConsumer(queue, pushBasedConsumption ? followUpExecutor : null, true);
+        }
+        return pushBasedConsumption ? new EventConsumer(queue, followUpExecutor) : new EventConsumer(queue);
+    }
+
     private MessageSendSetup initMessageSend(MessageSendParams params, ServerCallContext context) {
         TaskManager taskManager = new TaskManager(
                 params.message().taskId(),
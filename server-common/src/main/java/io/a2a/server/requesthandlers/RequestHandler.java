@@ -1,5 +1,6 @@
 package io.a2a.server.requesthandlers;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 
 import io.a2a.jsonrpc.common.wrappers.ListTasksResult;
@@ -31,10 +32,55 @@ public interface RequestHandler {
             TaskIdParams params,
             ServerCallContext context) throws A2AError;
 
+    /**
+     * Asynchronous variant of {@link #onCancelTask(TaskIdParams, ServerCallContext)} that does not hold the
+     * calling thread while the cancellation is processed.
+     * <p>
+     * The default implementation runs {@link #onCancelTask(TaskIdParams, ServerCallContext)} on the calling
+     * thread.
+     * </p>
+     *
+     * @param params the cancel request parameters
+     * @param context the server call context
+     * @return a future completed with the canceled task, or completed exceptionally with an {@link A2AError}
+     */
+    default CompletableFuture<Task> onCancelTaskAsync(
+            TaskIdParams params,
+            ServerCallContext context) {
+        try {
+            return CompletableFuture.completedFuture(onCancelTask(params, context));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     EventKind onMessageSend(
             MessageSendParams params,
             ServerCallContext context) throws A2AError;
 
+    /**
+     * Asynchronous variant of {@link #onMessageSend(MessageSendParams, ServerCallContext)} that does not hold
+     * the calling thread while the agent runs, including for blocking requests.
+     * <p>
+     * The default implementation runs {@link #onMessageSend(MessageSendParams, ServerCallContext)} on the
+     * calling thread.
+     * </p>
+     *
+     * @param params the message send parameters
+     * @param context the server call context
+     * @return a future completed with the resulting task or message, or completed exceptionally with an
+     * {@link A2AError}
+     */
+    default CompletableFuture<EventKind> onMessageSendAsync(
+            MessageSendParams params,
+            ServerCallContext context) {
+        try {
+            return CompletableFuture.completedFuture(onMessageSend(params, context));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     Flow.Publisher<StreamingEventKind> onMessageSendStream(
             MessageSendParams params,
             ServerCallContext context) throws A2AError;
@@ -1,18 +1,54 @@
 package io.a2a.server.tasks;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
+import io.a2a.jsonrpc.common.json.JsonProcessingException;
+import io.a2a.jsonrpc.common.json.JsonUtil;
 import io.a2a.jsonrpc.common.wrappers.ListTasksResult;
+import io.a2a.server.config.A2AConfigProvider;
 import io.a2a.spec.Artifact;
+import io.a2a.spec.DataPart;
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
 import io.a2a.spec.ListTasksParams;
 import io.a2a.spec.Message;
+import io.a2a.spec.Part;
 import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TextPart;
+import io.a2a.util.BlobDirectory;
+import io.a2a.util.PersistentList;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * In-memory implementation of {@link TaskStore} and {@link TaskStateProvider}.
@@ -24,110 +60,657 @@ import org.jspecify.annotations.Nullable;
  * <p>
  * This is the default TaskStore used when no other implementation is provided.
  * </p>
+ * <p>
+ * Besides the tasks themselves, the store maintains secondary indexes that are updated on
+ * {@link #save(Task)} and {@link #delete(String)}: all tasks, the tasks of each context and the tasks
+ * in each state, each ordered the way {@link #list(ListTasksParams)} returns them (last update
+ * descending, then id). A page is read by seeking to the page token in the most selective index, so
+ * listing costs O(log N + pageSize) rather than sorting every task on each call.
+ * </p>
+ * <p>
+ * By default every task is kept until it is deleted. Retention limits on the number of tasks, their
+ * estimated size and the time since they were finalized can be configured; once a limit is exceeded
+ * the least recently used finalized tasks are evicted. Active tasks are never evicted, and a finalized
+ * task is only evicted for capacity once it was kept for a minimum retention time. An evicted task
+ * is no longer returned by {@link #get(String)} or {@link #list(ListTasksParams)}, but
+ * {@link #isTaskFinalized(String)} keeps reporting it as finalized.
+ * </p>
+ * <p>
+ * In the {@code compact} storage mode each task is kept as its JSON encoding instead of a graph of
+ * objects, and is decoded when it is read. The most recently read tasks are kept decoded in a small
+ * cache. As with the JSON-RPC transport and the JPA task store, whole numbers in metadata and data
+ * parts are read back as {@link Long}s, and other numbers as {@link Double}s.
+ * </p>
+ * <p>
+ * In the {@code objects} storage mode, inline file contents larger than a configured threshold can be
+ * moved to a local {@link BlobDirectory} when a task is saved, so that the stored task only holds a
+ * reference to a file rather than the bytes or their base64 encoding. A file is deleted once no stored
+ * task version references it, when tasks are updated, deleted or evicted, so file contents of a task
+ * read from the store cannot be read anymore after that task is updated, deleted or evicted.
+ * </p>
  */
 @ApplicationScoped
 public class InMemoryTaskStore implements TaskStore, TaskStateProvider {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryTaskStore.class);
+    private static final String A2A_TASK_STORE_MAX_TASKS = "a2a.task-store.max-tasks";
+    private static final String A2A_TASK_STORE_MAX_BYTES = "a2a.task-store.max-bytes";
+    private static final String A2A_TASK_STORE_FINALIZED_TTL_SECONDS = "a2a.task-store.finalized-ttl-seconds";
+    private static final String A2A_TASK_STORE_MIN_FINALIZED_RETENTION_SECONDS =
+            "a2a.task-store.min-finalized-retention-seconds";
+    private static final String A2A_TASK_STORE_REAPER_INTERVAL_SECONDS = "a2a.task-store.reaper-interval-seconds";
+    private static final String A2A_TASK_STORE_STORAGE = "a2a.task-store.storage";
+    private static final String A2A_TASK_STORE_DECODED_CACHE_SIZE = "a2a.task-store.decoded-cache-size";
+    private static final String A2A_TASK_STORE_SPILL_THRESHOLD_BYTES = "a2a.task-store.spill-threshold-bytes";
+    private static final String A2A_TASK_STORE_BLOB_DIRECTORY = "a2a.task-store.blob-directory";
+    // Number of evicted task ids remembered so that isTaskFinalized() stays true for them
+    private static final int MAX_EVICTED_TASK_IDS = 10_000;
+    // Approximate size of a StoredTask and its index entries, on top of the encoded task
+    private static final int STORED_TASK_OVERHEAD = 256;
+
+    private final ConcurrentMap<String, StoredTask> tasks = new ConcurrentHashMap<>();
+    private final TaskIndex allTasks = new TaskIndex();
+    private final ConcurrentMap<String, TaskIndex> tasksByContext = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TaskState, TaskIndex> tasksByState = new ConcurrentHashMap<>();
+
+    // Guards finalizedTasks and evictedTaskIds. Always acquired while holding a task's entry in
+    // the tasks map, never the other way around.
+    private final Object retentionLock = new Object();
+    // Finalized tasks in least recently used first order, with the time they were finalized
+    private final LinkedHashMap<String, Long> finalizedTasks = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Boolean> evictedTaskIds = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_EVICTED_TASK_IDS;
+        }
+    };
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final AtomicLong capacityEvictionCount = new AtomicLong();
+    private final AtomicLong expiredEvictionCount = new AtomicLong();
+    private @Nullable ScheduledExecutorService reaper;
+    // Decoded compact tasks, most recently read last. Guarded by itself.
+    private final LinkedHashMap<String, StoredTask> decodedTasks = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StoredTask> eldest) {
+            return size() > decodedCacheSize;
+        }
+    };
+
+    @Inject
+    @Nullable A2AConfigProvider configProvider;
 
-    private final ConcurrentMap<String, Task> tasks = new ConcurrentHashMap<>();
+    /**
+     * Number of tasks above which the least recently used finalized tasks are evicted.
+     * <p>
+     * Property: {@code a2a.task-store.max-tasks}<br>
+     * Default: 0 (no limit)<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    int maxTasks;
+
+    /**
+     * Estimated size of all tasks, in bytes, above which the least recently used finalized tasks are
+     * evicted. The estimate counts the text, file and data content of the history and artifacts.
+     * <p>
+     * Property: {@code a2a.task-store.max-bytes}<br>
+     * Default: 0 (no limit)<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    long maxBytes;
+
+    /**
+     * How long a task is kept after reaching a final state.
+     * <p>
+     * Property: {@code a2a.task-store.finalized-ttl-seconds}<br>
+     * Default: 0 (finalized tasks are kept until another limit evicts them)<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    long finalizedTtlSeconds;
+
+    /**
+     * How long a finalized task is kept before the maximum number of tasks or bytes may evict it, so that a
+     * client waiting for the final state can still read the task. Until then the store may stay over capacity.
+     * <p>
+     * Property: {@code a2a.task-store.min-finalized-retention-seconds}<br>
+     * Default: 15<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    long minFinalizedRetentionSeconds = 15;
+
+    /**
+     * How often expired finalized tasks are looked for, when a finalized TTL is set, and how often
+     * tasks past their minimum retention are evicted while the store is over capacity.
+     * <p>
+     * Property: {@code a2a.task-store.reaper-interval-seconds}<br>
+     * Default: 60<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    long reaperIntervalSeconds = 60;
+
+    /**
+     * Whether tasks are stored as their JSON encoding rather than as objects.
+     * <p>
+     * Property: {@code a2a.task-store.storage} ({@code objects} or {@code compact})<br>
+     * Default: objects<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    boolean compact;
+
+    /**
+     * Number of recently read tasks kept decoded in the {@code compact} storage mode.
+     * <p>
+     * Property: {@code a2a.task-store.decoded-cache-size}<br>
+     * Default: 1000<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    int decodedCacheSize = 1000;
+
+    /**
+     * Where inline file contents larger than a threshold are moved in the {@code objects} storage mode.
+     * <p>
+     * Property: {@code a2a.task-store.spill-threshold-bytes}<br>
+     * Default: 0 (file contents are kept in memory)<br>
+     * Property: {@code a2a.task-store.blob-directory}<br>
+     * Default: a new temporary directory<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath
+     * (e.g., MicroProfileConfigProvider in reference implementations).
+     */
+    @Nullable BlobDirectory blobDirectory;
+    // Whether blobDirectory is a temporary directory created by this store, deleted when it is destroyed
+    private boolean temporaryBlobDirectory;
+
+    @PostConstruct
+    void initConfig() {
+        if (configProvider != null) {
+            maxTasks = Integer.parseInt(configProvider.getValue(A2A_TASK_STORE_MAX_TASKS).trim());
+            maxBytes = Long.parseLong(configProvider.getValue(A2A_TASK_STORE_MAX_BYTES).trim());
+            finalizedTtlSeconds = Long.parseLong(configProvider.getValue(A2A_TASK_STORE_FINALIZED_TTL_SECONDS).trim());
+            minFinalizedRetentionSeconds = Long.parseLong(
+                    configProvider.getValue(A2A_TASK_STORE_MIN_FINALIZED_RETENTION_SECONDS).trim());
+            reaperIntervalSeconds = Long.parseLong(configProvider.getValue(A2A_TASK_STORE_REAPER_INTERVAL_SECONDS).trim());
+            String storage = configProvider.getValue(A2A_TASK_STORE_STORAGE).trim().toLowerCase(Locale.ROOT);
+            if (!storage.equals("objects") && !storage.equals("compact")) {
+                throw new IllegalArgumentException("Invalid " + A2A_TASK_STORE_STORAGE + ": " + storage
+                        + " (expected objects or compact)");
+            }
+            compact = storage.equals("compact");
+            decodedCacheSize = Integer.parseInt(configProvider.getValue(A2A_TASK_STORE_DECODED_CACHE_SIZE).trim());
+            long spillThresholdBytes = Long.parseLong(configProvider.getValue(A2A_TASK_STORE_SPILL_THRESHOLD_BYTES).trim());
+            if (spillThresholdBytes > 0 && !compact) {
+                String configured = configProvider.getOptionalValue(A2A_TASK_STORE_BLOB_DIRECTORY)
+                        .map(String::trim).orElse("");
+                temporaryBlobDirectory = configured.isEmpty();
+                blobDirectory = new BlobDirectory(temporaryBlobDirectory ? createTemporaryBlobDirectory()
+                        : Path.of(configured), spillThresholdBytes);
+                LOGGER.info("Spilling file contents larger than {} bytes to {}", spillThresholdBytes,
+                        blobDirectory.getDirectory());
+            }
+        }
+        boolean deferredCapacityEviction = (maxTasks > 0 || maxBytes > 0) && minFinalizedRetentionSeconds > 0;
+        if ((finalizedTtlSeconds > 0 || deferredCapacityEviction) && reaperIntervalSeconds > 0) {
+            LOGGER.info("Starting task store reaper: finalizedTtlSeconds={}, minFinalizedRetentionSeconds={}, "
+                    + "intervalSeconds={}", finalizedTtlSeconds, minFinalizedRetentionSeconds, reaperIntervalSeconds);
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "a2a-task-store-reaper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::reapTasks, reaperIntervalSeconds, reaperIntervalSeconds, TimeUnit.SECONDS);
+            reaper = scheduler;
+        }
+    }
+
+    private static Path createTemporaryBlobDirectory() {
+        try {
+            return Files.createTempDirectory("a2a-blobs");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create a blob directory", e);
+        }
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+            reaper = null;
+        }
+        if (blobDirectory != null && temporaryBlobDirectory) {
+            try {
+                blobDirectory.delete();
+            } catch (UncheckedIOException e) {
+                LOGGER.warn("Failed to delete blob directory {}", blobDirectory.getDirectory(), e);
+            }
+        }
+    }
 
     @Override
     public void save(Task task) {
-        tasks.put(task.id(), task);
+        boolean retention = isRetentionEnabled();
+        StoredTask stored = store(task);
+        // Indexes are updated while holding the task's entry so that concurrent
+        // saves and deletes of the same task cannot leave stale index entries behind
+        tasks.compute(task.id(), (id, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+                // After the new version counted its references, so files it shares are kept
+                releaseBlobs(previous);
+            }
+            index(stored);
+            if (retention) {
+                trackRetention(stored);
+            }
+            // Not cached with the saved task: reads must return what decoding gives, which is not
+            // always equal to the saved task (Integer numbers are read back as Longs, for example)
+            forgetDecoded(id);
+            return stored;
+        });
+        if (retention) {
+            evictOverCapacity(System.nanoTime());
+        }
     }
 
     @Override
     public @Nullable Task get(String taskId) {
-        return tasks.get(taskId);
+        StoredTask stored = tasks.get(taskId);
+        if (stored == null) {
+            return null;
+        }
+        if (isRetentionEnabled() && stored.state.isFinal()) {
+            synchronized (retentionLock) {
+                // Marks the task as the most recently used one
+                finalizedTasks.get(taskId);
+            }
+        }
+        return decode(stored);
     }
 
     @Override
     public void delete(String taskId) {
-        tasks.remove(taskId);
+        tasks.computeIfPresent(taskId, (id, previous) -> {
+            unindex(previous);
+            untrackRetention(previous);
+            forgetDecoded(id);
+            releaseBlobs(previous);
+            return null;
+        });
+    }
+
+    /**
+     * Returns the estimated size of all stored tasks, in bytes. Only maintained in the {@code compact}
+     * storage mode, or while a maximum number of bytes is configured.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    /**
+     * Returns the number of finalized tasks evicted because the maximum number of tasks or bytes was exceeded.
+     *
+     * @return the number of tasks evicted for capacity
+     */
+    public long getCapacityEvictionCount() {
+        return capacityEvictionCount.get();
+    }
+
+    /**
+     * Returns the number of finalized tasks evicted because their finalized TTL elapsed.
+     *
+     * @return the number of expired tasks evicted
+     */
+    public long getExpiredEvictionCount() {
+        return expiredEvictionCount.get();
+    }
+
+    private boolean isRetentionEnabled() {
+        return maxTasks > 0 || maxBytes > 0 || finalizedTtlSeconds > 0;
+    }
+
+    private void trackRetention(StoredTask task) {
+        synchronized (retentionLock) {
+            evictedTaskIds.remove(task.id);
+            if (!task.state.isFinal()) {
+                finalizedTasks.remove(task.id);
+            } else if (finalizedTasks.get(task.id) == null) {
+                // Otherwise it was already finalized: get() marked it as used, keeping the time it was finalized
+                finalizedTasks.put(task.id, System.nanoTime());
+            }
+        }
+    }
+
+    private void untrackRetention(StoredTask task) {
+        if (!isRetentionEnabled()) {
+            return;
+        }
+        synchronized (retentionLock) {
+            finalizedTasks.remove(task.id);
+        }
+    }
+
+    /**
+     * Evicts the least recently used finalized tasks past their minimum retention while the maximum number of
+     * tasks or bytes is exceeded.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the number of evicted tasks
+     */
+    int evictOverCapacity(long nowNanos) {
+        long minRetentionNanos = TimeUnit.SECONDS.toNanos(minFinalizedRetentionSeconds);
+        int evicted = 0;
+        while ((maxTasks > 0 && tasks.size() > maxTasks) || (maxBytes > 0 && estimatedBytes.get() > maxBytes)) {
+            String victim = null;
+            synchronized (retentionLock) {
+                for (Map.Entry<String, Long> entry : finalizedTasks.entrySet()) {
+                    if (nowNanos - entry.getValue() >= minRetentionNanos) {
+                        victim = entry.getKey();
+                        break;
+                    }
+                }
+            }
+            if (victim == null) {
+                // Only active and newly finalized tasks are left, the reaper retries once they can be evicted
+                return evicted;
+            }
+            if (evict(victim)) {
+                capacityEvictionCount.incrementAndGet();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private void reapTasks() {
+        try {
+            long now = System.nanoTime();
+            evictExpiredTasks(now);
+            evictOverCapacity(now);
+        } catch (RuntimeException e) {
+            // Keep the schedule alive, the next run retries
+            LOGGER.warn("Failed to evict tasks", e);
+        }
+    }
+
+    /**
+     * Evicts the tasks that were finalized for longer than the finalized TTL.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the number of evicted tasks
+     */
+    int evictExpiredTasks(long nowNanos) {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(finalizedTtlSeconds);
+        if (ttlNanos <= 0) {
+            return 0;
+        }
+        List<String> expired = new ArrayList<>();
+        synchronized (retentionLock) {
+            for (Map.Entry<String, Long> entry : finalizedTasks.entrySet()) {
+                if (nowNanos - entry.getValue() >= ttlNanos) {
+                    expired.add(entry.getKey());
+                }
+            }
+        }
+        int evicted = 0;
+        for (String taskId : expired) {
+            if (evict(taskId)) {
+                expiredEvictionCount.incrementAndGet();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private boolean evict(String taskId) {
+        boolean[] evicted = new boolean[1];
+        tasks.computeIfPresent(taskId, (id, task) -> {
+            if (!task.state.isFinal()) {
+                // Became active again after it was chosen
+                return task;
+            }
+            unindex(task);
+            untrackRetention(task);
+            forgetDecoded(id);
+            releaseBlobs(task);
+            synchronized (retentionLock) {
+                evictedTaskIds.put(id, Boolean.TRUE);
+            }
+            evicted[0] = true;
+            return null;
+        });
+        if (!evicted[0]) {
+            synchronized (retentionLock) {
+                // Deleted concurrently, or active again: it is no longer an eviction candidate
+                StoredTask task = tasks.get(taskId);
+                if (task == null || !task.state.isFinal()) {
+                    finalizedTasks.remove(taskId);
+                }
+            }
+        } else {
+            LOGGER.debug("Evicted finalized task {}", taskId);
+        }
+        return evicted[0];
+    }
+
+    private StoredTask store(Task task) {
+        if (compact) {
+            byte[] encoded;
+            try {
+                encoded = JsonUtil.toJson(task).getBytes(StandardCharsets.UTF_8);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Failed to encode task " + task.id(), e);
+            }
+            return new StoredTask(task, null, encoded, STORED_TASK_OVERHEAD + encoded.length);
+        }
+        Task stored = blobDirectory != null ? spill(task, blobDirectory) : task;
+        return new StoredTask(stored, stored, null, maxBytes > 0 ? estimateBytes(stored) : 0);
+    }
+
+    /**
+     * Returns the task with the inline file contents of its history and artifacts that are larger than
+     * the threshold moved to the blob directory, or the task itself if there are none.
+     */
+    private static Task spill(Task task, BlobDirectory blobs) {
+        PersistentList<Message> history = PersistentList.copyOf(task.history());
+        PersistentList<Message> spilledHistory = history;
+        for (int i = 0; i < history.size(); i++) {
+            Message message = history.get(i);
+            List<Part<?>> parts = spill(message.parts(), blobs);
+            if (parts != message.parts()) {
+                spilledHistory = spilledHistory.withReplaced(i, Message.builder(message).parts(parts).build());
+            }
+        }
+        PersistentList<Artifact> artifacts = PersistentList.copyOf(task.artifacts());
+        PersistentList<Artifact> spilledArtifacts = artifacts;
+        for (int i = 0; i < artifacts.size(); i++) {
+            Artifact artifact = artifacts.get(i);
+            List<Part<?>> parts = spill(artifact.parts(), blobs);
+            if (parts != artifact.parts()) {
+                spilledArtifacts = spilledArtifacts.withReplaced(i, Artifact.builder(artifact).parts(parts).build());
+            }
+        }
+        if (spilledHistory == history && spilledArtifacts == artifacts) {
+            return task;
+        }
+        return Task.builder(task).history(spilledHistory).artifacts(spilledArtifacts).build();
+    }
+
+    private static List<Part<?>> spill(List<Part<?>> parts, BlobDirectory blobs) {
+        List<Part<?>> spilled = parts;
+        for (int i = 0; i < parts.size(); i++) {
+            if (parts.get(i) instanceof FilePart filePart && filePart.file() instanceof FileWithBytes fileWithBytes) {
+                FileWithBytes spilledFile = blobs.spill(fileWithBytes);
+                if (spilledFile != fileWithBytes) {
+                    if (spilled == parts) {
+                        spilled = new ArrayList<>(parts);
+                    }
+                    spilled.set(i, new FilePart(spilledFile));
+                }
+            }
+        }
+        return spilled;
+    }
+
+    /**
+     * Drops the references of a stored task version to files of the blob directory.
+     */
+    private void releaseBlobs(StoredTask stored) {
+        BlobDirectory blobs = blobDirectory;
+        Task task = stored.task;
+        if (blobs == null || task == null) {
+            return;
+        }
+        for (Message message : task.history()) {
+            releaseBlobs(message.parts(), blobs);
+        }
+        for (Artifact artifact : task.artifacts()) {
+            releaseBlobs(artifact.parts(), blobs);
+        }
+    }
+
+    private static void releaseBlobs(List<Part<?>> parts, BlobDirectory blobs) {
+        for (Part<?> part : parts) {
+            if (part instanceof FilePart filePart && filePart.file() instanceof FileWithBytes fileWithBytes) {
+                blobs.release(fileWithBytes.content());
+            }
+        }
+    }
+
+    private Task decode(StoredTask stored) {
+        Task task = stored.task;
+        byte[] encoded = stored.encoded;
+        if (task != null || encoded == null) {
+            // Exactly one of them is set
+            return Objects.requireNonNull(task);
+        }
+        synchronized (decodedTasks) {
+            StoredTask decoded = decodedTasks.get(stored.id);
+            // Entries of a previous version of the task are ignored, they are replaced below
+            if (decoded != null && decoded.encoded == encoded && decoded.task != null) {
+                return decoded.task;
+            }
+        }
+        try {
+            task = JsonUtil.fromJson(new String(encoded, StandardCharsets.UTF_8), Task.class);
+        } catch (JsonProcessingException e) {
+            // Only ever parses bytes this store encoded
+            throw new IllegalStateException("Failed to decode stored task " + stored.id, e);
+        }
+        if (decodedCacheSize > 0) {
+            synchronized (decodedTasks) {
+                // Unless it was replaced or removed in the meantime
+                if (tasks.get(stored.id) == stored) {
+                    decodedTasks.put(stored.id, stored.withDecoded(task));
+                }
+            }
+        }
+        return task;
+    }
+
+    private void forgetDecoded(String taskId) {
+        if (compact) {
+            synchronized (decodedTasks) {
+                decodedTasks.remove(taskId);
+            }
+        }
+    }
+
+    /**
+     * Returns a rough estimate of the memory held by a task: a fixed overhead per task, message,
+     * artifact and part, plus the length of text and data content and the size of the inline file content
+     * held in memory.
+     */
+    static long estimateBytes(Task task) {
+        long bytes = 256;
+        List<Message> history = task.history();
+        if (history != null) {
+            for (Message message : history) {
+                bytes += 128 + estimateBytes(message.parts());
+            }
+        }
+        List<Artifact> artifacts = task.artifacts();
+        if (artifacts != null) {
+            for (Artifact artifact : artifacts) {
+                bytes += 128 + estimateBytes(artifact.parts());
+            }
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(@Nullable List<Part<?>> parts) {
+        if (parts == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (Part<?> part : parts) {
+            bytes += 64;
+            if (part instanceof TextPart textPart) {
+                bytes += textPart.text().length();
+            } else if (part instanceof FilePart filePart && filePart.file() instanceof FileWithBytes fileWithBytes
+                    && fileWithBytes.content().file() == null) {
+                // Contents moved to the blob directory hold no memory
+                bytes += fileWithBytes.content().size();
+            } else if (part instanceof DataPart dataPart) {
+                bytes += dataPart.data().toString().length();
+            }
+        }
+        return bytes;
     }
 
     @Override
     public ListTasksResult list(ListTasksParams params) {
-        // Filter and sort tasks in a single stream pipeline
-        List<Task> allFilteredTasks = tasks.values().stream()
-                .filter(task -> params.contextId() == null || params.contextId().equals(task.contextId()))
-                .filter(task -> params.status() == null ||
-                        (task.status() != null && params.status().equals(task.status().state())))
-                .filter(task -> params.lastUpdatedAfter() == null ||
-                        (task.status() != null &&
-                         task.status().timestamp() != null &&
-                         task.status().timestamp().toInstant().isAfter(params.lastUpdatedAfter())))
-                .sorted(Comparator.comparing(
-                        (Task t) -> (t.status() != null && t.status().timestamp() != null)
-                                // Truncate to milliseconds for consistency with pageToken precision
-                                ? t.status().timestamp().toInstant().truncatedTo(java.time.temporal.ChronoUnit.MILLIS)
-                                : null,
-                        Comparator.nullsLast(Comparator.reverseOrder()))
-                        .thenComparing(Task::id))
-                .toList();
+        TaskIndex index = selectIndex(params);
+        if (index == null) {
+            return new ListTasksResult(List.of(), 0, 0, null);
+        }
 
-        int totalSize = allFilteredTasks.size();
+        // Tasks are ordered by last update descending, so the tasks updated after lastUpdatedAfter
+        // are a prefix of the index: everything before the first task of the previous millisecond
+        Instant updatedAfter = params.lastUpdatedAfter();
+        @Nullable SortKey cutoff = updatedAfter == null ? null
+                : new SortKey(updatedAfter.truncatedTo(ChronoUnit.MILLIS).minusMillis(1), "");
+        ConcurrentNavigableMap<SortKey, StoredTask> candidates = cutoff == null ? index.tasks : index.tasks.headMap(cutoff);
 
-        // Apply pagination
-        int pageSize = params.getEffectivePageSize();
-        int startIndex = 0;
+        // With at most one of the context and state filters, the selected index holds exactly
+        // the matching tasks and its size is maintained incrementally
+        int totalSize;
+        if (cutoff == null && (params.contextId() == null || params.status() == null)) {
+            totalSize = index.size();
+        } else {
+            totalSize = (int) candidates.values().stream().filter(task -> matches(task, params)).count();
+        }
 
         // Handle page token using keyset pagination (format: "timestamp_millis:taskId")
-        // Use binary search to efficiently find the first task after the pageToken position (O(log N))
+        ConcurrentNavigableMap<SortKey, StoredTask> remaining = candidates;
         if (params.pageToken() != null && !params.pageToken().isEmpty()) {
-            String[] tokenParts = params.pageToken().split(":", 2);
-            if (tokenParts.length == 2) {
-                try {
-                    long tokenTimestampMillis = Long.parseLong(tokenParts[0]);
-                    java.time.Instant tokenTimestamp = java.time.Instant.ofEpochMilli(tokenTimestampMillis);
-                    String tokenId = tokenParts[1];
-
-                    // Binary search for first task where: timestamp < tokenTimestamp OR (timestamp == tokenTimestamp AND id > tokenId)
-                    // Since list is sorted (timestamp DESC, id ASC), we search for the insertion point
-                    int left = 0;
-                    int right = allFilteredTasks.size();
-
-                    while (left < right) {
-                        int mid = left + (right - left) / 2;
-                        Task task = allFilteredTasks.get(mid);
-
-                        // All tasks have timestamps (TaskStatus canonical constructor ensures this)
-                        // Truncate to milliseconds for consistency with pageToken precision
-                        java.time.Instant taskTimestamp = task.status().timestamp().toInstant()
-                                .truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
-                        int timestampCompare = taskTimestamp.compareTo(tokenTimestamp);
-
-                        if (timestampCompare < 0 || (timestampCompare == 0 && task.id().compareTo(tokenId) > 0)) {
-                            // This task is after the token, search left half
-                            right = mid;
-                        } else {
-                            // This task is before or equal to token, search right half
-                            left = mid + 1;
-                        }
-                    }
-                    startIndex = left;
-                } catch (NumberFormatException e) {
-                    // Malformed timestamp in pageToken
-                    throw new io.a2a.spec.InvalidParamsError(null,
-                        "Invalid pageToken format: timestamp must be numeric milliseconds", null);
-                }
-            } else {
-                // Legacy ID-only pageToken format is not supported with timestamp-based sorting
-                // Throw error to prevent incorrect pagination results
-                throw new io.a2a.spec.InvalidParamsError(null, "Invalid pageToken format: expected 'timestamp:id'", null);
-            }
+            remaining = candidates.tailMap(parsePageToken(params.pageToken()), false);
         }
 
-        // Get the page of tasks
-        int endIndex = Math.min(startIndex + pageSize, allFilteredTasks.size());
-        List<Task> pageTasks = allFilteredTasks.subList(startIndex, endIndex);
+        // Read one task past the page to know whether there is a next page
+        int pageSize = params.getEffectivePageSize();
+        List<StoredTask> pageTasks = new ArrayList<>(Math.min(pageSize, 64));
+        boolean hasMore = false;
+        for (StoredTask task : remaining.values()) {
+            if (!matches(task, params)) {
+                continue;
+            }
+            if (pageTasks.size() == pageSize) {
+                hasMore = true;
+                break;
+            }
+            pageTasks.add(task);
+        }
 
         // Determine next page token (format: "timestamp_millis:taskId")
         String nextPageToken = null;
-        if (endIndex < allFilteredTasks.size()) {
-            Task lastTask = allFilteredTasks.get(endIndex - 1);
-            // All tasks have timestamps (TaskStatus canonical constructor ensures this)
-            long timestampMillis = lastTask.status().timestamp().toInstant().toEpochMilli();
-            nextPageToken = timestampMillis + ":" + lastTask.id();
+        if (hasMore && !pageTasks.isEmpty()) {
+            StoredTask lastTask = pageTasks.get(pageTasks.size() - 1);
+            nextPageToken = lastTask.updated.toEpochMilli() + ":" + lastTask.id;
         }
 
         // Transform tasks: limit history and optionally remove artifacts
@@ -135,12 +718,91 @@ public class InMemoryTaskStore implements TaskStore, TaskStateProvider {
         boolean includeArtifacts = params.shouldIncludeArtifacts();
 
         List<Task> transformedTasks = pageTasks.stream()
-                .map(task -> transformTask(task, historyLength, includeArtifacts))
+                .map(task -> transformTask(decode(task), historyLength, includeArtifacts))
                 .toList();
 
         return new ListTasksResult(transformedTasks, totalSize, transformedTasks.size(), nextPageToken);
     }
 
+    /**
+     * Returns the smallest index holding every task that may match the filters,
+     * or {@code null} if no task can match.
+     */
+    private @Nullable TaskIndex selectIndex(ListTasksParams params) {
+        TaskIndex index = allTasks;
+        if (params.contextId() != null) {
+            index = tasksByContext.get(params.contextId());
+            if (index == null) {
+                return null;
+            }
+        }
+        if (params.status() != null) {
+            TaskIndex stateIndex = tasksByState.get(params.status());
+            if (stateIndex == null) {
+                return null;
+            }
+            if (stateIndex.size() < index.size()) {
+                index = stateIndex;
+            }
+        }
+        return index;
+    }
+
+    private static boolean matches(StoredTask task, ListTasksParams params) {
+        return (params.contextId() == null || params.contextId().equals(task.contextId))
+                && (params.status() == null || params.status() == task.state)
+                && (params.lastUpdatedAfter() == null || task.updated.isAfter(params.lastUpdatedAfter()));
+    }
+
+    private static SortKey parsePageToken(String pageToken) {
+        String[] tokenParts = pageToken.split(":", 2);
+        if (tokenParts.length != 2) {
+            // Legacy ID-only pageToken format is not supported with timestamp-based sorting
+            // Throw error to prevent incorrect pagination results
+            throw new io.a2a.spec.InvalidParamsError(null, "Invalid pageToken format: expected 'timestamp:id'", null);
+        }
+        try {
+            return new SortKey(Instant.ofEpochMilli(Long.parseLong(tokenParts[0])), tokenParts[1]);
+        } catch (NumberFormatException e) {
+            // Malformed timestamp in pageToken
+            throw new io.a2a.spec.InvalidParamsError(null,
+                "Invalid pageToken format: timestamp must be numeric milliseconds", null);
+        }
+    }
+
+    private void index(StoredTask task) {
+        SortKey key = SortKey.of(task);
+        allTasks.add(key, task);
+        // Per-context and per-state indexes are only created and removed inside compute()
+        // so that a concurrent removal of an emptied index cannot drop a new entry
+        tasksByContext.compute(task.contextId, (contextId, index) -> add(index, key, task));
+        tasksByState.compute(task.state, (state, index) -> add(index, key, task));
+        if (task.estimatedBytes > 0) {
+            estimatedBytes.addAndGet(task.estimatedBytes);
+        }
+    }
+
+    private void unindex(StoredTask task) {
+        SortKey key = SortKey.of(task);
+        allTasks.remove(key);
+        tasksByContext.computeIfPresent(task.contextId, (contextId, index) -> remove(index, key));
+        tasksByState.computeIfPresent(task.state, (state, index) -> remove(index, key));
+        if (task.estimatedBytes > 0) {
+            estimatedBytes.addAndGet(-task.estimatedBytes);
+        }
+    }
+
+    private static TaskIndex add(@Nullable TaskIndex index, SortKey key, StoredTask task) {
+        TaskIndex result = index == null ? new TaskIndex() : index;
+        result.add(key, task);
+        return result;
+    }
+
+    private static @Nullable TaskIndex remove(TaskIndex index, SortKey key) {
+        index.remove(key);
+        return index.size() == 0 ? null : index;
+    }
+
     private Task transformTask(Task task, int historyLength, boolean includeArtifacts) {
         // Limit history if needed (keep most recent N messages)
         List<Message> history = task.history();
@@ -165,23 +827,100 @@ public class InMemoryTaskStore implements TaskStore, TaskStateProvider {
 
     @Override
     public boolean isTaskActive(String taskId) {
-        Task task = tasks.get(taskId);
+        StoredTask task = tasks.get(taskId);
         if (task == null) {
             return false;
         }
         // Task is active if not in final state
-        return task.status() == null || task.status().state() == null || !task.status().state().isFinal();
+        return !task.state.isFinal();
     }
 
     @Override
     public boolean isTaskFinalized(String taskId) {
-        Task task = tasks.get(taskId);
+        StoredTask task = tasks.get(taskId);
         if (task == null) {
-            return false;
+            if (!isRetentionEnabled()) {
+                return false;
+            }
+            // Only finalized tasks are evicted
+            synchronized (retentionLock) {
+                return evictedTaskIds.containsKey(taskId);
+            }
         }
         // Task is finalized if in final state (ignores grace period)
-        return task.status() != null
-                && task.status().state() != null
-                && task.status().state().isFinal();
+        return task.state.isFinal();
+    }
+
+    /**
+     * A stored task: the fields the indexes and state checks need, and either the task itself or,
+     * in the {@code compact} storage mode, its JSON encoding.
+     */
+    private static final class StoredTask {
+        final String id;
+        final String contextId;
+        final TaskState state;
+        final Instant updated;
+        final @Nullable Task task;
+        final byte @Nullable [] encoded;
+        final long estimatedBytes;
+
+        StoredTask(Task source, @Nullable Task task, byte @Nullable [] encoded, long estimatedBytes) {
+            this.id = source.id();
+            this.contextId = source.contextId();
+            this.state = source.status().state();
+            // All tasks have timestamps (TaskStatus canonical constructor ensures this)
+            this.updated = source.status().timestamp().toInstant();
+            this.task = task;
+            this.encoded = encoded;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        StoredTask withDecoded(Task decoded) {
+            return new StoredTask(decoded, decoded, encoded, estimatedBytes);
+        }
+    }
+
+    /**
+     * Position of a task in the listing order: last update descending, truncated to milliseconds for
+     * consistency with the page token precision, then id ascending.
+     */
+    private record SortKey(Instant timestamp, String taskId) implements Comparable<SortKey> {
+
+        private static final Comparator<SortKey> ORDER = Comparator.comparing(SortKey::timestamp, Comparator.reverseOrder())
+                .thenComparing(SortKey::taskId);
+
+        static SortKey of(StoredTask task) {
+            return new SortKey(task.updated.truncatedTo(ChronoUnit.MILLIS), task.id);
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Tasks ordered by {@link SortKey}, with a size maintained on every change since
+     * {@link ConcurrentSkipListMap#size()} is linear.
+     */
+    private static final class TaskIndex {
+        private final ConcurrentNavigableMap<SortKey, StoredTask> tasks = new ConcurrentSkipListMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        void add(SortKey key, StoredTask task) {
+            if (tasks.put(key, task) == null) {
+                size.incrementAndGet();
+            }
+        }
+
+        void remove(SortKey key) {
+            if (tasks.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+
+        int size() {
+            return size.get();
+        }
     }
 }
@@ -66,9 +66,31 @@ public class ResultAggregator {
     }
 
     public EventKind consumeAll(EventConsumer consumer) throws A2AError {
-        AtomicReference<EventKind> returnedEvent = new AtomicReference<>();
+        try {
+            return consumeAllAsync(consumer).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause != null) {
+                Utils.rethrow(cause);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Consumes all events like {@link #consumeAll(EventConsumer)}, without waiting for consumption to finish.
+     * <p>
+     * With a polling {@link EventConsumer} the events are consumed on the calling thread before this method
+     * returns. With a push-based consumer this method returns immediately and the future completes on the
+     * consumer's executor.
+     * </p>
+     *
+     * @param consumer the consumer to read events from
+     * @return a future completed with the first {@link Message}, or else the final {@link Task}
+     */
+    public CompletableFuture<EventKind> consumeAllAsync(EventConsumer consumer) {
+        CompletableFuture<EventKind> result = new CompletableFuture<>();
         Flow.Publisher<EventQueueItem> allItems = consumer.consumeAll();
-        AtomicReference<Throwable> error = new AtomicReference<>();
         consumer(
                 createTubeConfig(),
                 allItems,
@@ -76,8 +98,8 @@ public class ResultAggregator {
                     Event event = item.getEvent();
                     if (event instanceof Message msg) {
                         message = msg;
-                        if (returnedEvent.get() == null) {
-                            returnedEvent.set(msg);
+                        if (!result.isDone()) {
+                            result.complete(msg);
                             return false;
                         }
                     }
@@ -86,31 +108,54 @@ public class ResultAggregator {
                         try {
                             callTaskManagerProcess(event);
                         } catch (A2AServerException e) {
-                            error.set(e);
+                            result.completeExceptionally(e);
                             return false;
                         }
                     }
                     return true;
                 },
-                error::set);
-
-        Throwable err = error.get();
-        if (err != null) {
-            Utils.rethrow(err);
-        }
+                throwable -> {
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                        return;
+                    }
+                    Task task = taskManager.getTask();
+                    if (task == null) {
+                        result.completeExceptionally(
+                                new io.a2a.spec.InternalError("No task or message available after consuming all events"));
+                    } else {
+                        result.complete(task);
+                    }
+                });
+        return result;
+    }
 
-        EventKind result = returnedEvent.get();
-        if (result != null) {
-            return result;
-        }
-        Task task = taskManager.getTask();
-        if (task == null) {
-            throw new io.a2a.spec.InternalError("No task or message available after consuming all events");
+    public EventTypeAndInterrupt consumeAndBreakOnInterrupt(EventConsumer consumer, boolean blocking) throws A2AError {
+        try {
+            return consumeAndBreakOnInterruptAsync(consumer, blocking).join();
+        } catch (CompletionException e) {
+            // CompletionException wraps the actual exception
+            Throwable cause = e.getCause();
+            if (cause != null) {
+                Utils.rethrow(cause);
+            }
+            throw e;
         }
-        return task;
     }
 
-    public EventTypeAndInterrupt consumeAndBreakOnInterrupt(EventConsumer consumer, boolean blocking) throws A2AError {
+    /**
+     * Consumes events like {@link #consumeAndBreakOnInterrupt(EventConsumer, boolean)}, without waiting for
+     * the first result.
+     * <p>
+     * The returned future completes, on the consuming thread, as soon as consumption is interrupted or done;
+     * consumption may continue in the background as tracked by {@link EventTypeAndInterrupt#consumptionFuture()}.
+     * </p>
+     *
+     * @param consumer the consumer to read events from
+     * @param blocking whether the request is a blocking one
+     * @return a future completed with the first result, or completed exceptionally with the consumption error
+     */
+    public CompletableFuture<EventTypeAndInterrupt> consumeAndBreakOnInterruptAsync(EventConsumer consumer, boolean blocking) {
         Flow.Publisher<EventQueueItem> allItems = consumer.consumeAll();
         AtomicReference<Message> message = new AtomicReference<>();
         AtomicBoolean interrupted = new AtomicBoolean(false);
@@ -239,44 +284,32 @@ public class ResultAggregator {
             );
         }, executor);
 
-        // Wait for completion or interruption
-        try {
-            completionFuture.join();
-        } catch (CompletionException e) {
-            // CompletionException wraps the actual exception
-            Throwable cause = e.getCause();
-            if (cause != null) {
-                Utils.rethrow(cause);
-            } else {
-                throw e;
-            }
-        }
-
-        // Note: For blocking calls that were interrupted, the wait logic has been moved
-        // to DefaultRequestHandler.onMessageSend() to avoid blocking Vert.x worker threads.
+        // Note: For blocking calls that were interrupted, the wait logic lives in
+        // DefaultRequestHandler.onMessageSendAsync() to avoid blocking Vert.x worker threads.
         // Queue lifecycle is managed by DefaultRequestHandler.cleanupProducer()
+        return completionFuture.thenApply(ignored -> {
+            Throwable error = errorRef.get();
+            if (error != null) {
+                Utils.rethrow(error);
+            }
 
-        Throwable error = errorRef.get();
-        if (error != null) {
-            Utils.rethrow(error);
-        }
-
-        EventKind eventType;
-        Message msg = message.get();
-        if (msg != null) {
-            eventType = msg;
-        } else {
-            Task task = taskManager.getTask();
-            if (task == null) {
-                throw new io.a2a.spec.InternalError("No task or message available after consuming events");
+            EventKind eventType;
+            Message msg = message.get();
+            if (msg != null) {
+                eventType = msg;
+            } else {
+                Task task = taskManager.getTask();
+                if (task == null) {
+                    throw new io.a2a.spec.InternalError("No task or message available after consuming events");
+                }
+                eventType = task;
             }
-            eventType = task;
-        }
 
-        return new EventTypeAndInterrupt(
-                eventType,
-                interrupted.get(),
-                consumptionCompletionFuture);
+            return new EventTypeAndInterrupt(
+                    eventType,
+                    interrupted.get(),
+                    consumptionCompletionFuture);
+        });
     }
 
     private void callTaskManagerProcess(Event event) throws A2AServerException {
@@ -4,7 +4,6 @@ import static io.a2a.spec.TaskState.SUBMITTED;
 import static io.a2a.util.Assert.checkNotNullParam;
 import static io.a2a.util.Utils.appendArtifactToTask;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -18,6 +17,8 @@ import io.a2a.spec.Task;
 import io.a2a.spec.TaskArtifactUpdateEvent;
 import io.a2a.spec.TaskStatus;
 import io.a2a.spec.TaskStatusUpdateEvent;
+import io.a2a.util.ArtifactIndex;
+import io.a2a.util.PersistentList;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +32,8 @@ public class TaskManager {
     private final TaskStore taskStore;
     private final @Nullable Message initialMessage;
     private volatile @Nullable Task currentTask;
+    // Positions of the current task's artifacts, so that artifact updates do not scan them
+    private final ArtifactIndex artifactIndex = new ArtifactIndex();
 
     public TaskManager(@Nullable String taskId, @Nullable String contextId, TaskStore taskStore, @Nullable Message initialMessage) {
         checkNotNullParam("taskStore", taskStore);
@@ -73,9 +76,7 @@ public class TaskManager {
                 .status(event.status());
 
         if (task.status().message() != null) {
-            List<Message> newHistory = task.history() == null ? new ArrayList<>() : new ArrayList<>(task.history());
-            newHistory.add(task.status().message());
-            builder.history(newHistory);
+            builder.history(PersistentList.copyOf(task.history()).withAppended(task.status().message()));
         }
 
         // Handle metadata from the event
@@ -97,7 +98,7 @@ public class TaskManager {
         if (nonNullTaskId == null) {
             throw new IllegalStateException("taskId should not be null after checkIdsAndUpdateIfNecessary");
         }
-        task = appendArtifactToTask(task, event, nonNullTaskId);
+        task = appendArtifactToTask(task, event, nonNullTaskId, artifactIndex);
         return saveTask(task);
     }
 
@@ -113,14 +114,14 @@ public class TaskManager {
     }
 
     public Task updateWithMessage(Message message, Task task) {
-        List<Message> history = new ArrayList<>(task.history());
+        PersistentList<Message> history = PersistentList.copyOf(task.history());
 
         TaskStatus status = task.status();
         if (status.message() != null) {
-            history.add(status.message());
+            history = history.withAppended(status.message());
             status = new TaskStatus(status.state(), null, status.timestamp());
         }
-        history.add(message);
+        history = history.withAppended(message);
         task = Task.builder(task)
                 .status(status)
                 .history(history)
@@ -36,6 +36,8 @@ import org.jspecify.annotations.Nullable;
  * <h2>Alternative Implementations</h2>
  * <ul>
  *   <li><b>extras/task-store-database-jpa:</b> {@code JpaDatabaseTaskStore} with PostgreSQL/MySQL persistence</li>
+ *   <li>{@link WriteBehindTaskStore}: decorator that coalesces the saves of a task and writes them to
+ *   another store in the background</li>
  * </ul>
  * Database implementations:
  * <ul>
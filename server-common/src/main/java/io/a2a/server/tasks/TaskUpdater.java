@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.a2a.server.agentexecution.RequestContext;
 import io.a2a.server.events.EventQueue;
@@ -21,7 +22,7 @@ public class TaskUpdater {
     private final @Nullable String taskId;
     private final @Nullable String contextId;
     private final AtomicBoolean terminalStateReached = new AtomicBoolean(false);
-    private final Object stateLock = new Object();
+    private final ReentrantLock stateLock = new ReentrantLock();
 
     public TaskUpdater(RequestContext context, EventQueue eventQueue) {
         this.eventQueue = eventQueue;
@@ -38,7 +39,9 @@ public class TaskUpdater {
     }
 
     public void updateStatus(TaskState state, @Nullable Message message, boolean isFinal) {
-        synchronized (stateLock) {
+        // The enqueue may wait for consumers, so use a lock that does not pin a virtual thread's carrier
+        stateLock.lock();
+        try {
             // Check if we're already in a terminal state
             if (terminalStateReached.get()) {
                 throw new IllegalStateException("Cannot update task status - terminal state already reached");
@@ -56,6 +59,8 @@ public class TaskUpdater {
                     .status(new TaskStatus(state, message, null))
                     .build();
             eventQueue.enqueueEvent(event);
+        } finally {
+            stateLock.unlock();
         }
     }
 
@@ -0,0 +1,298 @@
+package io.a2a.server.tasks;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.a2a.jsonrpc.common.wrappers.ListTasksResult;
+import io.a2a.spec.ListTasksParams;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TaskStore} decorator that buffers the latest version of each task and writes it to the
+ * delegate store in the background.
+ * <p>
+ * {@link TaskManager} saves a task for every event it processes, so a streaming agent causes one
+ * write per status update and artifact chunk. This decorator keeps only the latest unsaved version of
+ * each task and writes it to the delegate:
+ * </p>
+ * <ul>
+ *   <li>every flush interval, for all buffered tasks,</li>
+ *   <li>once a task was saved the maximum number of pending saves times since its last write,</li>
+ *   <li>immediately, on the calling thread, when a task reaches a final state or an interrupted
+ *   state ({@link TaskState#INPUT_REQUIRED INPUT_REQUIRED} or {@link TaskState#AUTH_REQUIRED AUTH_REQUIRED}),
+ *   so the delegate's behaviour at those points, such as firing a task finalized event, is unchanged,</li>
+ *   <li>before {@link #list(ListTasksParams)}, and on {@link #close()}.</li>
+ * </ul>
+ * <p>
+ * {@link #get(String)} and the {@link TaskStateProvider} methods read buffered tasks from the buffer.
+ * Writes of one task are never reordered. A background write that fails is logged and retried at the
+ * next flush; buffered versions are lost if the process stops before they are written.
+ * </p>
+ * <p>
+ * The decorator is not a CDI bean. To use it, produce it around the store to decorate:
+ * </p>
+ * <pre>{@code
+ * @Produces
+ * @Alternative
+ * @Priority(100)
+ * @ApplicationScoped
+ * WriteBehindTaskStore writeBehindTaskStore(JpaDatabaseTaskStore delegate) {
+ *     return new WriteBehindTaskStore(delegate, 200, 50);
+ * }
+ *
+ * void close(@Disposes WriteBehindTaskStore store) {
+ *     store.close();
+ * }
+ * }</pre>
+ */
+public class WriteBehindTaskStore implements TaskStore, TaskStateProvider, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindTaskStore.class);
+    // Writes of the same task are serialized on one of these locks. They are held during delegate I/O, so
+    // they are ReentrantLocks rather than monitors, which would pin a virtual thread to its carrier.
+    private static final int LOCK_STRIPES = 64;
+
+    private final TaskStore delegate;
+    private final int maxPendingSaves;
+    private final ConcurrentMap<String, PendingTask> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final ScheduledExecutorService flusher;
+    private final AtomicLong coalescedSaveCount = new AtomicLong();
+    private final AtomicLong writeCount = new AtomicLong();
+
+    /**
+     * Creates a write-behind store.
+     *
+     * @param delegate the store tasks are written to
+     * @param flushIntervalMillis how often all buffered tasks are written
+     * @param maxPendingSaves number of saves of a task after which it is written without waiting for the
+     *                        flush interval; 1 writes every save in the background
+     */
+    public WriteBehindTaskStore(TaskStore delegate, long flushIntervalMillis, int maxPendingSaves) {
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("flushIntervalMillis must be positive: " + flushIntervalMillis);
+        }
+        if (maxPendingSaves <= 0) {
+            throw new IllegalArgumentException("maxPendingSaves must be positive: " + maxPendingSaves);
+        }
+        this.delegate = delegate;
+        this.maxPendingSaves = maxPendingSaves;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "a2a-task-store-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushInBackground, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void save(Task task) {
+        PendingTask buffered = pending.merge(task.id(), new PendingTask(task, 1),
+                (previous, latest) -> new PendingTask(task, previous.saves + 1));
+        if (buffered.saves > 1) {
+            coalescedSaveCount.incrementAndGet();
+        }
+        TaskState state = task.status().state();
+        if (state.isFinal() || state == TaskState.INPUT_REQUIRED || state == TaskState.AUTH_REQUIRED) {
+            flush(task.id());
+        } else if (buffered.saves >= maxPendingSaves) {
+            // Also past the maximum, in case the write scheduled at the maximum failed
+            try {
+                flusher.execute(() -> flushQuietly(task.id()));
+            } catch (RejectedExecutionException e) {
+                // Closed: the task is written by the caller instead
+                flush(task.id());
+            }
+        }
+    }
+
+    @Override
+    public @Nullable Task get(String taskId) {
+        PendingTask buffered = pending.get(taskId);
+        if (buffered != null) {
+            return buffered.task;
+        }
+        return delegate.get(taskId);
+    }
+
+    @Override
+    public void delete(String taskId) {
+        ReentrantLock lock = lock(taskId);
+        lock.lock();
+        try {
+            pending.remove(taskId);
+            delegate.delete(taskId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes all buffered tasks, then lists the tasks of the delegate store.
+     */
+    @Override
+    public ListTasksResult list(ListTasksParams params) {
+        flush();
+        return delegate.list(params);
+    }
+
+    @Override
+    public boolean isTaskActive(String taskId) {
+        PendingTask buffered = pending.get(taskId);
+        if (buffered != null) {
+            return !buffered.task.status().state().isFinal();
+        }
+        return delegate instanceof TaskStateProvider provider
+                ? provider.isTaskActive(taskId)
+                : isActive(delegate.get(taskId));
+    }
+
+    @Override
+    public boolean isTaskFinalized(String taskId) {
+        PendingTask buffered = pending.get(taskId);
+        if (buffered != null) {
+            return buffered.task.status().state().isFinal();
+        }
+        return delegate instanceof TaskStateProvider provider
+                ? provider.isTaskFinalized(taskId)
+                : isFinalized(delegate.get(taskId));
+    }
+
+    /**
+     * Writes all buffered tasks to the delegate store.
+     *
+     * @throws RuntimeException the first failure of the delegate; the remaining tasks are still written
+     */
+    public void flush() {
+        RuntimeException failure = null;
+        for (String taskId : List.copyOf(pending.keySet())) {
+            try {
+                flush(taskId);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Stops the background flushes and writes all buffered tasks.
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timed out waiting for background task writes to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * Returns the number of tasks waiting to be written.
+     *
+     * @return the number of buffered tasks
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of saves that replaced a buffered version of the same task instead of being written.
+     *
+     * @return the number of coalesced saves
+     */
+    public long getCoalescedSaveCount() {
+        return coalescedSaveCount.get();
+    }
+
+    /**
+     * Returns the number of saves performed on the delegate store.
+     *
+     * @return the number of writes
+     */
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    private void flush(String taskId) {
+        ReentrantLock lock = lock(taskId);
+        lock.lock();
+        try {
+            // The latest version is written under the task's lock, so a write never overtakes a newer one
+            PendingTask buffered = pending.get(taskId);
+            if (buffered == null) {
+                return;
+            }
+            delegate.save(buffered.task);
+            writeCount.incrementAndGet();
+            if (!pending.remove(taskId, buffered)) {
+                // Saved again during the write: only count the saves since the written version
+                pending.computeIfPresent(taskId,
+                        (id, latest) -> new PendingTask(latest.task, latest.saves - buffered.saves));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushQuietly(String taskId) {
+        try {
+            flush(taskId);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to write task {}, retrying at the next flush", taskId, e);
+        }
+    }
+
+    private void flushInBackground() {
+        for (String taskId : List.copyOf(pending.keySet())) {
+            flushQuietly(taskId);
+        }
+    }
+
+    private ReentrantLock lock(String taskId) {
+        return locks[Math.floorMod(taskId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static boolean isActive(@Nullable Task task) {
+        return task != null && !task.status().state().isFinal();
+    }
+
+    private static boolean isFinalized(@Nullable Task task) {
+        return task != null && task.status().state().isFinal();
+    }
+
+    // Compared by identity, so that a flushed version is only removed if it was not saved again
+    private static final class PendingTask {
+        final Task task;
+        final int saves;
+
+        PendingTask(Task task, int saves) {
+            this.task = task;
+            this.saves = saves;
+        }
+    }
+}
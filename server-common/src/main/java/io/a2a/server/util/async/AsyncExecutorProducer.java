@@ -1,12 +1,19 @@
 package io.a2a.server.util.async;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -26,6 +33,10 @@ public class AsyncExecutorProducer {
     private static final String A2A_EXECUTOR_CORE_POOL_SIZE = "a2a.executor.core-pool-size";
     private static final String A2A_EXECUTOR_MAX_POOL_SIZE = "a2a.executor.max-pool-size";
     private static final String A2A_EXECUTOR_KEEP_ALIVE_SECONDS = "a2a.executor.keep-alive-seconds";
+    private static final String A2A_EXECUTOR_QUEUE_CAPACITY = "a2a.executor.queue-capacity";
+    private static final String A2A_EXECUTOR_MODE = "a2a.executor.mode";
+    private static final String EXECUTOR_MODE_VIRTUAL = "virtual";
+    private static final String THREAD_NAME_PREFIX = "a2a-agent-executor-";
 
     @Inject
     A2AConfigProvider configProvider;
@@ -57,27 +68,100 @@ public class AsyncExecutorProducer {
      */
     long keepAliveSeconds;
 
+    /**
+     * Capacity of the queue holding tasks that wait for a pool thread.
+     * <p>
+     * Tasks are queued once the core threads are busy; when the queue is full the pool grows up to its
+     * maximum size, and beyond that submissions are rejected, which request handlers report as a retryable
+     * {@link io.a2a.spec.ServerBusyError}. 0 hands tasks directly to a thread without queueing. Not used
+     * with virtual threads.
+     * <p>
+     * Property: {@code a2a.executor.queue-capacity}<br>
+     * Default: 1000<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     */
+    int queueCapacity;
+
+    /**
+     * Whether agents run on virtual threads, one per task, instead of the platform thread pool.
+     * <p>
+     * Agents spend most of their time blocked on I/O, so a virtual thread per task removes the need to size
+     * the pool for the number of concurrent tasks; the pool size settings are then ignored. Requires Java 21
+     * or later at runtime, older runtimes fall back to the platform thread pool with a warning.
+     * <p>
+     * Property: {@code a2a.executor.mode} ({@code platform} or {@code virtual})<br>
+     * Default: platform<br>
+     * Note: Property override requires a configurable {@link A2AConfigProvider} on the classpath.
+     */
+    boolean virtualThreads;
+
     private @Nullable ExecutorService executor;
+    private final AtomicLong rejectedCount = new AtomicLong();
 
     @PostConstruct
     public void init() {
         corePoolSize = Integer.parseInt(configProvider.getValue(A2A_EXECUTOR_CORE_POOL_SIZE));
         maxPoolSize = Integer.parseInt(configProvider.getValue(A2A_EXECUTOR_MAX_POOL_SIZE));
         keepAliveSeconds = Long.parseLong(configProvider.getValue(A2A_EXECUTOR_KEEP_ALIVE_SECONDS));
+        queueCapacity = Integer.parseInt(configProvider.getValue(A2A_EXECUTOR_QUEUE_CAPACITY));
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException(A2A_EXECUTOR_QUEUE_CAPACITY + " must not be negative: " + queueCapacity);
+        }
+        virtualThreads = EXECUTOR_MODE_VIRTUAL.equalsIgnoreCase(configProvider.getValue(A2A_EXECUTOR_MODE).trim());
+
+        if (virtualThreads) {
+            executor = newVirtualThreadPerTaskExecutor();
+            if (executor != null) {
+                LOGGER.info("Initializing async executor: virtual thread per task");
+                return;
+            }
+            LOGGER.warn("Virtual threads require Java 21 or later, falling back to the platform thread pool");
+        }
 
-        LOGGER.info("Initializing async executor: corePoolSize={}, maxPoolSize={}, keepAliveSeconds={}",
-                corePoolSize, maxPoolSize, keepAliveSeconds);
+        LOGGER.info("Initializing async executor: corePoolSize={}, maxPoolSize={}, keepAliveSeconds={}, queueCapacity={}",
+                corePoolSize, maxPoolSize, keepAliveSeconds, queueCapacity);
 
+        BlockingQueue<Runnable> workQueue = queueCapacity == 0
+                ? new SynchronousQueue<>()
+                : new LinkedBlockingQueue<>(queueCapacity);
         executor = new ThreadPoolExecutor(
                 corePoolSize,
                 maxPoolSize,
                 keepAliveSeconds,
                 TimeUnit.SECONDS,
-                new LinkedBlockingQueue<>(),
-                new A2AThreadFactory()
+                workQueue,
+                new A2AThreadFactory(),
+                new CountingAbortPolicy()
         );
     }
 
+    /**
+     * Returns the number of tasks waiting for a pool thread.
+     *
+     * @return the current queue depth, 0 when running on virtual threads
+     */
+    public int getQueueDepth() {
+        return executor instanceof ThreadPoolExecutor pool ? pool.getQueue().size() : 0;
+    }
+
+    /**
+     * Returns the number of pool threads currently running a task.
+     *
+     * @return the number of busy threads, -1 when running on virtual threads
+     */
+    public int getActiveCount() {
+        return executor instanceof ThreadPoolExecutor pool ? pool.getActiveCount() : -1;
+    }
+
+    /**
+     * Returns how many submissions were rejected because the pool and its queue were full.
+     *
+     * @return the number of rejected tasks since startup
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
     @PreDestroy
     public void close() {
         if (executor == null) {
@@ -106,9 +190,40 @@ public class AsyncExecutorProducer {
         return executor;
     }
 
+    /**
+     * Creates an executor starting a named virtual thread per task.
+     * <p>
+     * The SDK is compiled for Java 17, so the Java 21 API is looked up reflectively.
+     *
+     * @return the executor, or null if the runtime does not support virtual threads
+     */
+    static @Nullable ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 1L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Virtual threads are not available", e);
+            return null;
+        }
+    }
+
+    private class CountingAbortPolicy implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            long rejected = rejectedCount.incrementAndGet();
+            LOGGER.debug("Async executor saturated: poolSize={}, queueDepth={}, rejected so far={}",
+                    executor.getPoolSize(), executor.getQueue().size(), rejected);
+            throw new RejectedExecutionException("Async executor is at capacity");
+        }
+    }
+
     private static class A2AThreadFactory implements ThreadFactory {
         private final AtomicInteger threadNumber = new AtomicInteger(1);
-        private final String namePrefix = "a2a-agent-executor-";
+        private final String namePrefix = THREAD_NAME_PREFIX;
 
         @Override
         public Thread newThread(Runnable r) {
@@ -1,5 +1,7 @@
 package io.a2a.server.util.async;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -91,6 +93,22 @@ public class AsyncUtils {
         return new Transform<>(source, converterFunction);
     }
 
+    /**
+     * Returns the exception an asynchronous computation failed with, unwrapping the
+     * {@link CompletionException}s and {@link ExecutionException}s it was reported in.
+     *
+     * @param throwable the exception a future completed with, or that waiting for it threw
+     * @return the first exception that is not such a wrapper, or the last wrapper if it has no cause
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
 
     private static abstract class AbstractSubscriber<T> implements Flow.Subscriber<T> {
         private Flow.@Nullable Subscription subscription;
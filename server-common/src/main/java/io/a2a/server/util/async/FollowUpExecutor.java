@@ -0,0 +1,73 @@
+package io.a2a.server.util.async;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs work belonging to a request whose agent was already admitted, such as consuming the agent's events.
+ * <p>
+ * Only the agent submission itself is subject to the capacity of the bounded agent executor. Once the agent
+ * runs, rejecting the work that drains its queue would leave the agent with nobody reading its events, so
+ * tasks the bounded executor rejects run on a shared, unbounded pool of daemon threads instead. That overflow
+ * is limited by the number of admitted requests.
+ * </p>
+ */
+public class FollowUpExecutor implements Executor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FollowUpExecutor.class);
+
+    private static final ExecutorService OVERFLOW = new ThreadPoolExecutor(
+            0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), new OverflowThreadFactory());
+
+    private final Executor executor;
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    /**
+     * @param executor the bounded executor tried first
+     */
+    public FollowUpExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        try {
+            executor.execute(command);
+        } catch (RejectedExecutionException e) {
+            long overflowed = overflowCount.incrementAndGet();
+            LOGGER.debug("Executor at capacity, running follow-up work on an overflow thread, overflowed so far={}",
+                    overflowed);
+            OVERFLOW.execute(command);
+        }
+    }
+
+    /**
+     * Returns how many tasks ran on an overflow thread because the bounded executor rejected them.
+     *
+     * @return the number of overflowed tasks
+     */
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    private static class OverflowThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "a2a-follow-up-" + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
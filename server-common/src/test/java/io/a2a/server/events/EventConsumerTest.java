@@ -2,6 +2,7 @@ package io.a2a.server.events;
 
 import static io.a2a.jsonrpc.common.json.JsonUtil.fromJson;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -11,6 +12,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -502,4 +505,294 @@ public class EventConsumerTest {
             throw new RuntimeException("Failed to set error field", e);
         }
     }
+
+    @Test
+    public void testPushBasedConsumeAllDeliversEventsEnqueuedAfterSubscribe() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            EventConsumer consumer = new EventConsumer(eventQueue, executor);
+            assertTrue(consumer.isPushBased());
+
+            List<Event> receivedEvents = new java.util.concurrent.CopyOnWriteArrayList<>();
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            CountDownLatch completed = new CountDownLatch(1);
+            consumer.consumeAll().subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(EventQueueItem item) {
+                    receivedEvents.add(item.getEvent());
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    error.set(throwable);
+                    completed.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+
+            // Subscribing must not park a thread in a polling loop
+            Task task = fromJson(MINIMAL_TASK, Task.class);
+            TaskStatusUpdateEvent finalEvent = TaskStatusUpdateEvent.builder()
+                    .taskId("task-123")
+                    .contextId("session-xyz")
+                    .status(new TaskStatus(TaskState.COMPLETED))
+                    .isFinal(true)
+                    .build();
+            eventQueue.enqueueEvent(task);
+            eventQueue.enqueueEvent(finalEvent);
+
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            assertNull(error.get());
+            assertEquals(List.of(task, finalEvent), receivedEvents);
+            assertTrue(eventQueue.isClosed());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPushBasedConsumeAllRespectsDemand() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            EventConsumer consumer = new EventConsumer(eventQueue, executor);
+            Task task = fromJson(MINIMAL_TASK, Task.class);
+            eventQueue.enqueueEvent(task);
+            eventQueue.enqueueEvent(task);
+
+            List<Event> receivedEvents = new java.util.concurrent.CopyOnWriteArrayList<>();
+            AtomicReference<Flow.Subscription> subscriptionRef = new AtomicReference<>();
+            CountDownLatch first = new CountDownLatch(1);
+            CountDownLatch second = new CountDownLatch(2);
+            consumer.consumeAll().subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscriptionRef.set(subscription);
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(EventQueueItem item) {
+                    receivedEvents.add(item.getEvent());
+                    first.countDown();
+                    second.countDown();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+            assertTrue(first.await(5, TimeUnit.SECONDS));
+            assertFalse(second.await(200, TimeUnit.MILLISECONDS));
+            assertEquals(1, receivedEvents.size());
+
+            subscriptionRef.get().request(1);
+            assertTrue(second.await(5, TimeUnit.SECONDS));
+            assertEquals(2, receivedEvents.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPushBasedConsumeAllSurfacesAgentErrorImmediately() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            EventConsumer consumer = new EventConsumer(eventQueue, executor);
+            AtomicReference<Throwable> receivedError = new AtomicReference<>();
+            CountDownLatch errorLatch = new CountDownLatch(1);
+            consumer.consumeAll().subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(EventQueueItem item) {
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    receivedError.set(throwable);
+                    errorLatch.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+            EnhancedRunnable runnable = new EnhancedRunnable() {
+                @Override
+                public void run() {
+                }
+            };
+            runnable.setError(new RuntimeException("Agent failed"));
+            consumer.createAgentRunnableDoneCallback().done(runnable);
+
+            // No enqueue or poll timeout is needed for the error to reach the subscriber
+            assertTrue(errorLatch.await(1, TimeUnit.SECONDS));
+            assertEquals("Agent failed", receivedError.get().getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPushBasedConsumeAllCompletesOnClose() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            EventConsumer consumer = new EventConsumer(eventQueue, executor);
+            CountDownLatch completed = new CountDownLatch(1);
+            List<Event> receivedEvents = new java.util.concurrent.CopyOnWriteArrayList<>();
+            consumer.consumeAll().subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(EventQueueItem item) {
+                    receivedEvents.add(item.getEvent());
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+
+            Task task = fromJson(MINIMAL_TASK, Task.class);
+            eventQueue.enqueueEvent(task);
+            eventQueue.close();
+
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(task), receivedEvents);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCoalescingConsumeAllMergesQueuedIntermediateEvents() throws Exception {
+        EventConsumer consumer = new EventConsumer(eventQueue, null, true);
+        assertTrue(consumer.isCoalescing());
+
+        // Everything is queued before consumption starts, as for a subscriber lagging behind the agent
+        eventQueue.enqueueEvent(statusUpdate(TaskState.SUBMITTED, null, false));
+        TaskStatusUpdateEvent working = TaskStatusUpdateEvent.builder(statusUpdate(TaskState.WORKING, null, false))
+                .metadata(java.util.Map.of("progress", 50))
+                .build();
+        eventQueue.enqueueEvent(working);
+        eventQueue.enqueueEvent(artifactChunk("a1", "Hel", false, false));
+        eventQueue.enqueueEvent(artifactChunk("a1", "lo", true, false));
+        TaskArtifactUpdateEvent otherArtifact = artifactChunk("b1", "x", true, false);
+        eventQueue.enqueueEvent(otherArtifact);
+        eventQueue.enqueueEvent(artifactChunk("a1", " ", true, false));
+        eventQueue.enqueueEvent(artifactChunk("a1", "world", true, true));
+        TaskStatusUpdateEvent withMessage = statusUpdate(TaskState.WORKING, fromJson(MESSAGE_PAYLOAD, Message.class), false);
+        eventQueue.enqueueEvent(withMessage);
+        TaskStatusUpdateEvent finalEvent = statusUpdate(TaskState.COMPLETED, null, true);
+        eventQueue.enqueueEvent(finalEvent);
+
+        List<Event> receivedEvents = new java.util.concurrent.CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        consumer.consumeAll().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(EventQueueItem item) {
+                receivedEvents.add(item.getEvent());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(6, receivedEvents.size());
+        assertEquals(working, receivedEvents.get(0));
+
+        TaskArtifactUpdateEvent merged = (TaskArtifactUpdateEvent) receivedEvents.get(1);
+        assertEquals("a1", merged.artifact().artifactId());
+        assertEquals(List.of(new TextPart("Hel"), new TextPart("lo")), merged.artifact().parts());
+        assertFalse(merged.append());
+        assertSame(otherArtifact, receivedEvents.get(2));
+
+        TaskArtifactUpdateEvent lastChunks = (TaskArtifactUpdateEvent) receivedEvents.get(3);
+        assertEquals(List.of(new TextPart(" "), new TextPart("world")), lastChunks.artifact().parts());
+        assertTrue(lastChunks.append());
+        assertTrue(lastChunks.lastChunk());
+
+        // A status message must reach the task history, and final events are never merged
+        assertSame(withMessage, receivedEvents.get(4));
+        assertSame(finalEvent, receivedEvents.get(5));
+    }
+
+    @Test
+    public void testCoalescingConsumerDeliversPendingEventBeforeClosure() throws Exception {
+        EventConsumer consumer = new EventConsumer(eventQueue, null, true);
+        TaskArtifactUpdateEvent chunk = artifactChunk("a1", "text", false, false);
+        Task task = fromJson(MINIMAL_TASK, Task.class);
+        eventQueue.enqueueEvent(chunk);
+        eventQueue.enqueueEvent(task);
+        eventQueue.close();
+
+        assertSame(chunk, consumer.consumeOne());
+        assertSame(task, consumer.consumeOne());
+        assertThrows(EventQueueClosedException.class, consumer::consumeOne);
+    }
+
+    private static TaskStatusUpdateEvent statusUpdate(TaskState state, Message message, boolean isFinal) {
+        return TaskStatusUpdateEvent.builder()
+                .taskId("task-123")
+                .contextId("session-xyz")
+                .status(new TaskStatus(state, message, null))
+                .isFinal(isFinal)
+                .build();
+    }
+
+    private static TaskArtifactUpdateEvent artifactChunk(String artifactId, String text, boolean append, boolean lastChunk) {
+        return TaskArtifactUpdateEvent.builder()
+                .taskId("task-123")
+                .contextId("session-xyz")
+                .artifact(Artifact.builder()
+                        .artifactId(artifactId)
+                        .parts(new TextPart(text))
+                        .build())
+                .append(append)
+                .lastChunk(lastChunk)
+                .build();
+    }
 }
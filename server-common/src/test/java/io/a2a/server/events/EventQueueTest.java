@@ -10,11 +10,18 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import io.a2a.spec.A2AError;
 import io.a2a.spec.Artifact;
 import io.a2a.spec.Event;
+import io.a2a.spec.InternalError;
 import io.a2a.spec.Message;
 import io.a2a.spec.Task;
 import io.a2a.spec.TaskArtifactUpdateEvent;
@@ -402,4 +409,348 @@ public class EventQueueTest {
         assertTrue(mainQueue.isClosed());
         assertTrue(child2.isClosed());
     }
+
+    @Test
+    public void testRingBufferEngineIsInheritedByChildQueues() {
+        EventQueue parentQueue = EventQueue.builder()
+                .engine(EventQueueEngine.RING_BUFFER)
+                .queueSize(16)
+                .build();
+        EventQueue childQueue = parentQueue.tap();
+
+        assertEquals(EventQueueEngine.RING_BUFFER, parentQueue.getEngine());
+        assertEquals(EventQueueEngine.RING_BUFFER, childQueue.getEngine());
+        assertEquals(16, childQueue.getQueueSize());
+        assertEquals(EventQueueEngine.LINKED, EventQueue.builder().build().getEngine());
+    }
+
+    @Test
+    public void testRingBufferEnginePropagatesToChildrenAndInvokesHook() throws Exception {
+        List<EventQueueItem> hooked = new ArrayList<>();
+        EventQueue parentQueue = EventQueue.builder()
+                .engine(EventQueueEngine.RING_BUFFER)
+                .hook(hooked::add)
+                .build();
+        EventQueue childQueue = parentQueue.tap();
+
+        Event event1 = fromJson(MINIMAL_TASK, Task.class);
+        Event event2 = fromJson(MESSAGE_PAYLOAD, Message.class);
+        parentQueue.enqueueEvent(event1);
+        childQueue.enqueueEvent(event2);
+
+        assertSame(event1, parentQueue.dequeueEventItem(-1).getEvent());
+        assertSame(event2, parentQueue.dequeueEventItem(-1).getEvent());
+        assertSame(event1, childQueue.dequeueEventItem(100).getEvent());
+        assertSame(event2, childQueue.dequeueEventItem(100).getEvent());
+        assertNull(childQueue.dequeueEventItem(-1));
+        assertEquals(2, hooked.size());
+    }
+
+    @Test
+    public void testRingBufferEngineCloseSemantics() throws Exception {
+        EventQueue queue = EventQueue.builder().engine(EventQueueEngine.RING_BUFFER).build();
+        Event event = fromJson(MINIMAL_TASK, Task.class);
+        queue.enqueueEvent(event);
+
+        // Graceful close drains pending events first
+        queue.close();
+        assertTrue(queue.isClosed());
+        assertSame(event, queue.dequeueEventItem(-1).getEvent());
+        assertThrows(EventQueueClosedException.class, () -> queue.dequeueEventItem(-1));
+
+        // Immediate close discards pending events, including in children
+        EventQueue parentQueue = EventQueue.builder().engine(EventQueueEngine.RING_BUFFER).build();
+        EventQueue childQueue = parentQueue.tap();
+        parentQueue.enqueueEvent(event);
+        parentQueue.close(true);
+        assertTrue(childQueue.isClosed());
+        assertThrows(EventQueueClosedException.class, () -> childQueue.dequeueEventItem(-1));
+    }
+
+    @Test
+    public void testRingBufferEngineBlocksProducerWhenFull() throws Exception {
+        EventQueue queue = EventQueue.builder()
+                .engine(EventQueueEngine.RING_BUFFER)
+                .queueSize(2)
+                .build();
+        Event event = fromJson(MINIMAL_TASK, Task.class);
+        queue.enqueueEvent(event);
+        queue.enqueueEvent(event);
+
+        CountDownLatch enqueued = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            queue.enqueueEvent(event);
+            enqueued.countDown();
+        });
+        producer.start();
+
+        assertFalse(enqueued.await(200, TimeUnit.MILLISECONDS));
+        assertNotNull(queue.dequeueEventItem(-1));
+        assertTrue(enqueued.await(5, TimeUnit.SECONDS));
+        producer.join();
+    }
+
+    @Test
+    public void testRingBufferEngineConcurrentProducersPreserveAllEvents() throws Exception {
+        int producers = 4;
+        int perProducer = 2_000;
+        EventQueue queue = EventQueue.builder()
+                .engine(EventQueueEngine.RING_BUFFER)
+                .queueSize(8)
+                .build();
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                String prefix = "p" + p + "-";
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.enqueueEvent(TaskStatusUpdateEvent.builder()
+                                .taskId(prefix + i)
+                                .contextId("ctx")
+                                .status(new TaskStatus(TaskState.WORKING))
+                                .isFinal(false)
+                                .build());
+                    }
+                }));
+            }
+
+            int[] nextPerProducer = new int[producers];
+            for (int received = 0; received < producers * perProducer; received++) {
+                EventQueueItem item = queue.dequeueEventItem(5000);
+                assertNotNull(item);
+                String taskId = ((TaskStatusUpdateEvent) item.getEvent()).taskId();
+                int producer = Integer.parseInt(taskId.substring(1, taskId.indexOf('-')));
+                int seq = Integer.parseInt(taskId.substring(taskId.indexOf('-') + 1));
+                // Events from the same producer must come out in the order they went in
+                assertEquals(nextPerProducer[producer]++, seq);
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            assertNull(queue.dequeueEventItem(-1));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testUnreadMainQueueDoesNotBlockProducerOnceTapped() throws Exception {
+        for (EventQueueEngine engine : EventQueueEngine.values()) {
+            EventQueue mainQueue = EventQueue.builder().engine(engine).queueSize(2).build();
+            EventQueue childQueue = mainQueue.tap();
+            Event event = fromJson(MINIMAL_TASK, Task.class);
+
+            // Only the child queue is consumed; the main queue's own view must not hold back the producer
+            for (int i = 0; i < 10; i++) {
+                mainQueue.enqueueEvent(event);
+                assertSame(event, childQueue.dequeueEventItem(-1).getEvent(), engine.name());
+            }
+            assertNull(childQueue.dequeueEventItem(-1));
+        }
+    }
+
+    @Test
+    public void testClosedChildQueueStopsHoldingBackProducerAndDrains() throws Exception {
+        for (EventQueueEngine engine : EventQueueEngine.values()) {
+            EventQueue mainQueue = EventQueue.builder().engine(engine).queueSize(2).build();
+            EventQueue fastQueue = mainQueue.tap();
+            EventQueue closedQueue = mainQueue.tap();
+            Event event1 = fromJson(MINIMAL_TASK, Task.class);
+            Event event2 = fromJson(MESSAGE_PAYLOAD, Message.class);
+
+            mainQueue.enqueueEvent(event1);
+            mainQueue.enqueueEvent(event2);
+            closedQueue.close(false, false);
+
+            // The closed child no longer gates the producer...
+            for (int i = 0; i < 2; i++) {
+                assertNotNull(fastQueue.dequeueEventItem(-1));
+            }
+            mainQueue.enqueueEvent(event1);
+            mainQueue.enqueueEvent(event1);
+            assertNotNull(fastQueue.dequeueEventItem(-1));
+            assertNotNull(fastQueue.dequeueEventItem(-1));
+
+            // ...but still drains what it had not consumed when it was closed
+            assertSame(event1, closedQueue.dequeueEventItem(-1).getEvent(), engine.name());
+            assertSame(event2, closedQueue.dequeueEventItem(-1).getEvent(), engine.name());
+            assertThrows(EventQueueClosedException.class, () -> closedQueue.dequeueEventItem(-1));
+        }
+    }
+
+    @Test
+    public void testChildQueueExceedingMaxSubscriberLagIsDetached() throws Exception {
+        for (EventQueueEngine engine : EventQueueEngine.values()) {
+            EventQueue mainQueue = EventQueue.builder()
+                    .engine(engine)
+                    .queueSize(4)
+                    .maxSubscriberLag(2)
+                    .build();
+            EventQueue fastQueue = mainQueue.tap();
+            EventQueue slowQueue = mainQueue.tap();
+            Event event = fromJson(MINIMAL_TASK, Task.class);
+
+            for (int i = 0; i < 5; i++) {
+                mainQueue.enqueueEvent(event);
+                assertSame(event, fastQueue.dequeueEventItem(-1).getEvent(), engine.name());
+            }
+
+            // The slow subscriber is told it was detached, then its queue is closed
+            EventQueueItem item = slowQueue.dequeueEventItem(-1);
+            assertTrue(item.getEvent() instanceof InternalError, engine.name());
+            assertTrue(slowQueue.isClosed());
+            assertThrows(EventQueueClosedException.class, () -> slowQueue.dequeueEventItem(-1));
+            assertEquals(1, ((EventQueue.MainQueue) mainQueue).getActiveChildCount());
+            assertFalse(fastQueue.isClosed());
+        }
+    }
+
+    @Test
+    public void testMaxSubscriberLagMustNotExceedQueueSize() {
+        assertThrows(IllegalArgumentException.class, () -> EventQueue.builder()
+                .queueSize(2)
+                .maxSubscriberLag(3)
+                .build());
+    }
+
+    @Test
+    public void testDropOldestOverflowPolicySkipsOldestNonTerminalEvents() throws Exception {
+        for (EventQueueEngine engine : EventQueueEngine.values()) {
+            EventQueue mainQueue = EventQueue.builder()
+                    .engine(engine)
+                    .queueSize(2)
+                    .overflowPolicy(EventQueueOverflowPolicy.DROP_OLDEST)
+                    .build();
+            EventQueue slowQueue = mainQueue.tap();
+
+            // None of these block although the subscriber reads nothing
+            for (int i = 0; i < 4; i++) {
+                mainQueue.enqueueEvent(statusUpdate("task-" + i, TaskState.WORKING, false));
+            }
+            Event finalEvent = statusUpdate("task-4", TaskState.COMPLETED, true);
+            mainQueue.enqueueEvent(finalEvent);
+
+            assertEquals("task-3", ((TaskStatusUpdateEvent) slowQueue.dequeueEventItem(-1).getEvent()).taskId(), engine.name());
+            assertSame(finalEvent, slowQueue.dequeueEventItem(-1).getEvent(), engine.name());
+            assertFalse(slowQueue.isDetached(), engine.name());
+        }
+    }
+
+    @Test
+    public void testDropOldestOverflowPolicyDetachesWhenHeadIsTerminal() throws Exception {
+        for (EventQueueEngine engine : EventQueueEngine.values()) {
+            EventQueue mainQueue = EventQueue.builder()
+                    .engine(engine)
+                    .queueSize(2)
+                    .overflowPolicy(EventQueueOverflowPolicy.DROP_OLDEST)
+                    .build();
+            EventQueue slowQueue = mainQueue.tap();
+
+            mainQueue.enqueueEvent(statusUpdate("task-0", TaskState.INPUT_REQUIRED, false));
+            mainQueue.enqueueEvent(statusUpdate("task-1", TaskState.WORKING, false));
+            mainQueue.enqueueEvent(statusUpdate("task-2", TaskState.WORKING, false));
+
+            assertTrue(slowQueue.dequeueEventItem(-1).getEvent() instanceof InternalError, engine.name());
+            assertTrue(slowQueue.isClosed(), engine.name());
+        }
+    }
+
+    @Test
+    public void testCoalesceOverflowPolicySkipsSupersededStatusUpdates() throws Exception {
+        for (EventQueueEngine engine : EventQueueEngine.values()) {
+            EventQueue mainQueue = EventQueue.builder()
+                    .engine(engine)
+                    .queueSize(3)
+                    .overflowPolicy(EventQueueOverflowPolicy.COALESCE)
+                    .build();
+            EventQueue slowQueue = mainQueue.tap();
+
+            Event artifact = artifactUpdate("task-123", "a1");
+            Event latest = statusUpdate("task-123", TaskState.WORKING, false);
+            Event next = artifactUpdate("task-123", "a2");
+            mainQueue.enqueueEvent(statusUpdate("task-123", TaskState.SUBMITTED, false));
+            mainQueue.enqueueEvent(artifact);
+            mainQueue.enqueueEvent(latest);
+            // The first status update is superseded by the latest one and makes room
+            mainQueue.enqueueEvent(next);
+
+            assertSame(artifact, slowQueue.dequeueEventItem(-1).getEvent(), engine.name());
+            assertSame(latest, slowQueue.dequeueEventItem(-1).getEvent(), engine.name());
+            assertSame(next, slowQueue.dequeueEventItem(-1).getEvent(), engine.name());
+            assertFalse(slowQueue.isDetached(), engine.name());
+
+            // An artifact update at the head cannot be coalesced, so the subscriber is detached instead
+            mainQueue.enqueueEvent(artifactUpdate("task-123", "a3"));
+            mainQueue.enqueueEvent(artifactUpdate("task-123", "a4"));
+            mainQueue.enqueueEvent(artifactUpdate("task-123", "a5"));
+            mainQueue.enqueueEvent(artifactUpdate("task-123", "a6"));
+            assertTrue(slowQueue.dequeueEventItem(-1).getEvent() instanceof InternalError, engine.name());
+        }
+    }
+
+    @Test
+    public void testFailFastOverflowPolicyDetachesFullSubscriber() throws Exception {
+        for (EventQueueEngine engine : EventQueueEngine.values()) {
+            EventQueue mainQueue = EventQueue.builder()
+                    .engine(engine)
+                    .queueSize(2)
+                    .overflowPolicy(EventQueueOverflowPolicy.FAIL_FAST)
+                    .build();
+            EventQueue fastQueue = mainQueue.tap();
+            EventQueue slowQueue = mainQueue.tap();
+            Event event = fromJson(MINIMAL_TASK, Task.class);
+
+            for (int i = 0; i < 3; i++) {
+                mainQueue.enqueueEvent(event);
+                assertSame(event, fastQueue.dequeueEventItem(-1).getEvent(), engine.name());
+            }
+
+            assertTrue(slowQueue.dequeueEventItem(-1).getEvent() instanceof InternalError, engine.name());
+            assertTrue(slowQueue.isClosed(), engine.name());
+            assertFalse(fastQueue.isClosed(), engine.name());
+        }
+    }
+
+    @Test
+    public void testBlockOverflowPolicyDetachesSubscriberAfterTimeout() throws Exception {
+        for (EventQueueEngine engine : EventQueueEngine.values()) {
+            EventQueue mainQueue = EventQueue.builder()
+                    .engine(engine)
+                    .queueSize(1)
+                    .blockTimeoutMillis(50)
+                    .build();
+            EventQueue slowQueue = mainQueue.tap();
+            Event event = fromJson(MINIMAL_TASK, Task.class);
+
+            mainQueue.enqueueEvent(event);
+            long start = System.nanoTime();
+            // Blocks for the timeout, then detaches the subscriber instead of waiting for it forever
+            mainQueue.enqueueEvent(event);
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 40, engine.name());
+
+            assertTrue(slowQueue.dequeueEventItem(-1).getEvent() instanceof InternalError, engine.name());
+            assertTrue(slowQueue.isClosed(), engine.name());
+        }
+    }
+
+    private static TaskStatusUpdateEvent statusUpdate(String taskId, TaskState state, boolean isFinal) {
+        return TaskStatusUpdateEvent.builder()
+                .taskId(taskId)
+                .contextId("session-xyz")
+                .status(new TaskStatus(state))
+                .isFinal(isFinal)
+                .build();
+    }
+
+    private static TaskArtifactUpdateEvent artifactUpdate(String taskId, String artifactId) {
+        return TaskArtifactUpdateEvent.builder()
+                .taskId(taskId)
+                .contextId("session-xyz")
+                .artifact(Artifact.builder()
+                        .artifactId(artifactId)
+                        .parts(new TextPart("text"))
+                        .build())
+                .build();
+    }
 }
@@ -1,6 +1,7 @@
 package io.a2a.server.events;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -12,9 +13,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 
 import io.a2a.server.tasks.MockTaskStateProvider;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TaskStatusUpdateEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -223,4 +229,90 @@ public class InMemoryQueueManagerTest {
         long distinctCount = results.stream().distinct().count();
         assertEquals(results.size(), distinctCount, "All ChildQueues should be distinct instances");
     }
+
+    @Test
+    public void testIdleQueueWithoutSubscribersIsEvictedAfterTtl() {
+        queueManager.idleTtlSeconds = 60;
+        String taskId = "idle_task";
+        EventQueue child = queueManager.createOrTap(taskId);
+        EventQueue main = queueManager.get(taskId);
+        // The task is not finalized, so the queue stays after its last subscriber leaves
+        child.close();
+        assertSame(main, queueManager.get(taskId));
+
+        long now = System.nanoTime();
+        assertEquals(0, queueManager.evictIdleQueues(now));
+        assertEquals(1, queueManager.evictIdleQueues(now + TimeUnit.SECONDS.toNanos(61)));
+
+        assertNull(queueManager.get(taskId));
+        assertTrue(main.isClosed());
+        assertEquals(1, queueManager.getIdleEvictionCount());
+    }
+
+    @Test
+    public void testQueueWithSubscriberIsNeverEvicted() {
+        queueManager.idleTtlSeconds = 60;
+        queueManager.maxQueues = 1;
+        queueManager.createOrTap("subscribed_task_1");
+        queueManager.createOrTap("subscribed_task_2");
+
+        assertEquals(0, queueManager.evictIdleQueues(System.nanoTime() + TimeUnit.HOURS.toNanos(1)));
+        assertEquals(2, queueManager.getQueueCount());
+    }
+
+    @Test
+    public void testTappedQueueIsNeverEvictedConcurrently() throws Exception {
+        queueManager.idleTtlSeconds = 1;
+        String taskId = "racing_task";
+        AtomicBoolean done = new AtomicBoolean();
+        CompletableFuture<Void> evictions = CompletableFuture.runAsync(() -> {
+            while (!done.get()) {
+                queueManager.evictIdleQueues(System.nanoTime() + TimeUnit.HOURS.toNanos(1));
+            }
+        });
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                EventQueue child = queueManager.createOrTap(taskId);
+                // Whatever the evictions, the queue of a subscriber stays mapped and open
+                EventQueue main = queueManager.get(taskId);
+                assertNotNull(main);
+                assertFalse(main.isClosed());
+                assertEquals(1, queueManager.getActiveChildQueueCount(taskId));
+                child.close();
+            }
+        } finally {
+            done.set(true);
+        }
+        evictions.get();
+        assertTrue(queueManager.getIdleEvictionCount() > 0);
+    }
+
+    @Test
+    public void testMaxQueuesEvictsLeastRecentlyActiveQueues() throws Exception {
+        queueManager.maxQueues = 2;
+        for (String taskId : List.of("task_1", "task_2", "task_3")) {
+            queueManager.createOrTap(taskId).close();
+            // Make sure the queues' activity times differ
+            Thread.sleep(1);
+        }
+        // Recent activity on the oldest queue keeps it
+        queueManager.get("task_1").enqueueEvent(statusUpdate("task_1", TaskState.WORKING));
+
+        assertEquals(1, queueManager.evictIdleQueues(System.nanoTime()));
+
+        assertNull(queueManager.get("task_2"));
+        assertNotNull(queueManager.get("task_1"));
+        assertNotNull(queueManager.get("task_3"));
+        assertEquals(1, queueManager.getCapacityEvictionCount());
+        assertEquals(0, queueManager.getIdleEvictionCount());
+    }
+
+    private static TaskStatusUpdateEvent statusUpdate(String taskId, TaskState state) {
+        return TaskStatusUpdateEvent.builder()
+                .taskId(taskId)
+                .contextId("session-xyz")
+                .status(new TaskStatus(state))
+                .isFinal(false)
+                .build();
+    }
 }
@@ -0,0 +1,17 @@
+package io.a2a.server.requesthandlers;
+
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Runs the {@link DefaultRequestHandlerTest} scenarios with event coalescing enabled
+ * ({@code a2a.consumer.coalesce-events=true}).
+ */
+public class CoalescingDefaultRequestHandlerTest extends DefaultRequestHandlerTest {
+
+    @BeforeEach
+    @Override
+    void setUp() {
+        super.setUp();
+        requestHandler.coalesceEvents = true;
+    }
+}
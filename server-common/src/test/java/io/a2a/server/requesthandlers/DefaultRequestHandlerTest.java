@@ -1,14 +1,22 @@
 package io.a2a.server.requesthandlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -22,13 +30,17 @@ import io.a2a.server.tasks.InMemoryPushNotificationConfigStore;
 import io.a2a.server.tasks.InMemoryTaskStore;
 import io.a2a.server.tasks.TaskUpdater;
 import io.a2a.spec.A2AError;
+import io.a2a.spec.EventKind;
 import io.a2a.spec.ListTaskPushNotificationConfigParams;
 import io.a2a.spec.ListTaskPushNotificationConfigResult;
 import io.a2a.spec.Message;
 import io.a2a.spec.MessageSendConfiguration;
 import io.a2a.spec.MessageSendParams;
 import io.a2a.spec.PushNotificationConfig;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.spec.Task;
+import io.a2a.spec.TaskIdParams;
+import io.a2a.spec.TaskNotFoundError;
 import io.a2a.spec.TaskState;
 import io.a2a.spec.TaskStatus;
 import io.a2a.spec.TextPart;
@@ -45,7 +57,7 @@ import org.junit.jupiter.api.Timeout;
  */
 public class DefaultRequestHandlerTest {
 
-    private DefaultRequestHandler requestHandler;
+    DefaultRequestHandler requestHandler;
     private InMemoryTaskStore taskStore;
     private InMemoryQueueManager queueManager;
     private TestAgentExecutor agentExecutor;
@@ -951,6 +963,149 @@ public class DefaultRequestHandlerTest {
         assertEquals("https://example.com/existing-webhook", storedConfig.url());
     }
 
+    /**
+     * Test that a saturated agent executor rejects new messages with a retryable error
+     * instead of queueing them.
+     */
+    @Test
+    @Timeout(10)
+    void testSaturatedExecutorRejectsMessageWithServerBusyError() {
+        requestHandler = DefaultRequestHandler.create(
+            agentExecutor,
+            taskStore,
+            queueManager,
+            null, // pushConfigStore
+            null, // pushSender
+            runnable -> {
+                throw new RejectedExecutionException("Saturated");
+            }
+        );
+        AtomicBoolean agentRan = new AtomicBoolean(false);
+        agentExecutor.setExecuteCallback((context, queue) -> agentRan.set(true));
+
+        Message message = Message.builder()
+            .messageId("msg-busy")
+            .role(Message.Role.USER)
+            .parts(new TextPart("test message"))
+            .taskId("busy-task")
+            .contextId("busy-ctx")
+            .build();
+        MessageSendParams params = new MessageSendParams(message, null, null, "");
+
+        assertThrows(ServerBusyError.class, () -> requestHandler.onMessageSend(params, serverCallContext));
+        assertThrows(ServerBusyError.class, () -> requestHandler.onMessageSendStream(params, serverCallContext));
+        assertFalse(agentRan.get(), "Rejected agent must not run");
+    }
+
+    /**
+     * Test that once the agent was admitted, a saturated executor does not reject the work consuming its
+     * events: the request still completes with the agent's result.
+     */
+    @Test
+    @Timeout(10)
+    void testSaturatedExecutorAfterAdmissionStillConsumesEvents() throws Exception {
+        // A single thread and no queue: the agent takes the only slot, everything after it is rejected
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new SynchronousQueue<>());
+        try {
+            requestHandler = DefaultRequestHandler.create(
+                agentExecutor,
+                taskStore,
+                queueManager,
+                null, // pushConfigStore
+                null, // pushSender
+                pool
+            );
+            CountDownLatch agentAdmitted = new CountDownLatch(1);
+            CountDownLatch releaseAgent = new CountDownLatch(1);
+            agentExecutor.setExecuteCallback((context, queue) -> {
+                agentAdmitted.countDown();
+                try {
+                    releaseAgent.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                queue.enqueueEvent(Task.builder()
+                    .id(context.getTaskId())
+                    .contextId(context.getContextId())
+                    .status(new TaskStatus(TaskState.COMPLETED))
+                    .build());
+            });
+
+            Message message = Message.builder()
+                .messageId("msg-admitted")
+                .role(Message.Role.USER)
+                .parts(new TextPart("test message"))
+                .taskId("admitted-task")
+                .contextId("admitted-ctx")
+                .build();
+            MessageSendParams params = new MessageSendParams(message, null, null, "");
+
+            CompletableFuture<EventKind> result = requestHandler.onMessageSendAsync(params, serverCallContext);
+            assertTrue(agentAdmitted.await(5, TimeUnit.SECONDS));
+            assertThrows(RejectedExecutionException.class, () -> pool.execute(() -> { }));
+            releaseAgent.countDown();
+
+            Task task = assertInstanceOf(Task.class, result.get(5, TimeUnit.SECONDS));
+            assertEquals(TaskState.COMPLETED, task.status().state());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that the asynchronous blocking send returns before the agent is done and
+     * completes with the final task once all events have been processed.
+     */
+    @Test
+    @Timeout(10)
+    void testBlockingMessageSendAsyncDoesNotHoldCallingThread() throws Exception {
+        String taskId = "async-blocking-task";
+        Message message = Message.builder()
+            .messageId("msg-async-blocking")
+            .role(Message.Role.USER)
+            .parts(new TextPart("test message"))
+            .taskId(taskId)
+            .contextId("async-blocking-ctx")
+            .build();
+        MessageSendConfiguration config = MessageSendConfiguration.builder()
+                .blocking(true)
+                .build();
+        MessageSendParams params = new MessageSendParams(message, config, null, "");
+
+        CountDownLatch agentStarted = new CountDownLatch(1);
+        CountDownLatch releaseAgent = new CountDownLatch(1);
+        agentExecutor.setExecuteCallback((context, queue) -> {
+            TaskUpdater updater = new TaskUpdater(context, queue);
+            updater.startWork();
+            agentStarted.countDown();
+            try {
+                releaseAgent.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            updater.addArtifact(List.of(new TextPart("Result")), "artifact-1", "Result", null);
+            updater.complete();
+        });
+
+        CompletableFuture<EventKind> result = requestHandler.onMessageSendAsync(params, serverCallContext);
+        assertTrue(agentStarted.await(5, TimeUnit.SECONDS), "Agent should start");
+        assertFalse(result.isDone(), "Blocking send must not complete before the agent finishes");
+
+        releaseAgent.countDown();
+        Task task = assertInstanceOf(Task.class, result.get(5, TimeUnit.SECONDS));
+        assertEquals(TaskState.COMPLETED, task.status().state());
+        assertEquals(1, task.artifacts().size());
+    }
+
+    @Test
+    void testCancelTaskAsyncCompletesExceptionallyForUnknownTask() {
+        CompletableFuture<Task> result =
+            requestHandler.onCancelTaskAsync(new TaskIdParams("unknown-task", ""), serverCallContext);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TaskNotFoundError.class, e.getCause());
+    }
+
     /**
      * Simple test agent executor that allows controlling execution timing
      */
@@ -0,0 +1,17 @@
+package io.a2a.server.requesthandlers;
+
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Runs the {@link DefaultRequestHandlerTest} scenarios with push-based event consumption
+ * ({@code a2a.consumer.mode=push}) instead of the polling loop.
+ */
+public class PushBasedDefaultRequestHandlerTest extends DefaultRequestHandlerTest {
+
+    @BeforeEach
+    @Override
+    void setUp() {
+        super.setUp();
+        requestHandler.pushBasedConsumption = true;
+    }
+}
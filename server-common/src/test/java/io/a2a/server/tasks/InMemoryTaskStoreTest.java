@@ -1,11 +1,39 @@
 package io.a2a.server.tasks;
 
 import static io.a2a.jsonrpc.common.json.JsonUtil.fromJson;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.a2a.jsonrpc.common.wrappers.ListTasksResult;
+import io.a2a.spec.Artifact;
+import io.a2a.spec.DataPart;
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
+import io.a2a.spec.ListTasksParams;
+import io.a2a.spec.Message;
 import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TextPart;
+import io.a2a.util.BlobDirectory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class InMemoryTaskStoreTest {
     private static final String TASK_JSON = """
@@ -46,4 +74,329 @@ public class InMemoryTaskStoreTest {
         InMemoryTaskStore store = new InMemoryTaskStore();
         store.delete("non-existent");
     }
+
+    @Test
+    public void testListPagesThroughFilteredTasksInOrder() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        for (int i = 0; i < 10; i++) {
+            store.save(task("task-" + i, i % 2 == 0 ? "ctx-even" : "ctx-odd", TaskState.WORKING, i));
+        }
+
+        List<String> ids = new ArrayList<>();
+        String pageToken = null;
+        do {
+            ListTasksResult result = store.list(ListTasksParams.builder()
+                    .contextId("ctx-even")
+                    .pageSize(2)
+                    .pageToken(pageToken)
+                    .tenant("")
+                    .build());
+            assertEquals(5, result.totalSize());
+            result.tasks().forEach(task -> ids.add(task.id()));
+            pageToken = result.nextPageToken();
+        } while (pageToken != null);
+
+        // Most recently updated first
+        assertEquals(List.of("task-8", "task-6", "task-4", "task-2", "task-0"), ids);
+    }
+
+    @Test
+    public void testListIndexesFollowSaveAndDelete() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.save(task("task-1", "ctx", TaskState.WORKING, 1));
+        store.save(task("task-2", "ctx", TaskState.WORKING, 2));
+        store.save(task("task-3", "ctx", TaskState.COMPLETED, 3));
+
+        // Moving a task to another state and deleting one must update every index
+        store.save(task("task-1", "ctx", TaskState.COMPLETED, 4));
+        store.delete("task-2");
+
+        assertEquals(List.of(), ids(store.list(listParams(null, TaskState.WORKING))));
+        assertEquals(List.of("task-1", "task-3"), ids(store.list(listParams("ctx", TaskState.COMPLETED))));
+        assertEquals(List.of("task-1", "task-3"), ids(store.list(listParams(null, null))));
+        assertEquals(0, store.list(listParams("other", null)).totalSize());
+    }
+
+    @Test
+    public void testListLastUpdatedAfterUsesFullTimestampPrecision() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        OffsetDateTime base = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        store.save(task("before", "ctx", TaskState.WORKING, base.plusNanos(100_000)));
+        store.save(task("after", "ctx", TaskState.WORKING, base.plusNanos(900_000)));
+        store.save(task("later", "ctx", TaskState.WORKING, base.plusSeconds(1)));
+        store.save(task("earlier", "ctx", TaskState.WORKING, base.minusSeconds(1)));
+
+        ListTasksResult result = store.list(ListTasksParams.builder()
+                .lastUpdatedAfter(base.plusNanos(500_000).toInstant())
+                .tenant("")
+                .build());
+
+        assertEquals(2, result.totalSize());
+        assertEquals(List.of("later", "after"), ids(result));
+    }
+
+    @Test
+    public void testMaxTasksEvictsLeastRecentlyUsedFinalizedTasks() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.maxTasks = 3;
+        store.minFinalizedRetentionSeconds = 0;
+        store.save(task("active", "ctx", TaskState.WORKING, 1));
+        store.save(task("done-1", "ctx", TaskState.COMPLETED, 2));
+        store.save(task("done-2", "ctx", TaskState.COMPLETED, 3));
+        // Using done-1 makes done-2 the least recently used finalized task
+        assertNotNull(store.get("done-1"));
+
+        store.save(task("done-3", "ctx", TaskState.FAILED, 4));
+
+        assertNull(store.get("done-2"));
+        assertNotNull(store.get("done-1"));
+        assertNotNull(store.get("done-3"));
+        assertEquals(1, store.getCapacityEvictionCount());
+        assertEquals(3, store.list(listParams(null, null)).totalSize());
+        // Evicted tasks are still reported as finalized, and not as active
+        assertTrue(store.isTaskFinalized("done-2"));
+        assertFalse(store.isTaskActive("done-2"));
+    }
+
+    @Test
+    public void testActiveTasksAreNeverEvicted() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.maxTasks = 1;
+        store.minFinalizedRetentionSeconds = 0;
+        store.save(task("active-1", "ctx", TaskState.WORKING, 1));
+        store.save(task("active-2", "ctx", TaskState.INPUT_REQUIRED, 2));
+
+        assertNotNull(store.get("active-1"));
+        assertNotNull(store.get("active-2"));
+        assertEquals(0, store.getCapacityEvictionCount());
+
+        // Once a task finalizes it becomes the one to evict
+        store.save(task("active-1", "ctx", TaskState.COMPLETED, 3));
+        assertNull(store.get("active-1"));
+        assertNotNull(store.get("active-2"));
+    }
+
+    @Test
+    public void testNewlyFinalizedTasksAreKeptForTheMinimumRetention() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.maxTasks = 1;
+        store.minFinalizedRetentionSeconds = 60;
+        store.save(task("active", "ctx", TaskState.WORKING, 1));
+        store.save(task("done", "ctx", TaskState.WORKING, 2));
+
+        // The save that finalizes the task does not evict it, so a client waiting for it can still read it
+        store.save(task("done", "ctx", TaskState.COMPLETED, 3));
+        assertNotNull(store.get("done"));
+        assertEquals(0, store.getCapacityEvictionCount());
+
+        long now = System.nanoTime();
+        assertEquals(0, store.evictOverCapacity(now));
+        assertEquals(1, store.evictOverCapacity(now + TimeUnit.SECONDS.toNanos(61)));
+        assertNull(store.get("done"));
+        assertNotNull(store.get("active"));
+        assertEquals(1, store.getCapacityEvictionCount());
+    }
+
+    @Test
+    public void testMaxBytesEvictsFinalizedTasks() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.maxBytes = 10_000;
+        store.minFinalizedRetentionSeconds = 0;
+        Task large = Task.builder(task("large", "ctx", TaskState.COMPLETED, 1))
+                .artifacts(List.of(Artifact.builder()
+                        .artifactId("artifact")
+                        .parts(new TextPart("x".repeat(8_000)))
+                        .build()))
+                .build();
+        store.save(large);
+        assertTrue(store.getEstimatedBytes() > 8_000);
+
+        store.save(Task.builder(task("other", "ctx", TaskState.COMPLETED, 2))
+                .artifacts(large.artifacts())
+                .build());
+
+        assertNull(store.get("large"));
+        assertNotNull(store.get("other"));
+        assertTrue(store.getEstimatedBytes() <= 10_000);
+
+        store.delete("other");
+        assertEquals(0, store.getEstimatedBytes());
+    }
+
+    @Test
+    public void testLargeFileContentsAreSpilled(@TempDir Path directory) {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.maxBytes = 1_000_000;
+        store.blobDirectory = new BlobDirectory(directory, 100);
+        FileWithBytes large = new FileWithBytes("text/plain", "large.txt", "eHh4".repeat(1_000));
+        FileWithBytes small = new FileWithBytes("text/plain", "small.txt", "eA==");
+        Task task = Task.builder(task("task-1", "ctx", TaskState.WORKING, 1))
+                .history(List.of(Message.builder()
+                        .role(Message.Role.USER)
+                        .messageId("message-1")
+                        .parts(new TextPart("hello"), new FilePart(small))
+                        .build()))
+                .artifacts(List.of(Artifact.builder()
+                        .artifactId("artifact-1")
+                        .parts(new FilePart(large))
+                        .build()))
+                .build();
+        store.save(task);
+
+        Task retrieved = store.get("task-1");
+        FileWithBytes spilled = (FileWithBytes) ((FilePart) retrieved.artifacts().get(0).parts().get(0)).file();
+        assertNotNull(spilled.content().file());
+        assertEquals(large.bytes(), spilled.bytes());
+        assertSame(task.history(), retrieved.history());
+        // Only the content still in memory is counted
+        assertTrue(store.getEstimatedBytes() < 1_000);
+    }
+
+    @Test
+    public void testSpilledFilesAreDeletedWhenNoLongerReferenced(@TempDir Path directory) throws IOException {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.finalizedTtlSeconds = 60;
+        store.blobDirectory = new BlobDirectory(directory, 100);
+        FileWithBytes large = new FileWithBytes("text/plain", "large.txt", "eHh4".repeat(1_000));
+        Task task = Task.builder(task("task-1", "ctx", TaskState.WORKING, 1))
+                .artifacts(List.of(Artifact.builder()
+                        .artifactId("artifact-1")
+                        .parts(new FilePart(large))
+                        .build()))
+                .build();
+        store.save(task);
+        store.save(Task.builder(task).id("task-2").build());
+        Path file = ((FileWithBytes) ((FilePart) store.get("task-1").artifacts().get(0).parts().get(0)).file())
+                .content().file();
+        assertNotNull(file);
+
+        // A new version read back from the store keeps the file
+        store.save(Task.builder(store.get("task-1")).status(new TaskStatus(TaskState.COMPLETED)).build());
+        store.delete("task-2");
+        assertTrue(Files.exists(file));
+
+        // Evicting the last task that references it deletes it
+        assertEquals(1, store.evictExpiredTasks(System.nanoTime() + TimeUnit.SECONDS.toNanos(61)));
+        assertFalse(Files.exists(file));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void testFinalizedTtlEvictsExpiredTasks() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.finalizedTtlSeconds = 60;
+        store.save(task("active", "ctx", TaskState.WORKING, 1));
+        store.save(task("done", "ctx", TaskState.CANCELED, 2));
+
+        long now = System.nanoTime();
+        assertEquals(0, store.evictExpiredTasks(now));
+        assertEquals(1, store.evictExpiredTasks(now + TimeUnit.SECONDS.toNanos(61)));
+
+        assertNull(store.get("done"));
+        assertTrue(store.isTaskFinalized("done"));
+        assertNotNull(store.get("active"));
+        assertEquals(1, store.getExpiredEvictionCount());
+    }
+
+    @Test
+    public void testCompactStorageRoundTripsTasks() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.compact = true;
+        store.decodedCacheSize = 0;
+        Task task = Task.builder(task("task-1", "ctx", TaskState.WORKING, 1))
+                .history(List.of(Message.builder()
+                        .role(Message.Role.USER)
+                        .messageId("message-1")
+                        .parts(new TextPart("hello"))
+                        .build()))
+                .artifacts(List.of(Artifact.builder()
+                        .artifactId("artifact-1")
+                        .parts(new TextPart("world"))
+                        .build()))
+                .build();
+        store.save(task);
+
+        Task retrieved = store.get("task-1");
+        assertEquals(task.status(), retrieved.status());
+        assertEquals("hello", ((TextPart) retrieved.history().get(0).parts().get(0)).text());
+        assertEquals("artifact-1", retrieved.artifacts().get(0).artifactId());
+        assertEquals(task.artifacts().get(0).parts(), retrieved.artifacts().get(0).parts());
+        // Without a decoded cache every read decodes a new copy
+        assertNotSame(retrieved, store.get("task-1"));
+        assertTrue(store.getEstimatedBytes() > 0);
+        assertTrue(store.isTaskActive("task-1"));
+        assertEquals(List.of("task-1"), ids(store.list(listParams("ctx", TaskState.WORKING))));
+
+        store.delete("task-1");
+        assertNull(store.get("task-1"));
+        assertEquals(0, store.getEstimatedBytes());
+    }
+
+    @Test
+    public void testCompactStorageKeepsNumbersAndOffsets() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.compact = true;
+        store.decodedCacheSize = 0;
+        Task task = Task.builder(task("task-1", "ctx", TaskState.WORKING,
+                        OffsetDateTime.of(2025, 1, 1, 2, 0, 1, 0, ZoneOffset.ofHours(2))))
+                .artifacts(List.of(Artifact.builder()
+                        .artifactId("artifact-1")
+                        .parts(new DataPart(Map.of("count", 3L, "ratio", 0.5)))
+                        .build()))
+                .metadata(Map.of("attempt", 2L, "nested", Map.of("score", 1.25)))
+                .build();
+        store.save(task);
+
+        assertEquals(task, store.get("task-1"));
+    }
+
+    @Test
+    public void testCompactStorageCachesDecodedTasks() {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        store.compact = true;
+        store.decodedCacheSize = 1;
+        Task first = task("task-1", "ctx", TaskState.WORKING, 1);
+        store.save(first);
+        Task decoded = store.get("task-1");
+        assertEquals(first, decoded);
+        assertSame(decoded, store.get("task-1"));
+
+        // Reading another task pushes the first one out of the cache, decoding it again gives the same task
+        store.save(task("task-2", "ctx", TaskState.WORKING, 2));
+        store.get("task-2");
+        Task decodedAgain = store.get("task-1");
+        assertNotSame(decoded, decodedAgain);
+        assertEquals(decoded, decodedAgain);
+
+        // A new version of the task replaces the cached one
+        Task updated = task("task-1", "ctx", TaskState.COMPLETED, 3);
+        store.save(updated);
+        assertEquals(updated.status(), store.get("task-1").status());
+    }
+
+    private static ListTasksParams listParams(String contextId, TaskState state) {
+        return ListTasksParams.builder()
+                .contextId(contextId)
+                .status(state)
+                .tenant("")
+                .build();
+    }
+
+    private static List<String> ids(ListTasksResult result) {
+        return result.tasks().stream().map(Task::id).toList();
+    }
+
+    private static Task task(String id, String contextId, TaskState state, int second) {
+        return task(id, contextId, state, OffsetDateTime.of(2025, 1, 1, 0, 0, second, 0, ZoneOffset.UTC));
+    }
+
+    private static Task task(String id, String contextId, TaskState state, OffsetDateTime timestamp) {
+        return Task.builder()
+                .id(id)
+                .contextId(contextId)
+                .status(new TaskStatus(state, null, timestamp))
+                .build();
+    }
 }
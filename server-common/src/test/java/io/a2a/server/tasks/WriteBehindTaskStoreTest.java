@@ -0,0 +1,161 @@
+package io.a2a.server.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.a2a.spec.ListTasksParams;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WriteBehindTaskStoreTest {
+
+    private InMemoryTaskStore delegate;
+    private WriteBehindTaskStore store;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = new InMemoryTaskStore();
+        // Long interval so that only the thresholds under test trigger writes
+        store = new WriteBehindTaskStore(delegate, TimeUnit.HOURS.toMillis(1), 100);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        store.close();
+    }
+
+    @Test
+    public void testSavesAreCoalescedAndReadFromTheBuffer() {
+        store.save(task(TaskState.SUBMITTED));
+        Task latest = task(TaskState.WORKING);
+        store.save(latest);
+
+        assertSame(latest, store.get("task-1"));
+        assertTrue(store.isTaskActive("task-1"));
+        assertNull(delegate.get("task-1"));
+        assertEquals(1, store.getPendingCount());
+        assertEquals(1, store.getCoalescedSaveCount());
+
+        store.flush();
+        assertSame(latest, delegate.get("task-1"));
+        assertEquals(1, store.getWriteCount());
+        assertEquals(0, store.getPendingCount());
+    }
+
+    @Test
+    public void testFinalAndInterruptedStatesAreWrittenImmediately() {
+        store.save(task(TaskState.WORKING));
+        store.save(task(TaskState.INPUT_REQUIRED));
+        assertEquals(TaskState.INPUT_REQUIRED, delegate.get("task-1").status().state());
+
+        store.save(task(TaskState.WORKING));
+        store.save(task(TaskState.COMPLETED));
+        assertEquals(TaskState.COMPLETED, delegate.get("task-1").status().state());
+        assertTrue(store.isTaskFinalized("task-1"));
+        assertFalse(store.isTaskActive("task-1"));
+        assertEquals(2, store.getWriteCount());
+    }
+
+    @Test
+    public void testMaxPendingSavesWritesInTheBackground() throws Exception {
+        store.close();
+        store = new WriteBehindTaskStore(delegate, TimeUnit.HOURS.toMillis(1), 3);
+        store.save(task(TaskState.SUBMITTED));
+        store.save(task(TaskState.WORKING));
+        store.save(task(TaskState.WORKING));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (delegate.get("task-1") == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(TaskState.WORKING, delegate.get("task-1").status().state());
+    }
+
+    @Test
+    public void testSavesPastMaxPendingSavesAreWrittenAfterAFailedWrite() throws Exception {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        CountDownLatch failedWrite = new CountDownLatch(1);
+        InMemoryTaskStore failingDelegate = new InMemoryTaskStore() {
+            @Override
+            public void save(Task task) {
+                if (failing.get()) {
+                    failedWrite.countDown();
+                    throw new IllegalStateException("Store unavailable");
+                }
+                super.save(task);
+            }
+        };
+        store.close();
+        store = new WriteBehindTaskStore(failingDelegate, TimeUnit.HOURS.toMillis(1), 2);
+        store.save(task(TaskState.SUBMITTED));
+        store.save(task(TaskState.WORKING));
+        assertTrue(failedWrite.await(5, TimeUnit.SECONDS));
+
+        failing.set(false);
+        store.save(task(TaskState.WORKING));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (store.getPendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(TaskState.WORKING, failingDelegate.get("task-1").status().state());
+        assertEquals(0, store.getPendingCount());
+    }
+
+    @Test
+    public void testBufferedFinalStateIsNotActive() {
+        AtomicBoolean failing = new AtomicBoolean();
+        InMemoryTaskStore failingDelegate = new InMemoryTaskStore() {
+            @Override
+            public void save(Task task) {
+                if (failing.get()) {
+                    throw new IllegalStateException("Store unavailable");
+                }
+                super.save(task);
+            }
+        };
+        store.close();
+        store = new WriteBehindTaskStore(failingDelegate, TimeUnit.HOURS.toMillis(1), 100);
+        store.save(task(TaskState.WORKING));
+        store.flush();
+
+        // The final state stays buffered when it cannot be written
+        failing.set(true);
+        assertThrows(IllegalStateException.class, () -> store.save(task(TaskState.COMPLETED)));
+        assertTrue(failingDelegate.isTaskActive("task-1"));
+        assertTrue(store.isTaskFinalized("task-1"));
+        assertFalse(store.isTaskActive("task-1"));
+        failing.set(false);
+    }
+
+    @Test
+    public void testListAndDeleteSeeBufferedTasks() {
+        store.save(task(TaskState.WORKING));
+        assertEquals(1, store.list(ListTasksParams.builder().tenant("").build()).totalSize());
+
+        store.save(task(TaskState.WORKING));
+        store.delete("task-1");
+        assertNull(store.get("task-1"));
+        assertNull(delegate.get("task-1"));
+        assertEquals(0, store.getPendingCount());
+    }
+
+    private static Task task(TaskState state) {
+        return Task.builder()
+                .id("task-1")
+                .contextId("ctx")
+                .status(new TaskStatus(state))
+                .build();
+    }
+}
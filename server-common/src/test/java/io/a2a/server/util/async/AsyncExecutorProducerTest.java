@@ -0,0 +1,118 @@
+package io.a2a.server.util.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.a2a.server.config.A2AConfigProvider;
+import org.junit.jupiter.api.Test;
+
+public class AsyncExecutorProducerTest {
+
+    @Test
+    public void testPlatformModeUsesThreadPool() throws Exception {
+        AsyncExecutorProducer producer = createProducer("platform");
+        try {
+            assertFalse(producer.virtualThreads);
+            ThreadPoolExecutor executor = assertInstanceOf(ThreadPoolExecutor.class, producer.produce());
+            assertEquals(5, executor.getCorePoolSize());
+            assertEquals(50, executor.getMaximumPoolSize());
+            assertTrue(threadName(executor).startsWith("a2a-agent-executor-"));
+        } finally {
+            producer.close();
+        }
+    }
+
+    @Test
+    public void testVirtualModeUsesVirtualThreadsWhenAvailable() throws Exception {
+        AsyncExecutorProducer producer = createProducer("virtual");
+        try {
+            assertTrue(producer.virtualThreads);
+            Executor executor = producer.produce();
+            if (Runtime.version().feature() >= 21) {
+                assertFalse(executor instanceof ThreadPoolExecutor);
+            } else {
+                // Older runtimes fall back to the platform thread pool
+                assertInstanceOf(ThreadPoolExecutor.class, executor);
+            }
+            assertTrue(threadName(executor).startsWith("a2a-agent-executor-"));
+        } finally {
+            producer.close();
+        }
+    }
+
+    @Test
+    public void testFullQueueRejectsAfterGrowingToMaxPoolSize() throws Exception {
+        AsyncExecutorProducer producer = createProducer("platform", 1, 2, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        Runnable blocking = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try {
+            Executor executor = producer.produce();
+            executor.execute(blocking);
+            // The second task waits in the queue...
+            executor.execute(blocking);
+            assertEquals(1, producer.getQueueDepth());
+            // ...so the third one makes the pool grow to its maximum size
+            executor.execute(blocking);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(2, producer.getActiveCount());
+
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(blocking));
+            assertEquals(1, producer.getRejectedCount());
+        } finally {
+            release.countDown();
+            producer.close();
+        }
+    }
+
+    private static String threadName(Executor executor) throws Exception {
+        return CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor)
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    private static AsyncExecutorProducer createProducer(String mode) {
+        return createProducer(mode, 5, 50, 1000);
+    }
+
+    private static AsyncExecutorProducer createProducer(String mode, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        Map<String, String> values = Map.of(
+                "a2a.executor.core-pool-size", String.valueOf(corePoolSize),
+                "a2a.executor.max-pool-size", String.valueOf(maxPoolSize),
+                "a2a.executor.keep-alive-seconds", "60",
+                "a2a.executor.queue-capacity", String.valueOf(queueCapacity),
+                "a2a.executor.mode", mode);
+        AsyncExecutorProducer producer = new AsyncExecutorProducer();
+        producer.configProvider = new A2AConfigProvider() {
+            @Override
+            public String getValue(String name) {
+                return values.get(name);
+            }
+
+            @Override
+            public Optional<String> getOptionalValue(String name) {
+                return Optional.ofNullable(values.get(name));
+            }
+        };
+        producer.init();
+        return producer;
+    }
+}
@@ -1,9 +1,7 @@
 package io.a2a.grpc.mapper;
 
-
-import java.util.Base64;
-
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import io.a2a.spec.BinaryContent;
 import io.a2a.spec.FileContent;
 import io.a2a.spec.FileWithBytes;
 import io.a2a.spec.FileWithUri;
@@ -17,6 +15,9 @@ import org.mapstruct.Mapper;
  * <p>
  * <b>Manual Implementation Required:</b> Must use manual default methods to handle protobuf oneof pattern
  * (file_with_bytes vs file_with_uri fields) and ByteString conversion, which MapStruct cannot automatically handle.
+ * <p>
+ * File bytes are shared between the {@link BinaryContent} and the {@link com.google.protobuf.ByteString}
+ * rather than copied, and never go through their base64 encoding unless they were received as base64.
  */
 @Mapper(config = A2AProtoMapperConfig.class)
 public interface FilePartMapper {
@@ -36,7 +37,8 @@ public interface FilePartMapper {
         FileContent fileContent = domain.file();
 
         if (fileContent instanceof FileWithBytes fileWithBytes) {
-            builder.setFileWithBytes(ByteString.copyFrom(Base64.getDecoder().decode(fileWithBytes.bytes())));
+            // The content is immutable, so its bytes can back the ByteString as is
+            builder.setFileWithBytes(UnsafeByteOperations.unsafeWrap(fileWithBytes.content().asByteBuffer()));
             if (fileWithBytes.mimeType() != null) {
                 builder.setMediaType(fileWithBytes.mimeType());
             }
@@ -69,8 +71,8 @@ public interface FilePartMapper {
         String name = proto.getName().isEmpty() ? null : proto.getName();
 
         if (proto.hasFileWithBytes()) {
-            String bytes = Base64.getEncoder().encodeToString(proto.getFileWithBytes().toByteArray());
-            return new io.a2a.spec.FilePart(new FileWithBytes(mimeType, name, bytes));
+            BinaryContent content = BinaryContent.of(proto.getFileWithBytes().asReadOnlyByteBuffer());
+            return new io.a2a.spec.FilePart(new FileWithBytes(mimeType, name, content));
         } else if (proto.hasFileWithUri()) {
             String uri = proto.getFileWithUri();
             return new io.a2a.spec.FilePart(new FileWithUri(mimeType, name, uri));
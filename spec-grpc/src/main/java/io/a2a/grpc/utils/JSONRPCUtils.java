@@ -10,6 +10,7 @@ import static io.a2a.spec.A2AErrorCodes.INVALID_REQUEST_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.JSON_PARSE_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.METHOD_NOT_FOUND_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.PUSH_NOTIFICATION_NOT_SUPPORTED_ERROR_CODE;
+import static io.a2a.spec.A2AErrorCodes.SERVER_BUSY_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.TASK_NOT_CANCELABLE_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.TASK_NOT_FOUND_ERROR_CODE;
 import static io.a2a.spec.A2AErrorCodes.UNSUPPORTED_OPERATION_ERROR_CODE;
@@ -74,6 +75,7 @@ import io.a2a.spec.InvalidRequestError;
 import io.a2a.spec.JSONParseError;
 import io.a2a.spec.MethodNotFoundError;
 import io.a2a.spec.PushNotificationNotSupportedError;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.spec.TaskNotCancelableError;
 import io.a2a.spec.TaskNotFoundError;
 import io.a2a.spec.UnsupportedOperationError;
@@ -399,6 +401,8 @@ public class JSONRPCUtils {
                     return new ExtensionSupportRequiredError(code, message, data);
                 case VERSION_NOT_SUPPORTED_ERROR_CODE:
                     return new VersionNotSupportedError(code, message, data);
+                case SERVER_BUSY_ERROR_CODE:
+                    return new ServerBusyError(code, message, data);
                 case TASK_NOT_CANCELABLE_ERROR_CODE:
                     return new TaskNotCancelableError(code, message, data);
                 case TASK_NOT_FOUND_ERROR_CODE:
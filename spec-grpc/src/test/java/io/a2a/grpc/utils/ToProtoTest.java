@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -19,7 +20,10 @@ import io.a2a.spec.AgentInterface;
 import io.a2a.spec.AgentSkill;
 import io.a2a.spec.Artifact;
 import io.a2a.spec.AuthenticationInfo;
+import io.a2a.spec.BinaryContent;
 import io.a2a.spec.DeleteTaskPushNotificationConfigParams;
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
 import io.a2a.spec.HTTPAuthSecurityScheme;
 import io.a2a.spec.ListTaskPushNotificationConfigParams;
 import io.a2a.spec.Message;
@@ -176,6 +180,23 @@ public class ToProtoTest {
         assertEquals(io.a2a.grpc.DataPart.getDefaultInstance(), result.getHistory(0).getParts(0).getData());
     }
 
+    @Test
+    public void convertFileWithBytes() {
+        Message message = Message.builder()
+                .role(Message.Role.USER)
+                .messageId("message-1")
+                .parts(new FilePart(new FileWithBytes("text/plain", "hello.txt", "aGVsbG8=")))
+                .build();
+        io.a2a.grpc.Message result = ProtoUtils.ToProto.message(message);
+        assertEquals("hello", result.getParts(0).getFile().getFileWithBytes().toStringUtf8());
+
+        // Read back as bytes, encoded to base64 only when asked for
+        FileWithBytes file = (FileWithBytes) ((FilePart) ProtoUtils.FromProto.message(result).parts().get(0)).file();
+        assertEquals(BinaryContent.of("hello".getBytes(StandardCharsets.UTF_8)), file.content());
+        assertEquals("aGVsbG8=", file.bytes());
+        assertEquals("hello.txt", file.name());
+    }
+
     @Test
     public void convertMessage() {
         io.a2a.grpc.Message result = ProtoUtils.ToProto.message(SIMPLE_MESSAGE);
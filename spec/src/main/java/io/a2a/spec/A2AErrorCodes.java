@@ -34,6 +34,10 @@ public interface A2AErrorCodes {
      * is not supported by the agent (-32009). */
     int VERSION_NOT_SUPPORTED_ERROR_CODE = -32009;
 
+    /** Implementation-defined server error code indicating the server is at capacity and the request
+     * can be retried later (-32000). */
+    int SERVER_BUSY_ERROR_CODE = -32000;
+
     /** JSON-RPC error code for invalid request structure (-32600). */
     int INVALID_REQUEST_ERROR_CODE = -32600;
 
@@ -0,0 +1,396 @@
+package io.a2a.spec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The content of a {@link FileWithBytes}, backed by its base64 encoding, a byte array, a
+ * {@link ByteBuffer} or a local file.
+ * <p>
+ * The content is only converted when it is read in another form: content received as base64 is
+ * decoded by {@link #openStream()}, {@link #toByteArray()} or {@link #asByteBuffer()}, and binary
+ * content is encoded by {@link #toBase64()}. Content backed by a file is read from it each time, so
+ * large payloads do not need to be held in memory; see {@link io.a2a.util.BlobDirectory}.
+ * </p>
+ * <p>
+ * Two contents held in memory are equal if they hold the same bytes, whatever form they are held in.
+ * Content received as base64 that is not valid base64 is only equal to the same encoding. Content
+ * backed by a file is only equal to content backed by the same file, so comparing contents never
+ * reads a file.
+ * </p>
+ * <p>
+ * This class is immutable, provided that the array or buffer it was created from is not modified and
+ * the file it was created from is not changed.
+ * </p>
+ *
+ * @see FileWithBytes
+ */
+public abstract sealed class BinaryContent
+        permits BinaryContent.Base64Content, BinaryContent.ArrayContent,
+        BinaryContent.BufferContent, BinaryContent.FileBackedContent {
+
+    // A multiple of 3, so that chunks are encoded without padding
+    private static final int CHUNK_SIZE = 3 * 16 * 1024;
+
+    private BinaryContent() {
+    }
+
+    /**
+     * Returns the content with the given base64 encoding. The encoding is decoded when the content is read.
+     *
+     * @param base64 the base64 encoding of the content
+     * @return the content
+     */
+    public static BinaryContent ofBase64(String base64) {
+        return new Base64Content(Objects.requireNonNull(base64, "base64"));
+    }
+
+    /**
+     * Returns the content held by the given array. The array is not copied and must not be modified afterwards.
+     *
+     * @param bytes the bytes
+     * @return the content
+     */
+    public static BinaryContent of(byte[] bytes) {
+        return new ArrayContent(Objects.requireNonNull(bytes, "bytes"));
+    }
+
+    /**
+     * Returns the content between the position and the limit of the given buffer. The buffer is not
+     * copied, and its content must not be modified afterwards.
+     *
+     * @param buffer the buffer
+     * @return the content
+     */
+    public static BinaryContent of(ByteBuffer buffer) {
+        return new BufferContent(buffer.slice().asReadOnlyBuffer());
+    }
+
+    /**
+     * Returns the content of the given file. The file is read each time the content is read, and must
+     * not be changed or deleted while the content is in use.
+     *
+     * @param file the file
+     * @return the content
+     */
+    public static BinaryContent ofFile(Path file) {
+        return new FileBackedContent(Objects.requireNonNull(file, "file"));
+    }
+
+    /**
+     * Returns the number of bytes of the content.
+     *
+     * @return the size in bytes
+     */
+    public abstract long size();
+
+    /**
+     * Returns the file backing the content, if any.
+     *
+     * @return the file, or null if the content is held in memory
+     */
+    public @Nullable Path file() {
+        return null;
+    }
+
+    /**
+     * Opens a stream reading the bytes of the content.
+     *
+     * @return a new stream
+     */
+    public abstract InputStream openStream();
+
+    /**
+     * Returns the bytes of the content.
+     *
+     * @return the bytes, in an array that may be shared with this content and must not be modified
+     */
+    public abstract byte[] toByteArray();
+
+    /**
+     * Returns a read-only buffer with the bytes of the content, sharing them with this content when
+     * they are held in memory.
+     *
+     * @return the buffer
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(toByteArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the base64 encoding of the content.
+     *
+     * @return the base64 encoding
+     */
+    public String toBase64() {
+        long size = size();
+        long encodedLength = (size + 2) / 3 * 4;
+        if (encodedLength > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Content of " + size + " bytes is too large to encode to a string");
+        }
+        StringBuilder encoded = new StringBuilder((int) encodedLength);
+        Base64.Encoder encoder = Base64.getEncoder();
+        byte[] chunk = new byte[CHUNK_SIZE];
+        try (InputStream in = openStream()) {
+            int read;
+            while ((read = in.readNBytes(chunk, 0, CHUNK_SIZE)) > 0) {
+                byte[] encodedChunk = encoder.encode(read == CHUNK_SIZE ? chunk : Arrays.copyOf(chunk, read));
+                for (byte b : encodedChunk) {
+                    encoded.append((char) b);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + this, e);
+        }
+        return encoded.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BinaryContent other)) {
+            return false;
+        }
+        Path file = file();
+        Path otherFile = other.file();
+        if (file != null || otherFile != null) {
+            return Objects.equals(file, otherFile);
+        }
+        if (this instanceof Base64Content encoded && other instanceof Base64Content otherEncoded
+                && encoded.base64.equals(otherEncoded.base64)) {
+            return true;
+        }
+        if (size() != other.size()) {
+            return false;
+        }
+        try (InputStream in = openStream(); InputStream otherIn = other.openStream()) {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            byte[] otherChunk = new byte[CHUNK_SIZE];
+            int read;
+            do {
+                read = in.readNBytes(chunk, 0, CHUNK_SIZE);
+                int otherRead = otherIn.readNBytes(otherChunk, 0, CHUNK_SIZE);
+                if (read != otherRead || !Arrays.equals(chunk, 0, read, otherChunk, 0, read)) {
+                    return false;
+                }
+            } while (read == CHUNK_SIZE);
+            return true;
+        } catch (IOException e) {
+            // Invalid base64: only equal to the same encoding, compared above
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        // Equal contents held in memory have the same size, whatever form they are held in, and the
+        // size is cheap to get for them
+        Path file = file();
+        return file != null ? file.hashCode() : Long.hashCode(size());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + size() + "]";
+    }
+
+    static final class Base64Content extends BinaryContent {
+
+        private final String base64;
+
+        private Base64Content(String base64) {
+            this.base64 = base64;
+        }
+
+        @Override
+        public long size() {
+            int length = base64.length();
+            int padding = 0;
+            while (padding < 2 && length - padding > 0 && base64.charAt(length - padding - 1) == '=') {
+                padding++;
+            }
+            return (long) (length - padding) * 3 / 4;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return Base64.getDecoder().wrap(new InputStream() {
+                private int position;
+
+                @Override
+                public int read() {
+                    return position < base64.length() ? base64.charAt(position++) & 0xff : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (len == 0) {
+                        return 0;
+                    }
+                    int count = Math.min(len, base64.length() - position);
+                    if (count <= 0) {
+                        return -1;
+                    }
+                    for (int i = 0; i < count; i++) {
+                        b[off + i] = (byte) base64.charAt(position++);
+                    }
+                    return count;
+                }
+            });
+        }
+
+        @Override
+        public byte[] toByteArray() {
+            return Base64.getDecoder().decode(base64);
+        }
+
+        @Override
+        public String toBase64() {
+            return base64;
+        }
+    }
+
+    static final class ArrayContent extends BinaryContent {
+
+        private final byte[] bytes;
+
+        private ArrayContent(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public long size() {
+            return bytes.length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public byte[] toByteArray() {
+            return bytes;
+        }
+
+        @Override
+        public String toBase64() {
+            return Base64.getEncoder().encodeToString(bytes);
+        }
+    }
+
+    static final class BufferContent extends BinaryContent {
+
+        private final ByteBuffer buffer;
+
+        private BufferContent(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public long size() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public InputStream openStream() {
+            ByteBuffer source = buffer.duplicate();
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return source.hasRemaining() ? source.get() & 0xff : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (len == 0) {
+                        return 0;
+                    }
+                    if (!source.hasRemaining()) {
+                        return -1;
+                    }
+                    int count = Math.min(len, source.remaining());
+                    source.get(b, off, count);
+                    return count;
+                }
+            };
+        }
+
+        @Override
+        public byte[] toByteArray() {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return bytes;
+        }
+
+        @Override
+        public ByteBuffer asByteBuffer() {
+            return buffer.duplicate();
+        }
+    }
+
+    static final class FileBackedContent extends BinaryContent {
+
+        private final Path file;
+        // Read once, the file must not change
+        private volatile long size = -1;
+
+        private FileBackedContent(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public long size() {
+            long result = size;
+            if (result < 0) {
+                try {
+                    result = Files.size(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read the size of " + file, e);
+                }
+                size = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Path file() {
+            return file;
+        }
+
+        @Override
+        public InputStream openStream() {
+            try {
+                return Files.newInputStream(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open " + file, e);
+            }
+        }
+
+        @Override
+        public byte[] toByteArray() {
+            try {
+                return Files.readAllBytes(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + file, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "FileBackedContent[file=" + file + "]";
+        }
+    }
+}
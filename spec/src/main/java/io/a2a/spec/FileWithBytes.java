@@ -1,5 +1,7 @@
 package io.a2a.spec;
 
+import io.a2a.util.Assert;
+
 /**
  * Represents file content embedded directly as base64-encoded bytes.
  * <p>
@@ -12,17 +14,58 @@ package io.a2a.spec;
  *   <li>Scenarios where URI accessibility is uncertain</li>
  * </ul>
  * <p>
- * The bytes field contains the base64-encoded file content. Decoders should handle the base64
- * encoding/decoding transparently.
+ * The content is transmitted base64-encoded in JSON and as raw bytes in gRPC. It is held as a
+ * {@link BinaryContent}, which keeps it in the form it was received or created in: base64 received
+ * in JSON is only decoded when the bytes are read, bytes received in gRPC are only encoded when the
+ * base64 form is read, and large content can be kept in a local file instead of memory.
+ * <p>
+ * <b>Incompatible change:</b> the record component holding the content is {@code content}, a
+ * {@link BinaryContent}; it used to be the {@code String bytes}. The {@link #bytes()} accessor and the
+ * {@link #FileWithBytes(String, String, String)} constructor keep their former signatures, but record
+ * patterns deconstructing a {@code FileWithBytes}, and code finding its components by reflection,
+ * must be updated.
  * <p>
  * This class is immutable.
  *
  * @param mimeType the MIME type of the file (e.g., "image/png", "application/pdf") (required)
  * @param name the file name (e.g., "report.pdf", "diagram.png") (required)
- * @param bytes the base64-encoded file content (required)
+ * @param content the file content (required)
  * @see FileContent
  * @see FilePart
  * @see FileWithUri
  */
-public record FileWithBytes(String mimeType, String name, String bytes) implements FileContent {
+public record FileWithBytes(String mimeType, String name, BinaryContent content) implements FileContent {
+
+    /**
+     * Compact constructor with validation.
+     *
+     * @param mimeType the MIME type of the file
+     * @param name the file name
+     * @param content the file content (required, must not be null)
+     * @throws IllegalArgumentException if content is null
+     */
+    public FileWithBytes {
+        Assert.checkNotNullParam("content", content);
+    }
+
+    /**
+     * Creates file content from its base64 encoding.
+     *
+     * @param mimeType the MIME type of the file (e.g., "image/png", "application/pdf") (required)
+     * @param name the file name (e.g., "report.pdf", "diagram.png") (required)
+     * @param bytes the base64-encoded file content (required)
+     * @throws IllegalArgumentException if bytes is null
+     */
+    public FileWithBytes(String mimeType, String name, String bytes) {
+        this(mimeType, name, BinaryContent.ofBase64(Assert.checkNotNullParam("bytes", bytes)));
+    }
+
+    /**
+     * Returns the base64 encoding of the file content, encoding it if it is not held in that form.
+     *
+     * @return the base64-encoded file content
+     */
+    public String bytes() {
+        return content.toBase64();
+    }
 }
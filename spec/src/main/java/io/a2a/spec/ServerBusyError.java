@@ -0,0 +1,50 @@
+package io.a2a.spec;
+
+import static io.a2a.spec.A2AErrorCodes.SERVER_BUSY_ERROR_CODE;
+import static io.a2a.util.Utils.defaultIfNull;
+
+
+/**
+ * Error indicating the server is at capacity and did not accept the request.
+ * <p>
+ * Returned when the agent executor's work queue is full, so that overload results in a fast rejection
+ * instead of unbounded queueing latency. The request was not processed and can safely be retried later,
+ * preferably with a backoff. Transports map it to a retryable status: HTTP {@code 503 Service Unavailable}
+ * for REST and gRPC {@code RESOURCE_EXHAUSTED}.
+ * <p>
+ * Corresponds to the implementation-defined JSON-RPC server error code {@code -32000}.
+ *
+ * @see <a href="https://www.jsonrpc.org/specification#error_object">JSON-RPC 2.0 Error Codes</a>
+ */
+public class ServerBusyError extends A2AError {
+
+    /**
+     * Constructs a server busy error with default message.
+     */
+    public ServerBusyError() {
+        this(null, null, null);
+    }
+
+    /**
+     * Constructs a server busy error with full parameters.
+     *
+     * @param code the error code (defaults to -32000 if null)
+     * @param message the error message (defaults to standard message if null)
+     * @param data additional error data (optional)
+     */
+    public ServerBusyError(Integer code, String message, Object data) {
+        super(
+                defaultIfNull(code, SERVER_BUSY_ERROR_CODE),
+                defaultIfNull(message, "Server is busy, retry later"),
+                data);
+    }
+
+    /**
+     * Constructs a server busy error with a message.
+     *
+     * @param message the error message
+     */
+    public ServerBusyError(String message) {
+        this(null, message, null);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import io.a2a.util.Assert;
+import io.a2a.util.PersistentList;
 
 /**
  * Represents a single, stateful operation or conversation between a client and an agent in the A2A Protocol.
@@ -71,8 +72,9 @@ public record Task(
         Assert.checkNotNullParam("id", id);
         Assert.checkNotNullParam("contextId", contextId);
         Assert.checkNotNullParam("status", status);
-        artifacts = artifacts != null ? List.copyOf(artifacts) : List.of();
-        history = history != null ? List.copyOf(history) : List.of();
+        // Persistent lists, so that copies with an appended artifact or message share the existing ones
+        artifacts = artifacts != null ? PersistentList.copyOf(artifacts) : PersistentList.empty();
+        history = history != null ? PersistentList.copyOf(history) : PersistentList.empty();
         metadata = (metadata != null) ? Map.copyOf(metadata) : null;
     }
 
@@ -0,0 +1,61 @@
+package io.a2a.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.a2a.spec.Artifact;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskArtifactUpdateEvent;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Positions of the artifacts of a task by artifact ID, carried alongside the task by whoever applies
+ * its artifact updates.
+ * <p>
+ * {@link Utils#appendArtifactToTask(Task, TaskArtifactUpdateEvent, String, ArtifactIndex)} looks the
+ * updated artifact up in the index instead of scanning the task's artifacts, and keeps the index up to
+ * date with the artifacts it returns. The index remembers which artifacts list it describes: when it is
+ * given another list, for example because the task was replaced by a {@link Task} event, it is rebuilt
+ * from that list.
+ * </p>
+ * <p>
+ * An index is not thread-safe. It is meant to be owned by a single task manager.
+ * </p>
+ */
+public final class ArtifactIndex {
+
+    // The list the positions describe, compared by identity
+    private @Nullable List<Artifact> artifacts;
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public ArtifactIndex() {
+    }
+
+    /**
+     * Returns the position of the first artifact with the given ID, or -1 if there is none.
+     */
+    int indexOf(List<Artifact> artifacts, String artifactId) {
+        if (artifacts != this.artifacts) {
+            positions.clear();
+            for (int i = 0; i < artifacts.size(); i++) {
+                positions.putIfAbsent(artifacts.get(i).artifactId(), i);
+            }
+            this.artifacts = artifacts;
+        }
+        Integer position = positions.get(artifactId);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Records that the artifact with the given ID was added or replaced at the given position,
+     * producing the given list.
+     */
+    void update(List<Artifact> artifacts, String artifactId, int position) {
+        positions.put(artifactId, position);
+        this.artifacts = artifacts;
+    }
+}
@@ -0,0 +1,227 @@
+package io.a2a.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.a2a.spec.BinaryContent;
+import io.a2a.spec.FileWithBytes;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Local directory where large file contents are moved out of memory.
+ * <p>
+ * {@link #spill(BinaryContent)} writes a content larger than the threshold to a file named after the
+ * SHA-256 digest of its bytes, and returns a content backed by that file. The same bytes are only
+ * stored once, however many tasks or messages hold them. A file is first written under a temporary
+ * name and then renamed, so a file with a digest name is always complete.
+ * </p>
+ * <p>
+ * Each spill that returns a content backed by a file of this directory counts a reference to the
+ * file, including the spill of a content that is already backed by one. {@link #release(BinaryContent)}
+ * drops a reference, and the file is deleted when the last one is dropped. Contents backed by a
+ * deleted file can no longer be read, so a content must not be used after its reference is released.
+ * </p>
+ * <pre>{@code
+ * BlobDirectory blobs = new BlobDirectory(Path.of("/var/cache/a2a-blobs"), 1024 * 1024);
+ * FileWithBytes file = blobs.spill(fileWithBytes);
+ * ...
+ * blobs.release(file.content());
+ * }</pre>
+ */
+public final class BlobDirectory {
+
+    private final Path directory;
+    private final long threshold;
+    // Number of references to each file. Guarded by itself, as are the creation and deletion of files.
+    private final Map<Path, Integer> references = new HashMap<>();
+
+    /**
+     * Creates a blob directory, creating the directory itself if it does not exist.
+     *
+     * @param directory the directory to write files to
+     * @param threshold the size in bytes above which contents are spilled
+     * @throws UncheckedIOException if the directory cannot be created
+     */
+    public BlobDirectory(Path directory, long threshold) {
+        Assert.checkNotNullParam("directory", directory);
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative");
+        }
+        try {
+            this.directory = Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create " + directory, e);
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the directory files are written to.
+     *
+     * @return the directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the size in bytes above which contents are spilled.
+     *
+     * @return the threshold
+     */
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Returns the content backed by a file of this directory if it is larger than the threshold, or the
+     * content itself if it is not or if it is already backed by a file. A reference to the file is
+     * counted when the returned content is backed by a file of this directory.
+     *
+     * @param content the content
+     * @return the content, possibly backed by a file of this directory
+     * @throws UncheckedIOException if the content cannot be written, or if it is backed by a file of
+     * this directory that was already deleted
+     */
+    public BinaryContent spill(BinaryContent content) {
+        Path existing = content.file();
+        if (existing != null) {
+            if (isBlob(existing)) {
+                synchronized (references) {
+                    if (!Files.exists(existing)) {
+                        throw new UncheckedIOException(new NoSuchFileException(existing.toString(),
+                                null, "its last reference was released"));
+                    }
+                    references.merge(existing, 1, Integer::sum);
+                }
+            }
+            return content;
+        }
+        if (content.size() <= threshold) {
+            return content;
+        }
+        Path temporary = null;
+        try {
+            temporary = Files.createTempFile(directory, "blob-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = content.openStream();
+                 OutputStream out = new DigestOutputStream(Files.newOutputStream(temporary), digest)) {
+                in.transferTo(out);
+            }
+            Path file = directory.resolve(HexFormat.of().formatHex(digest.digest()));
+            // Under the lock, so that a release of the same bytes cannot delete the file in between
+            synchronized (references) {
+                if (Files.exists(file)) {
+                    Files.delete(temporary);
+                } else {
+                    move(temporary, file);
+                }
+                references.merge(file, 1, Integer::sum);
+            }
+            return BinaryContent.ofFile(file);
+        } catch (IOException e) {
+            deleteQuietly(temporary);
+            throw new UncheckedIOException("Failed to write a blob to " + directory, e);
+        } catch (NoSuchAlgorithmException e) {
+            deleteQuietly(temporary);
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the file with its content spilled as by {@link #spill(BinaryContent)}.
+     *
+     * @param file the file
+     * @return the given file if its content was not spilled, otherwise a file with the same name and
+     * MIME type and the spilled content
+     * @throws UncheckedIOException if the content cannot be written
+     */
+    public FileWithBytes spill(FileWithBytes file) {
+        BinaryContent spilled = spill(file.content());
+        return spilled == file.content() ? file : new FileWithBytes(file.mimeType(), file.name(), spilled);
+    }
+
+    /**
+     * Drops a reference counted by {@link #spill(BinaryContent)}, deleting the file of the content when
+     * it was the last one. Does nothing if the content is not backed by a file of this directory.
+     *
+     * @param content the content
+     */
+    public void release(BinaryContent content) {
+        Path file = content.file();
+        if (file == null || !isBlob(file)) {
+            return;
+        }
+        synchronized (references) {
+            Integer count = references.get(file);
+            if (count == null) {
+                return;
+            }
+            if (count > 1) {
+                references.put(file, count - 1);
+                return;
+            }
+            references.remove(file);
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * Deletes the directory and every file in it. The contents spilled to it can no longer be read.
+     *
+     * @throws UncheckedIOException if a file cannot be deleted
+     */
+    public void delete() {
+        synchronized (references) {
+            references.clear();
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (NoSuchFileException e) {
+                // Already deleted
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete " + directory, e);
+            }
+        }
+    }
+
+    private boolean isBlob(Path file) {
+        return directory.equals(file.getParent());
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(@Nullable Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // The original failure is reported
+        }
+    }
+}
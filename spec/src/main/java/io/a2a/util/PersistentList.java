@@ -0,0 +1,258 @@
+package io.a2a.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list that shares its structure with the lists derived from it.
+ * <p>
+ * Elements are held in a tree of arrays of 32 elements, with the last elements in a separate tail
+ * array. {@link #withAppended(Object)} copies the tail, and the path from the root to it once the tail
+ * is full, so appending to a list of any size costs amortized constant time and leaves the original
+ * list unchanged. {@link #withReplaced(int, Object)} copies one path. Reads cost at most a few array
+ * lookups.
+ * </p>
+ * <p>
+ * Like the lists returned by {@link java.util.List#copyOf(Collection)}, the list rejects null elements
+ * and every mutator of the {@link java.util.List} interface throws
+ * {@link UnsupportedOperationException}. It is equal to any list with the same elements in the same order.
+ * </p>
+ * <p>
+ * {@link io.a2a.spec.Task Task} keeps its history and artifacts, and {@link io.a2a.spec.Artifact Artifact}
+ * its parts, in such lists, so that adding a message, an artifact or a part to a copy does not copy
+ * the existing ones:
+ * </p>
+ * <pre>{@code
+ * Task updated = Task.builder(task)
+ *         .history(PersistentList.copyOf(task.history()).withAppended(message))
+ *         .build();
+ * }</pre>
+ *
+ * @param <E> the type of elements
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] NO_ELEMENTS = new Object[0];
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, BITS, new Object[WIDTH], NO_ELEMENTS);
+
+    private final int size;
+    // Number of bits of the index consumed by the levels above the leaves
+    private final int shift;
+    private final Object[] root;
+    // The last 1 to 32 elements, or none if the list is empty
+    private final Object[] tail;
+
+    private PersistentList(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @param <E> the type of elements
+     * @return the empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list with the elements of the given collection, in its iteration order. A
+     * {@code PersistentList} is returned as is.
+     *
+     * @param <E> the type of elements
+     * @param elements the elements
+     * @return the list
+     * @throws NullPointerException if the collection or any of its elements is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PersistentList<?> list) {
+            return (PersistentList<E>) list;
+        }
+        return PersistentList.<E>empty().withAppendedAll(elements);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private Object[] leaf = NO_ELEMENTS;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (E) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Returns a list with the elements of this list followed by the given element.
+     *
+     * @param element the element to append
+     * @return the new list
+     * @throws NullPointerException if the element is null
+     */
+    public PersistentList<E> withAppended(E element) {
+        Objects.requireNonNull(element, "element");
+        if (tail.length < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+        return withTailPushed(new Object[] {element});
+    }
+
+    /**
+     * Returns a list with the elements of this list followed by the elements of the given collection,
+     * in its iteration order.
+     *
+     * @param elements the elements to append
+     * @return the new list, or this list if the collection is empty
+     * @throws NullPointerException if the collection or any of its elements is null
+     */
+    public PersistentList<E> withAppendedAll(Collection<? extends E> elements) {
+        Object[] added = elements.toArray();
+        for (Object element : added) {
+            Objects.requireNonNull(element, "element");
+        }
+        if (added.length == 0) {
+            return this;
+        }
+        // Fill the tail, then push full tails into the tree
+        int filled = Math.min(WIDTH - tail.length, added.length);
+        PersistentList<E> list = this;
+        if (filled > 0) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + filled);
+            System.arraycopy(added, 0, newTail, tail.length, filled);
+            list = new PersistentList<>(size + filled, shift, root, newTail);
+        }
+        for (int start = filled; start < added.length; start += WIDTH) {
+            list = list.withTailPushed(Arrays.copyOfRange(added, start, Math.min(start + WIDTH, added.length)));
+        }
+        return list;
+    }
+
+    /**
+     * Returns a list with the elements of this list, except the one at the given index which is replaced.
+     *
+     * @param index the index of the element to replace
+     * @param element the new element
+     * @return the new list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException if the element is null
+     */
+    public PersistentList<E> withReplaced(int index, E element) {
+        Objects.checkIndex(index, size);
+        Objects.requireNonNull(element, "element");
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentList<>(size, shift, root, newTail);
+        }
+        return new PersistentList<>(size, shift, replace(shift, root, index, element), tail);
+    }
+
+    private int tailOffset() {
+        return size - tail.length;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Moves the tail, which must be full, into the tree and starts a new tail.
+     */
+    private PersistentList<E> withTailPushed(Object[] newTail) {
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // The tree is full: add a level
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = insertLeaf(shift, root, tail);
+        }
+        return new PersistentList<>(size + newTail.length, newShift, newRoot, newTail);
+    }
+
+    private Object[] insertLeaf(int level, Object[] parent, Object[] leaf) {
+        int childIndex = ((size - 1) >>> level) & MASK;
+        Object[] node = parent.clone();
+        if (level == BITS) {
+            node[childIndex] = leaf;
+        } else {
+            Object child = parent[childIndex];
+            node[childIndex] = child != null
+                    ? insertLeaf(level - BITS, (Object[]) child, leaf)
+                    : newPath(level - BITS, leaf);
+        }
+        return node;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static Object[] replace(int level, Object[] node, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int childIndex = (index >>> level) & MASK;
+            copy[childIndex] = replace(level - BITS, (Object[]) node[childIndex], index, element);
+        }
+        return copy;
+    }
+}
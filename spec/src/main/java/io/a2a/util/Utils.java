@@ -2,7 +2,6 @@ package io.a2a.util;
 
 import static io.a2a.util.Assert.checkNotNullParam;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -92,47 +91,63 @@ public class Utils {
      * @see Artifact for artifact structure
      */
     public static Task appendArtifactToTask(Task task, TaskArtifactUpdateEvent event, String taskId) {
+        return appendArtifactToTask(task, event, taskId, null);
+    }
+
+    /**
+     * Appends or updates an artifact in a task based on a {@link TaskArtifactUpdateEvent}, like
+     * {@link #appendArtifactToTask(Task, TaskArtifactUpdateEvent, String)}, looking the artifact up in
+     * an index of the task's artifacts instead of scanning them.
+     * <p>
+     * The index is updated to describe the artifacts of the returned task. Passing the same index with
+     * each update of a task makes applying an update independent of the number of artifacts.
+     *
+     * @param task the current task to update
+     * @param event the artifact update event containing the new/updated artifact
+     * @param taskId the task ID (for logging purposes)
+     * @param artifactIndex the index of the task's artifacts, or null to scan them
+     * @return a new Task instance with the updated artifacts list
+     * @see ArtifactIndex
+     */
+    public static Task appendArtifactToTask(Task task, TaskArtifactUpdateEvent event, String taskId,
+                                            @Nullable ArtifactIndex artifactIndex) {
         // Append artifacts
-        List<Artifact> artifacts = task.artifacts() == null ? new ArrayList<>() : new ArrayList<>(task.artifacts());
+        PersistentList<Artifact> artifacts = PersistentList.copyOf(task.artifacts());
 
         Artifact newArtifact = event.artifact();
         String artifactId = newArtifact.artifactId();
         boolean appendParts = event.append() != null && event.append();
 
-        Artifact existingArtifact = null;
-        int existingArtifactIndex = -1;
-
-        for (int i = 0; i < artifacts.size(); i++) {
-            Artifact curr = artifacts.get(i);
-            if (curr.artifactId() != null && curr.artifactId().equals(artifactId)) {
-                existingArtifact = curr;
-                existingArtifactIndex = i;
-                break;
-            }
-        }
+        int existingArtifactIndex = artifactIndex != null
+                ? artifactIndex.indexOf(artifacts, artifactId)
+                : indexOf(artifacts, artifactId);
+        Artifact existingArtifact = existingArtifactIndex >= 0 ? artifacts.get(existingArtifactIndex) : null;
+        int updatedIndex = -1;
 
         if (!appendParts) {
             // This represents the first chunk for this artifact index
             if (existingArtifactIndex >= 0) {
                 // Replace the existing artifact entirely with the new artifact
                 log.fine(String.format("Replacing artifact at id %s for task %s", artifactId, taskId));
-                artifacts.set(existingArtifactIndex, newArtifact);
+                artifacts = artifacts.withReplaced(existingArtifactIndex, newArtifact);
+                updatedIndex = existingArtifactIndex;
             } else {
                 // Append the new artifact since no artifact with this id/index exists yet
                 log.fine(String.format("Adding artifact at id %s for task %s", artifactId, taskId));
-                artifacts.add(newArtifact);
+                artifacts = artifacts.withAppended(newArtifact);
+                updatedIndex = artifacts.size() - 1;
             }
 
         } else if (existingArtifact != null) {
             // Append new parts to the existing artifact's parts list
-            // Do this to a copy
+            // Persistent lists share the existing parts and artifacts with the copies
             log.fine(String.format("Appending parts to artifact id %s for task %s", artifactId, taskId));
-            List<Part<?>> parts = new ArrayList<>(existingArtifact.parts());
-            parts.addAll(newArtifact.parts());
+            List<Part<?>> parts = PersistentList.copyOf(existingArtifact.parts()).withAppendedAll(newArtifact.parts());
             Artifact updated = Artifact.builder(existingArtifact)
                     .parts(parts)
                     .build();
-            artifacts.set(existingArtifactIndex, updated);
+            artifacts = artifacts.withReplaced(existingArtifactIndex, updated);
+            updatedIndex = existingArtifactIndex;
         } else {
             // We received a chunk to append, but we don't have an existing artifact.
             // We will ignore this chunk
@@ -141,12 +156,24 @@ public class Utils {
                             artifactId, taskId));
         }
 
+        if (artifactIndex != null && updatedIndex >= 0) {
+            artifactIndex.update(artifacts, artifactId, updatedIndex);
+        }
         return Task.builder(task)
                 .artifacts(artifacts)
                 .build();
 
     }
 
+    private static int indexOf(List<Artifact> artifacts, String artifactId) {
+        for (int i = 0; i < artifacts.size(); i++) {
+            if (artifactId.equals(artifacts.get(i).artifactId())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Get the first defined URL in the supported interaces of the agent card.
      *
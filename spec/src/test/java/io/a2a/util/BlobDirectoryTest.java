@@ -0,0 +1,122 @@
+package io.a2a.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import io.a2a.spec.BinaryContent;
+import io.a2a.spec.FileWithBytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link BlobDirectory} and the {@link BinaryContent} it spills.
+ */
+class BlobDirectoryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testContentsAreEqualWhateverBacksThem() throws IOException {
+        // Larger than a chunk, and not a multiple of 3
+        byte[] bytes = new byte[200_000];
+        new Random(42).nextBytes(bytes);
+        String base64 = Base64.getEncoder().encodeToString(bytes);
+
+        BinaryContent encoded = BinaryContent.ofBase64(base64);
+        BinaryContent array = BinaryContent.of(bytes);
+        BinaryContent buffer = BinaryContent.of(ByteBuffer.wrap(bytes));
+        Path path = Files.write(directory.resolve("content"), bytes);
+        BinaryContent file = BinaryContent.ofFile(path);
+        for (BinaryContent content : new BinaryContent[] {encoded, array, buffer, file}) {
+            assertEquals(bytes.length, content.size());
+            assertEquals(base64, content.toBase64());
+            assertArrayEquals(bytes, content.toByteArray());
+        }
+        for (BinaryContent content : new BinaryContent[] {encoded, array, buffer}) {
+            assertEquals(encoded, content);
+            assertEquals(encoded.hashCode(), content.hashCode());
+        }
+        assertNotEquals(encoded, BinaryContent.of(new byte[bytes.length]));
+
+        // Content backed by a file is compared by its file, without reading it
+        assertEquals(BinaryContent.ofFile(path), file);
+        assertEquals(BinaryContent.ofFile(path).hashCode(), file.hashCode());
+        assertNotEquals(encoded, file);
+        assertNotEquals(file, encoded);
+        Files.delete(path);
+        assertEquals(BinaryContent.ofFile(path), file);
+
+        // Not valid base64: kept as is, and only equal to the same string
+        BinaryContent invalid = BinaryContent.ofBase64("{}");
+        assertEquals("{}", invalid.toBase64());
+        assertEquals(BinaryContent.ofBase64("{}"), invalid);
+        assertNotEquals(BinaryContent.of(new byte[1]), invalid);
+    }
+
+    @Test
+    void testLargeContentsAreSpilledOnceByDigest() throws IOException {
+        BlobDirectory blobs = new BlobDirectory(directory.resolve("blobs"), 16);
+        FileWithBytes small = new FileWithBytes("text/plain", "small.txt", "aGVsbG8=");
+        assertSame(small, blobs.spill(small));
+
+        byte[] bytes = "a content larger than the threshold".getBytes(StandardCharsets.UTF_8);
+        FileWithBytes large = new FileWithBytes("text/plain", "large.txt", Base64.getEncoder().encodeToString(bytes));
+        FileWithBytes spilled = blobs.spill(large);
+        Path file = spilled.content().file();
+        assertNotNull(file);
+        assertNull(large.content().file());
+        // Same bytes, but content backed by a file is only equal to content backed by the same file
+        assertNotEquals(large, spilled);
+        assertEquals(large.bytes(), spilled.bytes());
+        assertEquals("large.txt", spilled.name());
+        assertArrayEquals(bytes, Files.readAllBytes(file));
+        assertSame(spilled, blobs.spill(spilled));
+
+        // The same bytes, however they are held, end up in the same file
+        assertEquals(file, blobs.spill(BinaryContent.of(bytes)).file());
+        try (Stream<Path> files = Files.list(blobs.getDirectory())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void testFilesAreDeletedWithTheirLastReference() throws IOException {
+        BlobDirectory blobs = new BlobDirectory(directory.resolve("blobs"), 16);
+        byte[] bytes = "a content larger than the threshold".getBytes(StandardCharsets.UTF_8);
+        BinaryContent first = blobs.spill(BinaryContent.of(bytes));
+        BinaryContent second = blobs.spill(BinaryContent.of(bytes));
+        BinaryContent third = blobs.spill(first);
+        Path file = first.file();
+        assertEquals(file, second.file());
+
+        blobs.release(first);
+        blobs.release(second);
+        assertTrue(Files.exists(file));
+        blobs.release(third);
+        assertFalse(Files.exists(file));
+        assertThrows(UncheckedIOException.class, () -> blobs.spill(third));
+
+        // Spilled again once deleted
+        assertArrayEquals(bytes, Files.readAllBytes(blobs.spill(BinaryContent.of(bytes)).file()));
+        blobs.delete();
+        assertFalse(Files.exists(blobs.getDirectory()));
+    }
+}
@@ -0,0 +1,85 @@
+package io.a2a.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PersistentList}.
+ */
+class PersistentListTest {
+
+    @Test
+    void testAppendedListsShareTheirPrefix() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        // Enough elements for three levels of the tree
+        for (int i = 0; i < 40_000; i++) {
+            versions.add(list);
+            list = list.withAppended(i);
+            expected.add(i);
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+        assertEquals(new ArrayList<>(list), expected);
+        for (int size : new int[] {0, 1, 32, 33, 1024, 1056, 32_768, 32_800}) {
+            assertEquals(expected.subList(0, size), versions.get(size));
+        }
+    }
+
+    @Test
+    void testAppendAll() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int batch : new int[] {0, 5, 27, 1, 100, 2000, 31}) {
+            List<Integer> elements = new ArrayList<>();
+            for (int i = 0; i < batch; i++) {
+                elements.add(expected.size() + i);
+            }
+            list = list.withAppendedAll(elements);
+            expected.addAll(elements);
+            assertEquals(expected, list);
+        }
+        assertEquals(expected, PersistentList.copyOf(expected));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    void testReplaceLeavesTheOriginalUnchanged() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1100; i++) {
+            expected.add(i);
+        }
+        PersistentList<Integer> original = PersistentList.copyOf(expected);
+
+        PersistentList<Integer> replaced = original.withReplaced(0, -1).withReplaced(700, -2).withReplaced(1099, -3);
+
+        assertEquals(expected, original);
+        expected.set(0, -1);
+        expected.set(700, -2);
+        expected.set(1099, -3);
+        assertEquals(expected, replaced);
+    }
+
+    @Test
+    void testImmutableListContract() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(NullPointerException.class, () -> list.withAppended(null));
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(List.of("a", "b"), list);
+    }
+}
@@ -4,7 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+
 import io.a2a.spec.AgentInterface;
+import io.a2a.spec.Artifact;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskArtifactUpdateEvent;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TextPart;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -190,4 +198,67 @@ class UtilsTest {
         String url = Utils.buildBaseUrl(iface, null);
         assertEquals("https://secure.example.com/tenant", url);
     }
+
+    // ========== appendArtifactToTask(Task, TaskArtifactUpdateEvent, String, ArtifactIndex) Tests ==========
+
+    @Test
+    void testAppendArtifactToTask_withIndex_matchesScan() {
+        ArtifactIndex index = new ArtifactIndex();
+        Task indexed = task();
+        Task scanned = indexed;
+        List<TaskArtifactUpdateEvent> events = List.of(
+                artifactEvent("a", "1", false),
+                artifactEvent("b", "2", false),
+                artifactEvent("a", "3", true),
+                artifactEvent("c", "4", true),
+                artifactEvent("b", "5", false),
+                artifactEvent("b", "6", true));
+        for (TaskArtifactUpdateEvent event : events) {
+            indexed = Utils.appendArtifactToTask(indexed, event, "task-1", index);
+            scanned = Utils.appendArtifactToTask(scanned, event, "task-1");
+            assertEquals(scanned, indexed);
+        }
+        assertEquals(2, indexed.artifacts().size());
+        assertEquals(List.of(new TextPart("1"), new TextPart("3")), indexed.artifacts().get(0).parts());
+        assertEquals(List.of(new TextPart("5"), new TextPart("6")), indexed.artifacts().get(1).parts());
+    }
+
+    @Test
+    void testAppendArtifactToTask_withIndex_rebuiltForReplacedTask() {
+        ArtifactIndex index = new ArtifactIndex();
+        Task task = Utils.appendArtifactToTask(task(), artifactEvent("a", "1", false), "task-1", index);
+
+        // A task that was not produced by the index, for example received as a Task event
+        Task replaced = Task.builder(task)
+                .artifacts(List.of(artifact("b", "2"), artifact("a", "3")))
+                .build();
+        Task updated = Utils.appendArtifactToTask(replaced, artifactEvent("a", "4", true), "task-1", index);
+
+        assertEquals(List.of(new TextPart("3"), new TextPart("4")), updated.artifacts().get(1).parts());
+        assertEquals(List.of(new TextPart("2")), updated.artifacts().get(0).parts());
+    }
+
+    private static Task task() {
+        return Task.builder()
+                .id("task-1")
+                .contextId("ctx")
+                .status(new TaskStatus(TaskState.WORKING))
+                .build();
+    }
+
+    private static Artifact artifact(String artifactId, String text) {
+        return Artifact.builder()
+                .artifactId(artifactId)
+                .parts(new TextPart(text))
+                .build();
+    }
+
+    private static TaskArtifactUpdateEvent artifactEvent(String artifactId, String text, boolean append) {
+        return TaskArtifactUpdateEvent.builder()
+                .taskId("task-1")
+                .contextId("ctx")
+                .artifact(artifact(artifactId, text))
+                .append(append)
+                .build();
+    }
 }
@@ -2,6 +2,7 @@ package io.a2a.transport.grpc.handler;
 
 import static io.a2a.grpc.utils.ProtoUtils.FromProto;
 import static io.a2a.grpc.utils.ProtoUtils.ToProto;
+import static io.a2a.server.util.async.AsyncUtils.unwrap;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -46,6 +47,7 @@ import io.a2a.spec.ListTaskPushNotificationConfigResult;
 import io.a2a.spec.MessageSendParams;
 import io.a2a.spec.MethodNotFoundError;
 import io.a2a.spec.PushNotificationNotSupportedError;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.spec.StreamingEventKind;
 import io.a2a.spec.Task;
 import io.a2a.spec.TaskIdParams;
@@ -83,10 +85,20 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
             A2AVersionValidator.validateProtocolVersion(getAgentCardInternal(), context);
             A2AExtensions.validateRequiredExtensions(getAgentCardInternal(), context);
             MessageSendParams params = FromProto.messageSendParams(request);
-            EventKind taskOrMessage = getRequestHandler().onMessageSend(params, context);
-            io.a2a.grpc.SendMessageResponse response = ToProto.taskOrMessage(taskOrMessage);
-            responseObserver.onNext(response);
-            responseObserver.onCompleted();
+            // Completes the call once the agent is done, without holding the gRPC thread meanwhile
+            getRequestHandler().onMessageSendAsync(params, context).whenComplete((taskOrMessage, throwable) -> {
+                if (throwable != null) {
+                    handleAsyncError(responseObserver, throwable);
+                    return;
+                }
+                try {
+                    io.a2a.grpc.SendMessageResponse response = ToProto.taskOrMessage(taskOrMessage);
+                    responseObserver.onNext(response);
+                    responseObserver.onCompleted();
+                } catch (Throwable t) {
+                    handleAsyncError(responseObserver, t);
+                }
+            });
         } catch (A2AError e) {
             handleError(responseObserver, e);
         } catch (SecurityException e) {
@@ -142,13 +154,22 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
         try {
             ServerCallContext context = createCallContext(responseObserver);
             TaskIdParams params = FromProto.taskIdParams(request);
-            Task task = getRequestHandler().onCancelTask(params, context);
-            if (task != null) {
-                responseObserver.onNext(ToProto.task(task));
-                responseObserver.onCompleted();
-            } else {
-                handleError(responseObserver, new TaskNotFoundError());
-            }
+            getRequestHandler().onCancelTaskAsync(params, context).whenComplete((task, throwable) -> {
+                if (throwable != null) {
+                    handleAsyncError(responseObserver, throwable);
+                    return;
+                }
+                if (task == null) {
+                    handleError(responseObserver, new TaskNotFoundError());
+                    return;
+                }
+                try {
+                    responseObserver.onNext(ToProto.task(task));
+                    responseObserver.onCompleted();
+                } catch (Throwable t) {
+                    handleAsyncError(responseObserver, t);
+                }
+            });
         } catch (A2AError e) {
             handleError(responseObserver, e);
         } catch (SecurityException e) {
@@ -461,6 +482,9 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
         } else if (error instanceof VersionNotSupportedError) {
             status = Status.UNIMPLEMENTED;
             description = "VersionNotSupportedError: " + error.getMessage();
+        } else if (error instanceof ServerBusyError) {
+            status = Status.RESOURCE_EXHAUSTED;
+            description = "ServerBusyError: " + error.getMessage();
         } else {
             status = Status.UNKNOWN;
             description = "Unknown error type: " + error.getMessage();
@@ -468,6 +492,20 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
         responseObserver.onError(status.withDescription(description).asRuntimeException());
     }
 
+    /**
+     * Reports the failure of an asynchronous request handler call the same way the synchronous calls do.
+     */
+    private <V> void handleAsyncError(StreamObserver<V> responseObserver, Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        if (cause instanceof A2AError e) {
+            handleError(responseObserver, e);
+        } else if (cause instanceof SecurityException e) {
+            handleSecurityException(responseObserver, e);
+        } else {
+            handleInternalError(responseObserver, cause);
+        }
+    }
+
     private <V> void handleSecurityException(StreamObserver<V> responseObserver, SecurityException e) {
         Status status;
         String description;
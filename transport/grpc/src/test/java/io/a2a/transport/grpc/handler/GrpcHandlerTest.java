@@ -147,6 +147,41 @@ public class GrpcHandlerTest extends AbstractA2ARequestHandlerTest {
         assertEquals(TaskState.TASK_STATE_CANCELLED, task.getStatus().getState());
     }
 
+    @Test
+    public void testOnCancelTaskResponseFailureIsReported() throws Exception {
+        GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler, internalExecutor);
+        taskStore.save(AbstractA2ARequestHandlerTest.MINIMAL_TASK);
+
+        agentExecutorCancel = (context, eventQueue) -> {
+            new TaskUpdater(context, eventQueue).cancel();
+        };
+
+        CancelTaskRequest request = CancelTaskRequest.newBuilder()
+                .setName("tasks/" + AbstractA2ARequestHandlerTest.MINIMAL_TASK.id())
+                .build();
+        StreamRecorder<Task> streamRecorder = StreamRecorder.create();
+        // Sending the response fails once the task is cancelled
+        handler.cancelTask(request, new StreamObserver<>() {
+            @Override
+            public void onNext(Task task) {
+                throw new IllegalStateException("Failed to send the response");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                streamRecorder.onError(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                streamRecorder.onCompleted();
+            }
+        });
+        streamRecorder.awaitCompletion(5, TimeUnit.SECONDS);
+
+        assertGrpcError(streamRecorder, Status.Code.INTERNAL);
+    }
+
     @Test
     public void testOnCancelTaskNotSupported() throws Exception {
         GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler, internalExecutor);
@@ -1,6 +1,7 @@
 package io.a2a.transport.jsonrpc.handler;
 
 import static io.a2a.server.util.async.AsyncUtils.createTubeConfig;
+import static io.a2a.server.util.async.AsyncUtils.unwrap;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -111,6 +112,31 @@ public class JSONRPCHandler {
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #onMessageSend(SendMessageRequest, ServerCallContext)} which does not
+     * hold the calling thread while the agent runs.
+     *
+     * @param request the send message request
+     * @param context the server call context
+     * @return a future that always completes normally, with errors carried in the response
+     */
+    public CompletableFuture<SendMessageResponse> onMessageSendAsync(SendMessageRequest request, ServerCallContext context) {
+        CompletableFuture<EventKind> result;
+        try {
+            A2AVersionValidator.validateProtocolVersion(agentCard, context);
+            A2AExtensions.validateRequiredExtensions(agentCard, context);
+            result = requestHandler.onMessageSendAsync(request.getParams(), context);
+        } catch (Throwable t) {
+            result = CompletableFuture.failedFuture(t);
+        }
+        return result.handle((taskOrMessage, t) -> {
+            if (t == null) {
+                return new SendMessageResponse(request.getId(), taskOrMessage);
+            }
+            return new SendMessageResponse(request.getId(), toA2AError(t));
+        });
+    }
+
 
     public Flow.Publisher<SendStreamingMessageResponse> onMessageSendStream(
             SendStreamingMessageRequest request, ServerCallContext context) {
@@ -150,6 +176,40 @@ public class JSONRPCHandler {
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #onCancelTask(CancelTaskRequest, ServerCallContext)} which does not hold
+     * the calling thread while the cancellation is processed.
+     *
+     * @param request the cancel task request
+     * @param context the server call context
+     * @return a future that always completes normally, with errors carried in the response
+     */
+    public CompletableFuture<CancelTaskResponse> onCancelTaskAsync(CancelTaskRequest request, ServerCallContext context) {
+        CompletableFuture<Task> result;
+        try {
+            result = requestHandler.onCancelTaskAsync(request.getParams(), context);
+        } catch (Throwable t) {
+            result = CompletableFuture.failedFuture(t);
+        }
+        return result.handle((task, t) -> {
+            if (t != null) {
+                return new CancelTaskResponse(request.getId(), toA2AError(t));
+            }
+            if (task != null) {
+                return new CancelTaskResponse(request.getId(), task);
+            }
+            return new CancelTaskResponse(request.getId(), new TaskNotFoundError());
+        });
+    }
+
+    private static A2AError toA2AError(Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        if (cause instanceof A2AError e) {
+            return e;
+        }
+        return new InternalError(cause.getMessage());
+    }
+
     public Flow.Publisher<SendStreamingMessageResponse> onSubscribeToTask(
             SubscribeToTaskRequest request, ServerCallContext context) {
         if (!agentCard.capabilities().streaming()) {
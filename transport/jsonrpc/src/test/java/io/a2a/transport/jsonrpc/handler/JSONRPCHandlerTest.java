@@ -179,6 +179,32 @@ public class JSONRPCHandlerTest extends AbstractA2ARequestHandlerTest {
         Assertions.assertSame(message, response.getResult());
     }
 
+    @Test
+    public void testOnMessageSendAsyncSuccess() throws Exception {
+        JSONRPCHandler handler = new JSONRPCHandler(CARD, requestHandler, internalExecutor);
+        agentExecutorExecute = (context, eventQueue) -> {
+            eventQueue.enqueueEvent(context.getMessage());
+        };
+        Message message = Message.builder(MESSAGE)
+                .taskId(MINIMAL_TASK.id())
+                .contextId(MINIMAL_TASK.contextId())
+                .build();
+        SendMessageRequest request = new SendMessageRequest("1", new MessageSendParams(message, null, null));
+        SendMessageResponse response = handler.onMessageSendAsync(request, callContext).get(5, TimeUnit.SECONDS);
+        assertNull(response.getError());
+        Assertions.assertSame(message, response.getResult());
+    }
+
+    @Test
+    public void testOnCancelTaskAsyncNotFound() throws Exception {
+        JSONRPCHandler handler = new JSONRPCHandler(CARD, requestHandler, internalExecutor);
+        CancelTaskRequest request = new CancelTaskRequest("1", new TaskIdParams(MINIMAL_TASK.id()));
+        CancelTaskResponse response = handler.onCancelTaskAsync(request, callContext).get(5, TimeUnit.SECONDS);
+        assertEquals(request.getId(), response.getId());
+        assertNull(response.getResult());
+        assertInstanceOf(TaskNotFoundError.class, response.getError());
+    }
+
     @Test
     public void testOnMessageNewMessageSuccessMocks() {
         JSONRPCHandler handler = new JSONRPCHandler(CARD, requestHandler, internalExecutor);
@@ -1260,9 +1286,9 @@ public class JSONRPCHandlerTest extends AbstractA2ARequestHandlerTest {
         try (MockedConstruction<ResultAggregator> mocked = Mockito.mockConstruction(
                 ResultAggregator.class,
                 (mock, context) -> {
-                    Mockito.doThrow(
-                            new UnsupportedOperationError())
-                            .when(mock).consumeAndBreakOnInterrupt(
+                    Mockito.doReturn(
+                            CompletableFuture.failedFuture(new UnsupportedOperationError()))
+                            .when(mock).consumeAndBreakOnInterruptAsync(
                             Mockito.any(EventConsumer.class),
                             Mockito.anyBoolean());
                 })) {
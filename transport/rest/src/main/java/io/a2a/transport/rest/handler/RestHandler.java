@@ -1,6 +1,7 @@
 package io.a2a.transport.rest.handler;
 
 import static io.a2a.server.util.async.AsyncUtils.createTubeConfig;
+import static io.a2a.server.util.async.AsyncUtils.unwrap;
 import static io.a2a.spec.A2AErrorCodes.JSON_PARSE_ERROR_CODE;
 
 import java.time.Instant;
@@ -51,6 +52,7 @@ import io.a2a.spec.ListTaskPushNotificationConfigResult;
 import io.a2a.spec.ListTasksParams;
 import io.a2a.spec.MethodNotFoundError;
 import io.a2a.spec.PushNotificationNotSupportedError;
+import io.a2a.spec.ServerBusyError;
 import io.a2a.spec.StreamingEventKind;
 import io.a2a.spec.Task;
 import io.a2a.spec.TaskIdParams;
@@ -123,6 +125,32 @@ public class RestHandler {
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #sendMessage(String, String, ServerCallContext)} which does not hold the
+     * calling thread while the agent runs.
+     *
+     * @param body the request body
+     * @param tenant the tenant
+     * @param context the server call context
+     * @return a future that always completes normally, with errors carried in the response
+     */
+    public CompletableFuture<HTTPRestResponse> sendMessageAsync(String body, String tenant, ServerCallContext context) {
+        CompletableFuture<EventKind> result;
+        try {
+            A2AVersionValidator.validateProtocolVersion(agentCard, context);
+            A2AExtensions.validateRequiredExtensions(agentCard, context);
+            io.a2a.grpc.SendMessageRequest.Builder request = io.a2a.grpc.SendMessageRequest.newBuilder();
+            parseRequestBody(body, request);
+            request.setTenant(tenant);
+            result = requestHandler.onMessageSendAsync(ProtoUtils.FromProto.messageSendParams(request), context);
+        } catch (Throwable throwable) {
+            result = CompletableFuture.failedFuture(throwable);
+        }
+        return result
+                .thenApply(kind -> createSuccessResponse(200, io.a2a.grpc.SendMessageResponse.newBuilder(ProtoUtils.ToProto.taskOrMessage(kind))))
+                .exceptionally(this::createAsyncErrorResponse);
+    }
+
     public HTTPRestResponse sendStreamingMessage(String body, String tenant, ServerCallContext context) {
         try {
             if (!agentCard.capabilities().streaming()) {
@@ -160,6 +188,43 @@ public class RestHandler {
         }
     }
 
+    /**
+     * Asynchronous variant of {@link #cancelTask(String, String, ServerCallContext)} which does not hold the
+     * calling thread while the cancellation is processed.
+     *
+     * @param taskId the id of the task to cancel
+     * @param tenant the tenant
+     * @param context the server call context
+     * @return a future that always completes normally, with errors carried in the response
+     */
+    public CompletableFuture<HTTPRestResponse> cancelTaskAsync(String taskId, String tenant, ServerCallContext context) {
+        CompletableFuture<Task> result;
+        try {
+            if (taskId == null || taskId.isEmpty()) {
+                throw new InvalidParamsError();
+            }
+            result = requestHandler.onCancelTaskAsync(new TaskIdParams(taskId, tenant), context);
+        } catch (Throwable throwable) {
+            result = CompletableFuture.failedFuture(throwable);
+        }
+        return result
+                .thenApply(task -> {
+                    if (task == null) {
+                        throw new UnsupportedOperationError();
+                    }
+                    return createSuccessResponse(200, io.a2a.grpc.Task.newBuilder(ProtoUtils.ToProto.task(task)));
+                })
+                .exceptionally(this::createAsyncErrorResponse);
+    }
+
+    private HTTPRestResponse createAsyncErrorResponse(Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        if (cause instanceof A2AError e) {
+            return createErrorResponse(e);
+        }
+        return createErrorResponse(new InternalError(cause.getMessage()));
+    }
+
     public HTTPRestResponse setTaskPushNotificationConfiguration(String taskId, String body, String tenant, ServerCallContext context) {
         try {
             if (!agentCard.capabilities().pushNotifications()) {
@@ -431,6 +496,9 @@ public class RestHandler {
         if (error instanceof InvalidAgentResponseError) {
             return 502;
         }
+        if (error instanceof ServerBusyError) {
+            return 503;
+        }
         if (error instanceof ExtendedCardNotConfiguredError
                 || error instanceof ExtensionSupportRequiredError) {
             return 400;